@@ -5,6 +5,7 @@ import com.iss.eventorium.security.auth.JwtRequestFilter;
 import com.iss.eventorium.security.auth.RestAuthenticationEntryPoint;
 import com.iss.eventorium.security.utils.JwtTokenUtil;
 import com.iss.eventorium.user.services.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -76,6 +77,8 @@ public class WebSecurityConfig {
                 .authenticationEntryPoint(restAuthenticationEntryPoint)
         );
         http.authorizeHttpRequests(request -> request
+                        // NOTE: Streamed responses (calendar feeds) finish with an async dispatch of a request that was already authorized.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/ws/**").permitAll()
                         .requestMatchers("/api/v1/ws").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
@@ -114,16 +117,19 @@ public class WebSecurityConfig {
                         // Events
                         .requestMatchers("/api/v1/events/{event-id}/budget").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/events/{id}/budget/active-categories").hasAuthority(ORGANIZER)
+                        .requestMatchers("/api/v1/events/{id}/budget/summary").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/events/{id}/budget/budget-items/{item-id}").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/events/{id}/budget/budget-items").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/events/{id}/budget/suggestions").hasAuthority(ORGANIZER)
                         .requestMatchers(HttpMethod.PUT, "/api/v1/events/{id}").hasAuthority(ORGANIZER)
                         .requestMatchers(HttpMethod.PUT, "/api/v1/events/{id}/agenda").hasAuthority(ORGANIZER)
                         .requestMatchers(HttpMethod.POST,"/api/v1/events/{id}/ratings").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/events/statistics").hasAuthority(ADMIN)
                         .requestMatchers(HttpMethod.POST, "/api/v1/events").hasAuthority(ORGANIZER)
                         .requestMatchers(HttpMethod.POST, "/api/v1/events/**").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/events/future").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/events/{id}/guest-list-pdf").hasAuthority(ORGANIZER)
+                        .requestMatchers("/api/v1/events/{id}/attendees").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/events/{id}/statistics").hasAnyAuthority(ADMIN, ORGANIZER)
                         .requestMatchers("/api/v1/events/{id}/pdf-statistics").hasAnyAuthority(ADMIN, ORGANIZER)
                         .requestMatchers("/api/v1/events/top-five-services").permitAll()
@@ -180,6 +186,8 @@ public class WebSecurityConfig {
                         // Notifications
                         .requestMatchers("/api/v1/notifications").authenticated()
                         .requestMatchers("/api/v1/notifications/seen").authenticated()
+                        .requestMatchers("/api/v1/notifications/history").authenticated()
+                        .requestMatchers("/api/v1/notifications/unread-count").authenticated()
                         .requestMatchers("/api/v1/notifications/silence").authenticated()
 
                         // Account Events
@@ -188,8 +196,10 @@ public class WebSecurityConfig {
                         .requestMatchers("/api/v1/account/events/search/all").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/account/events/search").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/account/events/calendar").hasAuthority(ORGANIZER)
+                        .requestMatchers("/api/v1/account/events/calendar.ics").authenticated()
                         .requestMatchers("/api/v1/account/events/{id}/attendance").authenticated()
                         .requestMatchers("/api/v1/account/events/favourites").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/account/events/favourites/ids").authenticated()
                         .requestMatchers("/api/v1/account/events/favourites/{id}").authenticated()
                         .requestMatchers("/api/v1/account/events/my-attending-events").authenticated()
                         .requestMatchers("/api/v1/account/events/{id}/rating-eligibility").authenticated()
@@ -202,6 +212,7 @@ public class WebSecurityConfig {
                         .requestMatchers("/api/v1/account/services/filter/all").hasAuthority(PROVIDER)
                         .requestMatchers("/api/v1/account/services/filter").hasAuthority(PROVIDER)
                         .requestMatchers("/api/v1/account/services/favourites").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/account/services/favourites/ids").authenticated()
                         .requestMatchers("/api/v1/account/services/favourites/{id}").authenticated()
 
                         // Account Products
@@ -212,24 +223,31 @@ public class WebSecurityConfig {
                         .requestMatchers("/api/v1/account/products/filter/all").hasAuthority(PROVIDER)
                         .requestMatchers("/api/v1/account/products/filter").hasAuthority(PROVIDER)
                         .requestMatchers("/api/v1/account/products/favourites").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/account/products/favourites/ids").authenticated()
                         .requestMatchers("/api/v1/account/products/favourites/{id}").authenticated()
 
                         // Interactions
                         .requestMatchers(HttpMethod.POST, "/api/v1/comments").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/comments/pending/**").hasAuthority(ADMIN)
                         .requestMatchers(HttpMethod.GET, "/api/v1/comments/**").permitAll()
                         .requestMatchers("/api/v1/comments/**").hasAuthority(ADMIN)
                         .requestMatchers("/api/v1/messages/**").authenticated()
                         .requestMatchers("/api/v1/chat-rooms").authenticated()
                         .requestMatchers("/api/v1/chat-rooms/all").authenticated()
+                        .requestMatchers("/api/v1/chat-rooms/presence").authenticated()
+                        .requestMatchers("/api/v1/chat-rooms/{id}/read").authenticated()
 
                         // Others
                         .requestMatchers("/api/v1/roles/registration-options").permitAll()
                         .requestMatchers("/api/v1/auth/quick-registration").permitAll()
                         .requestMatchers("/api/v1/cities/all").permitAll()
+                        .requestMatchers("/api/v1/jobs/**").hasAuthority(ADMIN)
+                        .requestMatchers("/api/v1/jobs").hasAuthority(ADMIN)
                         .requestMatchers("/api/v1/auth/activation/{hash}").permitAll()
                         .requestMatchers("/api/v1/auth/{id}/profile-photo").permitAll()
                         .requestMatchers("/api/v1/budget-items").hasAuthority(ORGANIZER)
                         .requestMatchers("/api/v1/provider-reservations").hasAuthority(PROVIDER)
+                        .requestMatchers("/api/v1/provider-reservations/calendar.ics").hasAuthority(PROVIDER)
                         .requestMatchers("/api/v1/reservations/pending").hasAuthority(PROVIDER)
                         .requestMatchers("/api/v1/price-list/**").hasAuthority(PROVIDER)
                         .requestMatchers(HttpMethod.PATCH, "/api/v1/reservations/{id}").hasAuthority(PROVIDER)
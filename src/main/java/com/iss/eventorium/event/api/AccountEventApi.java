@@ -2,6 +2,7 @@ package com.iss.eventorium.event.api;
 
 import com.iss.eventorium.event.dtos.event.CalendarEventDto;
 import com.iss.eventorium.event.dtos.event.EventSummaryResponseDto;
+import com.iss.eventorium.shared.dtos.FavouriteIdsRequestDto;
 import com.iss.eventorium.shared.models.ExceptionResponse;
 import com.iss.eventorium.shared.models.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,12 +10,17 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(
@@ -27,31 +33,70 @@ public interface AccountEventApi {
             summary = "Fetches events the user is attending.",
             description =
                     """
-                    Returns a list of events that the currently authenticated user has marked attendance for.
+                    Returns a list of events that the currently authenticated user has marked attendance for,
+                    dated within the [from, to) window, ordered by date.
                     Requires authentication.
                     """,
             security = { @SecurityRequirement(name = "bearerAuth") },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "400", description = "Bad Request - 'to' is not after 'from'"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token")
             }
     )
-    ResponseEntity<List<CalendarEventDto>> getAttendingEvents();
+    ResponseEntity<List<CalendarEventDto>> getAttendingEvents(
+            @Parameter(description = "First day of the window (inclusive), in ISO format. Open when omitted.", example = "2025-06-01")
+            LocalDate from,
+            @Parameter(description = "Day after the window (exclusive), in ISO format. Open when omitted.", example = "2025-07-01")
+            LocalDate to
+    );
 
     @Operation(
             summary = "Fetches all organizer's events.",
             description =
                     """
-                    Returns a list of events created by the currently authenticated user with the ORGANIZER role.
+                    Returns a list of events created by the currently authenticated user with the ORGANIZER role,
+                    dated within the [from, to) window, ordered by date.
                     """,
             security = { @SecurityRequirement(name="bearerAuth") },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "400", description = "Bad Request - 'to' is not after 'from'"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token"),
                     @ApiResponse(responseCode = "403", description = "Forbidden - not enough permissions"),
             }
     )
-    ResponseEntity<List<CalendarEventDto>> getOrganizerEvents();
+    ResponseEntity<List<CalendarEventDto>> getOrganizerEvents(
+            @Parameter(description = "First day of the window (inclusive), in ISO format. Open when omitted.", example = "2025-06-01")
+            LocalDate from,
+            @Parameter(description = "Day after the window (exclusive), in ISO format. Open when omitted.", example = "2025-07-01")
+            LocalDate to
+    );
+
+    @Operation(
+            summary = "Exports the user's events as an iCalendar feed.",
+            description =
+                    """
+                    Returns the events the currently authenticated user organizes or attends, dated within the
+                    [from, to) window, as an iCalendar (text/calendar) file.
+                    The response carries an ETag, a request with a matching If-None-Match header gets 304 Not Modified
+                    without a body. Requires authentication.
+                    """,
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "text/calendar")),
+                    @ApiResponse(responseCode = "304", description = "Not Modified - the events did not change"),
+                    @ApiResponse(responseCode = "400", description = "Bad Request - 'to' is not after 'from'"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token")
+            }
+    )
+    ResponseEntity<StreamingResponseBody> exportCalendar(
+            @Parameter(description = "First day of the window (inclusive), in ISO format. Open when omitted.", example = "2025-06-01")
+            LocalDate from,
+            @Parameter(description = "Day after the window (exclusive), in ISO format. Open when omitted.", example = "2025-07-01")
+            LocalDate to,
+            WebRequest request
+    );
 
 
     @Operation(
@@ -63,13 +108,15 @@ public interface AccountEventApi {
                     
                     If the event does not exist, a 404 Not Found response is returned.
                     If the user has already marked attendance, no action is taken.
+                    If the event has reached its maximum number of participants, a 409 Conflict response is returned.
                     """,
             security = { @SecurityRequirement(name = "bearerAuth") },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Success - attendance marked or already present"),
                     @ApiResponse(responseCode = "400", description = "Event already passed"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token"),
-                    @ApiResponse(responseCode = "404", description = "Not Found - event with given ID does not exist")
+                    @ApiResponse(responseCode = "404", description = "Not Found - event with given ID does not exist"),
+                    @ApiResponse(responseCode = "409", description = "Conflict - event has reached its maximum number of participants")
             }
     )
     ResponseEntity<Void> markAttendance(
@@ -217,6 +264,36 @@ public interface AccountEventApi {
             Long id
     );
 
+    @Operation(
+            summary = "Checks which of the given events are among the user's favourite events.",
+            description =
+            """
+            Returns the ids of the given events that are marked as a favourite by the currently logged-in user,
+            so list pages can mark all favourites with one request. At most 500 ids can be checked at once.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Validation failed",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(value = "{ \"ids\": \"Ids are mandatory\" }")
+                            )
+                    ),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token")
+            }
+    )
+    ResponseEntity<List<Long>> getFavouriteEventIds(
+            @Valid @RequestBody(
+                    description = "The ids of the events to check.",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = FavouriteIdsRequestDto.class))
+            )
+            FavouriteIdsRequestDto request
+    );
+
     @Operation(
             summary = "Fetches all organizer's events.",
             description =
@@ -6,6 +6,7 @@ import com.iss.eventorium.solution.dtos.products.ProductResponseDto;
 import com.iss.eventorium.solution.dtos.products.SolutionReviewResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -59,6 +60,44 @@ public interface BudgetApi {
             Long eventId
     );
 
+    @Operation(
+            summary = "Get event budget summary.",
+            description =
+            """
+            Retrieves the planned and spent totals of the event budget, together with the totals of every category
+            that has budget items. The totals are kept up to date on every budget item change, so the summary does not
+            depend on the number of budget items.
+            Requires authentication and ORGANIZER authority.
+            Only users with the `ORGANIZER` authority can access this endpoint.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Event not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "EventNotFound",
+                                            summary = "Event not found",
+                                            value = "{ \"error\": \"Not found\", \"message\": \"Event not found.\" }"
+                                    )
+                            )
+                    )
+            }
+    )
+    ResponseEntity<BudgetSummaryResponseDto> getBudgetSummary(
+            @Parameter(
+                    description = "The unique identifier of the event.",
+                    required = true,
+                    example = "123"
+            )
+            Long eventId
+    );
+
     @Operation(
             summary = "Get event budget items.",
             description =
@@ -103,6 +142,7 @@ public interface BudgetApi {
             """
             Retrieves products and services that match the specified category and do not exceed the given price.
             Excludes services that are not reservable, based on their reservation deadline and the event's start date.
+            Suggestions are ordered by average rating, then by number of ratings, then by price after discount.
             Requires authentication and the `ORGANIZER` authority.
             Only users with the `ORGANIZER` role can access this endpoint.
             """,
@@ -253,6 +293,9 @@ public interface BudgetApi {
             Unlike the standard creation endpoint, this endpoint is used when the product is being purchased directly,
             bypassing the `PLANNED` state. If you want to add the product to the budget as a planned item instead, use
             `POST /api/v1/events/{eventId}/budget/items`
+            An optional `Idempotency-Key` header makes the request safe to retry: repeating it with the same key returns
+            the original response without purchasing again, reusing the key for a different request returns `422`,
+            and a repeat that arrives while the first request is still running returns `409`.
             Returns purchased product.
             Requires authentication and the `ORGANIZER` authority.
             Only users with the `ORGANIZER` role can access this endpoint.
@@ -316,7 +359,14 @@ public interface BudgetApi {
                     required = true,
                     content = @Content(schema = @Schema(implementation = BudgetItemRequestDto.class))
             )
-            BudgetItemRequestDto budgetItemRequestDto
+            BudgetItemRequestDto budgetItemRequestDto,
+            @Parameter(
+                    in = ParameterIn.HEADER,
+                    name = "Idempotency-Key",
+                    description = "Optional client-generated key that identifies this purchase across retries.",
+                    example = "5f1c2a8e-3b7d-4e0a-9c61-2f4d8b7a1e90"
+            )
+            String idempotencyKey
     );
 
     @Operation(
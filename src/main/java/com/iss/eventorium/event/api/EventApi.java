@@ -5,8 +5,10 @@ import com.iss.eventorium.event.dtos.agenda.AgendaRequestDto;
 import com.iss.eventorium.event.dtos.agenda.AgendaResponseDto;
 import com.iss.eventorium.event.dtos.event.*;
 import com.iss.eventorium.event.dtos.statistics.EventRatingsStatisticsDto;
+import com.iss.eventorium.event.dtos.statistics.EventStatisticsRequestDto;
 import com.iss.eventorium.shared.models.ExceptionResponse;
 import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.user.dtos.user.UserDetailsDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -455,6 +457,31 @@ public interface EventApi {
             Long id
     );
 
+    @Operation(
+            summary = "Retrieves a paginated list of the event's attendees",
+            description =
+            """
+            Returns the users who marked attendance for the event, in the order they marked it.
+            Accessible only by the organizer of the event.
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Attendees retrieved successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - insufficient permissions"),
+                    @ApiResponse(responseCode = "404", description = "Event not found")
+            }
+    )
+    ResponseEntity<PagedResponse<UserDetailsDto>> getAttendees(
+            @Parameter(
+                    description = "The unique identifier of the event.",
+                    required = true,
+                    example = "123"
+            )
+            Long id,
+            Pageable pageable
+    );
+
     @Operation(
             summary = "Gets event rating statistics",
             description =
@@ -505,4 +532,34 @@ public interface EventApi {
             )
             Long id
     );
+
+    @Operation(
+            summary = "Gets rating statistics of many events",
+            description =
+            """
+            Returns the rating statistics of every requested event in one call, in the order of the requested ids.
+            Visitor counts and rating histograms are computed with aggregate queries, so large batches stay cheap.
+            Unknown ids are skipped. At most 500 events can be requested at once.
+            Accessible only by users with `ADMIN` role.
+            """,
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = @ExampleObject(value = "{ \"ids\": \"Event ids are mandatory\" }")
+                    )),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - insufficient permissions")
+            }
+    )
+    ResponseEntity<List<EventRatingsStatisticsDto>> getEventsRatingStatistics(
+            @Valid @RequestBody(
+                    description = "The ids of the events whose statistics are requested.",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = EventStatisticsRequestDto.class))
+            )
+            EventStatisticsRequestDto request
+    );
 }
@@ -4,13 +4,22 @@ import com.iss.eventorium.event.api.AccountEventApi;
 import com.iss.eventorium.event.dtos.event.CalendarEventDto;
 import com.iss.eventorium.event.dtos.event.EventSummaryResponseDto;
 import com.iss.eventorium.event.services.AccountEventService;
+import com.iss.eventorium.shared.dtos.FavouriteIdsRequestDto;
+import com.iss.eventorium.shared.models.CalendarEntry;
 import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.shared.utils.ICalendarWriter;
+import com.iss.eventorium.shared.utils.ResponseHeaderUtils;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,13 +30,36 @@ public class AccountEventController implements AccountEventApi {
     private final AccountEventService service;
 
     @GetMapping("/calendar")
-    public ResponseEntity<List<CalendarEventDto>> getOrganizerEvents() {
-        return ResponseEntity.ok(service.getOrganizerEvents());
+    public ResponseEntity<List<CalendarEventDto>> getOrganizerEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(service.getOrganizerEvents(from, to));
+    }
+
+    @GetMapping("/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> exportCalendar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest request
+    ) {
+        List<CalendarEntry> entries = service.getCalendarEntries(from, to);
+        String eTag = ICalendarWriter.computeETag(entries);
+        if (request.checkNotModified(eTag))
+            return null;
+
+        return ResponseEntity.ok()
+                .headers(ResponseHeaderUtils.createCalendarHeaders("events.ics"))
+                .eTag(eTag)
+                .body(output -> ICalendarWriter.write(output, "Eventorium events", entries));
     }
 
     @GetMapping("/my-attending-events")
-    public ResponseEntity<List<CalendarEventDto>> getAttendingEvents() {
-        return ResponseEntity.ok(service.getAttendingEvents());
+    public ResponseEntity<List<CalendarEventDto>> getAttendingEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(service.getAttendingEvents(from, to));
     }
 
     @PostMapping("/{id}/attendance")
@@ -58,6 +90,11 @@ public class AccountEventController implements AccountEventApi {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/favourites/ids")
+    public ResponseEntity<List<Long>> getFavouriteEventIds(@Valid @RequestBody FavouriteIdsRequestDto request) {
+        return ResponseEntity.ok(service.getFavouriteEventIds(request.getIds()));
+    }
+
     @GetMapping("/favourites/{id}")
     public ResponseEntity<Boolean> isFavouriteEvent(@PathVariable Long id) {
         return ResponseEntity.ok(service.isFavouriteEvent(id));
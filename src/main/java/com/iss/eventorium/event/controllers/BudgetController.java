@@ -3,6 +3,7 @@ package com.iss.eventorium.event.controllers;
 import com.iss.eventorium.event.api.BudgetApi;
 import com.iss.eventorium.event.dtos.budget.*;
 import com.iss.eventorium.event.services.BudgetService;
+import com.iss.eventorium.shared.services.IdempotencyService;
 import com.iss.eventorium.solution.dtos.products.ProductResponseDto;
 import com.iss.eventorium.solution.dtos.products.SolutionReviewResponseDto;
 import jakarta.validation.Valid;
@@ -19,18 +20,27 @@ import java.util.List;
 public class BudgetController implements BudgetApi {
 
     private final BudgetService budgetService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping("/events/{event-id}/budget")
     public ResponseEntity<BudgetResponseDto> getBudget(@PathVariable("event-id") Long eventId) {
         return ResponseEntity.ok(budgetService.getBudget(eventId));
     }
 
+    @GetMapping("/events/{event-id}/budget/summary")
+    public ResponseEntity<BudgetSummaryResponseDto> getBudgetSummary(@PathVariable("event-id") Long eventId) {
+        return ResponseEntity.ok(budgetService.getBudgetSummary(eventId));
+    }
+
     @PostMapping("/events/{event-id}/budget/purchase")
     public ResponseEntity<ProductResponseDto> purchaseProduct(
             @PathVariable("event-id") Long eventId,
-            @Valid @RequestBody BudgetItemRequestDto budgetItemRequestDto
+            @Valid @RequestBody BudgetItemRequestDto budgetItemRequestDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        return new ResponseEntity<>(budgetService.purchaseProduct(eventId, budgetItemRequestDto), HttpStatus.CREATED);
+        ProductResponseDto response = idempotencyService.execute(idempotencyKey, "purchase:" + eventId, budgetItemRequestDto,
+                ProductResponseDto.class, () -> budgetService.purchaseProduct(eventId, budgetItemRequestDto));
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @GetMapping("/events/{event-id}/budget/budget-items")
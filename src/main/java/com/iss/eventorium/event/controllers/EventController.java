@@ -6,9 +6,12 @@ import com.iss.eventorium.event.dtos.agenda.AgendaRequestDto;
 import com.iss.eventorium.event.dtos.agenda.AgendaResponseDto;
 import com.iss.eventorium.event.dtos.event.*;
 import com.iss.eventorium.event.dtos.statistics.EventRatingsStatisticsDto;
+import com.iss.eventorium.event.dtos.statistics.EventStatisticsRequestDto;
 import com.iss.eventorium.event.services.EventService;
+import com.iss.eventorium.event.services.EventStatisticsService;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.shared.utils.ResponseHeaderUtils;
+import com.iss.eventorium.user.dtos.user.UserDetailsDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +29,7 @@ import java.util.List;
 public class EventController implements EventApi {
 
     private final EventService service;
+    private final EventStatisticsService statisticsService;
 
     @GetMapping("/{id}")
     public ResponseEntity<EditableEventDto> getEvent(@PathVariable("id") Long id) {
@@ -109,6 +113,11 @@ public class EventController implements EventApi {
         return new ResponseEntity<>(service.generateEventDetailsPdf(id), headers, HttpStatus.OK);
     }
 
+    @GetMapping("/{id}/attendees")
+    public ResponseEntity<PagedResponse<UserDetailsDto>> getAttendees(@PathVariable Long id, Pageable pageable) {
+        return ResponseEntity.ok(service.getAttendees(id, pageable));
+    }
+
     @GetMapping("/{id}/guest-list-pdf")
     public ResponseEntity<byte[]> getGuestListPdf(@PathVariable Long id) {
         HttpHeaders headers = ResponseHeaderUtils.createPdfHeaders("guest_list.pdf");
@@ -117,12 +126,19 @@ public class EventController implements EventApi {
 
     @GetMapping("/{id}/statistics")
     public ResponseEntity<EventRatingsStatisticsDto> getEventRatingStatistics(@PathVariable Long id) {
-        return new ResponseEntity<>(service.getEventRatingStatistics(id), HttpStatus.OK);
+        return new ResponseEntity<>(statisticsService.getStatistics(id), HttpStatus.OK);
     }
 
     @GetMapping("/{id}/pdf-statistics")
     public ResponseEntity<byte[]> getEventStatisticsPdf(@PathVariable Long id) {
         HttpHeaders headers = ResponseHeaderUtils.createPdfHeaders("event_statistics.pdf");
-        return new ResponseEntity<>(service.generateEventStatisticsPdf(id), headers, HttpStatus.OK);
+        return new ResponseEntity<>(statisticsService.generateStatisticsPdf(id), headers, HttpStatus.OK);
+    }
+
+    @PostMapping("/statistics")
+    public ResponseEntity<List<EventRatingsStatisticsDto>> getEventsRatingStatistics(
+            @Valid @RequestBody EventStatisticsRequestDto request
+    ) {
+        return ResponseEntity.ok(statisticsService.getStatistics(request.getIds()));
     }
 }
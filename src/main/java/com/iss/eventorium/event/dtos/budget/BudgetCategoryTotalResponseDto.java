@@ -0,0 +1,15 @@
+package com.iss.eventorium.event.dtos.budget;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetCategoryTotalResponseDto {
+    private Long categoryId;
+    private String categoryName;
+    private Double plannedAmount;
+    private Double spentAmount;
+}
@@ -0,0 +1,16 @@
+package com.iss.eventorium.event.dtos.budget;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetSummaryResponseDto {
+    private Double plannedAmount;
+    private Double spentAmount;
+    private List<BudgetCategoryTotalResponseDto> categories;
+}
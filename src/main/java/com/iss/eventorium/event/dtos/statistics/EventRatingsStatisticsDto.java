@@ -10,6 +10,7 @@ import java.util.Map;
 @AllArgsConstructor
 @Builder
 public class EventRatingsStatisticsDto {
+    private Long eventId;
     private String eventName;
     private int totalVisitors;
     private int totalRatings;
@@ -0,0 +1,19 @@
+package com.iss.eventorium.event.dtos.statistics;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventStatisticsRequestDto {
+
+    @NotEmpty(message = "Event ids are mandatory")
+    @Size(max = 500, message = "At most 500 events can be requested at once")
+    private List<Long> ids;
+}
@@ -0,0 +1,8 @@
+package com.iss.eventorium.event.exceptions;
+
+public class EventFullException extends RuntimeException {
+
+    public EventFullException(String message) {
+        super(message);
+    }
+}
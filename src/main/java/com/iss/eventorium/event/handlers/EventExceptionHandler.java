@@ -2,6 +2,7 @@ package com.iss.eventorium.event.handlers;
 
 import com.iss.eventorium.event.exceptions.AgendaAlreadyDefinedException;
 import com.iss.eventorium.event.exceptions.EventAlreadyPassedException;
+import com.iss.eventorium.event.exceptions.EventFullException;
 import com.iss.eventorium.event.exceptions.InvalidEventStateException;
 import com.iss.eventorium.shared.models.ExceptionResponse;
 import org.springframework.http.HttpStatus;
@@ -38,4 +39,13 @@ public class EventExceptionHandler {
                         .message(e.getMessage())
                         .build());
     }
+
+    @ExceptionHandler(EventFullException.class)
+    public ResponseEntity<ExceptionResponse> handleEventFull(EventFullException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ExceptionResponse.builder()
+                        .error(HttpStatus.CONFLICT.getReasonPhrase())
+                        .message(e.getMessage())
+                        .build());
+    }
 }
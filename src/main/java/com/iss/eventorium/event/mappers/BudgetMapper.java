@@ -7,9 +7,8 @@ import com.iss.eventorium.event.dtos.budget.BudgetResponseDto;
 import com.iss.eventorium.event.dtos.budget.BudgetSuggestionResponseDto;
 import com.iss.eventorium.event.models.Budget;
 import com.iss.eventorium.event.models.BudgetItem;
-import com.iss.eventorium.solution.models.Service;
 import com.iss.eventorium.solution.models.Solution;
-import com.iss.eventorium.solution.models.SolutionType;
+import com.iss.eventorium.solution.models.SolutionSuggestion;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
@@ -44,7 +43,7 @@ public class BudgetMapper {
         dto.setPlannedAmount(item.getPlannedAmount());
         dto.setType(item.getItemType());
         if(item.getProcessedAt() != null)
-            dto.setSpentAmount(solution.getPrice() * (1 - solution.getDiscount() / 100));
+            dto.setSpentAmount(solution.calculateNetPrice());
         else
             dto.setSpentAmount(0.0);
         return dto;
@@ -59,18 +58,14 @@ public class BudgetMapper {
 
     }
 
-    public BudgetSuggestionResponseDto toSuggestionResponse(Solution solution) {
-        BudgetSuggestionResponseDto dto = new BudgetSuggestionResponseDto();
-        dto.setDiscount(solution.getDiscount());
-        dto.setPrice(solution.getPrice());
-        dto.setId(solution.getId());
-        dto.setName(solution.getName());
-        if(solution instanceof Service) {
-            dto.setSolutionType(SolutionType.SERVICE);
-        } else {
-            dto.setSolutionType(SolutionType.PRODUCT);
-        }
-        dto.setRating(solution.calculateAverageRating());
-        return dto;
+    public BudgetSuggestionResponseDto toSuggestionResponse(SolutionSuggestion suggestion) {
+        return BudgetSuggestionResponseDto.builder()
+                .id(suggestion.getSolutionId())
+                .solutionType(suggestion.getSolutionType())
+                .name(suggestion.getName())
+                .price(suggestion.getPrice())
+                .discount(suggestion.getDiscount())
+                .rating(suggestion.getAverageRating())
+                .build();
     }
 }
@@ -2,6 +2,7 @@ package com.iss.eventorium.event.mappers;
 
 import com.iss.eventorium.event.dtos.event.*;
 import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.shared.models.CalendarEntry;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.user.mappers.UserMapper;
 import lombok.RequiredArgsConstructor;
@@ -62,8 +63,12 @@ public class EventMapper {
         return dto;
     }
 
-    public CalendarEventDto toCalendarEvent(Event event) {
-        return modelMapper.map(event, CalendarEventDto.class);
+    public CalendarEntry toCalendarEntry(CalendarEventDto event) {
+        return CalendarEntry.builder()
+                .uid("event-" + event.getId() + "@eventorium")
+                .summary(event.getName())
+                .date(event.getDate())
+                .build();
     }
 
     public EventTableOverviewDto toTableOverviewDto(Event event) {
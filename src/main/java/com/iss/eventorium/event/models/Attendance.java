@@ -0,0 +1,41 @@
+package com.iss.eventorium.event.models;
+
+import com.iss.eventorium.user.models.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user attending an event. The unique (user, event) constraint makes marking attendance idempotent and serves the
+ * lookups of a user's attendances, the event index serves paged attendee listings.
+ * The number of attendees of an event is kept in {@link Event#getAttendeeCount()}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "event_attendances",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_attendances_user_event", columnNames = { "user_id", "event_id" }),
+        indexes = @Index(name = "idx_event_attendances_event_id", columnList = "event_id, id")
+)
+public class Attendance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -3,6 +3,7 @@ package com.iss.eventorium.event.models;
 import com.iss.eventorium.category.models.Category;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,10 +21,11 @@ public class Budget {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, name="planned_amount")
+    // NOTE: Maintained only by bulk updates in BudgetRepository, so saving a stale budget never overwrites them.
+    @Column(name = "planned_amount", insertable = false, updatable = false, columnDefinition = "double precision default 0 not null")
     private double plannedAmount;
 
-    @Column(nullable = false, name = "spent_amount")
+    @Column(name = "spent_amount", insertable = false, updatable = false, columnDefinition = "double precision default 0 not null")
     private Double spentAmount = 0.0;
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH)
@@ -32,18 +34,8 @@ public class Budget {
     @ManyToMany(cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
     private List<BudgetItem> items = new ArrayList<>();
 
-    public void addItem(BudgetItem item) {
-        this.items.add(item);
-        if(item.getProcessedAt() != null) {
-            this.spentAmount += item.getSolution().getPrice() * (1 - item.getSolution().getDiscount() / 100);
-        }
-        this.plannedAmount += item.getPlannedAmount();
-    }
-
-    public void removeItem(BudgetItem item) {
-        if(item.getProcessedAt() == null) {
-            this.items.remove(item);
-            this.plannedAmount -= item.getPlannedAmount();
-        }
-    }
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
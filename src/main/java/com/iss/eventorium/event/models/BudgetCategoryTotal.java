@@ -0,0 +1,39 @@
+package com.iss.eventorium.event.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Running planned and spent totals of one category within a budget, kept up to date from the budget ledger.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "budget_category_totals",
+        uniqueConstraints = @UniqueConstraint(name = "uk_budget_category_totals_budget_id_category_id", columnNames = {"budget_id", "category_id"})
+)
+public class BudgetCategoryTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "budget_id", nullable = false)
+    private Long budgetId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "planned_amount", nullable = false)
+    private double plannedAmount;
+
+    @Column(name = "spent_amount", nullable = false)
+    private double spentAmount;
+
+    @Version
+    private long version;
+}
@@ -0,0 +1,43 @@
+package com.iss.eventorium.event.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of a single change of budget totals. Entries are never updated or deleted while the budget exists,
+ * so the totals of a budget can always be explained (and recomputed) by summing its entries.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "budget_ledger_entries", indexes = @Index(name = "idx_budget_ledger_entries_budget_id", columnList = "budget_id, id"))
+public class BudgetLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // NOTE: Plain ids instead of associations, recording an entry never loads the budget, item or category
+    @Column(name = "budget_id", nullable = false)
+    private Long budgetId;
+
+    @Column(name = "budget_item_id")
+    private Long budgetItemId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "planned_delta", nullable = false)
+    private double plannedDelta;
+
+    @Column(name = "spent_delta", nullable = false)
+    private double spentDelta;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
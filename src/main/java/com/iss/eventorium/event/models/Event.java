@@ -19,7 +19,7 @@ import java.util.List;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "events")
+@Table(name = "events", indexes = @Index(name = "idx_events_organizer_id_date", columnList = "organizer_id, date"))
 @Entity
 public class Event {
 
@@ -43,6 +43,10 @@ public class Event {
     @Column(name = "max_participants", nullable = false)
     private Integer maxParticipants;
 
+    // NOTE: Maintained only by bulk updates in EventRepository, so saving a stale event never overwrites it.
+    @Column(name = "attendee_count", insertable = false, updatable = false, columnDefinition = "integer default 0 not null")
+    private Integer attendeeCount;
+
     @ManyToOne
     private EventType type; // NOTE: If type is null, it indicates that the user selected "all"
 
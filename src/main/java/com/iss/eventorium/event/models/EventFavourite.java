@@ -0,0 +1,40 @@
+package com.iss.eventorium.event.models;
+
+import com.iss.eventorium.user.models.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event marked as favourite by a user. The unique (user, event) constraint serves membership checks and lookups
+ * of a user's favourites, the event index serves deleting the favourites of an event.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "event_favourites",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_favourites_user_event", columnNames = { "user_id", "event_id" }),
+        indexes = @Index(name = "idx_event_favourites_event_id", columnList = "event_id")
+)
+public class EventFavourite {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,41 @@
+package com.iss.eventorium.event.repositories;
+
+import com.iss.eventorium.event.dtos.event.CalendarEventDto;
+import com.iss.eventorium.event.models.Attendance;
+import com.iss.eventorium.user.models.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+
+    boolean existsByUserIdAndEventId(Long userId, Long eventId);
+
+    @Query("SELECT new com.iss.eventorium.event.dtos.event.CalendarEventDto(e.id, e.name, e.date) FROM Attendance a JOIN a.event e " +
+            "WHERE a.user.id = :userId AND e.date >= :from AND e.date < :to ORDER BY e.date, e.id")
+    List<CalendarEventDto> findCalendarEvents(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT a.user FROM Attendance a WHERE a.event.id = :eventId ORDER BY a.id")
+    List<User> findAttendees(Long eventId);
+
+    @Query(value = "SELECT a.user FROM Attendance a WHERE a.event.id = :eventId ORDER BY a.id",
+            countQuery = "SELECT COUNT(a) FROM Attendance a WHERE a.event.id = :eventId")
+    Page<User> findAttendees(Long eventId, Pageable pageable);
+
+    /** NOTE: Inserts nothing when the user already attends the event, returns the number of inserted rows.*/
+    @Modifying
+    @Query(value = "INSERT INTO event_attendances (user_id, event_id, created_at) " +
+            "SELECT :userId, e.id, CURRENT_TIMESTAMP FROM events e WHERE e.id = :eventId " +
+            "AND NOT EXISTS (SELECT 1 FROM event_attendances a WHERE a.user_id = :userId AND a.event_id = :eventId)", nativeQuery = true)
+    int insertIfAbsent(Long userId, Long eventId);
+
+    @Modifying
+    @Query(value = "DELETE FROM event_attendances WHERE user_id = :userId " +
+            "AND event_id IN (SELECT e.id FROM events e WHERE e.organizer_id = :organizerId)", nativeQuery = true)
+    int deleteByUserAndOrganizer(Long userId, Long organizerId);
+}
@@ -0,0 +1,44 @@
+package com.iss.eventorium.event.repositories;
+
+import com.iss.eventorium.event.dtos.budget.BudgetCategoryTotalResponseDto;
+import com.iss.eventorium.event.models.BudgetCategoryTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface BudgetCategoryTotalRepository extends JpaRepository<BudgetCategoryTotal, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BudgetCategoryTotal t SET t.plannedAmount = t.plannedAmount + :plannedDelta, " +
+            "t.spentAmount = t.spentAmount + :spentDelta, t.version = t.version + 1 " +
+            "WHERE t.budgetId = :budgetId AND t.categoryId = :categoryId")
+    int addToTotals(Long budgetId, Long categoryId, double plannedDelta, double spentDelta);
+
+    @Query("SELECT new com.iss.eventorium.event.dtos.budget.BudgetCategoryTotalResponseDto(" +
+            "t.categoryId, c.name, t.plannedAmount, t.spentAmount) " +
+            "FROM BudgetCategoryTotal t LEFT JOIN Category c ON c.id = t.categoryId " +
+            "WHERE t.budgetId = :budgetId ORDER BY t.categoryId")
+    List<BudgetCategoryTotalResponseDto> findSummary(Long budgetId);
+
+    /** NOTE: Builds totals of budgets created before the ledger existed from their items. Budgets that already have
+     totals are skipped, so it is safe to run on every startup. Spent amounts use the current solution prices,
+     the same way the budget items are priced when they are processed.*/
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO budget_category_totals (budget_id, category_id, planned_amount, spent_amount, version) " +
+            "SELECT bi.budget_id, i.category_id, SUM(i.planned_amount), " +
+            "SUM(CASE WHEN i.processed_at IS NULL THEN 0 " +
+            "ELSE COALESCE(p.net_price, s.net_price, 0) END), 0 " +
+            "FROM budgets_items bi " +
+            "JOIN budget_items i ON i.id = bi.items_id " +
+            "LEFT JOIN products p ON p.id = i.solution_id " +
+            "LEFT JOIN services s ON s.id = i.solution_id " +
+            "WHERE i.category_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM budget_category_totals t WHERE t.budget_id = bi.budget_id) " +
+            "GROUP BY bi.budget_id, i.category_id", nativeQuery = true)
+    int initializeMissingTotals();
+}
@@ -3,6 +3,28 @@ package com.iss.eventorium.event.repositories;
 import com.iss.eventorium.event.models.BudgetItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface BudgetItemRepository extends JpaRepository<BudgetItem, Long>, JpaSpecificationExecutor<BudgetItem> {
-}
\ No newline at end of file
+
+    @Query("SELECT i FROM Budget b JOIN b.items i WHERE b.id = :budgetId AND i.id = :itemId")
+    Optional<BudgetItem> findInBudget(Long budgetId, Long itemId);
+
+    @Query("SELECT i FROM Budget b JOIN b.items i WHERE b.id = :budgetId AND i.solution.id = :solutionId ORDER BY i.id")
+    List<BudgetItem> findInBudgetBySolution(Long budgetId, Long solutionId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO budgets_items (budget_id, items_id) VALUES (:budgetId, :itemId)", nativeQuery = true)
+    void linkToBudget(Long budgetId, Long itemId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM budgets_items WHERE budget_id = :budgetId AND items_id = :itemId", nativeQuery = true)
+    void unlinkFromBudget(Long budgetId, Long itemId);
+}
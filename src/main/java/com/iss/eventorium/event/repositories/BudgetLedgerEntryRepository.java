@@ -0,0 +1,7 @@
+package com.iss.eventorium.event.repositories;
+
+import com.iss.eventorium.event.models.BudgetLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BudgetLedgerEntryRepository extends JpaRepository<BudgetLedgerEntry, Long> {
+}
@@ -0,0 +1,16 @@
+package com.iss.eventorium.event.repositories;
+
+import com.iss.eventorium.event.models.Budget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Budget b SET b.plannedAmount = b.plannedAmount + :plannedDelta, " +
+            "b.spentAmount = b.spentAmount + :spentDelta WHERE b.id = :budgetId")
+    int addToTotals(Long budgetId, double plannedDelta, double spentDelta);
+}
@@ -0,0 +1,41 @@
+package com.iss.eventorium.event.repositories;
+
+import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.models.EventFavourite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EventFavouriteRepository extends JpaRepository<EventFavourite, Long> {
+
+    boolean existsByUserIdAndEventId(Long userId, Long eventId);
+
+    @Query("SELECT f.event FROM EventFavourite f WHERE f.user.id = :userId ORDER BY f.id")
+    List<Event> findEventsByUserId(Long userId);
+
+    @Query("SELECT f.event.id FROM EventFavourite f WHERE f.user.id = :userId AND f.event.id IN :eventIds")
+    List<Long> findFavouriteIds(Long userId, Collection<Long> eventIds);
+
+    /** NOTE: Inserts nothing when the event is already a favourite of the user, returns the number of inserted rows.*/
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO event_favourites (user_id, event_id, created_at) " +
+            "SELECT :userId, e.id, CURRENT_TIMESTAMP FROM events e WHERE e.id = :eventId " +
+            "AND NOT EXISTS (SELECT 1 FROM event_favourites f WHERE f.user_id = :userId AND f.event_id = :eventId)", nativeQuery = true)
+    int insertIfAbsent(Long userId, Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EventFavourite f WHERE f.user.id = :userId AND f.event.id = :eventId")
+    int remove(Long userId, Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM event_favourites WHERE user_id = :userId " +
+            "AND event_id IN (SELECT e.id FROM events e WHERE e.organizer_id = :organizerId)", nativeQuery = true)
+    int deleteByUserAndOrganizer(Long userId, Long organizerId);
+}
@@ -1,11 +1,102 @@
 package com.iss.eventorium.event.repositories;
 
+import com.iss.eventorium.event.dtos.event.CalendarEventDto;
 import com.iss.eventorium.event.models.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
-    int deleteByIsDraftTrue();
+
+    @Query("SELECT new com.iss.eventorium.event.dtos.event.CalendarEventDto(e.id, e.name, e.date) FROM Event e " +
+            "WHERE e.organizer.id = :organizerId AND e.isDraft = false AND e.date >= :from AND e.date < :to ORDER BY e.date, e.id")
+    List<CalendarEventDto> findCalendarEvents(Long organizerId, LocalDate from, LocalDate to);
+
+    /** NOTE: Rows are (event id, name, attendee count).*/
+    @Query("SELECT e.id, e.name, e.attendeeCount FROM Event e WHERE e.id IN :eventIds")
+    List<Object[]> findAttendeeCounts(Collection<Long> eventIds);
+
+    /** NOTE: Rows are (event id, rating, count), ratings nobody gave are left out.*/
+    @Query("SELECT e.id, r.rating, COUNT(r) FROM Event e JOIN e.ratings r WHERE e.id IN :eventIds GROUP BY e.id, r.rating")
+    List<Object[]> countRatings(Collection<Long> eventIds);
+
+    /** NOTE: Takes a place for one more attendee, returns 0 when the event is full. The update locks the event row,
+     so attendance of the same event is serialized until the transaction ends.*/
+    @Modifying
+    @Query(value = "UPDATE events SET attendee_count = attendee_count + 1 " +
+            "WHERE id = :eventId AND attendee_count < max_participants", nativeQuery = true)
+    int reserveAttendance(Long eventId);
+
+    @Modifying
+    @Query(value = "UPDATE events SET attendee_count = attendee_count - 1 WHERE id = :eventId AND attendee_count > 0", nativeQuery = true)
+    int releaseAttendance(Long eventId);
+
+    @Modifying
+    @Query(value = "UPDATE events SET attendee_count = attendee_count - 1 WHERE organizer_id = :organizerId " +
+            "AND attendee_count > 0 AND id IN (SELECT a.event_id FROM event_attendances a WHERE a.user_id = :userId)", nativeQuery = true)
+    int releaseAttendances(Long userId, Long organizerId);
+
+    /** NOTE: Drafts that are referenced by a reservation are never purged, deleting them would break the reservation.*/
+    @Query(value = "SELECT e.id FROM events e WHERE e.is_draft = true AND e.id > :after " +
+            "AND NOT EXISTS (SELECT 1 FROM service_reservations r WHERE r.event_id = e.id) " +
+            "ORDER BY e.id LIMIT :limit", nativeQuery = true)
+    List<Long> findPurgeableDraftIds(Long after, int limit);
+
+    @Query(value = "SELECT e.id FROM events e WHERE e.id IN (:ids) AND e.is_draft = true " +
+            "AND NOT EXISTS (SELECT 1 FROM service_reservations r WHERE r.event_id = e.id) FOR UPDATE", nativeQuery = true)
+    List<Long> lockPurgeableDrafts(List<Long> ids);
+
+    @Query(value = "SELECT e.budget_id FROM events e WHERE e.id IN (:ids) AND e.budget_id IS NOT NULL", nativeQuery = true)
+    List<Long> findBudgetIds(List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM activities WHERE event_id IN (:ids)", nativeQuery = true)
+    int deleteActivities(List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM ratings WHERE event_id IN (:ids)", nativeQuery = true)
+    int deleteRatings(List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM invitations WHERE event_id IN (:ids)", nativeQuery = true)
+    int deleteInvitations(List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM event_favourites WHERE event_id IN (:ids)", nativeQuery = true)
+    int deleteFavourites(List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM event_attendances WHERE event_id IN (:ids)", nativeQuery = true)
+    int deleteAttendances(List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM events WHERE id IN (:ids)", nativeQuery = true)
+    int deleteEvents(List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM budgets_items WHERE budget_id IN (:budgetIds)", nativeQuery = true)
+    int deleteBudgetItemLinks(List<Long> budgetIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM budgets_active_categories WHERE budget_id IN (:budgetIds)", nativeQuery = true)
+    int deleteBudgetCategories(List<Long> budgetIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM budget_ledger_entries WHERE budget_id IN (:budgetIds)", nativeQuery = true)
+    int deleteBudgetLedgerEntries(List<Long> budgetIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM budget_category_totals WHERE budget_id IN (:budgetIds)", nativeQuery = true)
+    int deleteBudgetCategoryTotals(List<Long> budgetIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM budgets WHERE id IN (:budgetIds)", nativeQuery = true)
+    int deleteBudgets(List<Long> budgetIds);
 }
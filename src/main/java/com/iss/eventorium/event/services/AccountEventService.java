@@ -5,12 +5,14 @@ import com.iss.eventorium.event.dtos.event.EventSummaryResponseDto;
 import com.iss.eventorium.event.exceptions.EventAlreadyPassedException;
 import com.iss.eventorium.event.mappers.EventMapper;
 import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.repositories.EventFavouriteRepository;
 import com.iss.eventorium.event.repositories.EventRepository;
 import com.iss.eventorium.event.specifications.EventSpecification;
+import com.iss.eventorium.shared.models.CalendarEntry;
+import com.iss.eventorium.shared.models.DateWindow;
 import com.iss.eventorium.shared.models.PagedResponse;
-import com.iss.eventorium.user.models.Person;
+import com.iss.eventorium.shared.utils.FavouriteUtils;
 import com.iss.eventorium.user.models.User;
-import com.iss.eventorium.user.repositories.UserRepository;
 import com.iss.eventorium.user.services.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +20,10 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -27,22 +32,38 @@ public class AccountEventService {
     private final EventRepository repository;
     private final AuthService authService;
     private final EventService eventService;
-    private final UserRepository userRepository;
+    private final AttendanceService attendanceService;
+    private final EventFavouriteRepository favouriteRepository;
 
     private final EventMapper mapper;
 
     public List<EventSummaryResponseDto> getFavouriteEvents() {
-        return authService.getCurrentUser().getPerson().getFavouriteEvents()
+        return favouriteRepository.findEventsByUserId(authService.getCurrentUser().getId())
                 .stream().map(mapper::toSummaryResponse).toList();
     }
 
-    public List<CalendarEventDto> getOrganizerEvents() {
-        return findOrganizerEvents(authService.getCurrentUser()).stream().map(mapper::toCalendarEvent).toList();
+    public List<CalendarEventDto> getOrganizerEvents(LocalDate from, LocalDate to) {
+        DateWindow window = DateWindow.of(from, to);
+        return repository.findCalendarEvents(authService.getCurrentUser().getId(), window.getFrom(), window.getTo());
     }
 
-    public List<CalendarEventDto> getAttendingEvents() {
-        Person person = authService.getCurrentUser().getPerson();
-        return person.getAttendingEvents().stream().map(mapper::toCalendarEvent).toList();
+    public List<CalendarEventDto> getAttendingEvents(LocalDate from, LocalDate to) {
+        return attendanceService.findAttendingEvents(authService.getCurrentUser(), DateWindow.of(from, to));
+    }
+
+    /** NOTE: Events the user organizes and events they attend, an organizer attending their own event gets it once.*/
+    public List<CalendarEntry> getCalendarEntries(LocalDate from, LocalDate to) {
+        DateWindow window = DateWindow.of(from, to);
+        User user = authService.getCurrentUser();
+
+        Map<Long, CalendarEventDto> events = new HashMap<>();
+        repository.findCalendarEvents(user.getId(), window.getFrom(), window.getTo()).forEach(event -> events.put(event.getId(), event));
+        attendanceService.findAttendingEvents(user, window).forEach(event -> events.putIfAbsent(event.getId(), event));
+
+        return events.values().stream()
+                .sorted(Comparator.comparing(CalendarEventDto::getDate).thenComparing(CalendarEventDto::getId))
+                .map(mapper::toCalendarEntry)
+                .toList();
     }
 
     public void markAttendance(Long eventId) {
@@ -53,13 +74,7 @@ public class AccountEventService {
     }
 
     public void markAttendance(Event event, User user) {
-        if (!user.getPerson().getAttendingEvents().contains(event))
-            addEventToUserAttendance(user, event);
-    }
-
-    private void addEventToUserAttendance(User user, Event event) {
-        user.getPerson().getAttendingEvents().add(event);
-        userRepository.save(user);
+        attendanceService.attend(event, user);
     }
 
     public boolean isUserEligibleToRate(Long eventId) {
@@ -67,11 +82,7 @@ public class AccountEventService {
         Event event = eventService.find(eventId);
         if (event.getDate().isAfter(LocalDate.now())) return false;
         User user = authService.getCurrentUser();
-        return hasUserAttendedEvent(user, event) && !isRatedByUser(event, user);
-    }
-
-    private boolean hasUserAttendedEvent(User user, Event event) {
-        return user.getPerson().getAttendingEvents().contains(event);
+        return attendanceService.isAttending(user, event) && !isRatedByUser(event, user);
     }
 
     public boolean isRatedByUser(Event event, User user) {
@@ -81,25 +92,21 @@ public class AccountEventService {
 
     public void addFavouriteEvent(Long id) {
         Event event = eventService.find(id);
-        User user = authService.getCurrentUser();
-        List<Event> favouriteEvents = user.getPerson().getFavouriteEvents();
-        if (!favouriteEvents.contains(event)) {
-            favouriteEvents.add(event);
-            userRepository.save(user);
-        }
+        FavouriteUtils.insertIfAbsent(() -> favouriteRepository.insertIfAbsent(authService.getCurrentUser().getId(), event.getId()));
     }
 
     public void removeFavouriteEvent(Long id) {
         Event event = eventService.find(id);
-        User user = authService.getCurrentUser();
-        List<Event> favouriteEvents = user.getPerson().getFavouriteEvents();
-        favouriteEvents.remove(event);
-        userRepository.save(user);
+        favouriteRepository.remove(authService.getCurrentUser().getId(), event.getId());
     }
 
     public boolean isFavouriteEvent(Long id) {
         Event event = eventService.find(id);
-        return authService.getCurrentUser().getPerson().getFavouriteEvents().contains(event);
+        return favouriteRepository.existsByUserIdAndEventId(authService.getCurrentUser().getId(), event.getId());
+    }
+
+    public List<Long> getFavouriteEventIds(List<Long> ids) {
+        return favouriteRepository.findFavouriteIds(authService.getCurrentUser().getId(), ids);
     }
 
     public List<EventSummaryResponseDto> getAll() {
@@ -0,0 +1,69 @@
+package com.iss.eventorium.event.services;
+
+import com.iss.eventorium.event.dtos.event.CalendarEventDto;
+import com.iss.eventorium.event.exceptions.EventFullException;
+import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.repositories.AttendanceRepository;
+import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.shared.models.DateWindow;
+import com.iss.eventorium.user.models.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Event attendance, stored as one row per user and event with the number of attendees kept on the event.
+ * <p>
+ * Marking attendance takes a place on the event with a conditional increment of its attendee count before inserting
+ * the attendance, so an event never gets more attendees than {@code maxParticipants}, even under concurrent requests.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceService {
+
+    private final AttendanceRepository repository;
+    private final EventRepository eventRepository;
+
+    /** NOTE: Returns false when the user already attends the event.*/
+    @Transactional
+    public boolean attend(Event event, User user) {
+        if (repository.existsByUserIdAndEventId(user.getId(), event.getId()))
+            return false;
+
+        if (eventRepository.reserveAttendance(event.getId()) == 0)
+            throw new EventFullException("Event has reached its maximum number of participants.");
+
+        // NOTE: Another request of the same user may have inserted the attendance before the event row was locked.
+        if (repository.insertIfAbsent(user.getId(), event.getId()) == 0) {
+            eventRepository.releaseAttendance(event.getId());
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isAttending(User user, Event event) {
+        return repository.existsByUserIdAndEventId(user.getId(), event.getId());
+    }
+
+    public List<CalendarEventDto> findAttendingEvents(User user, DateWindow window) {
+        return repository.findCalendarEvents(user.getId(), window.getFrom(), window.getTo());
+    }
+
+    public List<User> findAttendees(Long eventId) {
+        return repository.findAttendees(eventId);
+    }
+
+    public Page<User> findAttendees(Long eventId, Pageable pageable) {
+        return repository.findAttendees(eventId, pageable);
+    }
+
+    @Transactional
+    public int removeAttendances(User user, User organizer) {
+        eventRepository.releaseAttendances(user.getId(), organizer.getId());
+        return repository.deleteByUserAndOrganizer(user.getId(), organizer.getId());
+    }
+}
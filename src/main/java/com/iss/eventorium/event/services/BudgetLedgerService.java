@@ -0,0 +1,93 @@
+package com.iss.eventorium.event.services;
+
+import com.iss.eventorium.event.dtos.budget.BudgetSummaryResponseDto;
+import com.iss.eventorium.event.models.Budget;
+import com.iss.eventorium.event.models.BudgetCategoryTotal;
+import com.iss.eventorium.event.models.BudgetItem;
+import com.iss.eventorium.event.models.BudgetLedgerEntry;
+import com.iss.eventorium.event.repositories.BudgetCategoryTotalRepository;
+import com.iss.eventorium.event.repositories.BudgetLedgerEntryRepository;
+import com.iss.eventorium.event.repositories.BudgetRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps budget totals up to date without recomputing them from the budget items.
+ * <p>
+ * Every change of a budget item is recorded as an append-only ledger entry with its planned and spent delta, and
+ * applied to the budget totals and the totals of the item's category with single-row {@code UPDATE}s.
+ * The increments are done by the database, so concurrent changes of the same budget never overwrite each other,
+ * and reading a budget summary costs one row per category instead of a pass over all items.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BudgetLedgerService {
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetLedgerEntryRepository ledgerRepository;
+    private final BudgetCategoryTotalRepository totalRepository;
+
+    @Transactional
+    public void record(Budget budget, BudgetItem item, double plannedDelta, double spentDelta) {
+        if (plannedDelta == 0 && spentDelta == 0) return;
+
+        Long categoryId = item.getCategory() != null ? item.getCategory().getId() : null;
+        ledgerRepository.save(BudgetLedgerEntry.builder()
+                .budgetId(budget.getId())
+                .budgetItemId(item.getId())
+                .categoryId(categoryId)
+                .plannedDelta(plannedDelta)
+                .spentDelta(spentDelta)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        if (budgetRepository.addToTotals(budget.getId(), plannedDelta, spentDelta) == 0)
+            throw new EntityNotFoundException("Budget not found.");
+        if (categoryId != null && totalRepository.addToTotals(budget.getId(), categoryId, plannedDelta, spentDelta) == 0)
+            createTotal(budget.getId(), categoryId, plannedDelta, spentDelta);
+    }
+
+    public BudgetSummaryResponseDto getSummary(Budget budget) {
+        return BudgetSummaryResponseDto.builder()
+                .plannedAmount(budget.getPlannedAmount())
+                .spentAmount(budget.getSpentAmount())
+                .categories(totalRepository.findSummary(budget.getId()))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMissingTotals() {
+        try {
+            int created = totalRepository.initializeMissingTotals();
+            if (created > 0)
+                log.info("Initialized {} budget category totals from existing budget items", created);
+        } catch (RuntimeException e) {
+            log.warn("Failed to initialize budget category totals", e);
+        }
+    }
+
+    /** NOTE: Two transactions creating the first total of the same category race on the unique constraint.
+     The loser is reported as a concurrency conflict, so it is retried and then finds the row created by the winner.*/
+    private void createTotal(Long budgetId, Long categoryId, double plannedDelta, double spentDelta) {
+        try {
+            totalRepository.save(BudgetCategoryTotal.builder()
+                    .budgetId(budgetId)
+                    .categoryId(categoryId)
+                    .plannedAmount(plannedDelta)
+                    .spentAmount(spentDelta)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockingFailureException("Budget category total was created concurrently", e);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.iss.eventorium.event.repositories.EventRepository;
 import com.iss.eventorium.event.specifications.BudgetSpecification;
 import com.iss.eventorium.shared.exceptions.InsufficientFundsException;
 import com.iss.eventorium.shared.exceptions.OwnershipRequiredException;
+import com.iss.eventorium.shared.utils.RetryOnConflict;
 import com.iss.eventorium.shared.utils.SkipFilter;
 import com.iss.eventorium.solution.dtos.products.ProductResponseDto;
 import com.iss.eventorium.solution.dtos.products.SolutionReviewResponseDto;
@@ -22,15 +23,18 @@ import com.iss.eventorium.solution.mappers.ProductMapper;
 import com.iss.eventorium.solution.mappers.SolutionMapper;
 import com.iss.eventorium.solution.models.*;
 import com.iss.eventorium.solution.services.HistoryService;
+import com.iss.eventorium.solution.services.HistoryService.VersionKey;
 import com.iss.eventorium.solution.services.ProductService;
 import com.iss.eventorium.solution.services.SolutionService;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.AuthService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Session;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -45,6 +49,7 @@ public class BudgetService {
     private final AuthService authService;
     private final CategoryService categoryService;
     private final HistoryService historyService;
+    private final BudgetLedgerService ledgerService;
 
     private final EventRepository eventRepository;
     private final BudgetItemRepository budgetItemRepository;
@@ -55,9 +60,11 @@ public class BudgetService {
 
     private final EntityManager entityManager;
 
+    @RetryOnConflict
+    @Transactional
     public ProductResponseDto purchaseProduct(Long eventId, BudgetItemRequestDto request) {
         Product product = productService.find(request.getItemId());
-        double netPrice = calculateNetPrice(product);
+        double netPrice = product.calculateNetPrice();
         if(netPrice > request.getPlannedAmount())
             throw new InsufficientFundsException("You do not have enough funds for this purchase!");
         if(Boolean.FALSE.equals(product.getIsAvailable()))
@@ -66,7 +73,17 @@ public class BudgetService {
         Event event = eventService.find(eventId);
         assertOwnership(event);
 
-        updateBudget(event, mapper.fromRequest(request, product));
+        Budget budget = event.getBudget();
+        lockBudget(budget);
+        Optional<BudgetItem> existingItem = getSolutionFromBudget(budget, product);
+        BudgetItem item = existingItem.orElseGet(() -> mapper.fromRequest(request, product));
+        item.setProcessedAt(LocalDateTime.now());
+        item.setStatus(BudgetItemStatus.PROCESSED);
+        budgetItemRepository.save(item);
+        if (existingItem.isEmpty())
+            budgetItemRepository.linkToBudget(budget.getId(), item.getId());
+
+        ledgerService.record(budget, item, existingItem.isEmpty() ? item.getPlannedAmount() : 0, netPrice);
         return productMapper.toResponse(product);
     }
 
@@ -74,8 +91,8 @@ public class BudgetService {
         Category category = categoryService.find(categoryId);
         Event event = eventService.find(eventId);
         assertOwnership(event);
-        List<Solution> solutions = solutionService.findSuggestions(category, price, event.getDate());
-        return solutions.stream().map(mapper::toSuggestionResponse).toList();
+        List<SolutionSuggestion> suggestions = solutionService.findSuggestions(category, price, event.getDate());
+        return suggestions.stream().map(mapper::toSuggestionResponse).toList();
     }
 
     public BudgetResponseDto getBudget(Long eventId) {
@@ -85,6 +102,12 @@ public class BudgetService {
         return mapper.toResponse(budget);
     }
 
+    public BudgetSummaryResponseDto getBudgetSummary(Long eventId) {
+        Event event = eventService.find(eventId);
+        assertOwnership(event);
+        return ledgerService.getSummary(event.getBudget());
+    }
+
     public List<SolutionReviewResponseDto> getAllBudgetItems() {
         User user = authService.getCurrentUser();
         Specification<BudgetItem> specification = BudgetSpecification.filterAllBudgetItems(user);
@@ -94,41 +117,44 @@ public class BudgetService {
                 .toList();
     }
 
+    @RetryOnConflict
+    @Transactional
     public void addReservationAsBudgetItem(Reservation reservation, double plannedAmount) {
         Budget budget = reservation.getEvent().getBudget();
         assertOwnership(reservation.getEvent());
+        lockBudget(budget);
         Service service = reservation.getService();
         boolean isAutomatic = service.getType() == ReservationType.AUTOMATIC;
 
-        BudgetItem budgetItem = getSolutionFromBudget(budget, service).orElseGet(() -> {
-            BudgetItem item = BudgetItem.builder()
-                    .itemType(SolutionType.SERVICE)
-                    .plannedAmount(plannedAmount)
-                    .status(isAutomatic ? BudgetItemStatus.PROCESSED : BudgetItemStatus.PENDING)
-                    .processedAt(isAutomatic ? LocalDateTime.now() : null)
-                    .solution(service)
-                    .category(service.getCategory())
-                    .build();
-            budget.addItem(item);
-            return item;
-        });
+        Optional<BudgetItem> existingItem = getSolutionFromBudget(budget, service);
+        BudgetItem budgetItem = existingItem.orElseGet(() -> BudgetItem.builder()
+                .itemType(SolutionType.SERVICE)
+                .solution(service)
+                .category(reference(service.getCategory()))
+                .build());
+        double previousAmount = existingItem.map(BudgetItem::getPlannedAmount).orElse(0.0);
 
         budgetItem.setStatus(isAutomatic ? BudgetItemStatus.PROCESSED : BudgetItemStatus.PENDING);
         budgetItem.setProcessedAt(isAutomatic ? LocalDateTime.now() : null);
         budgetItem.setPlannedAmount(plannedAmount);
+        budgetItemRepository.save(budgetItem);
+        if (existingItem.isEmpty())
+            budgetItemRepository.linkToBudget(budget.getId(), budgetItem.getId());
 
-        eventRepository.save(reservation.getEvent());
+        ledgerService.record(budget, budgetItem, plannedAmount - previousAmount, isAutomatic ? service.calculateNetPrice() : 0);
     }
 
+    @RetryOnConflict
+    @Transactional
     public void markAsReserved(Reservation reservation) {
         Event event = reservation.getEvent();
         assertOwnership(event);
         Budget budget = event.getBudget();
+        lockBudget(budget);
         Long serviceId = reservation.getService().getId();
 
-        List<BudgetItem> matchingItems = budget.getItems().stream()
-                .filter(item -> Objects.equals(item.getSolution().getId(), serviceId)
-                        && item.getItemType() == SolutionType.SERVICE)
+        List<BudgetItem> matchingItems = budgetItemRepository.findInBudgetBySolution(budget.getId(), serviceId).stream()
+                .filter(item -> item.getItemType() == SolutionType.SERVICE)
                 .toList();
 
         if (matchingItems.isEmpty())
@@ -142,6 +168,7 @@ public class BudgetService {
         unprocessedItem.setStatus(BudgetItemStatus.PROCESSED);
         unprocessedItem.setProcessedAt(LocalDateTime.now());
         budgetItemRepository.save(unprocessedItem);
+        ledgerService.record(budget, unprocessedItem, 0, reservation.getService().calculateNetPrice());
     }
 
     @SkipFilter
@@ -152,77 +179,90 @@ public class BudgetService {
         assertOwnership(event);
 
         List<BudgetItem> items = event.getBudget().getItems();
+        // NOTE: Versions of all processed items are resolved with one query
+        Map<VersionKey, Memento> versions = historyService.getValidSolutions(items.stream()
+                .filter(item -> item.getProcessedAt() != null)
+                .map(item -> new VersionKey(item.getSolution().getId(), item.getProcessedAt()))
+                .toList());
         for(BudgetItem item : items) {
             if(item.getProcessedAt() != null) {
-                Memento memento = historyService.getValidSolution(item.getSolution().getId(), item.getProcessedAt());
-                item.getSolution().restore(memento);
+                Memento memento = versions.get(new VersionKey(item.getSolution().getId(), item.getProcessedAt()));
+                if (memento != null)
+                    item.getSolution().restore(memento);
             }
         }
         session.enableFilter("activeFilter").setParameter("isDeleted", false);
         return items.stream().map(mapper::toResponse).toList();
     }
 
+    @RetryOnConflict
+    @Transactional
     public BudgetItemResponseDto createBudgetItem(Long eventId, BudgetItemRequestDto request) {
         Event event = eventService.find(eventId);
         assertOwnership(event);
         Budget budget = event.getBudget();
+        lockBudget(budget);
 
-        BudgetItem item = budget.getItems().stream()
-                .filter(bi -> Objects.equals(bi.getSolution().getId(), request.getItemId()))
-                .findFirst()
-                .map(existingItem -> {
-                    if(existingItem.getProcessedAt() != null)
-                        throw new AlreadyProcessedException("Solution is already processed");
+        Optional<BudgetItem> existingItem = budgetItemRepository.findInBudgetBySolution(budget.getId(), request.getItemId())
+                .stream()
+                .findFirst();
+        if (existingItem.isPresent()) {
+            BudgetItem item = existingItem.get();
+            if(item.getProcessedAt() != null)
+                throw new AlreadyProcessedException("Solution is already processed");
 
-                    existingItem.setPlannedAmount(request.getPlannedAmount());
-                    return existingItem;
-                })
-                .orElseGet(() -> {
-                    Solution solution = solutionService.find(request.getItemId());
-                    if(request.getPlannedAmount() < calculateNetPrice(solution))
-                        throw new InsufficientFundsException("You didn't plan to invest this much money.");
-
-                    BudgetItem newItem = mapper.fromRequest(request, solution);
-                    newItem.setId(0L);
-                    newItem.setProcessedAt(null);
-                    newItem.setStatus(BudgetItemStatus.PLANNED);
-                    budget.addItem(newItem);
-                    return newItem;
-                });
-        eventRepository.save(event);
+            return changePlannedAmount(budget, item, request.getPlannedAmount());
+        }
+
+        Solution solution = solutionService.find(request.getItemId());
+        if(request.getPlannedAmount() < solution.calculateNetPrice())
+            throw new InsufficientFundsException("You didn't plan to invest this much money.");
+
+        BudgetItem item = mapper.fromRequest(request, solution);
+        item.setProcessedAt(null);
+        item.setStatus(BudgetItemStatus.PLANNED);
+        budgetItemRepository.save(item);
+        budgetItemRepository.linkToBudget(budget.getId(), item.getId());
+        ledgerService.record(budget, item, item.getPlannedAmount(), 0);
         return mapper.toResponse(item);
     }
 
+    @RetryOnConflict
+    @Transactional
     public BudgetItemResponseDto updateBudgetItem(Long eventId, Long itemId, UpdateBudgetItemRequestDto request) {
         Event event = eventService.find(eventId);
         assertOwnership(event);
         Budget budget = event.getBudget();
+        lockBudget(budget);
         BudgetItem item = getFromBudget(budget, itemId);
 
         if(item.getProcessedAt() != null)
             throw new AlreadyProcessedException("Solution is already processed");
 
-        if(request.getPlannedAmount() < calculateNetPrice(item.getSolution()))
+        if(request.getPlannedAmount() < item.getSolution().calculateNetPrice())
             throw new InsufficientFundsException("You do not have enough funds for this purchase/reservation!");
 
-        item.setPlannedAmount(request.getPlannedAmount());
-        eventRepository.save(event);
-        return mapper.toResponse(item);
+        return changePlannedAmount(budget, item, request.getPlannedAmount());
     }
 
+    @RetryOnConflict
+    @Transactional
     public void deleteBudgetItem(Long eventId, Long itemId) {
         Event event = eventService.find(eventId);
         assertOwnership(event);
 
         Budget budget = event.getBudget();
+        lockBudget(budget);
         BudgetItem item = getFromBudget(budget, itemId);
         if(!item.getStatus().equals(BudgetItemStatus.PLANNED))
             throw new AlreadyProcessedException("Solution is already processed");
 
-        budget.removeItem(item);
-        eventRepository.save(event);
+        budgetItemRepository.unlinkFromBudget(budget.getId(), item.getId());
+        ledgerService.record(budget, item, -item.getPlannedAmount(), 0);
     }
 
+    @RetryOnConflict
+    @Transactional
     public BudgetResponseDto updateBudgetActiveCategories(Long eventId, List<Long> categoryIds) {
         Event event = eventService.find(eventId);
         assertOwnership(event);
@@ -234,13 +274,12 @@ public class BudgetService {
         return mapper.toResponse(budget);
     }
 
-    private void updateBudget(Event event, BudgetItem item) {
-        Budget budget = event.getBudget();
-        BudgetItem budgetItem = getFromBudget(budget, item);
-
-        budgetItem.setProcessedAt(LocalDateTime.now());
-        budgetItem.setStatus(BudgetItemStatus.PROCESSED);
-        eventRepository.save(event);
+    private BudgetItemResponseDto changePlannedAmount(Budget budget, BudgetItem item, double plannedAmount) {
+        double previousAmount = item.getPlannedAmount();
+        item.setPlannedAmount(plannedAmount);
+        budgetItemRepository.save(item);
+        ledgerService.record(budget, item, plannedAmount - previousAmount, 0);
+        return mapper.toResponse(item);
     }
 
     private Collection<BudgetItem> removeDuplicateItems(List<BudgetItem> items) {
@@ -250,31 +289,13 @@ public class BudgetService {
         return uniqueItems.values();
     }
 
-    private BudgetItem getFromBudget(Budget budget, BudgetItem item) {
-        return budget.getItems().stream().filter(bi ->
-                bi.getSolution().getId().equals(item.getSolution().getId()))
-                .findFirst()
-                .map(bi -> {
-                    if (bi.getProcessedAt() != null)
-                        throw new AlreadyProcessedException("Solution is already processed");
-                    return bi;
-                })
-                .orElseGet(() -> {
-                    budget.addItem(item);
-                    return item;
-                });
-    }
-
     private BudgetItem getFromBudget(Budget budget, Long itemId) {
-        return budget.getItems().stream()
-                .filter(existingItem -> Objects.equals(existingItem.getId(), itemId))
-                .findFirst()
+        return budgetItemRepository.findInBudget(budget.getId(), itemId)
                 .orElseThrow(() -> new EntityNotFoundException("Budget item not found."));
     }
 
     private Optional<BudgetItem> getSolutionFromBudget(Budget budget, Solution solution) {
-        return budget.getItems().stream().filter(bi ->
-                        bi.getSolution().getId().equals(solution.getId()))
+        return budgetItemRepository.findInBudgetBySolution(budget.getId(), solution.getId()).stream()
                 .findFirst()
                 .map(bi -> {
                     if (bi.getProcessedAt() != null)
@@ -283,8 +304,17 @@ public class BudgetService {
                 });
     }
 
-    private double calculateNetPrice(Solution solution) {
-        return solution.getPrice() * (1 - solution.getDiscount() / 100);
+    /** NOTE: Bumps the budget version on commit, so two transactions changing the same budget cannot both commit.
+     The later one fails with an optimistic locking conflict and is retried, this time seeing the items added by the first one.*/
+    private void lockBudget(Budget budget) {
+        Budget managed = entityManager.contains(budget) ? budget : entityManager.getReference(Budget.class, budget.getId());
+        entityManager.lock(managed, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+
+    // NOTE: A retried call gets entities detached by the rolled back attempt, persisting a new item must not cascade to them.
+    private Category reference(Category category) {
+        if (category == null || entityManager.contains(category)) return category;
+        return entityManager.getReference(Category.class, category.getId());
     }
 
     private void assertOwnership(Event event) {
@@ -0,0 +1,79 @@
+package com.iss.eventorium.event.services;
+
+import com.iss.eventorium.event.repositories.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Deletes draft events in chunks of {@code drafts.purge.chunk-size}, each in its own short transaction.
+ * Every chunk removes the rows that reference the drafts (activities, ratings, invitations, favourites, attendances)
+ * with bulk statements, then the drafts, then their budgets, without loading any entity.
+ * The id cursor is the checkpoint: committed chunks stay deleted if the job is interrupted,
+ * and the next run simply continues with whatever drafts are left.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DraftPurgeService {
+
+    private final EventRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${drafts.purge.chunk-size:500}")
+    private int chunkSize;
+
+    public int purgeDrafts() {
+        long started = System.nanoTime();
+        long checkpoint = 0L;
+        int deleted = 0;
+        int chunks = 0;
+
+        List<Long> ids;
+        while (!(ids = repository.findPurgeableDraftIds(checkpoint, chunkSize)).isEmpty()) {
+            long chunkStarted = System.nanoTime();
+            List<Long> chunk = ids;
+            Integer count = transactionTemplate.execute(status -> purgeChunk(chunk));
+            deleted += count == null ? 0 : count;
+            chunks++;
+            checkpoint = ids.get(ids.size() - 1);
+            log.debug("Purged {} drafts up to id {} in {} ms", count, checkpoint, millisSince(chunkStarted));
+        }
+
+        long duration = millisSince(started);
+        log.info("Purged {} drafts in {} chunks, {} ms ({} drafts/s)",
+                deleted, chunks, duration, duration == 0 ? deleted : deleted * 1000L / duration);
+        return deleted;
+    }
+
+    private int purgeChunk(List<Long> candidates) {
+        // NOTE: Re-checked under a row lock, a draft may have been published since the chunk was selected.
+        List<Long> ids = repository.lockPurgeableDrafts(candidates);
+        if (ids.isEmpty()) return 0;
+
+        List<Long> budgetIds = repository.findBudgetIds(ids);
+        repository.deleteActivities(ids);
+        repository.deleteRatings(ids);
+        repository.deleteInvitations(ids);
+        repository.deleteFavourites(ids);
+        repository.deleteAttendances(ids);
+        int deleted = repository.deleteEvents(ids);
+
+        if (!budgetIds.isEmpty()) {
+            repository.deleteBudgetItemLinks(budgetIds);
+            repository.deleteBudgetCategories(budgetIds);
+            repository.deleteBudgetLedgerEntries(budgetIds);
+            repository.deleteBudgetCategoryTotals(budgetIds);
+            repository.deleteBudgets(budgetIds);
+        }
+        return deleted;
+    }
+
+    private long millisSince(long nanos) {
+        return (System.nanoTime() - nanos) / 1_000_000;
+    }
+}
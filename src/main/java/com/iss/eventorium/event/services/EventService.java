@@ -4,7 +4,6 @@ import com.iss.eventorium.event.dtos.agenda.ActivityResponseDto;
 import com.iss.eventorium.event.dtos.agenda.AgendaRequestDto;
 import com.iss.eventorium.event.dtos.agenda.AgendaResponseDto;
 import com.iss.eventorium.event.dtos.event.*;
-import com.iss.eventorium.event.dtos.statistics.EventRatingsStatisticsDto;
 import com.iss.eventorium.event.events.EventDateChangedEvent;
 import com.iss.eventorium.event.exceptions.AgendaAlreadyDefinedException;
 import com.iss.eventorium.event.exceptions.InvalidEventStateException;
@@ -24,14 +23,16 @@ import com.iss.eventorium.shared.models.EmailDetails;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.shared.services.EmailService;
 import com.iss.eventorium.shared.services.PdfService;
+import com.iss.eventorium.shared.utils.SchedulerLock;
+import com.iss.eventorium.user.dtos.user.UserDetailsDto;
+import com.iss.eventorium.user.mappers.UserMapper;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.AuthService;
-import com.iss.eventorium.user.services.UserService;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -41,8 +42,6 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 
 @RequiredArgsConstructor
@@ -53,13 +52,15 @@ public class EventService {
     private final EventRepository repository;
     private final AuthService authService;
     private final PdfService pdfService;
-    private final UserService userService;
+    private final AttendanceService attendanceService;
     private final EmailService emailService;
     private final ApplicationEventPublisher eventPublisher;
+    private final DraftPurgeService draftPurgeService;
 
     private final ActivityMapper activityMapper;
     private final EventMapper eventMapper;
     private final EventTypeMapper eventTypeMapper;
+    private final UserMapper userMapper;
 
     public static final String EMAIL_SUBJECT = "Notification from Eventorium";
     public static final String EVENT_UPDATE_NOTIFICATION_TEMPLATE = "event-update-notification";
@@ -188,7 +189,7 @@ public class EventService {
 
 
     private void notifyGuestsAboutChanges(Event event) {
-        List<User> guests = userService.findByEventAttendance(event.getId());
+        List<User> guests = attendanceService.findAttendees(event.getId());
         for (User guest: guests) {
             EmailDetails emailDetails = createEmailDetails(event, guest);
             emailService.sendSimpleMail(emailDetails);
@@ -272,23 +273,20 @@ public class EventService {
         return pdfService.generate("/templates/event-details.jrxml", List.of(event), generateParams(event));
     }
 
-    public byte[] generateGuestListPdf(Long id) {
+    public PagedResponse<UserDetailsDto> getAttendees(Long id, Pageable pageable) {
         assertOwnership(find(id));
-        List<User> guests = userService.findByEventAttendance(id);
-        return pdfService.generate("/templates/guest-list-pdf.jrxml", guests, generateParams(find(id)));
+        Page<User> attendees = attendanceService.findAttendees(id, pageable);
+        return new PagedResponse<>(
+                attendees.getContent().stream().map(userMapper::toUserDetails).toList(),
+                attendees.getTotalPages(),
+                attendees.getTotalElements()
+        );
     }
 
-    public byte[] generateEventStatisticsPdf(Long id) {
-        EventRatingsStatisticsDto statistics = getEventRatingStatistics(id);
-        List<RatingCount> chartData = statistics.getRatingsCount().entrySet().stream()
-                .map(entry -> new RatingCount(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
-
-        Map<String, Object> params = generateParams(find(id));
-        params.put("totalRatings", statistics.getTotalRatings());
-        params.put("totalVisitors", statistics.getTotalVisitors());
-
-        return pdfService.generate("/templates/event-stats.jrxml", chartData, params);
+    public byte[] generateGuestListPdf(Long id) {
+        assertOwnership(find(id));
+        List<User> guests = attendanceService.findAttendees(id);
+        return pdfService.generate("/templates/guest-list-pdf.jrxml", guests, generateParams(find(id)));
     }
 
     private Map<String, Object> generateParams(Event event) {
@@ -303,27 +301,6 @@ public class EventService {
         repository.save(event);
     }
 
-    public EventRatingsStatisticsDto getEventRatingStatistics(Long id) {
-        Event event = find(id);
-        int totalVisitors = userService.findByEventAttendance(event.getId()).size();
-        int totalRatings = event.getRatings().size();
-
-        Map<Integer, Integer> ratingsCount = IntStream.rangeClosed(1, 5)
-                .boxed()
-                .collect(Collectors.toMap(r -> r, r -> 0));
-
-        event.getRatings().forEach(r ->
-                ratingsCount.merge(r.getRating(), 1, Integer::sum)
-        );
-
-        return EventRatingsStatisticsDto.builder()
-                .eventName(event.getName())
-                .totalVisitors(totalVisitors)
-                .totalRatings(totalRatings)
-                .ratingsCount(ratingsCount)
-                .build();
-    }
-
     private void assertOwnership(Event event) {
         User organizer = authService.getCurrentUser();
         if(!Objects.equals(organizer.getId(), event.getOrganizer().getId()))
@@ -331,9 +308,9 @@ public class EventService {
     }
 
     @Scheduled(cron = "0 0 2 * * ?") // runs daily at 2am
-    @Transactional
+    @SchedulerLock(name = "delete-drafts", lockAtMostFor = "PT1H", lockAtLeastFor = "PT5M")
     public void deleteAllDrafts() {
-        int deleted = repository.deleteByIsDraftTrue();
+        int deleted = draftPurgeService.purgeDrafts();
         log.info("Deleted {} drafts", deleted);
     }
 }
@@ -0,0 +1,95 @@
+package com.iss.eventorium.event.services;
+
+import com.iss.eventorium.event.dtos.event.RatingCount;
+import com.iss.eventorium.event.dtos.statistics.EventRatingsStatisticsDto;
+import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.shared.services.PdfService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Visitor counts and rating histograms of events. Visitors are read from the attendee count kept on the event and
+ * ratings are counted with a GROUP BY query, so neither the attending users nor the ratings are loaded.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventStatisticsService {
+
+    private final EventRepository repository;
+    private final EventService eventService;
+    private final PdfService pdfService;
+
+    public EventRatingsStatisticsDto getStatistics(Long id) {
+        return getStatistics(eventService.find(id));
+    }
+
+    /** NOTE: Unknown ids are skipped, the statistics are returned in the order of the requested ids. */
+    public List<EventRatingsStatisticsDto> getStatistics(List<Long> ids) {
+        Set<Long> eventIds = new LinkedHashSet<>(ids);
+        Map<Long, EventRatingsStatisticsDto> statistics = computeStatistics(repository.findAttendeeCounts(eventIds).stream()
+                .map(row -> emptyStatistics((Long) row[0], (String) row[1], (Integer) row[2]))
+                .toList());
+
+        return eventIds.stream()
+                .filter(statistics::containsKey)
+                .map(statistics::get)
+                .toList();
+    }
+
+    public byte[] generateStatisticsPdf(Long id) {
+        Event event = eventService.find(id);
+        EventRatingsStatisticsDto statistics = getStatistics(event);
+        List<RatingCount> chartData = statistics.getRatingsCount().entrySet().stream()
+                .map(entry -> new RatingCount(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("eventName", event.getName());
+        params.put("generatedDate", LocalDate.now());
+        params.put("totalRatings", statistics.getTotalRatings());
+        params.put("totalVisitors", statistics.getTotalVisitors());
+
+        return pdfService.generate("/templates/event-stats.jrxml", chartData, params);
+    }
+
+    private EventRatingsStatisticsDto getStatistics(Event event) {
+        EventRatingsStatisticsDto statistics = emptyStatistics(event.getId(), event.getName(), event.getAttendeeCount());
+        return computeStatistics(List.of(statistics)).get(event.getId());
+    }
+
+    private Map<Long, EventRatingsStatisticsDto> computeStatistics(List<EventRatingsStatisticsDto> events) {
+        Map<Long, EventRatingsStatisticsDto> statistics = events.stream()
+                .collect(Collectors.toMap(EventRatingsStatisticsDto::getEventId, dto -> dto));
+        if (statistics.isEmpty())
+            return statistics;
+
+        for (Object[] row : repository.countRatings(statistics.keySet())) {
+            EventRatingsStatisticsDto dto = statistics.get((Long) row[0]);
+            int count = ((Number) row[2]).intValue();
+            dto.getRatingsCount().merge(((Number) row[1]).intValue(), count, Integer::sum);
+            dto.setTotalRatings(dto.getTotalRatings() + count);
+        }
+        return statistics;
+    }
+
+    private EventRatingsStatisticsDto emptyStatistics(Long eventId, String eventName, Integer attendeeCount) {
+        return EventRatingsStatisticsDto.builder()
+                .eventId(eventId)
+                .eventName(eventName)
+                .totalVisitors(attendeeCount != null ? attendeeCount : 0)
+                .ratingsCount(emptyHistogram())
+                .build();
+    }
+
+    private Map<Integer, Integer> emptyHistogram() {
+        return IntStream.rangeClosed(1, 5)
+                .boxed()
+                .collect(Collectors.toMap(r -> r, r -> 0, (a, b) -> a, TreeMap::new));
+    }
+}
@@ -1,5 +1,6 @@
 package com.iss.eventorium.interaction.api;
 
+import com.iss.eventorium.interaction.dtos.chat.ChatMessagePageDto;
 import com.iss.eventorium.interaction.dtos.chat.ChatMessageResponseDto;
 import com.iss.eventorium.shared.models.ExceptionResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -67,4 +68,41 @@ public interface ChatApi {
             )
             Long recipientId
     );
+
+    @Operation(
+            summary = "Retrieve a page of messages exchanged between two users.",
+            description =
+            """
+            Returns up to `size` messages older than the `cursor` message, in chronological order.
+            Omit `cursor` to get the latest messages. Pass `nextCursor` of the previous page to load older messages,
+            `nextCursor` is null once the beginning of the conversation is reached. Page size is limited to 100.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Cursor message not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "MessageNotFound",
+                                            summary = "Cursor message is not part of this conversation",
+                                            value = "{ \"error\": \"Not found\", \"message\": \"Message not found.\" }"
+                                    )
+                            )
+                    )
+            }
+    )
+    ResponseEntity<ChatMessagePageDto> getChatMessagesBefore(
+            @Parameter(description = "The unique identifier of the sender (User).", required = true, example = "123")
+            Long senderId,
+            @Parameter(description = "The unique identifier of the recipient (User).", required = true, example = "123")
+            Long recipientId,
+            @Parameter(description = "Id of the oldest message of the previous page.")
+            Long cursor,
+            @Parameter(description = "Number of messages per page.")
+            int size
+    );
 }
@@ -1,8 +1,13 @@
 package com.iss.eventorium.interaction.api;
 
 import com.iss.eventorium.interaction.dtos.chat.ChatRoomResponseDto;
+import com.iss.eventorium.interaction.dtos.chat.PresenceDto;
+import com.iss.eventorium.shared.models.ExceptionResponse;
 import com.iss.eventorium.shared.models.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,4 +40,34 @@ public interface ChatRoomApi {
             }
     )
     ResponseEntity<PagedResponse<ChatRoomResponseDto>> getChatRooms(Pageable pageable);
+
+    @Operation(
+            summary = "Fetches presence of the user's chat partners.",
+            description = "Returns whether each chat partner is online, and when they were last seen if they are not. " +
+                    "Later changes are pushed to /user/{id}/queue/presence and typing indicators to /user/{id}/queue/typing. " +
+                    "To be counted as online, the STOMP CONNECT frame has to carry the Authorization header and the client " +
+                    "has to send /app/presence/heartbeat regularly.",
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+            }
+    )
+    ResponseEntity<List<PresenceDto>> getPresence();
+
+    @Operation(
+            summary = "Marks a chat room as read.",
+            description = "Marks every message of the chat room received so far as read by the current user.",
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "No content"),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Chat room not found or the user is not its participant",
+                            content = @Content(schema = @Schema(implementation = ExceptionResponse.class))
+                    )
+            }
+    )
+    ResponseEntity<Void> markAsRead(@Parameter(required = true, description = "Id of the chat room") Long id);
 }
@@ -3,8 +3,10 @@ package com.iss.eventorium.interaction.api;
 import com.iss.eventorium.interaction.dtos.comment.CommentResponseDto;
 import com.iss.eventorium.interaction.dtos.comment.CreateCommentRequestDto;
 import com.iss.eventorium.interaction.dtos.comment.UpdateCommentRequestDto;
+import com.iss.eventorium.interaction.dtos.comment.UpdateCommentsRequestDto;
 import com.iss.eventorium.interaction.models.CommentType;
 import com.iss.eventorium.shared.models.ExceptionResponse;
+import com.iss.eventorium.shared.models.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
@@ -44,6 +47,73 @@ public interface CommentApi {
     )
     ResponseEntity<List<CommentResponseDto>> getPendingComments();
 
+    @Operation(
+            summary = "Retrieves a paginated list of comments with status 'PENDING'.",
+            description =
+            """
+            Returns a page of the moderation queue, newest comments first unless sorted by `creationDate` or `id`.
+            Requires authentication and ADMIN authority.
+            Only users with the `ADMIN` authority can access this endpoint.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Unsupported sort",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "UnsupportedSortExample",
+                                            summary = "Sort pending comments by an unsupported property",
+                                            value = "{ \"error\": \"Bad Request\", \"message\": \"Pending comments cannot be sorted by comment\" }"
+                                    )
+                            )
+                    ),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
+            }
+    )
+    ResponseEntity<PagedResponse<CommentResponseDto>> getPendingCommentsPaged(Pageable pageable);
+
+    @Operation(
+            summary = "Updates status of several pending comments.",
+            description =
+            """
+            Updates the given comments to `ACCEPTED` or `DECLINED` at once.
+            Comments that are no longer pending are skipped.
+            Returns the updated comments. Owners of accepted comments are notified.
+            Requires authentication and ADMIN authority.
+            Only users with the `ADMIN` authority can access this endpoint.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Validation error",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "InvalidCommentsExample",
+                                            summary = "Update comments without ids",
+                                            value = "{ \"error\": \"Bad Request\", \"message\": \"Comment ids are mandatory\" }"
+                                    )
+                            )
+                    ),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
+            }
+    )
+    ResponseEntity<List<CommentResponseDto>> updateComments(
+            @RequestBody(
+                    description = "Ids of the comments and the status to set.",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = UpdateCommentsRequestDto.class))
+            )
+            UpdateCommentsRequestDto request
+    );
+
     @Operation(
             summary = "Creates a comment.",
             description =
@@ -191,4 +261,27 @@ public interface CommentApi {
             )
             Long objectId
     );
+
+    @Operation(
+            summary = "Retrieves a paginated list of comments associated with a specific object type and ID.",
+            description =
+            """
+            Returns a page of accepted comments linked to an object (service, product, or event), newest first.
+            Comments of users blocked by the current user are left out.
+            Events of organizers blocked by the current user are not found.
+            """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+            }
+    )
+    ResponseEntity<PagedResponse<CommentResponseDto>> getCommentsPaged(
+            CommentType type,
+            @Parameter(
+                    description = "The unique identifier for the object (service, product, or event) to which the comments are associated.",
+                    required = true,
+                    example = "123"
+            )
+            Long objectId,
+            Pageable pageable
+    );
 }
@@ -1,17 +1,22 @@
 package com.iss.eventorium.interaction.controllers;
 
 import com.iss.eventorium.interaction.api.ChatApi;
+import com.iss.eventorium.interaction.dtos.chat.ChatMessagePageDto;
 import com.iss.eventorium.interaction.dtos.chat.ChatMessageRequestDto;
 import com.iss.eventorium.interaction.dtos.chat.ChatMessageResponseDto;
+import com.iss.eventorium.interaction.dtos.chat.TypingDto;
 import com.iss.eventorium.interaction.services.ChatService;
+import com.iss.eventorium.interaction.services.PresenceTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -21,12 +26,23 @@ import java.util.List;
 public class ChatController implements ChatApi {
 
     private final ChatService chatService;
+    private final PresenceTracker presenceTracker;
 
     @MessageMapping("/chat")
     public void sendMessage(@Payload ChatMessageRequestDto chatMessage){
         chatService.sendMessage(chatMessage);
     }
 
+    @MessageMapping("/presence/heartbeat")
+    public void heartbeat(SimpMessageHeaderAccessor headerAccessor) {
+        presenceTracker.heartbeat(headerAccessor.getSessionId());
+    }
+
+    @MessageMapping("/typing")
+    public void sendTyping(@Payload TypingDto typing, SimpMessageHeaderAccessor headerAccessor) {
+        presenceTracker.sendTyping(headerAccessor.getSessionId(), typing);
+    }
+
     @GetMapping("/messages/{sender-id}/{recipient-id}")
     public ResponseEntity<List<ChatMessageResponseDto>> getChatMessages(
             @PathVariable("sender-id") Long senderId,
@@ -34,4 +50,14 @@ public class ChatController implements ChatApi {
     ) {
         return ResponseEntity.ok(chatService.getMessages(senderId, recipientId));
     }
+
+    @GetMapping("/messages/{sender-id}/{recipient-id}/history")
+    public ResponseEntity<ChatMessagePageDto> getChatMessagesBefore(
+            @PathVariable("sender-id") Long senderId,
+            @PathVariable("recipient-id") Long recipientId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "30") int size
+    ) {
+        return ResponseEntity.ok(chatService.getMessagesBefore(senderId, recipientId, cursor, size));
+    }
 }
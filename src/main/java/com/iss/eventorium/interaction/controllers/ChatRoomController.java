@@ -2,14 +2,14 @@ package com.iss.eventorium.interaction.controllers;
 
 import com.iss.eventorium.interaction.api.ChatRoomApi;
 import com.iss.eventorium.interaction.dtos.chat.ChatRoomResponseDto;
+import com.iss.eventorium.interaction.dtos.chat.PresenceDto;
 import com.iss.eventorium.interaction.services.ChatRoomService;
+import com.iss.eventorium.interaction.services.PresenceTracker;
 import com.iss.eventorium.shared.models.PagedResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -19,6 +19,7 @@ import java.util.List;
 public class ChatRoomController implements ChatRoomApi {
 
     private final ChatRoomService service;
+    private final PresenceTracker presenceTracker;
 
     @GetMapping("/all")
     public ResponseEntity<List<ChatRoomResponseDto>> getChatRooms() {
@@ -29,4 +30,15 @@ public class ChatRoomController implements ChatRoomApi {
     public ResponseEntity<PagedResponse<ChatRoomResponseDto>> getChatRooms(Pageable pageable) {
         return ResponseEntity.ok(service.getChatRoomsPaged(pageable));
     }
+
+    @GetMapping("/presence")
+    public ResponseEntity<List<PresenceDto>> getPresence() {
+        return ResponseEntity.ok(presenceTracker.getPartnersPresence());
+    }
+
+    @PatchMapping("/{id}/read")
+    public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
+        service.markAsRead(id);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -4,10 +4,13 @@ import com.iss.eventorium.interaction.api.CommentApi;
 import com.iss.eventorium.interaction.dtos.comment.CommentResponseDto;
 import com.iss.eventorium.interaction.dtos.comment.CreateCommentRequestDto;
 import com.iss.eventorium.interaction.dtos.comment.UpdateCommentRequestDto;
+import com.iss.eventorium.interaction.dtos.comment.UpdateCommentsRequestDto;
 import com.iss.eventorium.interaction.models.CommentType;
 import com.iss.eventorium.interaction.services.CommentService;
+import com.iss.eventorium.shared.models.PagedResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +29,16 @@ public class CommentController implements CommentApi {
         return ResponseEntity.ok(service.getPendingComments());
     }
 
+    @GetMapping("/pending/paged")
+    public ResponseEntity<PagedResponse<CommentResponseDto>> getPendingCommentsPaged(Pageable pageable) {
+        return ResponseEntity.ok(service.getPendingCommentsPaged(pageable));
+    }
+
+    @PatchMapping("/pending")
+    public ResponseEntity<List<CommentResponseDto>> updateComments(@RequestBody @Valid UpdateCommentsRequestDto request) {
+        return ResponseEntity.ok(service.updateCommentStatuses(request.getIds(), request.getStatus()));
+    }
+
     @GetMapping
     public ResponseEntity<List<CommentResponseDto>> getComments(
             @RequestParam("type") CommentType type,
@@ -35,6 +48,15 @@ public class CommentController implements CommentApi {
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/paged")
+    public ResponseEntity<PagedResponse<CommentResponseDto>> getCommentsPaged(
+            @RequestParam("type") CommentType type,
+            @RequestParam("id") Long objectId,
+            Pageable pageable) {
+
+        return ResponseEntity.ok(service.getAcceptedCommentsForTargetPaged(type, objectId, pageable));
+    }
+
     @PostMapping
     public ResponseEntity<CommentResponseDto> createComment(
             @RequestBody @Valid CreateCommentRequestDto request
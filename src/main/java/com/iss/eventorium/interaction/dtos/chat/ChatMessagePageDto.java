@@ -0,0 +1,15 @@
+package com.iss.eventorium.interaction.dtos.chat;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessagePageDto {
+    private List<ChatMessageResponseDto> content;
+    private Long nextCursor; // NOTE: null when there are no older messages
+}
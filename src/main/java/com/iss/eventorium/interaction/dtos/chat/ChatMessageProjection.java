@@ -0,0 +1,19 @@
+package com.iss.eventorium.interaction.dtos.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/** NOTE: Read straight from the query, so listing messages never hydrates sender and recipient users.*/
+@Getter
+@AllArgsConstructor
+public class ChatMessageProjection {
+    private Long id;
+    private Long senderId;
+    private Long recipientId;
+    private String message;
+    private LocalDateTime timestamp;
+    private String senderName;
+    private String senderLastname;
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class ChatMessageResponseDto {
+    private Long id;
     private Long senderId;
     private Long recipientId;
     private String message;
@@ -15,4 +15,5 @@ public class ChatRoomResponseDto {
     private LocalDateTime timestamp;
     private String lastMessage;
     private Long recipientId;
+    private Boolean unread;
 }
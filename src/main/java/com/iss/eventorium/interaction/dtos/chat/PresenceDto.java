@@ -0,0 +1,16 @@
+package com.iss.eventorium.interaction.dtos.chat;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresenceDto {
+    private Long userId;
+    private Boolean online;
+    private LocalDateTime lastSeen;
+}
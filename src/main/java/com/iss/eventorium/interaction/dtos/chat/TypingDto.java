@@ -0,0 +1,14 @@
+package com.iss.eventorium.interaction.dtos.chat;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TypingDto {
+    private Long senderId;
+    private Long recipientId;
+    private Boolean typing;
+}
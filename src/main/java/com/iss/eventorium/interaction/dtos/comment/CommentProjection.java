@@ -0,0 +1,21 @@
+package com.iss.eventorium.interaction.dtos.comment;
+
+import com.iss.eventorium.interaction.models.CommentType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/** NOTE: Read straight from the query, so listing comments never hydrates their authors (and their eager roles).*/
+@Getter
+@AllArgsConstructor
+public class CommentProjection {
+    private Long id;
+    private String comment;
+    private LocalDateTime creationDate;
+    private CommentType commentType;
+    private Long objectId;
+    private Long authorId;
+    private String authorName;
+    private String authorLastname;
+}
@@ -0,0 +1,9 @@
+package com.iss.eventorium.interaction.dtos.comment;
+
+/** NOTE: Name and owner of a commented product, service or event, read with native queries so deleted solutions are included.*/
+public interface CommentTargetProjection {
+    Long getId();
+    String getName();
+    Boolean getDeleted();
+    Long getOwner();
+}
@@ -0,0 +1,24 @@
+package com.iss.eventorium.interaction.dtos.comment;
+
+import com.iss.eventorium.shared.models.Status;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UpdateCommentsRequestDto {
+
+    @NotEmpty(message = "Comment ids are mandatory")
+    @Size(max = 500, message = "At most 500 comments can be reviewed at once")
+    private List<Long> ids;
+
+    @NotNull(message = "Status is mandatory")
+    private Status status;
+}
@@ -1,5 +1,6 @@
 package com.iss.eventorium.interaction.mappers;
 
+import com.iss.eventorium.interaction.dtos.chat.ChatMessageProjection;
 import com.iss.eventorium.interaction.dtos.chat.ChatMessageRequestDto;
 import com.iss.eventorium.interaction.dtos.chat.ChatMessageResponseDto;
 import com.iss.eventorium.interaction.dtos.chat.ChatRoomResponseDto;
@@ -8,30 +9,46 @@ import com.iss.eventorium.interaction.models.ChatMessage;
 import com.iss.eventorium.interaction.models.ChatRoom;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.user.models.User;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
 @Component
-@RequiredArgsConstructor
 public class ChatMapper {
-    private final ModelMapper modelMapper;
 
     public ChatMessageResponseDto toResponse(ChatMessage chatMessage) {
-        ChatMessageResponseDto dto = modelMapper.map(chatMessage, ChatMessageResponseDto.class);
-        dto.setSenderId(chatMessage.getSender().getId());
-        dto.setRecipientId(chatMessage.getRecipient().getId());
-        dto.setSender(
-                MessageSenderDto.builder()
-                        .id(chatMessage.getSender().getId())
-                        .name(chatMessage.getSender().getPerson().getName())
-                        .lastname(chatMessage.getSender().getPerson().getLastname())
-                        .build()
-        );
-        return dto;
+        return ChatMessageResponseDto.builder()
+                .id(chatMessage.getId())
+                .senderId(chatMessage.getSender().getId())
+                .recipientId(chatMessage.getRecipient().getId())
+                .message(chatMessage.getMessage())
+                .timestamp(chatMessage.getTimestamp())
+                .sender(
+                        MessageSenderDto.builder()
+                                .id(chatMessage.getSender().getId())
+                                .name(chatMessage.getSender().getPerson().getName())
+                                .lastname(chatMessage.getSender().getPerson().getLastname())
+                                .build()
+                )
+                .build();
+    }
+
+    public ChatMessageResponseDto toResponse(ChatMessageProjection projection) {
+        return ChatMessageResponseDto.builder()
+                .id(projection.getId())
+                .senderId(projection.getSenderId())
+                .recipientId(projection.getRecipientId())
+                .message(projection.getMessage())
+                .timestamp(projection.getTimestamp())
+                .sender(
+                        MessageSenderDto.builder()
+                                .id(projection.getSenderId())
+                                .name(projection.getSenderName())
+                                .lastname(projection.getSenderLastname())
+                                .build()
+                )
+                .build();
     }
 
     public ChatMessage fromRequest(ChatMessageRequestDto dto, User sender, User recipient) {
@@ -39,22 +56,21 @@ public class ChatMapper {
                 .timestamp(LocalDateTime.now())
                 .sender(sender)
                 .recipient(recipient)
+                .conversationId(ChatMessage.conversationId(sender.getId(), recipient.getId()))
                 .message(dto.getMessage())
                 .build();
     }
 
     public ChatRoomResponseDto toResponse(ChatRoom chatRoom, User currentUser) {
-        User user = chatRoom.getLastMessage().getSender().equals(currentUser)
-                ? chatRoom.getLastMessage().getRecipient()
-                : chatRoom.getLastMessage().getSender();
-
+        User user = chatRoom.getOtherParticipant(currentUser);
         ChatMessage lastMessage = chatRoom.getLastMessage();
         return ChatRoomResponseDto.builder()
                 .id(chatRoom.getId())
                 .displayName(user.getPerson().getName() + " " + user.getPerson().getLastname())
-                .lastMessage(lastMessage.getMessage())
+                .lastMessage(lastMessage == null ? null : lastMessage.getMessage())
                 .recipientId(user.getId())
-                .timestamp(lastMessage.getTimestamp())
+                .timestamp(chatRoom.getLastMessageAt())
+                .unread(chatRoom.isUnreadBy(currentUser))
                 .build();
     }
 
@@ -1,13 +1,19 @@
 package com.iss.eventorium.interaction.mappers;
 
+import com.iss.eventorium.interaction.dtos.comment.CommentProjection;
 import com.iss.eventorium.interaction.dtos.comment.CommentResponseDto;
 import com.iss.eventorium.interaction.dtos.comment.CreateCommentRequestDto;
 import com.iss.eventorium.interaction.models.Comment;
+import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.user.dtos.user.UserDetailsDto;
 import com.iss.eventorium.user.mappers.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Function;
+
 @Component
 @RequiredArgsConstructor
 public class CommentMapper {
@@ -25,4 +31,28 @@ public class CommentMapper {
         dto.setDisplayName(displayName);
         return dto;
     }
+
+    public CommentResponseDto toResponse(CommentProjection comment, String displayName) {
+        return CommentResponseDto.builder()
+                .id(comment.getId())
+                .comment(comment.getComment())
+                .creationDate(comment.getCreationDate())
+                .user(UserDetailsDto.builder()
+                        .id(comment.getAuthorId())
+                        .name(comment.getAuthorName())
+                        .lastname(comment.getAuthorLastname())
+                        .build())
+                .type(comment.getCommentType())
+                .objectId(comment.getObjectId())
+                .displayName(displayName)
+                .build();
+    }
+
+    public PagedResponse<CommentResponseDto> toPagedResponse(Page<CommentProjection> page, Function<CommentProjection, String> displayName) {
+        return new PagedResponse<>(
+                page.stream().map(comment -> toResponse(comment, displayName.apply(comment))).toList(),
+                page.getTotalPages(),
+                page.getTotalElements()
+        );
+    }
 }
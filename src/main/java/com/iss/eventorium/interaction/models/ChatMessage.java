@@ -13,10 +13,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity(name = "chat_messages")
+@Table(indexes = @Index(name = "idx_chat_messages_conversation_id_timestamp", columnList = "conversation_id, timestamp, id"))
 public class ChatMessage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @SequenceGenerator(name = "chatMessageSeqGen", sequenceName = "chat_messages_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chatMessageSeqGen")
+    private Long id; // NOTE: Pooled sequence (not identity), ids are handed out without a round trip per message
 
     @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.MERGE)
     @JoinColumn(name = "sender_id")
@@ -26,7 +28,15 @@ public class ChatMessage {
     @JoinColumn(name = "recipient_id")
     private User recipient;
 
+    @Column(name = "conversation_id", nullable = false)
+    private String conversationId;
+
     @Size(max = 100)
     private String message;
     private LocalDateTime timestamp;
+
+    /** NOTE: Same for both directions of a conversation, smaller user id first.*/
+    public static String conversationId(Long firstUserId, Long secondUserId) {
+        return Math.min(firstUserId, secondUserId) + "_" + Math.max(firstUserId, secondUserId);
+    }
 }
@@ -1,29 +1,63 @@
 package com.iss.eventorium.interaction.models;
 
-
+import com.iss.eventorium.user.models.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity(name = "chat_rooms")
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_rooms_participants", columnNames = {"first_user_id", "second_user_id"}),
+        indexes = {
+                @Index(name = "idx_chat_rooms_first_user_id_last_message_at", columnList = "first_user_id, last_message_at"),
+                @Index(name = "idx_chat_rooms_second_user_id_last_message_at", columnList = "second_user_id, last_message_at")
+        }
+)
 public class ChatRoom {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String name;
+    // NOTE: One room per pair of users, the participant with the smaller id is always the first one
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "first_user_id", nullable = false)
+    private User firstUser;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "second_user_id", nullable = false)
+    private User secondUser;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "last_message_id")
     private ChatMessage lastMessage;
 
-    public ChatRoom(String name, ChatMessage lastMessage) {
-        this.name = name;
-        this.lastMessage = lastMessage;
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "first_user_read_at")
+    private LocalDateTime firstUserReadAt;
+
+    @Column(name = "second_user_read_at")
+    private LocalDateTime secondUserReadAt;
+
+    public User getOtherParticipant(User user) {
+        return isFirstUser(user) ? secondUser : firstUser;
+    }
+
+    public boolean isUnreadBy(User user) {
+        LocalDateTime readAt = isFirstUser(user) ? firstUserReadAt : secondUserReadAt;
+        return lastMessageAt != null && (readAt == null || readAt.isBefore(lastMessageAt));
+    }
+
+    private boolean isFirstUser(User user) {
+        return Objects.equals(firstUser.getId(), user.getId());
     }
 }
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_status_creation_date", columnList = "status, creation_date"),
+        @Index(name = "idx_comments_comment_type_object_id", columnList = "comment_type, object_id, status")
+})
 public class Comment {
 
     @Id
@@ -0,0 +1,18 @@
+package com.iss.eventorium.interaction.repositories;
+
+import com.iss.eventorium.interaction.models.ChatMessage;
+
+import java.util.List;
+
+/**
+ * Writes for chat messages that are delivered before they are stored: the id is handed out up front and the rows are
+ * inserted later, many at a time, by ChatMessageWriter.
+ */
+public interface ChatMessageBatchRepository {
+
+    /** NOTE: Next id of the pooled chat_messages_seq, shared with ids Hibernate assigns on persist.*/
+    Long nextId();
+
+    /** NOTE: One JDBC batch for all messages, their ids must already be assigned by nextId.*/
+    void insertAll(List<ChatMessage> messages);
+}
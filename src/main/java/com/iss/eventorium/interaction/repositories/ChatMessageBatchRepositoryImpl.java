@@ -0,0 +1,50 @@
+package com.iss.eventorium.interaction.repositories;
+
+import com.iss.eventorium.interaction.models.ChatMessage;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChatMessageBatchRepositoryImpl implements ChatMessageBatchRepository {
+
+    private static final String INSERT = "INSERT INTO chat_messages (id, sender_id, recipient_id, conversation_id, message, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** NOTE: Goes through the entity's own generator, so the pooled optimizer hands the id out from memory and only
+     every allocationSize-th call reads the sequence (the stateless session acquires a connection only then).*/
+    @Override
+    public Long nextId() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(ChatMessage.class)
+                .getGenerator();
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return (Long) generator.generate((SharedSessionContractImplementor) session, null, null, EventType.INSERT);
+        }
+    }
+
+    @Override
+    public void insertAll(List<ChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT, messages.stream()
+                .map(message -> new Object[] {
+                        message.getId(),
+                        message.getSender().getId(),
+                        message.getRecipient().getId(),
+                        message.getConversationId(),
+                        message.getMessage(),
+                        message.getTimestamp()
+                })
+                .toList());
+    }
+}
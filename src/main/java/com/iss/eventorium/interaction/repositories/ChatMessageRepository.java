@@ -1,10 +1,32 @@
 package com.iss.eventorium.interaction.repositories;
 
+import com.iss.eventorium.interaction.dtos.chat.ChatMessageProjection;
 import com.iss.eventorium.interaction.models.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findBySender_IdAndRecipient_Id(Long senderId, Long recipientId);
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageBatchRepository {
+
+    String PROJECTION = "SELECT new com.iss.eventorium.interaction.dtos.chat.ChatMessageProjection(" +
+            "m.id, s.id, m.recipient.id, m.message, m.timestamp, s.person.name, s.person.lastname) " +
+            "FROM chat_messages m JOIN m.sender s ";
+
+    @Query(PROJECTION + "WHERE m.conversationId = :conversationId ORDER BY m.timestamp, m.id")
+    List<ChatMessageProjection> findConversation(String conversationId);
+
+    @Query(PROJECTION + "WHERE m.conversationId = :conversationId ORDER BY m.timestamp DESC, m.id DESC")
+    List<ChatMessageProjection> findLatest(String conversationId, Pageable pageable);
+
+    @Query(PROJECTION + "WHERE m.conversationId = :conversationId " +
+            "AND (m.timestamp < :timestamp OR (m.timestamp = :timestamp AND m.id < :id)) " +
+            "ORDER BY m.timestamp DESC, m.id DESC")
+    List<ChatMessageProjection> findBefore(String conversationId, LocalDateTime timestamp, Long id, Pageable pageable);
+
+    @Query("SELECT m.timestamp FROM chat_messages m WHERE m.id = :id AND m.conversationId = :conversationId")
+    Optional<LocalDateTime> findTimestamp(Long id, String conversationId);
 }
@@ -3,6 +3,52 @@ package com.iss.eventorium.interaction.repositories;
 import com.iss.eventorium.interaction.models.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, JpaSpecificationExecutor<ChatRoom> {
+
+    /** NOTE: Creates the room of the pair on its first message, inserts nothing when it already exists.
+     Two first messages racing each other can still hit the unique constraint, the loser fails and is written again.*/
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO chat_rooms (first_user_id, second_user_id) SELECT u.id, :secondUserId FROM users u " +
+            "WHERE u.id = :firstUserId AND NOT EXISTS " +
+            "(SELECT 1 FROM chat_rooms r WHERE r.first_user_id = :firstUserId AND r.second_user_id = :secondUserId)",
+            nativeQuery = true)
+    int insertIfAbsent(Long firstUserId, Long secondUserId);
+
+    /** NOTE: Moves the last message of the room forward, the sender has read everything up to its own message.
+     An older message (e.g. a late write) never replaces a newer one.*/
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_rooms SET last_message_id = :messageId, last_message_at = :timestamp, " +
+            "first_user_read_at = CASE WHEN first_user_id = :senderId THEN :timestamp ELSE first_user_read_at END, " +
+            "second_user_read_at = CASE WHEN second_user_id = :senderId THEN :timestamp ELSE second_user_read_at END " +
+            "WHERE first_user_id = :firstUserId AND second_user_id = :secondUserId " +
+            "AND (last_message_at IS NULL OR last_message_at <= :timestamp)",
+            nativeQuery = true)
+    int updateLastMessage(Long firstUserId, Long secondUserId, Long senderId, Long messageId, LocalDateTime timestamp);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE chat_rooms r SET r.firstUserReadAt = :readAt WHERE r.id = :id AND r.firstUser.id = :userId")
+    int markReadByFirstUser(Long id, Long userId, LocalDateTime readAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE chat_rooms r SET r.secondUserReadAt = :readAt WHERE r.id = :id AND r.secondUser.id = :userId")
+    int markReadBySecondUser(Long id, Long userId, LocalDateTime readAt);
+
+    /** NOTE: Everyone the user has a chat room with, except users blocked by either side. Served by the participant indexes.*/
+    @Query("SELECT CASE WHEN r.firstUser.id = :userId THEN r.secondUser.id ELSE r.firstUser.id END FROM chat_rooms r " +
+            "WHERE (r.firstUser.id = :userId OR r.secondUser.id = :userId) " +
+            "AND NOT EXISTS (SELECT b FROM UserBlock b WHERE " +
+            "(b.blocker.id = r.firstUser.id AND b.blocked.id = r.secondUser.id) OR " +
+            "(b.blocker.id = r.secondUser.id AND b.blocked.id = r.firstUser.id))")
+    List<Long> findPartnerIds(Long userId);
 }
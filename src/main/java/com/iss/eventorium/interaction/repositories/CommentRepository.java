@@ -1,8 +1,65 @@
 package com.iss.eventorium.interaction.repositories;
 
+import com.iss.eventorium.interaction.dtos.comment.CommentProjection;
+import com.iss.eventorium.interaction.dtos.comment.CommentTargetProjection;
 import com.iss.eventorium.interaction.models.Comment;
+import com.iss.eventorium.interaction.models.CommentType;
+import com.iss.eventorium.shared.models.Status;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
-}
\ No newline at end of file
+
+    String PROJECTION = "SELECT new com.iss.eventorium.interaction.dtos.comment.CommentProjection(" +
+            "c.id, c.comment, c.creationDate, c.commentType, c.objectId, a.id, a.person.name, a.person.lastname) " +
+            "FROM Comment c JOIN c.author a ";
+
+    @Query(value = PROJECTION + "WHERE c.status = :status",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.status = :status")
+    Page<CommentProjection> findByStatus(Status status, Pageable pageable);
+
+    @Query(PROJECTION + "WHERE c.status = :status ORDER BY c.creationDate DESC, c.id DESC")
+    List<CommentProjection> findAllByStatus(Status status);
+
+    @Query(PROJECTION + "WHERE c.commentType = :type AND c.objectId = :objectId AND c.status = :status " +
+            "ORDER BY c.creationDate DESC, c.id DESC")
+    List<CommentProjection> findByTarget(CommentType type, Long objectId, Status status);
+
+    @Query(PROJECTION + "WHERE c.id IN :ids ORDER BY c.creationDate DESC, c.id DESC")
+    List<CommentProjection> findProjectionsByIds(Collection<Long> ids);
+
+    /** NOTE: Locks the still pending comments, so two admins reviewing the same comments cannot both notify their owners.*/
+    @Query(value = "SELECT c.id FROM comments c WHERE c.id IN (:ids) AND c.status = 'PENDING' FOR UPDATE", nativeQuery = true)
+    List<Long> lockPendingIds(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Comment c SET c.status = :status WHERE c.id IN :ids")
+    int updateStatus(Collection<Long> ids, Status status);
+
+    /** NOTE: Products of providers blocked by the viewer are left out, as {@code ProductService.findEvenIfDeleted} does. Without a viewer none are.*/
+    @Query(value = "SELECT p.id AS id, p.name AS name, p.is_deleted AS deleted, p.provider_id AS owner " +
+            "FROM products p WHERE p.id IN (:ids) " +
+            "AND p.provider_id NOT IN (SELECT ub.blocked_id FROM user_blocks ub WHERE ub.blocker_id = :viewerId)", nativeQuery = true)
+    List<CommentTargetProjection> findProductTargets(Collection<Long> ids, Long viewerId);
+
+    /** NOTE: Services of providers blocked by the viewer are left out, as {@code ServiceService.findEvenIfDeleted} does. Without a viewer none are.*/
+    @Query(value = "SELECT s.id AS id, s.name AS name, s.is_deleted AS deleted, s.provider_id AS owner " +
+            "FROM services s WHERE s.id IN (:ids) " +
+            "AND s.provider_id NOT IN (SELECT ub.blocked_id FROM user_blocks ub WHERE ub.blocker_id = :viewerId)", nativeQuery = true)
+    List<CommentTargetProjection> findServiceTargets(Collection<Long> ids, Long viewerId);
+
+    /** NOTE: Events of organizers blocked by the viewer are left out, as {@code EventService.find} does. Without a viewer none are.*/
+    @Query(value = "SELECT e.id AS id, e.name AS name, false AS deleted, e.organizer_id AS owner " +
+            "FROM events e WHERE e.id IN (:ids) " +
+            "AND e.organizer_id NOT IN (SELECT ub.blocked_id FROM user_blocks ub WHERE ub.blocker_id = :viewerId)", nativeQuery = true)
+    List<CommentTargetProjection> findEventTargets(Collection<Long> ids, Long viewerId);
+}
@@ -0,0 +1,158 @@
+package com.iss.eventorium.interaction.services;
+
+import com.iss.eventorium.interaction.models.ChatMessage;
+import com.iss.eventorium.interaction.repositories.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind queue for chat messages. Messages are delivered first, with ids already assigned, and stored here
+ * together with their chat rooms (last message, unread markers), in transactions of up to
+ * {@code chat.write-behind.batch-size} messages on a dedicated thread. The inserts of a batch go out as one JDBC batch.
+ * <p>
+ * Backpressure: when the queue is full, the sender waits up to {@code chat.write-behind.offer-timeout-ms}
+ * and then stores its message itself, so a slow database slows senders down instead of dropping messages.
+ * <p>
+ * Durability: the queue is drained on shutdown. Messages still queued when the process crashes are lost,
+ * which is bounded by the queue capacity and is normally a single batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final ChatMessageRepository repository;
+    private final ChatRoomService chatRoomService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chat.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.write-behind.batch-size:100}")
+    private int batchSize;
+
+    @Value("${chat.write-behind.poll-interval-ms:200}")
+    private long pollIntervalMs;
+
+    @Value("${chat.write-behind.offer-timeout-ms:500}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<PendingMessage> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::run, "chat-message-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        if (!queue.isEmpty())
+            log.info("Writing {} queued chat messages before shutdown", queue.size());
+        writeQueued();
+    }
+
+    public void enqueue(ChatMessage message) {
+        PendingMessage pending = new PendingMessage(message, System.nanoTime());
+        try {
+            if (queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("Chat message queue is full, writing message {} synchronously", message.getId());
+        write(List.of(pending));
+    }
+
+    /** NOTE: Writes everything queued so far, batch by batch, on the calling thread.*/
+    void writeQueued() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                PendingMessage first = queue.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                List<PendingMessage> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error while writing chat messages", e);
+            }
+        }
+    }
+
+    private void write(List<PendingMessage> batch) {
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+        } catch (RuntimeException e) {
+            // NOTE: One bad message (e.g. a user deleted since it was sent) must not take the rest of the batch down with it
+            log.warn("Writing {} chat messages failed, retrying one by one", batch.size(), e);
+            batch.forEach(this::writeAlone);
+        }
+
+        log.debug("Stored {} chat messages with their chat rooms in {} ms, oldest waited {} ms in queue",
+                batch.size(), millis(System.nanoTime() - started), millis(started - batch.get(0).enqueuedAt()));
+    }
+
+    private void writeAlone(PendingMessage pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(List.of(pending)));
+        } catch (RuntimeException e) {
+            log.error("Dropping chat message {} from {} to {}", pending.message().getId(),
+                    pending.message().getSender().getId(), pending.message().getRecipient().getId(), e);
+        }
+    }
+
+    private void persist(List<PendingMessage> batch) {
+        List<ChatMessage> messages = batch.stream().map(PendingMessage::message).toList();
+        repository.insertAll(messages);
+
+        // NOTE: Only the newest message of each conversation in the batch moves its chat room forward
+        BinaryOperator<ChatMessage> newest = (first, second) -> second.getTimestamp().isBefore(first.getTimestamp()) ? first : second;
+        Map<String, ChatMessage> lastMessages = messages.stream()
+                .collect(Collectors.toMap(ChatMessage::getConversationId, message -> message, newest));
+        lastMessages.values().forEach(chatRoomService::updateChatRoom);
+    }
+
+    private long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record PendingMessage(ChatMessage message, long enqueuedAt) {}
+}
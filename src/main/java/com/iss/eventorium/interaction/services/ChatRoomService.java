@@ -9,13 +9,14 @@ import com.iss.eventorium.interaction.specifications.ChatRoomSpecification;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.AuthService;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,21 +27,28 @@ public class ChatRoomService {
 
     private final ChatMapper mapper;
 
-    public void createChatRoom(User sender, User recipient, ChatMessage message) {
-        String senderRoomName = generateChatRoomName(sender, recipient);
-        String recipientRoomName = generateChatRoomName(recipient, sender);
+    /** NOTE: No native upsert, so the same statements run on PostgreSQL and on H2 (test profile).*/
+    public void updateChatRoom(ChatMessage message) {
+        Long senderId = message.getSender().getId();
+        Long recipientId = message.getRecipient().getId();
+        Long firstUserId = Math.min(senderId, recipientId);
+        Long secondUserId = Math.max(senderId, recipientId);
 
-        Specification<ChatRoom> senderRoomSpecification = ChatRoomSpecification.filterByName(senderRoomName);
-        Specification<ChatRoom> recipientRoomSpecification = ChatRoomSpecification.filterByName(recipientRoomName);
-        Optional<ChatRoom> senderRoom = repository.findOne(senderRoomSpecification);
-        if(senderRoom.isPresent()) {
-            updateChatRoom(senderRoom.get(), message);
-            updateChatRoom(repository.findOne(recipientRoomSpecification).get(), message);
-            return;
-        }
+        repository.insertIfAbsent(firstUserId, secondUserId);
+        repository.updateLastMessage(firstUserId, secondUserId, senderId, message.getId(), message.getTimestamp());
+    }
+
+    public List<Long> getPartnerIds(Long userId) {
+        return repository.findPartnerIds(userId);
+    }
 
-        repository.save(new ChatRoom(senderRoomName, message));
-        repository.save(new ChatRoom(recipientRoomName, message));
+    public void markAsRead(Long id) {
+        User currentUser = authService.getCurrentUser();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = repository.markReadByFirstUser(id, currentUser.getId(), now)
+                + repository.markReadBySecondUser(id, currentUser.getId(), now);
+        if (updated == 0)
+            throw new EntityNotFoundException("Chat room not found.");
     }
 
     public List<ChatRoomResponseDto> getChatRooms() {
@@ -56,13 +64,4 @@ public class ChatRoomService {
         Specification<ChatRoom> specification = ChatRoomSpecification.filterBy(currentUser);
         return mapper.toPagedResponse(repository.findAll(specification, pageable), currentUser);
     }
-
-    private void updateChatRoom(ChatRoom room, ChatMessage message) {
-        room.setLastMessage(message);
-        repository.save(room);
-    }
-
-    private String generateChatRoomName(User sender, User recipient) {
-        return sender.getId() + "_" + recipient.getId();
-    }
 }
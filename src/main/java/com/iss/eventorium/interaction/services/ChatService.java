@@ -1,5 +1,7 @@
 package com.iss.eventorium.interaction.services;
 
+import com.iss.eventorium.interaction.dtos.chat.ChatMessagePageDto;
+import com.iss.eventorium.interaction.dtos.chat.ChatMessageProjection;
 import com.iss.eventorium.interaction.dtos.chat.ChatMessageRequestDto;
 import com.iss.eventorium.interaction.dtos.chat.ChatMessageResponseDto;
 import com.iss.eventorium.interaction.mappers.ChatMapper;
@@ -7,14 +9,18 @@ import com.iss.eventorium.interaction.models.ChatMessage;
 import com.iss.eventorium.interaction.repositories.ChatMessageRepository;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.UserService;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +28,7 @@ import java.util.stream.Stream;
 public class ChatService {
 
     private final UserService userService;
-    private final ChatRoomService chatRoomService;
+    private final ChatMessageWriter messageWriter;
 
     private final ChatMessageRepository chatMessageRepository;
 
@@ -30,13 +36,22 @@ public class ChatService {
 
     private final SimpMessagingTemplate messagingTemplate;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** NOTE: The message gets its id up front (the cursor of the message history), is delivered to the recipient right
+     away and is stored afterwards, together with its chat room, by ChatMessageWriter. A delivered message can therefore
+     be used as a cursor only once its batch has been written, which is normally a fraction of a second later.*/
     public void sendMessage(ChatMessageRequestDto chatMessage) {
         if(chatMessage.getMessage().trim().isEmpty()) {
             return;
         }
 
+        long started = System.nanoTime();
         User sender = userService.find(chatMessage.getSenderId());
         User recipient = userService.find(chatMessage.getRecipientId());
+        ChatMessage message = mapper.fromRequest(chatMessage, sender, recipient);
+        message.setId(chatMessageRepository.nextId());
+        long prepared = System.nanoTime();
 
         log.info("Sending message from {} to {}: {}",
             chatMessage.getSenderId(),
@@ -44,22 +59,52 @@ public class ChatService {
             chatMessage.getMessage()
         );
 
-        ChatMessage message = chatMessageRepository.save(mapper.fromRequest(chatMessage, sender, recipient));
         messagingTemplate.convertAndSendToUser(
                 chatMessage.getRecipientId().toString(),
                 "/queue/messages",
                 mapper.toResponse(message)
         );
-        chatRoomService.createChatRoom(sender, recipient, message);
+        long delivered = System.nanoTime();
+
+        messageWriter.enqueue(message);
+        // NOTE: The writer logs how long the message waited in its queue and how long storing its batch took
+        log.debug("Message {} from {} to {}: lookup {} ms, delivery {} ms, enqueue {} ms",
+                message.getId(), chatMessage.getSenderId(), chatMessage.getRecipientId(),
+                millis(prepared - started), millis(delivered - prepared), millis(System.nanoTime() - delivered));
     }
 
     public List<ChatMessageResponseDto> getMessages(Long senderId, Long recipientId) {
-        return Stream.concat(
-                        chatMessageRepository.findBySender_IdAndRecipient_Id(senderId, recipientId).stream(),
-                        chatMessageRepository.findBySender_IdAndRecipient_Id(recipientId, senderId).stream()
-                )
+        return chatMessageRepository.findConversation(ChatMessage.conversationId(senderId, recipientId)).stream()
                 .map(mapper::toResponse)
-                .sorted(Comparator.comparing(ChatMessageResponseDto::getTimestamp))
                 .toList();
     }
+
+    /** NOTE: Keyset paging on (timestamp, id) over the conversation index. The cursor is the id of the oldest
+     message of the previous page, and each page is returned in chronological order.*/
+    public ChatMessagePageDto getMessagesBefore(Long senderId, Long recipientId, Long cursor, int size) {
+        String conversationId = ChatMessage.conversationId(senderId, recipientId);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, limit + 1);
+
+        List<ChatMessageProjection> messages;
+        if (cursor == null) {
+            messages = chatMessageRepository.findLatest(conversationId, page);
+        } else {
+            LocalDateTime timestamp = chatMessageRepository.findTimestamp(cursor, conversationId)
+                    .orElseThrow(() -> new EntityNotFoundException("Message not found."));
+            messages = chatMessageRepository.findBefore(conversationId, timestamp, cursor, page);
+        }
+
+        boolean hasMore = messages.size() > limit;
+        List<ChatMessageProjection> content = new ArrayList<>(hasMore ? messages.subList(0, limit) : messages);
+        Collections.reverse(content);
+        return new ChatMessagePageDto(
+                content.stream().map(mapper::toResponse).toList(),
+                hasMore ? content.get(0).getId() : null
+        );
+    }
+
+    private long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
 }
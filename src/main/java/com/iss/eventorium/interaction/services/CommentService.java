@@ -3,16 +3,20 @@ package com.iss.eventorium.interaction.services;
 import com.iss.eventorium.event.models.Event;
 import com.iss.eventorium.event.services.EventService;
 import com.iss.eventorium.interaction.dtos.comment.CommentInfoDto;
+import com.iss.eventorium.interaction.dtos.comment.CommentProjection;
 import com.iss.eventorium.interaction.dtos.comment.CommentResponseDto;
+import com.iss.eventorium.interaction.dtos.comment.CommentTargetProjection;
 import com.iss.eventorium.interaction.dtos.comment.CreateCommentRequestDto;
 import com.iss.eventorium.interaction.mappers.CommentMapper;
 import com.iss.eventorium.interaction.models.Comment;
 import com.iss.eventorium.interaction.models.CommentType;
 import com.iss.eventorium.interaction.repositories.CommentRepository;
-import com.iss.eventorium.interaction.specifications.CommentSpecification;
+import com.iss.eventorium.interaction.services.CommentThreadCache.CommentThread;
 import com.iss.eventorium.notifications.models.Notification;
 import com.iss.eventorium.notifications.models.NotificationType;
 import com.iss.eventorium.notifications.services.NotificationService;
+import com.iss.eventorium.shared.exceptions.UnsupportedSortException;
+import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.shared.models.Status;
 import com.iss.eventorium.solution.models.Product;
 import com.iss.eventorium.solution.models.Service;
@@ -20,27 +24,38 @@ import com.iss.eventorium.solution.services.ProductService;
 import com.iss.eventorium.solution.services.ServiceService;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.AuthService;
+import com.iss.eventorium.user.services.UserBlockService;
+import com.iss.eventorium.user.services.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Locale;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @org.springframework.stereotype.Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final Set<String> PENDING_SORT_PROPERTIES = Set.of("creationDate", "id");
+
     private final AuthService authService;
+    private final UserService userService;
+    private final UserBlockService userBlockService;
     private final ProductService productService;
     private final ServiceService serviceService;
     private final EventService eventService;
     private final NotificationService notificationService;
 
     private final CommentRepository repository;
+    private final CommentTargetResolver targetResolver;
+    private final CommentThreadCache threadCache;
 
     private final CommentMapper mapper;
 
@@ -55,15 +70,61 @@ public class CommentService {
     }
 
     public List<CommentResponseDto> getPendingComments() {
-        Specification<Comment> specification = CommentSpecification.filterPendingComments();
-        List<Comment> comments = repository.findAll(specification, Sort.by(Sort.Direction.DESC, "creationDate"));
-        return comments.stream().map(comment -> mapper.toResponse(comment, getCommentInfo(comment).getDisplayName())).toList();
+        List<CommentProjection> comments = repository.findAllByStatus(Status.PENDING);
+        Map<CommentType, Map<Long, CommentTargetProjection>> targets = targetResolver.resolve(comments);
+        return comments.stream().map(comment -> mapper.toResponse(comment, targetResolver.getDisplayName(comment, targets))).toList();
+    }
+
+    public PagedResponse<CommentResponseDto> getPendingCommentsPaged(Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), getPendingSort(pageable.getSort()));
+        Page<CommentProjection> comments = repository.findByStatus(Status.PENDING, page);
+        Map<CommentType, Map<Long, CommentTargetProjection>> targets = targetResolver.resolve(comments.getContent());
+        return mapper.toPagedResponse(comments, comment -> targetResolver.getDisplayName(comment, targets));
+    }
+
+    /** NOTE: The queue can only be sorted by creationDate and id, newest first by default (as the unpaged list).
+     Ties are broken by id, so a comment never shows up on two pages.*/
+    private Sort getPendingSort(Sort sort) {
+        if (sort.isUnsorted())
+            return Sort.by(Sort.Direction.DESC, "creationDate", "id");
+
+        for (Sort.Order order : sort) {
+            if (!PENDING_SORT_PROPERTIES.contains(order.getProperty()))
+                throw new UnsupportedSortException("Pending comments cannot be sorted by " + order.getProperty());
+        }
+        Sort.Order first = sort.iterator().next();
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by(first.getDirection(), "id"));
     }
 
     public List<CommentResponseDto> getAcceptedCommentsForTarget(CommentType type, Long objectId) {
-        Specification<Comment> specification = CommentSpecification.filterBy(type, objectId, authService.getCurrentUser());
-        List<Comment> comments = repository.findAll(specification, Sort.by(Sort.Direction.DESC, "creationDate"));
-        return comments.stream().map(comment -> mapper.toResponse(comment, getCommentInfo(comment).getDisplayName())).toList();
+        targetResolver.checkVisible(type, objectId);
+        CommentThread thread = threadCache.getThread(type, objectId);
+        return getVisibleComments(thread).stream()
+                .map(comment -> mapper.toResponse(comment, thread.getDisplayName()))
+                .toList();
+    }
+
+    public PagedResponse<CommentResponseDto> getAcceptedCommentsForTargetPaged(CommentType type, Long objectId, Pageable pageable) {
+        targetResolver.checkVisible(type, objectId);
+        CommentThread thread = threadCache.getThread(type, objectId);
+        List<CommentProjection> comments = getVisibleComments(thread);
+
+        int from = (int) Math.min(pageable.getOffset(), comments.size());
+        int to = Math.min(from + pageable.getPageSize(), comments.size());
+        return new PagedResponse<>(
+                comments.subList(from, to).stream().map(comment -> mapper.toResponse(comment, thread.getDisplayName())).toList(),
+                (comments.size() + pageable.getPageSize() - 1) / pageable.getPageSize(),
+                comments.size()
+        );
+    }
+
+    /** NOTE: Threads are shared by every viewer, so comments of authors the viewer blocked are dropped here.*/
+    private List<CommentProjection> getVisibleComments(CommentThread thread) {
+        Set<Long> blocked = userBlockService.getBlockedIds(authService.getCurrentUser());
+        if (blocked.isEmpty()) return thread.getComments();
+        return thread.getComments().stream()
+                .filter(comment -> !blocked.contains(comment.getAuthorId()))
+                .toList();
     }
 
     public Comment find(Long id) {
@@ -78,19 +139,63 @@ public class CommentService {
         if (status.equals(Status.ACCEPTED))
             sendNotification(comment.getAuthor(), info.getUser(), info.getDisplayName());
 
-        return mapper.toResponse(repository.save(comment), info.getDisplayName());
+        Comment saved = repository.save(comment);
+        threadCache.evict(comment.getCommentType(), comment.getObjectId());
+        return mapper.toResponse(saved, info.getDisplayName());
+    }
+
+    /** NOTE: Only comments that are still pending are updated (and returned), with a single UPDATE.
+     Owners of accepted comments are loaded with one query and notified in one batch.*/
+    @Transactional
+    public List<CommentResponseDto> updateCommentStatuses(List<Long> ids, Status status) {
+        List<Long> pendingIds = repository.lockPendingIds(ids);
+        if (pendingIds.isEmpty()) return List.of();
+        repository.updateStatus(pendingIds, status);
+
+        List<CommentProjection> comments = repository.findProjectionsByIds(pendingIds);
+        comments.forEach(comment -> threadCache.evict(comment.getCommentType(), comment.getObjectId()));
+        Map<CommentType, Map<Long, CommentTargetProjection>> targets = targetResolver.resolve(comments);
+        if (status.equals(Status.ACCEPTED))
+            sendNotifications(comments, targets);
+
+        return comments.stream().map(comment -> mapper.toResponse(comment, targetResolver.getDisplayName(comment, targets))).toList();
     }
 
     private void sendNotification(User author, User receiver, String displayName) {
         notificationService.sendNotification(receiver, new Notification(
                 "Comment",
-                getMessage(author, displayName),
+                getMessage(author.getPerson().getName() + " " + author.getPerson().getLastname(), displayName),
                 NotificationType.INFO
         ));
     }
 
-    private String getMessage(User user, String displayName) {
-        String person = user.getPerson().getName() + " " + user.getPerson().getLastname();
+    private void sendNotifications(List<CommentProjection> comments, Map<CommentType, Map<Long, CommentTargetProjection>> targets) {
+        Map<CommentProjection, Long> ownerIds = new LinkedHashMap<>();
+        for (CommentProjection comment : comments) {
+            CommentTargetProjection target = targetResolver.getTarget(comment, targets);
+            if (target != null && target.getOwner() != null)
+                ownerIds.put(comment, target.getOwner());
+        }
+        Map<Long, User> owners = userService.findAll(new HashSet<>(ownerIds.values())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>();
+        ownerIds.forEach((comment, ownerId) -> {
+            User owner = owners.get(ownerId);
+            if (owner == null) return;
+
+            Notification notification = new Notification(
+                    "Comment",
+                    getMessage(comment.getAuthorName() + " " + comment.getAuthorLastname(), targetResolver.getDisplayName(comment, targets)),
+                    NotificationType.INFO
+            );
+            notification.setRecipient(owner);
+            notifications.add(notification);
+        });
+        notificationService.sendNotifications(notifications);
+    }
+
+    private String getMessage(String person, String displayName) {
         return messageSource.getMessage(
                 "notification.comment",
                 new Object[] { person, displayName },
@@ -134,4 +239,4 @@ public class CommentService {
             }
         };
     }
-}
\ No newline at end of file
+}
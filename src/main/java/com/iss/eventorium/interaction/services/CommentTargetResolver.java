@@ -0,0 +1,88 @@
+package com.iss.eventorium.interaction.services;
+
+import com.iss.eventorium.interaction.dtos.comment.CommentProjection;
+import com.iss.eventorium.interaction.dtos.comment.CommentTargetProjection;
+import com.iss.eventorium.interaction.models.CommentType;
+import com.iss.eventorium.interaction.repositories.CommentRepository;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.AuthService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the products, services and events that comments are attached to, with one query per {@link CommentType}
+ * instead of one lookup (with blocked-content and role subqueries) per comment.
+ * Targets owned by a user the current user blocked are treated like targets that do not exist, as the per-comment lookups
+ * ({@code findEvenIfDeleted} for products and services, {@code EventService.find} for events) do,
+ * except for {@link #resolve(CommentType, Long)}, whose result is cached and shared by every viewer.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTargetResolver {
+
+    private final CommentRepository repository;
+    private final AuthService authService;
+
+    public Map<CommentType, Map<Long, CommentTargetProjection>> resolve(List<CommentProjection> comments) {
+        Map<CommentType, Set<Long>> objectIds = comments.stream().collect(Collectors.groupingBy(
+                CommentProjection::getCommentType,
+                () -> new EnumMap<>(CommentType.class),
+                Collectors.mapping(CommentProjection::getObjectId, Collectors.toSet())
+        ));
+
+        Map<CommentType, Map<Long, CommentTargetProjection>> targets = new EnumMap<>(CommentType.class);
+        Long viewerId = getViewerId();
+        objectIds.forEach((type, ids) -> targets.put(type, findTargets(type, ids, viewerId).stream()
+                .collect(Collectors.toMap(CommentTargetProjection::getId, Function.identity()))));
+        return targets;
+    }
+
+    public CommentTargetProjection resolve(CommentType type, Long objectId) {
+        return findTargets(type, Set.of(objectId), null).stream().findFirst().orElse(null);
+    }
+
+    /** NOTE: Only comment threads of events are refused (404), as before. Threads of products and services never were,
+     hidden ones only show up as unknown targets in resolve(comments).*/
+    public void checkVisible(CommentType type, Long objectId) {
+        if (type == CommentType.EVENT && findTargets(type, Set.of(objectId), getViewerId()).isEmpty())
+            throw new EntityNotFoundException("Event not found");
+    }
+
+    public CommentTargetProjection getTarget(CommentProjection comment, Map<CommentType, Map<Long, CommentTargetProjection>> targets) {
+        return targets.getOrDefault(comment.getCommentType(), Map.of()).get(comment.getObjectId());
+    }
+
+    public String getDisplayName(CommentProjection comment, Map<CommentType, Map<Long, CommentTargetProjection>> targets) {
+        return getDisplayName(comment.getCommentType(), getTarget(comment, targets));
+    }
+
+    public String getDisplayName(CommentType type, CommentTargetProjection target) {
+        String label = switch (type) {
+            case PRODUCT -> "Product";
+            case SERVICE -> "Service";
+            case EVENT -> "Event";
+        };
+
+        if (target == null)
+            return "[Unknown " + label + "]";
+        return Boolean.TRUE.equals(target.getDeleted()) ? "[Deleted " + label + "]" : target.getName();
+    }
+
+    private List<CommentTargetProjection> findTargets(CommentType type, Set<Long> ids, Long viewerId) {
+        return switch (type) {
+            case PRODUCT -> repository.findProductTargets(ids, viewerId);
+            case SERVICE -> repository.findServiceTargets(ids, viewerId);
+            case EVENT -> repository.findEventTargets(ids, viewerId);
+        };
+    }
+
+    private Long getViewerId() {
+        User viewer = authService.getCurrentUser();
+        return viewer == null ? null : viewer.getId();
+    }
+}
@@ -0,0 +1,107 @@
+package com.iss.eventorium.interaction.services;
+
+import com.iss.eventorium.interaction.dtos.comment.CommentProjection;
+import com.iss.eventorium.interaction.models.CommentType;
+import com.iss.eventorium.interaction.repositories.CommentRepository;
+import com.iss.eventorium.shared.models.Status;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of accepted comments per commented product, service or event, newest first.
+ * A thread is loaded with one query for its comments and one for its target's display name, and is evicted by
+ * {@link CommentService} whenever a comment of that target is moderated. Threads also expire after
+ * {@code comments.thread-cache.ttl-seconds}, so renamed targets and moderation on other instances are picked up eventually.
+ * Blocked authors are not filtered here, since the thread is shared by every viewer.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentThreadCache {
+
+    private final CommentRepository repository;
+    private final CommentTargetResolver targetResolver;
+
+    @Value("${comments.thread-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${comments.thread-cache.max-threads:1000}")
+    private int maxThreads;
+
+    private final Map<ThreadKey, CommentThread> threads = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CommentThread getThread(CommentType type, Long objectId) {
+        ThreadKey key = new ThreadKey(type, objectId);
+        CommentThread thread = threads.get(key);
+        if (thread != null && !thread.isExpired(ttlSeconds))
+            return thread;
+
+        // NOTE: A thread loaded while one of its comments was being moderated may already be stale, so it is not cached
+        long generation = evictions.get();
+        thread = load(type, objectId);
+        if (generation == evictions.get() && hasRoom())
+            threads.put(key, thread);
+        return thread;
+    }
+
+    /** NOTE: Inside a transaction the thread is evicted again after commit, so a load that ran in between
+     (and still saw the old comment status) does not stay cached.*/
+    public void evict(CommentType type, Long objectId) {
+        ThreadKey key = new ThreadKey(type, objectId);
+        remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    private void remove(ThreadKey key) {
+        evictions.incrementAndGet();
+        threads.remove(key);
+    }
+
+    private CommentThread load(CommentType type, Long objectId) {
+        List<CommentProjection> comments = repository.findByTarget(type, objectId, Status.ACCEPTED);
+        String displayName = targetResolver.getDisplayName(type, targetResolver.resolve(type, objectId));
+        return new CommentThread(displayName, comments);
+    }
+
+    private boolean hasRoom() {
+        if (threads.size() < maxThreads)
+            return true;
+        threads.values().removeIf(thread -> thread.isExpired(ttlSeconds));
+        return threads.size() < maxThreads;
+    }
+
+    private record ThreadKey(CommentType type, Long objectId) {}
+
+    @Getter
+    public static class CommentThread {
+        private final Instant loadedAt = Instant.now();
+        private final String displayName;
+        private final List<CommentProjection> comments;
+
+        CommentThread(String displayName, List<CommentProjection> comments) {
+            this.displayName = displayName;
+            this.comments = List.copyOf(comments);
+        }
+
+        boolean isExpired(long ttlSeconds) {
+            return loadedAt.plusSeconds(ttlSeconds).isBefore(Instant.now());
+        }
+    }
+}
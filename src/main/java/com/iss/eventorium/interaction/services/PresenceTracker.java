@@ -0,0 +1,197 @@
+package com.iss.eventorium.interaction.services;
+
+import com.iss.eventorium.interaction.dtos.chat.PresenceDto;
+import com.iss.eventorium.interaction.dtos.chat.TypingDto;
+import com.iss.eventorium.security.utils.JwtTokenUtil;
+import com.iss.eventorium.user.services.AuthService;
+import com.iss.eventorium.user.services.UserBlockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Online/offline presence of chat users, kept in memory per instance.
+ * <p>
+ * A STOMP session counts as a user's session when its CONNECT frame carries a valid {@code Authorization: Bearer} token.
+ * A user is online while at least one of their sessions is open. A session that has sent a heartbeat to
+ * {@code /app/presence/heartbeat} is dropped once it stops sending them for {@code presence.timeout-ms}, in case the
+ * disconnect was missed. Sessions of clients that never send heartbeats last until they disconnect.
+ * <p>
+ * Changes are collected and sent every {@code presence.broadcast-interval-ms} to {@code /user/{id}/queue/presence}
+ * of online chat partners only, so a user reconnecting several times within one interval results in one message,
+ * and each change costs one partner query plus one message per online partner.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceTracker {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ChatRoomService chatRoomService;
+    private final UserBlockService userBlockService;
+    private final AuthService authService;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${presence.timeout-ms:60000}")
+    private long timeoutMs;
+
+    private final Map<String, PresenceSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> lastSeen = new ConcurrentHashMap<>();
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long userId = resolveUserId(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER));
+        String sessionId = accessor.getSessionId();
+        if (userId == null || sessionId == null) return;
+
+        sessions.put(sessionId, new PresenceSession(userId));
+        sessionsByUser.compute(userId, (id, userSessions) -> {
+            if (userSessions == null) {
+                userSessions = ConcurrentHashMap.newKeySet();
+                changed.add(id);
+            }
+            userSessions.add(sessionId);
+            return userSessions;
+        });
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void heartbeat(String sessionId) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session != null)
+            session.heartbeat();
+    }
+
+    /** NOTE: The sender is taken from the session, not from the payload, so a client cannot type on behalf of someone else.
+     Typing is never relayed between users where one has blocked the other.*/
+    public void sendTyping(String sessionId, TypingDto typing) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session == null || typing.getRecipientId() == null) return;
+
+        session.touch();
+        typing.setSenderId(session.userId);
+        if (isOnline(typing.getRecipientId()) && !userBlockService.isBlocked(session.userId, typing.getRecipientId()))
+            messagingTemplate.convertAndSendToUser(typing.getRecipientId().toString(), "/queue/typing", typing);
+    }
+
+    public boolean isOnline(Long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    public PresenceDto getPresence(Long userId) {
+        boolean online = isOnline(userId);
+        return PresenceDto.builder()
+                .userId(userId)
+                .online(online)
+                .lastSeen(online ? null : lastSeen.get(userId))
+                .build();
+    }
+
+    public List<PresenceDto> getPartnersPresence() {
+        Long userId = authService.getCurrentUser().getId();
+        return chatRoomService.getPartnerIds(userId).stream()
+                .map(this::getPresence)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${presence.broadcast-interval-ms:1000}")
+    public void broadcastChanges() {
+        expireSessions();
+        if (changed.isEmpty()) return;
+
+        List<Long> users = new ArrayList<>(changed);
+        changed.removeAll(users);
+        for (Long userId : users) {
+            try {
+                broadcast(userId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to broadcast presence of user {}", userId, e);
+            }
+        }
+    }
+
+    private void broadcast(Long userId) {
+        PresenceDto presence = getPresence(userId);
+        for (Long partnerId : chatRoomService.getPartnerIds(userId)) {
+            if (isOnline(partnerId))
+                messagingTemplate.convertAndSendToUser(partnerId.toString(), "/queue/presence", presence);
+        }
+    }
+
+    private void expireSessions() {
+        long deadline = System.currentTimeMillis() - timeoutMs;
+        sessions.forEach((sessionId, session) -> {
+            if (session.sendsHeartbeats && session.lastHeartbeat < deadline) {
+                log.debug("Presence session {} of user {} timed out", sessionId, session.userId);
+                removeSession(sessionId);
+            }
+        });
+    }
+
+    private void removeSession(String sessionId) {
+        PresenceSession session = sessions.remove(sessionId);
+        if (session == null) return;
+
+        sessionsByUser.computeIfPresent(session.userId, (id, userSessions) -> {
+            userSessions.remove(sessionId);
+            if (!userSessions.isEmpty()) return userSessions;
+
+            lastSeen.put(id, LocalDateTime.now());
+            changed.add(id);
+            return null;
+        });
+    }
+
+    private Long resolveUserId(String header) {
+        if (header == null || !header.startsWith(BEARER_PREFIX)) return null;
+        try {
+            return jwtTokenUtil.getUserIdFromToken(header.substring(BEARER_PREFIX.length()));
+        } catch (RuntimeException e) {
+            log.debug("Ignoring presence of a session with an invalid token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static class PresenceSession {
+        private final Long userId;
+        private volatile long lastHeartbeat = System.currentTimeMillis();
+        private volatile boolean sendsHeartbeats;
+
+        PresenceSession(Long userId) {
+            this.userId = userId;
+        }
+
+        void touch() {
+            lastHeartbeat = System.currentTimeMillis();
+        }
+
+        void heartbeat() {
+            sendsHeartbeats = true;
+            touch();
+        }
+    }
+}
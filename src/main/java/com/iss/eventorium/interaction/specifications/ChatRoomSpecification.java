@@ -1,8 +1,11 @@
 package com.iss.eventorium.interaction.specifications;
 
+import com.iss.eventorium.interaction.models.ChatMessage;
 import com.iss.eventorium.interaction.models.ChatRoom;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.models.UserBlock;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
@@ -12,24 +15,28 @@ public class ChatRoomSpecification {
     private ChatRoomSpecification() {}
 
     public static Specification<ChatRoom> filterBy(User user) {
-        return Specification.where(filterBySenderId(user.getId() + "_%"))
+        return Specification.where(hasParticipant(user.getId()))
                 .and(filterOutBlockedContent(user));
     }
 
-    public static Specification<ChatRoom> filterByName(String name) {
-        return (root, query, cb) ->
-                name == null || name.isEmpty()
-                        ? cb.conjunction()
-                        : cb.like(cb.lower(root.get("name")), name);
-    }
-
-    private static Specification<ChatRoom> filterBySenderId(String senderId) {
+    private static Specification<ChatRoom> hasParticipant(Long userId) {
         return (root, query, cb) -> {
             assert query != null;
+            // NOTE: Participants and last message are rendered for every room, fetch them with the page (not for count queries)
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("firstUser", JoinType.LEFT);
+                root.fetch("secondUser", JoinType.LEFT);
+                Fetch<ChatRoom, ChatMessage> lastMessage = root.fetch("lastMessage", JoinType.LEFT);
+                lastMessage.fetch("sender", JoinType.LEFT);
+                lastMessage.fetch("recipient", JoinType.LEFT);
+            }
             if (query.getOrderList().isEmpty()) {
-                query.orderBy(cb.asc(root.get("lastMessage").get("timestamp")));
+                query.orderBy(cb.asc(root.get("lastMessageAt")));
             }
-            return cb.like(root.get("name"), senderId);
+            return cb.or(
+                    cb.equal(root.get("firstUser").get("id"), userId),
+                    cb.equal(root.get("secondUser").get("id"), userId)
+            );
         };
     }
 
@@ -47,8 +54,8 @@ public class ChatRoomSpecification {
                     .where(cb.equal(blockedRoot.get("blocker").get("id"), currentUserId));
 
             return cb.and(
-                    cb.not(root.get("lastMessage").get("recipient").get("id").in(blockedSubquery)),
-                    cb.not(root.get("lastMessage").get("sender").get("id").in(blockedSubquery))
+                    cb.not(root.get("firstUser").get("id").in(blockedSubquery)),
+                    cb.not(root.get("secondUser").get("id").in(blockedSubquery))
             );
         };
     }
@@ -1,5 +1,6 @@
 package com.iss.eventorium.notifications.api;
 
+import com.iss.eventorium.notifications.dtos.NotificationPageDto;
 import com.iss.eventorium.notifications.dtos.NotificationResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,7 +29,8 @@ public interface NotificationApi {
             Notifications are send with websockets. <br/>
             **Server broadcasts to:** <br/>
             `/user/{userId}/notifications` - all users. <br/>
-            `/topic/admin` - users with `ADMIN` authority only.
+            `/topic/admin` - users with `ADMIN` authority only. <br/>
+            `/topic/providers` - users with `PROVIDER` authority only.
             <br/>
             Note: Users with silenced notifications will not receive any notifications.
             """,
@@ -41,6 +43,37 @@ public interface NotificationApi {
     )
     ResponseEntity<List<NotificationResponseDto>> getNotifications();
 
+    @Operation(
+            summary = "Retrieves a page of user's notifications.",
+            description =
+            """
+            Returns user's notifications, newest first, one page at a time.
+            Pass `nextCursor` of the previous page as `cursor` to get older notifications.
+            `nextCursor` is null on the last page. Page size is limited to 100.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
+            }
+    )
+    ResponseEntity<NotificationPageDto> getNotificationHistory(
+            @Parameter(description = "Id of the last notification of the previous page") Long cursor,
+            @Parameter(description = "Number of notifications per page") int size
+    );
+
+    @Operation(
+            summary = "Retrieves the number of unseen notifications.",
+            description = "Returns the number of user's notifications that have not been marked as seen.",
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+            }
+    )
+    ResponseEntity<Integer> getUnreadCount();
+
     @Operation(
             summary = "Marks all unseen notifications as seen.",
             description =
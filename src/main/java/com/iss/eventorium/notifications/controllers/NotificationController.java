@@ -1,6 +1,7 @@
 package com.iss.eventorium.notifications.controllers;
 
 import com.iss.eventorium.notifications.api.NotificationApi;
+import com.iss.eventorium.notifications.dtos.NotificationPageDto;
 import com.iss.eventorium.notifications.dtos.NotificationResponseDto;
 import com.iss.eventorium.notifications.services.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,19 @@ public class NotificationController implements NotificationApi {
         return ResponseEntity.ok(service.getAllNotifications());
     }
 
+    @GetMapping("/history")
+    public ResponseEntity<NotificationPageDto> getNotificationHistory(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(service.getNotificationHistory(cursor, size));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<Integer> getUnreadCount() {
+        return ResponseEntity.ok(service.getUnreadCount());
+    }
+
     @GetMapping("/silence")
     public ResponseEntity<Boolean> getSilenceStatus() {
         return ResponseEntity.ok(service.getSilenceStatus());
@@ -0,0 +1,15 @@
+package com.iss.eventorium.notifications.dtos;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationPageDto {
+    private List<NotificationResponseDto> content;
+    private Long nextCursor; // NOTE: null when there are no older notifications
+}
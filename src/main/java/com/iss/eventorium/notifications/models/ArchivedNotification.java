@@ -0,0 +1,40 @@
+package com.iss.eventorium.notifications.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Seen notification moved out of {@code notifications} by {@link com.iss.eventorium.notifications.services.NotificationRetentionService}.
+ * Keeps the original id, so an archived notification can be traced back to the live one it replaced.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "notifications_archive", indexes = @Index(name = "idx_notifications_archive_recipient_id_timestamp", columnList = "recipient_id, timestamp"))
+public class ArchivedNotification {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    @Column(nullable = false)
+    private Boolean seen;
+
+    @Column(name = "recipient_id")
+    private Long recipientId;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_recipient_id", columnList = "recipient_id, id"),
+        @Index(name = "idx_notifications_recipient_id_timestamp", columnList = "recipient_id, timestamp"),
+        @Index(name = "idx_notifications_seen_timestamp", columnList = "seen, timestamp")
+})
 @ToString
 public class Notification {
     @Id
@@ -0,0 +1,18 @@
+package com.iss.eventorium.notifications.repositories;
+
+import com.iss.eventorium.notifications.models.ArchivedNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArchivedNotificationRepository extends JpaRepository<ArchivedNotification, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO notifications_archive (id, title, message, timestamp, seen, recipient_id, archived_at) " +
+            "SELECT n.id, n.title, n.message, n.timestamp, n.seen, n.recipient_id, :archivedAt FROM notifications n " +
+            "WHERE n.id IN (:ids)", nativeQuery = true)
+    int copyFromNotifications(List<Long> ids, LocalDateTime archivedAt);
+}
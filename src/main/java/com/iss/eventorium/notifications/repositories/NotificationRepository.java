@@ -1,12 +1,45 @@
 package com.iss.eventorium.notifications.repositories;
 
 import com.iss.eventorium.notifications.models.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     List<Notification> findAllByRecipientIsNullOrderByTimestampDesc();
     List<Notification> findByRecipient_IdOrderByTimestampDesc(Long id);
+
+    List<Notification> findByRecipientIsNullAndIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+    List<Notification> findByRecipient_IdAndIdLessThanOrderByIdDesc(Long recipientId, Long id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.seen = true WHERE n.recipient.id = :recipientId AND n.seen = false")
+    int markAsSeen(Long recipientId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.seen = true WHERE n.recipient IS NULL AND n.seen = false")
+    int markAdminNotificationsAsSeen();
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO notifications (title, message, timestamp, seen, recipient_id) " +
+            "SELECT :title, :message, :timestamp, false, ur.user_id FROM user_role ur " +
+            "JOIN roles r ON r.id = ur.role_id WHERE r.name = :role", nativeQuery = true)
+    int insertForRole(String role, String title, String message, LocalDateTime timestamp);
+
+    @Query(value = "SELECT n.id FROM notifications n WHERE n.seen = true AND n.timestamp < :before " +
+            "ORDER BY n.id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(LocalDateTime before, int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(List<Long> ids);
 }
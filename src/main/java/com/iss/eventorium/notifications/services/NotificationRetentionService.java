@@ -0,0 +1,69 @@
+package com.iss.eventorium.notifications.services;
+
+import com.iss.eventorium.notifications.repositories.ArchivedNotificationRepository;
+import com.iss.eventorium.notifications.repositories.NotificationRepository;
+import com.iss.eventorium.shared.utils.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves seen notifications older than {@code notifications.retention.archive-after-days} into {@code notifications_archive},
+ * {@code notifications.retention.batch-size} rows per transaction. Unseen notifications are never archived,
+ * so unread counters and badges are not affected.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private final NotificationRepository repository;
+    private final ArchivedNotificationRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notifications.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.retention.archive-after-days:90}")
+    private int archiveAfterDays;
+
+    @Value("${notifications.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${notifications.retention.cron:0 0 4 * * ?}")
+    @SchedulerLock(name = "archive-notifications", lockAtMostFor = "PT1H", lockAtLeastFor = "PT5M")
+    public void archiveNotifications() {
+        if (!enabled) return;
+        archiveSeenNotifications(LocalDateTime.now().minusDays(archiveAfterDays));
+    }
+
+    public int archiveSeenNotifications(LocalDateTime before) {
+        long started = System.nanoTime();
+        int moved = 0;
+        int batches = 0;
+
+        List<Long> ids;
+        while (!(ids = repository.findArchivableIds(before, batchSize)).isEmpty()) {
+            List<Long> batch = ids;
+            Integer count = transactionTemplate.execute(status -> moveBatch(batch));
+            if (count == null || count == 0) break;
+            moved += count;
+            batches++;
+        }
+
+        long duration = (System.nanoTime() - started) / 1_000_000;
+        log.info("Archived {} notifications older than {} in {} batches, {} ms", moved, before, batches, duration);
+        return moved;
+    }
+
+    private int moveBatch(List<Long> ids) {
+        archiveRepository.copyFromNotifications(ids, LocalDateTime.now());
+        return repository.deleteByIds(ids);
+    }
+}
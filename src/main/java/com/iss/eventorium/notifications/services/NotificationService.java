@@ -1,5 +1,6 @@
 package com.iss.eventorium.notifications.services;
 
+import com.iss.eventorium.notifications.dtos.NotificationPageDto;
 import com.iss.eventorium.notifications.dtos.NotificationResponseDto;
 import com.iss.eventorium.notifications.mappers.NotificationMapper;
 import com.iss.eventorium.notifications.models.Notification;
@@ -7,13 +8,20 @@ import com.iss.eventorium.notifications.repositories.NotificationRepository;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.repositories.UserRepository;
 import com.iss.eventorium.user.services.AuthService;
-import com.iss.eventorium.user.services.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,7 +29,6 @@ import java.util.List;
 public class NotificationService {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final UserService userService;
     private final AuthService authService;
 
     private final NotificationRepository repository;
@@ -29,6 +36,14 @@ public class NotificationService {
 
     private final NotificationMapper mapper;
 
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String ADMIN_ROLE = "ADMIN";
+    private static final String PROVIDER_ROLE = "PROVIDER";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String PROVIDERS_TOPIC = "/topic/providers";
+
+    @Transactional
     public void sendNotification(User user, Notification notification) {
         if(user == null) return;
         if(Boolean.FALSE.equals(user.getNotificationsSilenced())) {
@@ -41,8 +56,36 @@ public class NotificationService {
         }
         notification.setRecipient(user);
         repository.save(notification);
+        userRepository.incrementUnreadNotifications(user.getId());
+    }
+
+    /** NOTE: Every notification must have its recipient set. They are stored together and each recipient's counter
+     is bumped by the number of notifications they got, with one UPDATE per distinct count (usually just one).*/
+    @Transactional
+    public void sendNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) return;
+
+        for (Notification notification : notifications) {
+            User user = notification.getRecipient();
+            if (Boolean.FALSE.equals(user.getNotificationsSilenced())) {
+                messagingTemplate.convertAndSendToUser(
+                        user.getId().toString(),
+                        "/notifications",
+                        mapper.toResponse(notification)
+                );
+            }
+        }
+        repository.saveAll(notifications);
+        log.info("Sent {} notifications", notifications.size());
+
+        Map<Long, Long> counts = notifications.stream()
+                .collect(Collectors.groupingBy(notification -> notification.getRecipient().getId(), Collectors.counting()));
+        counts.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((count, userIds) -> userRepository.incrementUnreadNotifications(userIds, count.intValue()));
     }
 
+    @Transactional
     public void sendNotificationToAdmin(Notification notification) {
         log.info("Sending notification to admins: {}", notification.getMessage());
 
@@ -52,12 +95,43 @@ public class NotificationService {
         );
 
         repository.save(notification);
+        userRepository.incrementUnreadNotificationsForRole(ADMIN_ROLE);
     }
 
+    /** NOTE: Runs off the request thread. A single INSERT ... SELECT stores a copy for every provider, committed together
+     with the providers' counters, and the notification is then published once on the providers topic,
+     so silenced providers ignore it on the client.*/
+    @Async
     public void sendNotificationToProviders(Notification notification) {
-        List<User> providers = userService.getByRole("PROVIDER");
-        for (User provider : providers)
-            sendNotification(provider, new Notification(notification));
+        Integer recipients = transactionTemplate.execute(status -> {
+            int inserted = repository.insertForRole(
+                    PROVIDER_ROLE,
+                    notification.getTitle(),
+                    notification.getMessage(),
+                    notification.getTimestamp()
+            );
+            userRepository.incrementUnreadNotificationsForRole(PROVIDER_ROLE);
+            return inserted;
+        });
+        log.info("Sending notification to {} providers: {}", recipients, notification.getMessage());
+
+        messagingTemplate.convertAndSend(
+                PROVIDERS_TOPIC,
+                mapper.toResponse(notification)
+        );
+    }
+
+    /** NOTE: Counters of notifications stored before the counter existed (or changed outside the application)
+     are set from the unseen rows once on startup.*/
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeUnreadCounters() {
+        try {
+            int fixed = userRepository.initializeUnreadNotifications(ADMIN_ROLE);
+            if (fixed > 0)
+                log.info("Initialized unread notification counters of {} users", fixed);
+        } catch (RuntimeException e) {
+            log.warn("Failed to initialize unread notification counters", e);
+        }
     }
 
     public List<NotificationResponseDto> getAllNotifications() {
@@ -68,7 +142,7 @@ public class NotificationService {
         User loggedIn = authService.getCurrentUser();
         List<Notification> notifications;
 
-        if (loggedIn.getRoles().stream().anyMatch(role -> "ADMIN".equals(role.getName())))
+        if (isAdmin(loggedIn))
             notifications = repository.findAllByRecipientIsNullOrderByTimestampDesc();
         else
             notifications = repository.findByRecipient_IdOrderByTimestampDesc(loggedIn.getId());
@@ -76,12 +150,42 @@ public class NotificationService {
         return notifications;
     }
 
+    /** NOTE: Keyset paging on the notification id, newest first. The cursor is the id of the last notification
+     of the previous page, so a page costs one index range scan no matter how deep the user scrolls.*/
+    public NotificationPageDto getNotificationHistory(Long cursor, int size) {
+        User loggedIn = authService.getCurrentUser();
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long before = cursor == null ? Long.MAX_VALUE : cursor;
+        PageRequest page = PageRequest.of(0, limit + 1);
+
+        List<Notification> notifications = isAdmin(loggedIn)
+                ? repository.findByRecipientIsNullAndIdLessThanOrderByIdDesc(before, page)
+                : repository.findByRecipient_IdAndIdLessThanOrderByIdDesc(loggedIn.getId(), before, page);
+
+        boolean hasMore = notifications.size() > limit;
+        List<Notification> content = hasMore ? notifications.subList(0, limit) : notifications;
+        return new NotificationPageDto(
+                content.stream().map(mapper::toResponse).toList(),
+                hasMore ? content.get(limit - 1).getId() : null
+        );
+    }
+
+    public Integer getUnreadCount() {
+        Integer unread = authService.getCurrentUser().getUnreadNotifications();
+        return unread == null ? 0 : unread;
+    }
+
+    /** NOTE: Admin notifications are shared, so marking them as seen clears the badge of every admin.*/
+    @Transactional
     public void markAsSeen() {
-        List<Notification> notifications = getNotifications();
-        notifications.stream().filter(notification -> !notification.getSeen()).forEach(notification -> {
-            notification.setSeen(true);
-            repository.save(notification);
-        });
+        User loggedIn = authService.getCurrentUser();
+        if (isAdmin(loggedIn)) {
+            int seen = repository.markAdminNotificationsAsSeen();
+            userRepository.decrementUnreadNotificationsForRole(ADMIN_ROLE, seen);
+        } else {
+            int seen = repository.markAsSeen(loggedIn.getId());
+            userRepository.decrementUnreadNotifications(loggedIn.getId(), seen);
+        }
     }
 
     public void silenceNotifications(boolean silence) {
@@ -93,4 +197,8 @@ public class NotificationService {
     public Boolean getSilenceStatus() {
         return authService.getCurrentUser().getNotificationsSilenced();
     }
+
+    private boolean isAdmin(User user) {
+        return user.getRoles().stream().anyMatch(role -> ADMIN_ROLE.equals(role.getName()));
+    }
 }
\ No newline at end of file
@@ -70,6 +70,12 @@ public class JwtTokenUtil {
 
     }
 
+    public Long getUserIdFromToken(String token) {
+        final Claims claims = getAllClaimsFromToken(token);
+        Number userId = (claims != null) ? claims.get("userId", Number.class) : null;
+        return (userId != null) ? userId.longValue() : null;
+    }
+
     public Date getIssuedAtDateFromToken(String token) {
         try {
             final Claims claims = getAllClaimsFromToken(token);
@@ -0,0 +1,63 @@
+package com.iss.eventorium.shared.api;
+
+import com.iss.eventorium.shared.dtos.JobRunDto;
+import com.iss.eventorium.shared.dtos.JobSummaryDto;
+import com.iss.eventorium.shared.models.PagedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Tag(
+        name="Job",
+        description =
+        """
+        Handles the scheduled job endpoints.
+        Only users with `ADMIN` authority are allowed to inspect scheduled jobs.
+        """
+)
+public interface JobApi {
+
+    @Operation(
+            summary = "Fetches run statistics of all scheduled jobs.",
+            description =
+            """
+            Returns the number of runs, failures, average and maximum duration and the last start time of each job.
+            Skipped runs (another node held the lock) are not counted.
+            Requires authentication and ADMIN authority.
+            Only users with the `ADMIN` authority can access this endpoint.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
+            }
+    )
+    ResponseEntity<List<JobSummaryDto>> getJobs();
+
+    @Operation(
+            summary = "Retrieves a paginated run history of a scheduled job.",
+            description =
+            """
+            Returns the runs of the given job, newest first, including the node that ran it and its duration.
+            Requires authentication and ADMIN authority.
+            Only users with the `ADMIN` authority can access this endpoint.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
+            }
+    )
+    ResponseEntity<PagedResponse<JobRunDto>> getJobRuns(
+            @Parameter(required = true, description = "Name of the job") String name,
+            Pageable pageable
+    );
+}
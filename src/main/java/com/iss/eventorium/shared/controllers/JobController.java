@@ -0,0 +1,34 @@
+package com.iss.eventorium.shared.controllers;
+
+import com.iss.eventorium.shared.api.JobApi;
+import com.iss.eventorium.shared.dtos.JobRunDto;
+import com.iss.eventorium.shared.dtos.JobSummaryDto;
+import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.shared.services.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/jobs")
+public class JobController implements JobApi {
+
+    private final JobService jobService;
+
+    @GetMapping
+    public ResponseEntity<List<JobSummaryDto>> getJobs() {
+        return ResponseEntity.ok(jobService.getSummaries());
+    }
+
+    @GetMapping("/{name}/runs")
+    public ResponseEntity<PagedResponse<JobRunDto>> getJobRuns(@PathVariable String name, Pageable pageable) {
+        return ResponseEntity.ok(jobService.getRuns(name, pageable));
+    }
+}
@@ -0,0 +1,19 @@
+package com.iss.eventorium.shared.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FavouriteIdsRequestDto {
+
+    @NotEmpty(message = "Ids are mandatory")
+    @Size(max = 500, message = "At most 500 ids can be checked at once")
+    private List<Long> ids;
+}
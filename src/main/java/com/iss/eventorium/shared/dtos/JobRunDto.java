@@ -0,0 +1,24 @@
+package com.iss.eventorium.shared.dtos;
+
+import com.iss.eventorium.shared.models.JobRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRunDto {
+    private Long id;
+    private String name;
+    private String node;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs;
+    private JobRunStatus status;
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.iss.eventorium.shared.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryDto {
+    private String name;
+    private Long runs;
+    private Long failures;
+    private Double averageDurationMs;
+    private Long maxDurationMs;
+    private LocalDateTime lastStartedAt;
+}
@@ -0,0 +1,7 @@
+package com.iss.eventorium.shared.exceptions;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.iss.eventorium.shared.exceptions;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.iss.eventorium.shared.exceptions;
+
+public class UnsupportedSortException extends RuntimeException {
+    public UnsupportedSortException(String message) {
+        super(message);
+    }
+}
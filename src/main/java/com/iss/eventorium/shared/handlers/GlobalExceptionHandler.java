@@ -4,6 +4,7 @@ import com.iss.eventorium.shared.exceptions.*;
 import com.iss.eventorium.shared.models.ExceptionResponse;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -115,4 +116,41 @@ public class GlobalExceptionHandler {
                         .message(e.getMessage())
                         .build());
     }
+
+    @ExceptionHandler(UnsupportedSortException.class)
+    public ResponseEntity<ExceptionResponse> handleUnsupportedSortException(UnsupportedSortException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ExceptionResponse.builder()
+                        .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                        .message(e.getMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ExceptionResponse> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ExceptionResponse.builder()
+                        .error(HttpStatus.CONFLICT.getReasonPhrase())
+                        .message(e.getMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ExceptionResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ExceptionResponse.builder()
+                        .error(HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase())
+                        .message(e.getMessage())
+                        .build());
+    }
+
+    // NOTE: Only reached when every retry of a @RetryOnConflict method has failed.
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ExceptionResponse> handleConcurrencyFailureException(ConcurrencyFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ExceptionResponse.builder()
+                        .error(HttpStatus.CONFLICT.getReasonPhrase())
+                        .message("The resource was modified concurrently, please try again.")
+                        .build());
+    }
 }
@@ -0,0 +1,28 @@
+package com.iss.eventorium.shared.mappers;
+
+import com.iss.eventorium.shared.dtos.JobRunDto;
+import com.iss.eventorium.shared.models.JobRun;
+import com.iss.eventorium.shared.models.PagedResponse;
+import lombok.RequiredArgsConstructor;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JobMapper {
+
+    private final ModelMapper modelMapper;
+
+    public JobRunDto toResponse(JobRun run) {
+        return modelMapper.map(run, JobRunDto.class);
+    }
+
+    public PagedResponse<JobRunDto> toPagedResponse(Page<JobRun> page) {
+        return new PagedResponse<>(
+                page.getContent().stream().map(this::toResponse).toList(),
+                page.getTotalPages(),
+                page.getTotalElements()
+        );
+    }
+}
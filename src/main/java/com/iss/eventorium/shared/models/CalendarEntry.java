@@ -0,0 +1,21 @@
+package com.iss.eventorium.shared.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/** NOTE: An entry without a starting time is exported as an all-day event.*/
+@Getter
+@Builder
+@AllArgsConstructor
+public class CalendarEntry {
+    private String uid;
+    private String summary;
+    private String description;
+    private LocalDate date;
+    private LocalTime startingTime;
+    private LocalTime endingTime;
+}
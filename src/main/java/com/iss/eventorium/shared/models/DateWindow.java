@@ -0,0 +1,30 @@
+package com.iss.eventorium.shared.models;
+
+import com.iss.eventorium.shared.exceptions.InvalidTimeRangeException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * The [from, to) range of dates a calendar asks for. A missing bound leaves that side of the window open, so the
+ * queries always compare the date against two values and can use a range scan of the date index.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DateWindow {
+
+    // NOTE: Stand-ins for an open side of the window, both within the range of a SQL date column.
+    private static final LocalDate EARLIEST = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    public static DateWindow of(LocalDate from, LocalDate to) {
+        if (from != null && to != null && !from.isBefore(to))
+            throw new InvalidTimeRangeException(String.format("Invalid date range: end date (%s) must be after start date (%s).", to, from));
+        return new DateWindow(from != null ? from : EARLIEST, to != null ? to : LATEST);
+    }
+}
@@ -0,0 +1,5 @@
+package com.iss.eventorium.shared.models;
+
+public enum IdempotencyStatus {
+    PROCESSING, COMPLETED
+}
@@ -0,0 +1,41 @@
+package com.iss.eventorium.shared.repositories;
+
+import com.iss.eventorium.shared.models.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/** NOTE: Every statement runs in its own transaction, a claimed key must be visible to concurrent requests
+ before the guarded action starts, and must survive the rollback of a failed action.*/
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndKey(Long userId, String key);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, status, created_at) " +
+            "VALUES (:userId, :key, :requestHash, 'PROCESSING', :now)", nativeQuery = true)
+    int insert(Long userId, String key, String requestHash, LocalDateTime now);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = com.iss.eventorium.shared.models.IdempotencyStatus.COMPLETED, " +
+            "r.responseBody = :responseBody WHERE r.userId = :userId AND r.key = :key")
+    int complete(Long userId, String key, String responseBody);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.userId = :userId AND r.key = :key " +
+            "AND r.status = com.iss.eventorium.shared.models.IdempotencyStatus.PROCESSING")
+    int release(Long userId, String key);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :before")
+    int deleteCreatedBefore(LocalDateTime before);
+}
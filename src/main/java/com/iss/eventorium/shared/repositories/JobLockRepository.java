@@ -0,0 +1,32 @@
+package com.iss.eventorium.shared.repositories;
+
+import com.iss.eventorium.shared.models.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/** NOTE: Every statement runs in its own transaction, so a lease is visible to other nodes as soon as it is taken,
+ even when the locked job itself runs inside a transaction.*/
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :node " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(String name, String node, LocalDateTime now, LocalDateTime lockedUntil);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO job_locks (name, locked_until, locked_at, locked_by) VALUES (:name, :lockedUntil, :now, :node)",
+            nativeQuery = true)
+    int insert(String name, String node, LocalDateTime now, LocalDateTime lockedUntil);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :lockedUntil WHERE l.name = :name AND l.lockedBy = :node")
+    int release(String name, String node, LocalDateTime lockedUntil);
+}
@@ -0,0 +1,30 @@
+package com.iss.eventorium.shared.repositories;
+
+import com.iss.eventorium.shared.dtos.JobSummaryDto;
+import com.iss.eventorium.shared.models.JobRun;
+import com.iss.eventorium.shared.models.JobRunStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    Page<JobRun> findByNameOrderByStartedAtDesc(String name, Pageable pageable);
+
+    @Query("SELECT new com.iss.eventorium.shared.dtos.JobSummaryDto(" +
+            "r.name, COUNT(r), SUM(CASE WHEN r.status = :failed THEN 1L ELSE 0L END), " +
+            "AVG(r.durationMs), MAX(r.durationMs), MAX(r.startedAt)) " +
+            "FROM JobRun r GROUP BY r.name ORDER BY r.name")
+    List<JobSummaryDto> summarize(JobRunStatus failed);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JobRun r WHERE r.startedAt < :before")
+    int deleteStartedBefore(LocalDateTime before);
+}
@@ -0,0 +1,113 @@
+package com.iss.eventorium.shared.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iss.eventorium.shared.exceptions.IdempotencyKeyConflictException;
+import com.iss.eventorium.shared.exceptions.IdempotencyKeyReusedException;
+import com.iss.eventorium.shared.models.IdempotencyRecord;
+import com.iss.eventorium.shared.models.IdempotencyStatus;
+import com.iss.eventorium.shared.repositories.IdempotencyRecordRepository;
+import com.iss.eventorium.shared.utils.HashUtils;
+import com.iss.eventorium.shared.utils.SchedulerLock;
+import com.iss.eventorium.user.services.AuthService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Makes non-idempotent endpoints safe to retry with an {@code Idempotency-Key} header.
+ * <p>
+ * The first request with a key claims it, runs the action and stores its response. Repeating the same request with
+ * the same key returns the stored response without running the action again, while reusing the key for a different
+ * request is rejected. A repeat that arrives while the first request is still running is rejected as a conflict.
+ * If the action fails the key is released, so the client can retry it. Keys are scoped per user and kept for
+ * {@code idempotency.retention-hours}.
+ * <p>
+ * A key is never taken over from a request that did not finish (e.g. the node crashed after the action committed but
+ * before its response was stored), running the action again could repeat it. Such a key stays in conflict until it
+ * is pruned, the client has to retry with a new key.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository repository;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.retention-hours:24}")
+    private int retentionHours;
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    public <T> T execute(String key, String scope, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank())
+            return action.get();
+        if (key.length() > MAX_KEY_LENGTH)
+            key = HashUtils.sha256(key);
+
+        Long userId = authService.getCurrentUser().getId();
+        String requestHash = HashUtils.sha256(scope + ":" + toJson(request));
+
+        IdempotencyRecord existing = claim(userId, key, requestHash);
+        if (existing != null)
+            return replay(existing, requestHash, responseType);
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            repository.release(userId, key);
+            throw e;
+        }
+        repository.complete(userId, key, response == null ? null : toJson(response));
+        return response;
+    }
+
+    @Scheduled(cron = "0 15 * * * ?") // runs hourly
+    @SchedulerLock(name = "prune-idempotency-keys")
+    public void pruneKeys() {
+        int deleted = repository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        log.info("Deleted {} idempotency keys older than {} hours", deleted, retentionHours);
+    }
+
+    /** NOTE: Returns null when the key was claimed for this request, otherwise the record of the request that owns it.*/
+    private IdempotencyRecord claim(Long userId, String key, String requestHash) {
+        try {
+            repository.insert(userId, key, requestHash, LocalDateTime.now());
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            return repository.findByUserIdAndKey(userId, key)
+                    .orElseThrow(() -> new IdempotencyKeyConflictException("A request with this idempotency key is already being processed."));
+        }
+    }
+
+    private <T> T replay(IdempotencyRecord existing, String requestHash, Class<T> responseType) {
+        if (!existing.getRequestHash().equals(requestHash))
+            throw new IdempotencyKeyReusedException("Idempotency key has already been used for a different request.");
+        if (existing.getStatus() != IdempotencyStatus.COMPLETED)
+            throw new IdempotencyKeyConflictException("A request with this idempotency key is already being processed.");
+
+        if (existing.getResponseBody() == null) return null;
+        try {
+            return objectMapper.readValue(existing.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotent request cannot be serialized", e);
+        }
+    }
+}
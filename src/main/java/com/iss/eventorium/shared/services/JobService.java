@@ -0,0 +1,102 @@
+package com.iss.eventorium.shared.services;
+
+import com.iss.eventorium.shared.dtos.JobRunDto;
+import com.iss.eventorium.shared.dtos.JobSummaryDto;
+import com.iss.eventorium.shared.mappers.JobMapper;
+import com.iss.eventorium.shared.models.JobRun;
+import com.iss.eventorium.shared.models.JobRunStatus;
+import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.shared.repositories.JobLockRepository;
+import com.iss.eventorium.shared.repositories.JobRunRepository;
+import com.iss.eventorium.shared.utils.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobService {
+
+    private final JobLockRepository lockRepository;
+    private final JobRunRepository runRepository;
+    private final JobMapper mapper;
+
+    @Value("${scheduling.job-run-retention-days:30}")
+    private int retentionDays;
+
+    /** NOTE: Process name plus a random suffix, so several application contexts in one JVM are separate nodes.*/
+    private final String node = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    public boolean tryLock(String name, LocalDateTime now, Duration lockAtMostFor) {
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+        if (lockRepository.acquire(name, node, now, lockedUntil) == 1)
+            return true;
+
+        try {
+            return lockRepository.insert(name, node, now, lockedUntil) == 1;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Job {} is locked by another node, skipping", name);
+            return false;
+        }
+    }
+
+    public void unlock(String name, LocalDateTime startedAt, Duration lockAtLeastFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minimum = startedAt.plus(lockAtLeastFor);
+        lockRepository.release(name, node, minimum.isAfter(now) ? minimum : now);
+    }
+
+    public void recordRun(String name, LocalDateTime startedAt, Throwable failure) {
+        LocalDateTime finishedAt = LocalDateTime.now();
+        long duration = Duration.between(startedAt, finishedAt).toMillis();
+        if (failure == null)
+            log.info("Job {} succeeded on {} in {} ms", name, node, duration);
+        else
+            log.error("Job {} failed on {} after {} ms", name, node, duration, failure);
+
+        try {
+            runRepository.save(JobRun.builder()
+                    .name(name)
+                    .node(node)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .durationMs(duration)
+                    .status(failure == null ? JobRunStatus.SUCCEEDED : JobRunStatus.FAILED)
+                    .error(failure == null ? null : truncate(String.valueOf(failure.getMessage())))
+                    .build());
+        } catch (RuntimeException e) {
+            // NOTE: History is best effort, it must never hide the outcome of the job itself.
+            log.warn("Could not record run of job {}", name, e);
+        }
+    }
+
+    public List<JobSummaryDto> getSummaries() {
+        return runRepository.summarize(JobRunStatus.FAILED);
+    }
+
+    public PagedResponse<JobRunDto> getRuns(String name, Pageable pageable) {
+        return mapper.toPagedResponse(runRepository.findByNameOrderByStartedAtDesc(name, pageable));
+    }
+
+    @Scheduled(cron = "0 30 3 * * ?") // runs daily at 3:30am
+    @SchedulerLock(name = "prune-job-runs")
+    public void pruneRuns() {
+        int deleted = runRepository.deleteStartedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Deleted {} job runs older than {} days", deleted, retentionDays);
+    }
+
+    private String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,18 @@
+package com.iss.eventorium.shared.utils;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+public class FavouriteUtils {
+
+    private FavouriteUtils() {}
+
+    /** NOTE: The insert skips favourites that already exist, so a unique constraint violation only means a concurrent
+     request of the same user added the favourite first, which leaves the same row this insert would have added.*/
+    public static void insertIfAbsent(Runnable insert) {
+        try {
+            insert.run();
+        } catch (DataIntegrityViolationException e) {
+            // NOTE: Already a favourite.
+        }
+    }
+}
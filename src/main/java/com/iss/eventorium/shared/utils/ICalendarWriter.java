@@ -0,0 +1,106 @@
+package com.iss.eventorium.shared.utils;
+
+import com.iss.eventorium.shared.models.CalendarEntry;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes calendar entries as an iCalendar (RFC 5545) feed, one entry at a time straight to the response.
+ * <p>
+ * The ETag is computed from the entries, not from the written feed, because every feed carries the time it was
+ * written (DTSTAMP). It is therefore a weak ETag: an unchanged ETag means the same events, not the same bytes.
+ */
+public class ICalendarWriter {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String PRODUCT_ID = "-//Eventorium//Calendar//EN";
+    private static final String LINE_BREAK = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private ICalendarWriter() {}
+
+    public static String computeETag(List<CalendarEntry> entries) {
+        StringBuilder content = new StringBuilder();
+        for (CalendarEntry entry : entries)
+            content.append(entry.getUid()).append('|')
+                    .append(entry.getSummary()).append('|')
+                    .append(entry.getDescription()).append('|')
+                    .append(entry.getDate()).append('|')
+                    .append(entry.getStartingTime()).append('|')
+                    .append(entry.getEndingTime()).append('\n');
+        return "W/\"" + HashUtils.sha256(content.toString()) + "\"";
+    }
+
+    public static void write(OutputStream output, String calendarName, List<CalendarEntry> entries) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        String timestamp = ZonedDateTime.now(ZoneOffset.UTC).format(DATE_TIME) + "Z";
+
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:" + PRODUCT_ID);
+        writeLine(writer, "CALSCALE:GREGORIAN");
+        writeLine(writer, "X-WR-CALNAME:" + escape(calendarName));
+        for (CalendarEntry entry : entries)
+            writeEntry(writer, entry, timestamp);
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private static void writeEntry(Writer writer, CalendarEntry entry, String timestamp) throws IOException {
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:" + entry.getUid());
+        writeLine(writer, "DTSTAMP:" + timestamp);
+        if (entry.getStartingTime() == null) {
+            writeLine(writer, "DTSTART;VALUE=DATE:" + entry.getDate().format(DATE));
+            writeLine(writer, "DTEND;VALUE=DATE:" + entry.getDate().plusDays(1).format(DATE));
+        } else {
+            // NOTE: Times are written without a zone (floating), the app stores local times of the event's place.
+            writeLine(writer, "DTSTART:" + formatDateTime(entry.getDate(), entry.getStartingTime()));
+            writeLine(writer, "DTEND:" + formatDateTime(entry.getDate(), Objects.requireNonNullElse(entry.getEndingTime(), entry.getStartingTime())));
+        }
+        writeLine(writer, "SUMMARY:" + escape(entry.getSummary()));
+        if (entry.getDescription() != null)
+            writeLine(writer, "DESCRIPTION:" + escape(entry.getDescription()));
+        writeLine(writer, "END:VEVENT");
+    }
+
+    private static String formatDateTime(LocalDate date, LocalTime time) {
+        return date.atTime(time).format(DATE_TIME);
+    }
+
+    private static String escape(String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "");
+    }
+
+    // NOTE: Lines longer than 75 octets are folded, never inside a multibyte character.
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + length > MAX_LINE_OCTETS) {
+                writer.write(LINE_BREAK + " ");
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(LINE_BREAK);
+    }
+}
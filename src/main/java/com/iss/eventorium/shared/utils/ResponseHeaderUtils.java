@@ -1,5 +1,6 @@
 package com.iss.eventorium.shared.utils;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 
 public class ResponseHeaderUtils {
@@ -12,4 +13,13 @@ public class ResponseHeaderUtils {
         headers.add(HttpHeaders.CONTENT_TYPE, "application/pdf");
         return headers;
     }
+
+    /** NOTE: Clients may keep the feed, but have to revalidate it (with its ETag) before every use.*/
+    public static HttpHeaders createCalendarHeaders(String filename) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+        headers.add(HttpHeaders.CONTENT_TYPE, "text/calendar; charset=UTF-8");
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        return headers;
+    }
 }
@@ -0,0 +1,19 @@
+package com.iss.eventorium.shared.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated method in a new transaction when it fails with a concurrency conflict (optimistic locking
+ * failure, lock timeout or deadlock). Only the outermost call is retried, a call that joins an already running
+ * transaction propagates the conflict to its caller. Attempts are separated by a random backoff of up to
+ * {@code backoffMs} times the attempt number, so conflicting requests do not collide again in lockstep.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+    int maxAttempts() default 3;
+    long backoffMs() default 50;
+}
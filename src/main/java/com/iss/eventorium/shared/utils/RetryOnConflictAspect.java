@@ -0,0 +1,46 @@
+package com.iss.eventorium.shared.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** NOTE: Ordered before the transaction interceptor, so every attempt runs (and commits) in its own transaction.*/
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RetryOnConflictAspect {
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive())
+            return joinPoint.proceed();
+
+        String method = joinPoint.getSignature().toShortString();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= retryOnConflict.maxAttempts()) {
+                    log.warn("{} failed with a conflict after {} attempts", method, attempt);
+                    throw e;
+                }
+                log.debug("{} failed with a conflict on attempt {}, retrying: {}", method, attempt, e.getMessage());
+                backoff(retryOnConflict.backoffMs() * attempt);
+            }
+        }
+    }
+
+    private void backoff(long maxMillis) throws InterruptedException {
+        if (maxMillis > 0)
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+    }
+}
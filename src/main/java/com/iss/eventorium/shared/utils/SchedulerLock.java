@@ -0,0 +1,19 @@
+package com.iss.eventorium.shared.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated scheduled method on a single node at a time. Durations are ISO-8601 (e.g. {@code PT10M}).
+ * {@code lockAtMostFor} bounds how long a crashed node can keep the lease, {@code lockAtLeastFor} keeps it after
+ * a fast run, so nodes with slightly skewed clocks do not run the same tick twice.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+    String name();
+    String lockAtMostFor() default "PT10M";
+    String lockAtLeastFor() default "PT0S";
+}
@@ -0,0 +1,46 @@
+package com.iss.eventorium.shared.utils;
+
+import com.iss.eventorium.shared.services.JobService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/** NOTE: Highest precedence so the lease is taken before, and released after, the job's own transaction.*/
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchedulerLockAspect {
+
+    private final JobService jobService;
+
+    // NOTE: Lazy, so JobService is created after this aspect and its own scheduled methods get advised as well.
+    public SchedulerLockAspect(@Lazy JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    @Around("@annotation(schedulerLock)")
+    public Object runLocked(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        String name = schedulerLock.name();
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!jobService.tryLock(name, startedAt, Duration.parse(schedulerLock.lockAtMostFor())))
+            return null;
+
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            jobService.unlock(name, startedAt, Duration.parse(schedulerLock.lockAtLeastFor()));
+            jobService.recordRun(name, startedAt, failure);
+        }
+    }
+}
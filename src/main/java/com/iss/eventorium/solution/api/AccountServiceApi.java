@@ -1,5 +1,6 @@
 package com.iss.eventorium.solution.api;
 
+import com.iss.eventorium.shared.dtos.FavouriteIdsRequestDto;
 import com.iss.eventorium.shared.models.ExceptionResponse;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.solution.dtos.services.ServiceFilterDto;
@@ -10,9 +11,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
@@ -181,6 +184,36 @@ public interface AccountServiceApi {
             Long id
     );
 
+    @Operation(
+            summary = "Checks which of the given services are among the user's favourite services.",
+            description =
+            """
+            Returns the ids of the given services that are marked as a favourite by the currently logged-in user,
+            so list pages can mark all favourites with one request. At most 500 ids can be checked at once.
+            """,
+            security = { @SecurityRequirement(name="bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Validation failed",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(value = "{ \"ids\": \"Ids are mandatory\" }")
+                            )
+                    ),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse")
+            }
+    )
+    ResponseEntity<List<Long>> getFavouriteServiceIds(
+            @Valid @RequestBody(
+                    description = "The ids of the services to check.",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = FavouriteIdsRequestDto.class))
+            )
+            FavouriteIdsRequestDto request
+    );
+
     @Operation(
             summary = "Adds a service to the user's list of favourites.",
             description =
@@ -7,6 +7,7 @@ import com.iss.eventorium.solution.dtos.services.ReservationResponseDto;
 import com.iss.eventorium.solution.dtos.services.UpdateReservationStatusRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -15,8 +16,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(
@@ -34,6 +38,9 @@ public interface ReservationApi {
             If the reservation type is `AUTOMATIC`, it is immediately marked as `PROCESSED`.
             If it is `MANUAL`, it remains `PENDING` until the provider approves or rejects the reservation.
             To update the status of a `MANUAL` reservation, use `PATCH /api/v1/reservations/{id}`.
+            An optional `Idempotency-Key` header makes the request safe to retry: repeating it with the same key does not
+            create the reservation again, reusing the key for a different request returns `422`,
+            and a repeat that arrives while the first request is still running returns `409`.
             Requires authentication and the `ORGANIZER` authority.
             Only users with the `ORGANIZER` role can access this endpoint.
             """,
@@ -123,14 +130,18 @@ public interface ReservationApi {
             Long eventId,
 
             @Parameter(description = "ID of the service to be reserved", required = true, example = "7")
-            Long serviceId
+            Long serviceId,
+
+            @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = "Optional client-generated key that identifies this reservation across retries", example = "5f1c2a8e-3b7d-4e0a-9c61-2f4d8b7a1e90")
+            String idempotencyKey
     );
 
 
     @Operation(
             summary = "Get accepted reservations for current provider",
             description = """
-            Returns a list of accepted reservations for the currently authenticated provider. Used for calendar display."
+            Returns a list of accepted reservations for the currently authenticated provider, for events dated within
+            the [from, to) window, ordered by date and starting time. Used for calendar display.
             Requires authentication and PROVIDER authority.
             Only users with the `PROVIDER` authority can access this endpoint.""",
             security = @SecurityRequirement(name = "bearerAuth"),
@@ -143,11 +154,41 @@ public interface ReservationApi {
                                     array = @ArraySchema(schema = @Schema(implementation = CalendarReservationDto.class))
                             )
                     ),
+                    @ApiResponse(responseCode = "400", description = "Bad Request - 'to' is not after 'from'"),
                     @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
                     @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
             }
     )
-    ResponseEntity<List<CalendarReservationDto>> getProviderReservations();
+    ResponseEntity<List<CalendarReservationDto>> getProviderReservations(
+            @Parameter(description = "First day of the window (inclusive), in ISO format. Open when omitted.", example = "2025-06-01")
+            LocalDate from,
+            @Parameter(description = "Day after the window (exclusive), in ISO format. Open when omitted.", example = "2025-07-01")
+            LocalDate to
+    );
+
+    @Operation(
+            summary = "Export accepted reservations of current provider as an iCalendar feed",
+            description = """
+            Returns the accepted reservations of the currently authenticated provider, for events dated within the
+            [from, to) window, as an iCalendar (text/calendar) file.
+            The response carries an ETag, a request with a matching If-None-Match header gets 304 Not Modified without a body.
+            Only users with the `PROVIDER` authority can access this endpoint.""",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "iCalendar feed", content = @Content(mediaType = "text/calendar")),
+                    @ApiResponse(responseCode = "304", description = "Not Modified - the reservations did not change"),
+                    @ApiResponse(responseCode = "400", description = "Bad Request - 'to' is not after 'from'"),
+                    @ApiResponse(responseCode = "401", ref = "#/components/responses/UnauthorizedResponse"),
+                    @ApiResponse(responseCode = "403", ref = "#/components/responses/ForbiddenResponse"),
+            }
+    )
+    ResponseEntity<StreamingResponseBody> exportProviderReservations(
+            @Parameter(description = "First day of the window (inclusive), in ISO format. Open when omitted.", example = "2025-06-01")
+            LocalDate from,
+            @Parameter(description = "Day after the window (exclusive), in ISO format. Open when omitted.", example = "2025-07-01")
+            LocalDate to,
+            WebRequest request
+    );
 
 
     @Operation(
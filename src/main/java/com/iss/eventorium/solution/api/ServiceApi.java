@@ -18,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 
@@ -203,6 +204,61 @@ public interface ServiceApi {
             Long id
     );
 
+    @Operation(
+            summary = "Retrieves free time slots of a service for a date range.",
+            description =
+            """
+            Returns, for every day in the range [from, to], whether the service can be reserved and which time slots are free.
+            Free slots are computed from the company's working hours, the service's minimum duration and reservation deadline,
+            and existing reservations that are not declined or canceled. A slot is only returned if it is at least
+            `minDuration` hours long; the client picks a reservation of at most `maxDuration` hours inside it.
+            If `event-id` is provided, only reservations made for that event block a time slot,
+            which is the same rule applied when creating a reservation.
+            The range can span at most 92 days.
+            """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success", useReturnTypeSchema = true),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid date range",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "InvalidDateRange",
+                                            summary = "End date before start date",
+                                            value = "{ \"error\": \"Bad Request\", \"message\": \"Invalid date range: end date (2025-01-01) must not be before start date (2025-02-01).\" }"
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Service not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ExceptionResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "ServiceNotFound",
+                                            summary = "Service not found",
+                                            value = "{ \"error\": \"Not found\", \"message\": \"Service not found.\" }"
+                                    )
+                            )
+                    )
+            }
+    )
+    ResponseEntity<ServiceAvailabilityDto> getAvailability(
+            @Parameter(
+                    description = "The unique identifier of the service.",
+                    required = true,
+                    example = "123"
+            )
+            Long id,
+            @Parameter(description = "First day of the range (inclusive), in ISO format.", required = true, example = "2025-06-01")
+            LocalDate from,
+            @Parameter(description = "Last day of the range (inclusive), in ISO format.", required = true, example = "2025-06-30")
+            LocalDate to,
+            @Parameter(description = "Optional event for which the reservation is planned.", example = "42")
+            Long eventId
+    );
+
     @Operation(
             summary = "Retrieve images for a service using its unique service ID.",
             description =
@@ -1,11 +1,13 @@
 package com.iss.eventorium.solution.controllers;
 
+import com.iss.eventorium.shared.dtos.FavouriteIdsRequestDto;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.solution.api.AccountProductApi;
 import com.iss.eventorium.solution.dtos.products.ProductFilterDto;
 import com.iss.eventorium.solution.dtos.products.ProductResponseDto;
 import com.iss.eventorium.solution.dtos.products.ProductSummaryResponseDto;
 import com.iss.eventorium.solution.services.AccountProductService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -58,6 +60,11 @@ public class AccountProductController implements AccountProductApi {
         return ResponseEntity.ok(service.getFavouriteProducts());
     }
 
+    @PostMapping("/favourites/ids")
+    public ResponseEntity<List<Long>> getFavouriteProductIds(@Valid @RequestBody FavouriteIdsRequestDto request) {
+        return ResponseEntity.ok(service.getFavouriteProductIds(request.getIds()));
+    }
+
     @GetMapping("/favourites/{id}")
     public ResponseEntity<Boolean> isFavouriteProduct(@PathVariable Long id) {
         return ResponseEntity.ok(service.isFavouriteProduct(id));
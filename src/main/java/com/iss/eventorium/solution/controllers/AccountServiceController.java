@@ -1,11 +1,13 @@
 package com.iss.eventorium.solution.controllers;
 
+import com.iss.eventorium.shared.dtos.FavouriteIdsRequestDto;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.solution.api.AccountServiceApi;
 import com.iss.eventorium.solution.dtos.services.ServiceFilterDto;
 import com.iss.eventorium.solution.dtos.services.ServiceResponseDto;
 import com.iss.eventorium.solution.dtos.services.ServiceSummaryResponseDto;
 import com.iss.eventorium.solution.services.AccountServiceService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -64,6 +66,11 @@ public class AccountServiceController implements AccountServiceApi {
         return ResponseEntity.ok(accountService.getFavouriteServices());
     }
 
+    @PostMapping("/favourites/ids")
+    public ResponseEntity<List<Long>> getFavouriteServiceIds(@Valid @RequestBody FavouriteIdsRequestDto request) {
+        return ResponseEntity.ok(accountService.getFavouriteServiceIds(request.getIds()));
+    }
+
     @GetMapping("/favourites/{id}")
     public ResponseEntity<Boolean> isFavouriteService(@PathVariable Long id) {
         return ResponseEntity.ok(accountService.isFavouriteService(id));
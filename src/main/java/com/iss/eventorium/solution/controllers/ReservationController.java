@@ -1,5 +1,9 @@
 package com.iss.eventorium.solution.controllers;
 
+import com.iss.eventorium.shared.models.CalendarEntry;
+import com.iss.eventorium.shared.services.IdempotencyService;
+import com.iss.eventorium.shared.utils.ICalendarWriter;
+import com.iss.eventorium.shared.utils.ResponseHeaderUtils;
 import com.iss.eventorium.solution.api.ReservationApi;
 import com.iss.eventorium.solution.dtos.services.CalendarReservationDto;
 import com.iss.eventorium.solution.dtos.services.ReservationRequestDto;
@@ -8,10 +12,14 @@ import com.iss.eventorium.solution.dtos.services.UpdateReservationStatusRequestD
 import com.iss.eventorium.solution.services.ReservationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -20,18 +28,43 @@ import java.util.List;
 public class ReservationController implements ReservationApi {
 
     private final ReservationService service;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/events/{event-id}/services/{service-id}/reservation")
     public ResponseEntity<Void> createReservation (@Valid @RequestBody ReservationRequestDto reservation,
                                                    @PathVariable("event-id") Long eventId,
-                                                   @PathVariable("service-id") Long serviceId) {
-        service.createReservation(reservation, eventId, serviceId);
+                                                   @PathVariable("service-id") Long serviceId,
+                                                   @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        idempotencyService.execute(idempotencyKey, "reservation:" + eventId + ":" + serviceId, reservation, Void.class, () -> {
+            service.createReservation(reservation, eventId, serviceId);
+            return null;
+        });
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
     @GetMapping("/provider-reservations")
-    public ResponseEntity<List<CalendarReservationDto>> getProviderReservations() {
-        return ResponseEntity.ok(service.getProviderReservations());
+    public ResponseEntity<List<CalendarReservationDto>> getProviderReservations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(service.getProviderReservations(from, to));
+    }
+
+    @GetMapping("/provider-reservations/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> exportProviderReservations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest request
+    ) {
+        List<CalendarEntry> entries = service.getCalendarEntries(from, to);
+        String eTag = ICalendarWriter.computeETag(entries);
+        if (request.checkNotModified(eTag))
+            return null;
+
+        return ResponseEntity.ok()
+                .headers(ResponseHeaderUtils.createCalendarHeaders("reservations.ics"))
+                .eTag(eTag)
+                .body(output -> ICalendarWriter.write(output, "Eventorium reservations", entries));
     }
 
     @GetMapping("/reservations/pending")
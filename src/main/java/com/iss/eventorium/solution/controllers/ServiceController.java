@@ -6,16 +6,19 @@ import com.iss.eventorium.shared.models.ImagePath;
 import com.iss.eventorium.shared.models.PagedResponse;
 import com.iss.eventorium.solution.api.ServiceApi;
 import com.iss.eventorium.solution.dtos.services.*;
+import com.iss.eventorium.solution.services.ServiceAvailabilityService;
 import com.iss.eventorium.solution.services.ServiceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 
@@ -25,6 +28,7 @@ import java.util.List;
 public class ServiceController implements ServiceApi {
 
     private final ServiceService service;
+    private final ServiceAvailabilityService availabilityService;
 
     @GetMapping("/top-five-services")
     public ResponseEntity<Collection<ServiceSummaryResponseDto>> getTopServices(){
@@ -66,6 +70,16 @@ public class ServiceController implements ServiceApi {
         return ResponseEntity.ok(service.getService(id));
     }
 
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<ServiceAvailabilityDto> getAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "event-id", required = false) Long eventId
+    ) {
+        return ResponseEntity.ok(availabilityService.getAvailability(id, from, to, eventId));
+    }
+
     @GetMapping("/{id}/images")
     public ResponseEntity<List<ImageResponseDto>> getImages(@PathVariable Long id) {
         return ResponseEntity.ok(service.getImages(id));
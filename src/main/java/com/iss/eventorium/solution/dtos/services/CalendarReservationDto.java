@@ -3,6 +3,7 @@ package com.iss.eventorium.solution.dtos.services;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Getter
 @Setter
@@ -10,7 +11,10 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 public class CalendarReservationDto {
+    private Long id;
     private String eventName;
     private String serviceName;
     private LocalDate date;
+    private LocalTime startingTime;
+    private LocalTime endingTime;
 }
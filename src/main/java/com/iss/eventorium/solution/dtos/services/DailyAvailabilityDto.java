@@ -0,0 +1,17 @@
+package com.iss.eventorium.solution.dtos.services;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyAvailabilityDto {
+    private LocalDate date;
+    private boolean reservable;
+    private List<TimeSlotDto> freeSlots;
+}
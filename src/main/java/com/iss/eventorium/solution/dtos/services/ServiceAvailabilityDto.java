@@ -0,0 +1,27 @@
+package com.iss.eventorium.solution.dtos.services;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceAvailabilityDto {
+    private Long serviceId;
+    private boolean available;
+    private Integer minDuration;
+    private Integer maxDuration;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "h:mm a")
+    private LocalTime openingHours;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "h:mm a")
+    private LocalTime closingHours;
+
+    private List<DailyAvailabilityDto> days;
+}
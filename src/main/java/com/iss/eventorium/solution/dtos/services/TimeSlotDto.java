@@ -0,0 +1,20 @@
+package com.iss.eventorium.solution.dtos.services;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeSlotDto {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "h:mm a")
+    private LocalTime startingTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "h:mm a")
+    private LocalTime endingTime;
+}
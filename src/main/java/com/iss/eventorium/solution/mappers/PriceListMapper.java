@@ -15,7 +15,7 @@ public class PriceListMapper {
                 .name(solution.getName())
                 .price(solution.getPrice())
                 .discount(solution.getDiscount())
-                .netPrice(solution.getPrice() * (1 - solution.getDiscount() / 100))
+                .netPrice(solution.calculateNetPrice())
                 .build();
     }
 
@@ -1,6 +1,7 @@
 package com.iss.eventorium.solution.mappers;
 
 import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.shared.models.CalendarEntry;
 import com.iss.eventorium.solution.dtos.services.CalendarReservationDto;
 import com.iss.eventorium.solution.dtos.services.ReservationRequestDto;
 import com.iss.eventorium.solution.dtos.services.ReservationResponseDto;
@@ -25,11 +26,14 @@ public class ReservationMapper {
         return reservation;
     }
 
-    public CalendarReservationDto toCalendarReservation(Reservation reservation) {
-        return CalendarReservationDto.builder()
-                .eventName(reservation.getEvent().getName())
-                .serviceName(reservation.getService().getName())
-                .date(reservation.getEvent().getDate())
+    public CalendarEntry toCalendarEntry(CalendarReservationDto reservation) {
+        return CalendarEntry.builder()
+                .uid("reservation-" + reservation.getId() + "@eventorium")
+                .summary(reservation.getServiceName())
+                .description(reservation.getEventName())
+                .date(reservation.getDate())
+                .startingTime(reservation.getStartingTime())
+                .endingTime(reservation.getEndingTime())
                 .build();
     }
 
@@ -11,12 +11,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "mementos")
+@Table(name = "mementos", indexes = @Index(name = "idx_mementos_solution_id_valid_from", columnList = "solution_id, valid_from"))
 public class Memento {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @ManyToOne
+    // NOTE: Lazy, since loading a Solution means a union over every solution table
+    @ManyToOne(fetch = FetchType.LAZY)
     private Solution solution;
 
     private String name;
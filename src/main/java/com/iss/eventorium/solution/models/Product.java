@@ -1,6 +1,7 @@
 package com.iss.eventorium.solution.models;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,7 +15,13 @@ import org.hibernate.annotations.SQLDelete;
 @SuperBuilder
 @AllArgsConstructor
 @Entity
-@Table (name = "products")
+@Table(
+        name = "products",
+        indexes = {
+                @Index(name = "idx_products_net_price", columnList = "net_price"),
+                @Index(name = "idx_products_category_id", columnList = "category_id")
+        }
+)
 @SQLDelete(sql = "UPDATE products SET is_deleted = true WHERE id = ?")
 @Filter(name = "activeFilter", condition = "is_deleted = :isDeleted")
 public class Product extends Solution {
@@ -0,0 +1,40 @@
+package com.iss.eventorium.solution.models;
+
+import com.iss.eventorium.user.models.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A product marked as favourite by a user. The unique (user, product) constraint serves membership checks and lookups
+ * of a user's favourites.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "product_favourites",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_favourites_user_product", columnNames = { "user_id", "product_id" }),
+        indexes = @Index(name = "idx_product_favourites_product_id", columnList = "product_id")
+)
+public class ProductFavourite {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
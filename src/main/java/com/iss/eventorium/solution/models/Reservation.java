@@ -10,6 +10,7 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Getter
@@ -18,7 +19,7 @@ import java.time.LocalTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "service_reservations")
+@Table(name = "service_reservations", indexes = @Index(name = "idx_service_reservations_service_id", columnList = "service_id"))
 @SQLRestriction("is_canceled = false")
 public class Reservation {
 
@@ -44,4 +45,12 @@ public class Reservation {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private Status status = Status.PENDING;
+
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
+    // NOTE: Only an active reservation occupies its time slot, a canceled or declined one frees it.
+    public boolean isActive() {
+        return !Boolean.TRUE.equals(isCanceled) && status != Status.DECLINED;
+    }
 }
@@ -17,7 +17,14 @@ import org.hibernate.annotations.SQLDelete;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table (name = "services")
+@Table(
+        name = "services",
+        indexes = {
+                @Index(name = "idx_services_net_price", columnList = "net_price"),
+                @Index(name = "idx_services_category_id", columnList = "category_id"),
+                @Index(name = "idx_services_provider_id", columnList = "provider_id")
+        }
+)
 @SQLDelete(sql = "UPDATE services SET is_deleted = true WHERE id = ?")
 @Filter(name = "activeFilter", condition = "is_deleted = :isDeleted")
 public class Service extends Solution {
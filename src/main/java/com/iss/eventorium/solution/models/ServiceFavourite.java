@@ -0,0 +1,40 @@
+package com.iss.eventorium.solution.models;
+
+import com.iss.eventorium.user.models.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A service marked as favourite by a user. The unique (user, service) constraint serves membership checks and lookups
+ * of a user's favourites.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "service_favourites",
+        uniqueConstraints = @UniqueConstraint(name = "uk_service_favourites_user_service", columnNames = { "user_id", "service_id" }),
+        indexes = @Index(name = "idx_service_favourites_service_id", columnList = "service_id")
+)
+public class ServiceFavourite {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "service_id", nullable = false)
+    private Service service;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
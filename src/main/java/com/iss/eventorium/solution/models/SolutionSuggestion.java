@@ -0,0 +1,63 @@
+package com.iss.eventorium.solution.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Budget suggestion candidate of one visible, available and not deleted solution.
+ * <p>
+ * Products and services are kept in one table with the columns suggestions are filtered on (category, net price and
+ * reservation deadline) and ranked by (rating aggregates), so finding suggestions is a single range scan
+ * instead of a union over both solution tables with a rating average computed per row.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "solution_suggestions",
+        indexes = @Index(name = "idx_solution_suggestions_category_price_deadline", columnList = "category_id, net_price, reservation_deadline")
+)
+public class SolutionSuggestion {
+
+    @Id
+    @Column(name = "solution_id")
+    private Long solutionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "solution_type", nullable = false)
+    private SolutionType solutionType;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "provider_id", nullable = false)
+    private Long providerId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Double price;
+
+    @Column(nullable = false)
+    private Double discount;
+
+    @Column(name = "net_price", nullable = false)
+    private Double netPrice;
+
+    // NOTE: Products can be bought until the event starts, so their deadline is 0 days.
+    @Column(name = "reservation_deadline", nullable = false)
+    private Integer reservationDeadline;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+}
@@ -1,8 +1,36 @@
 package com.iss.eventorium.solution.repositories;
 
 import com.iss.eventorium.solution.models.Memento;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface MementoRepository extends JpaRepository<Memento, Long>, JpaSpecificationExecutor<Memento> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Memento m SET m.validTo = :validTo WHERE m.solution.id = :solutionId AND m.validTo IS NULL")
+    int closeOpenVersion(Long solutionId, LocalDateTime validTo);
+
+    /** NOTE: The latest version that started at the given time, read backwards over the (solution_id, valid_from) index.
+     A version without valid_from has been valid since the history started, so it is the earliest one.*/
+    @Query("SELECT m FROM Memento m WHERE m.solution.id = :solutionId AND (m.validFrom <= :time OR m.validFrom IS NULL) " +
+            "ORDER BY m.validFrom DESC NULLS LAST, m.id DESC")
+    List<Memento> findValidAt(Long solutionId, LocalDateTime time, Pageable pageable);
+
+    @Query("SELECT m FROM Memento m WHERE m.solution.id = :solutionId ORDER BY m.validFrom ASC NULLS FIRST, m.id DESC")
+    List<Memento> findOldest(Long solutionId, Pageable pageable);
+
+    /** NOTE: Versions without valid_from come first, so HistoryService puts them at the start of the history like
+     findValidAt does. Of versions starting at the same instant the one with the highest id comes last and wins.*/
+    @Query("SELECT m.solution.id, m FROM Memento m WHERE m.solution.id IN :solutionIds " +
+            "ORDER BY m.solution.id, m.validFrom ASC NULLS FIRST, m.id ASC")
+    List<Object[]> findHistories(Collection<Long> solutionIds);
 }
@@ -0,0 +1,41 @@
+package com.iss.eventorium.solution.repositories;
+
+import com.iss.eventorium.solution.models.Product;
+import com.iss.eventorium.solution.models.ProductFavourite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductFavouriteRepository extends JpaRepository<ProductFavourite, Long> {
+
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
+    @Query("SELECT f.product FROM ProductFavourite f WHERE f.user.id = :userId AND f.product.isDeleted = false ORDER BY f.id")
+    List<Product> findProductsByUserId(Long userId);
+
+    @Query("SELECT f.product.id FROM ProductFavourite f WHERE f.user.id = :userId AND f.product.id IN :productIds")
+    List<Long> findFavouriteIds(Long userId, Collection<Long> productIds);
+
+    /** NOTE: Inserts nothing when the product is already a favourite of the user, returns the number of inserted rows.*/
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO product_favourites (user_id, product_id, created_at) " +
+            "SELECT :userId, p.id, CURRENT_TIMESTAMP FROM products p WHERE p.id = :productId " +
+            "AND NOT EXISTS (SELECT 1 FROM product_favourites f WHERE f.user_id = :userId AND f.product_id = :productId)", nativeQuery = true)
+    int insertIfAbsent(Long userId, Long productId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProductFavourite f WHERE f.user.id = :userId AND f.product.id = :productId")
+    int remove(Long userId, Long productId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM product_favourites WHERE user_id = :userId " +
+            "AND product_id IN (SELECT p.id FROM products p WHERE p.provider_id = :providerId)", nativeQuery = true)
+    int deleteByUserAndProvider(Long userId, Long providerId);
+}
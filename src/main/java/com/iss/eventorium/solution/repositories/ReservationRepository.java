@@ -1,12 +1,38 @@
 package com.iss.eventorium.solution.repositories;
 
+import com.iss.eventorium.shared.models.Status;
+import com.iss.eventorium.solution.dtos.services.CalendarReservationDto;
 import com.iss.eventorium.solution.models.Reservation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long>, JpaSpecificationExecutor<Reservation> {
 
+    @Query("SELECT new com.iss.eventorium.solution.dtos.services.CalendarReservationDto(" +
+            "r.id, e.name, s.name, e.date, r.startingTime, r.endingTime) FROM Reservation r JOIN r.event e JOIN r.service s " +
+            "WHERE s.provider.id = :providerId AND r.status = :status AND e.date >= :from AND e.date < :to " +
+            "ORDER BY e.date, r.startingTime, r.id")
+    List<CalendarReservationDto> findCalendarReservations(Long providerId, Status status, LocalDate from, LocalDate to);
+
     @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Reservation r WHERE r.service.id = :serviceId")
     boolean existsByServiceId(Long serviceId);
+
+    // NOTE: Conditional update acts as a claim, only one caller (instance) gets 1 back for the same reservation.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Reservation r SET r.reminderSentAt = :sentAt WHERE r.id = :id AND r.reminderSentAt IS NULL")
+    int markReminderSent(Long id, LocalDateTime sentAt);
+
+    // NOTE: Releases only the claim made at sentAt, a reminder reset or claimed again in the meantime is left alone.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Reservation r SET r.reminderSentAt = NULL WHERE r.id = :id AND r.reminderSentAt = :sentAt")
+    int clearReminderSent(Long id, LocalDateTime sentAt);
 }
@@ -0,0 +1,41 @@
+package com.iss.eventorium.solution.repositories;
+
+import com.iss.eventorium.solution.models.Service;
+import com.iss.eventorium.solution.models.ServiceFavourite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ServiceFavouriteRepository extends JpaRepository<ServiceFavourite, Long> {
+
+    boolean existsByUserIdAndServiceId(Long userId, Long serviceId);
+
+    @Query("SELECT f.service FROM ServiceFavourite f WHERE f.user.id = :userId AND f.service.isDeleted = false ORDER BY f.id")
+    List<Service> findServicesByUserId(Long userId);
+
+    @Query("SELECT f.service.id FROM ServiceFavourite f WHERE f.user.id = :userId AND f.service.id IN :serviceIds")
+    List<Long> findFavouriteIds(Long userId, Collection<Long> serviceIds);
+
+    /** NOTE: Inserts nothing when the service is already a favourite of the user, returns the number of inserted rows.*/
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO service_favourites (user_id, service_id, created_at) " +
+            "SELECT :userId, s.id, CURRENT_TIMESTAMP FROM services s WHERE s.id = :serviceId " +
+            "AND NOT EXISTS (SELECT 1 FROM service_favourites f WHERE f.user_id = :userId AND f.service_id = :serviceId)", nativeQuery = true)
+    int insertIfAbsent(Long userId, Long serviceId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ServiceFavourite f WHERE f.user.id = :userId AND f.service.id = :serviceId")
+    int remove(Long userId, Long serviceId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM service_favourites WHERE user_id = :userId " +
+            "AND service_id IN (SELECT s.id FROM services s WHERE s.provider_id = :providerId)", nativeQuery = true)
+    int deleteByUserAndProvider(Long userId, Long providerId);
+}
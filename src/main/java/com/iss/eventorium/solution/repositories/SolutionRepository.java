@@ -1,8 +0,0 @@
-package com.iss.eventorium.solution.repositories;
-
-import com.iss.eventorium.solution.models.Solution;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-
-public interface SolutionRepository extends JpaRepository<Solution, Long>, JpaSpecificationExecutor<Solution> {
-}
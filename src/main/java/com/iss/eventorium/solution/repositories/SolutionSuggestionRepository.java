@@ -0,0 +1,40 @@
+package com.iss.eventorium.solution.repositories;
+
+import com.iss.eventorium.solution.models.SolutionSuggestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SolutionSuggestionRepository extends JpaRepository<SolutionSuggestion, Long>, JpaSpecificationExecutor<SolutionSuggestion> {
+
+    String RATING_AGGREGATES = "SELECT solution_id, COUNT(*) AS rating_count, SUM(rating) AS rating_sum " +
+            "FROM ratings WHERE solution_id IS NOT NULL GROUP BY solution_id";
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SolutionSuggestion s SET s.ratingCount = s.ratingCount + 1, s.ratingSum = s.ratingSum + :rating, " +
+            "s.averageRating = (s.ratingSum + :rating) * 1.0 / (s.ratingCount + 1) WHERE s.solutionId = :solutionId")
+    int addRating(Long solutionId, int rating);
+
+    /** NOTE: Fills the (emptied) index from both solution tables with one statement, the same rows
+     SolutionSuggestionIndex.refresh writes for a single solution.*/
+    @Modifying
+    @Query(value = "INSERT INTO solution_suggestions (solution_id, solution_type, category_id, provider_id, name, price, " +
+            "discount, net_price, reservation_deadline, rating_count, rating_sum, average_rating) " +
+            "SELECT p.id, 'PRODUCT', p.category_id, p.provider_id, p.name, p.price, p.discount, " +
+            "p.net_price, 0, COALESCE(r.rating_count, 0), COALESCE(r.rating_sum, 0), " +
+            "COALESCE(r.rating_sum * 1.0 / r.rating_count, 0) " +
+            "FROM products p LEFT JOIN (" + RATING_AGGREGATES + ") r ON r.solution_id = p.id " +
+            "WHERE p.is_available = true AND p.is_visible = true AND p.is_deleted = false " +
+            "AND p.category_id IS NOT NULL AND p.provider_id IS NOT NULL " +
+            "UNION ALL " +
+            "SELECT s.id, 'SERVICE', s.category_id, s.provider_id, s.name, s.price, s.discount, " +
+            "s.net_price, s.reservation_deadline, COALESCE(r.rating_count, 0), COALESCE(r.rating_sum, 0), " +
+            "COALESCE(r.rating_sum * 1.0 / r.rating_count, 0) " +
+            "FROM services s LEFT JOIN (" + RATING_AGGREGATES + ") r ON r.solution_id = s.id " +
+            "WHERE s.is_available = true AND s.is_visible = true AND s.is_deleted = false " +
+            "AND s.category_id IS NOT NULL AND s.provider_id IS NOT NULL", nativeQuery = true)
+    int insertAll();
+}
@@ -1,14 +1,15 @@
 package com.iss.eventorium.solution.services;
 
 import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.shared.utils.FavouriteUtils;
 import com.iss.eventorium.solution.dtos.products.ProductFilterDto;
 import com.iss.eventorium.solution.dtos.products.ProductResponseDto;
 import com.iss.eventorium.solution.dtos.products.ProductSummaryResponseDto;
 import com.iss.eventorium.solution.mappers.ProductMapper;
 import com.iss.eventorium.solution.models.Product;
+import com.iss.eventorium.solution.repositories.ProductFavouriteRepository;
 import com.iss.eventorium.solution.repositories.ProductRepository;
 import com.iss.eventorium.solution.specifications.ProductSpecification;
-import com.iss.eventorium.user.repositories.UserRepository;
 import com.iss.eventorium.user.services.AuthService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -24,36 +25,25 @@ public class AccountProductService {
 
     private final ProductRepository repository;
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final ProductFavouriteRepository favouriteRepository;
 
     private final ProductMapper mapper;
 
     public List<ProductSummaryResponseDto> getFavouriteProducts() {
-        return authService.getCurrentUser().getPerson().getFavouriteProducts()
+        return favouriteRepository.findProductsByUserId(authService.getCurrentUser().getId())
                 .stream()
-                .filter(product -> !product.getIsDeleted())
                 .map(mapper::toSummaryResponse).toList();
     }
 
     public ProductResponseDto addFavouriteProduct(Long id) {
         Product product = find(id);
-
-        List<Product> favouriteProduct = authService.getCurrentUser().getPerson().getFavouriteProducts();
-        if(!favouriteProduct.contains(product)) {
-            favouriteProduct.add(product);
-            userRepository.save(authService.getCurrentUser());
-        }
+        FavouriteUtils.insertIfAbsent(() -> favouriteRepository.insertIfAbsent(authService.getCurrentUser().getId(), product.getId()));
         return mapper.toResponse(product);
     }
 
     public void removeFavouriteProduct(Long id) {
         Product product = find(id);
-
-        List<Product> favouriteProducts = authService.getCurrentUser().getPerson().getFavouriteProducts();
-        if(favouriteProducts.contains(product)) {
-            favouriteProducts.remove(product);
-            userRepository.save(authService.getCurrentUser());
-        }
+        favouriteRepository.remove(authService.getCurrentUser().getId(), product.getId());
     }
 
     public Product find(Long id) {
@@ -62,7 +52,11 @@ public class AccountProductService {
 
     public Boolean isFavouriteProduct(Long id) {
         Product product = find(id);
-        return authService.getCurrentUser().getPerson().getFavouriteProducts().contains(product);
+        return favouriteRepository.existsByUserIdAndProductId(authService.getCurrentUser().getId(), product.getId());
+    }
+
+    public List<Long> getFavouriteProductIds(List<Long> ids) {
+        return favouriteRepository.findFavouriteIds(authService.getCurrentUser().getId(), ids);
     }
 
     public List<ProductSummaryResponseDto> getAll() {
@@ -2,14 +2,14 @@ package com.iss.eventorium.solution.services;
 
 
 import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.shared.utils.FavouriteUtils;
 import com.iss.eventorium.solution.dtos.services.ServiceFilterDto;
 import com.iss.eventorium.solution.dtos.services.ServiceSummaryResponseDto;
 import com.iss.eventorium.solution.mappers.ServiceMapper;
 import com.iss.eventorium.solution.models.Service;
+import com.iss.eventorium.solution.repositories.ServiceFavouriteRepository;
 import com.iss.eventorium.solution.repositories.ServiceRepository;
 import com.iss.eventorium.solution.specifications.ServiceSpecification;
-import com.iss.eventorium.user.models.Person;
-import com.iss.eventorium.user.repositories.UserRepository;
 import com.iss.eventorium.user.services.AuthService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +24,7 @@ public class AccountServiceService {
 
     private final ServiceRepository repository;
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final ServiceFavouriteRepository favouriteRepository;
 
     private final ServiceMapper mapper;
 
@@ -59,34 +59,20 @@ public class AccountServiceService {
     }
 
     public List<ServiceSummaryResponseDto> getFavouriteServices() {
-        return authService.getCurrentUser()
-                .getPerson()
-                .getFavouriteServices()
+        return favouriteRepository.findServicesByUserId(authService.getCurrentUser().getId())
                 .stream()
-                .filter(service -> !service.getIsDeleted())
                 .map(mapper::toSummaryResponse)
                 .toList();
     }
 
     public void addFavouriteService(Long id) {
         Service service = find(id);
-        Person person = authService.getCurrentUser().getPerson();
-        List<Service> favouriteServices = person.getFavouriteServices();
-
-        if (!favouriteServices.contains(service)) {
-            favouriteServices.add(service);
-            userRepository.save(authService.getCurrentUser());
-        }
+        FavouriteUtils.insertIfAbsent(() -> favouriteRepository.insertIfAbsent(authService.getCurrentUser().getId(), service.getId()));
     }
 
     public void removeFavouriteService(Long id) {
         Service service = find(id);
-
-        List<Service> favouriteServices = authService.getCurrentUser().getPerson().getFavouriteServices();
-        if(favouriteServices.contains(service)) {
-            favouriteServices.remove(service);
-            userRepository.save(authService.getCurrentUser());
-        }
+        favouriteRepository.remove(authService.getCurrentUser().getId(), service.getId());
     }
 
     public Service find(Long id) {
@@ -95,6 +81,10 @@ public class AccountServiceService {
 
     public Boolean isFavouriteService(Long id) {
         Service service = find(id);
-        return authService.getCurrentUser().getPerson().getFavouriteServices().contains(service);
+        return favouriteRepository.existsByUserIdAndServiceId(authService.getCurrentUser().getId(), service.getId());
+    }
+
+    public List<Long> getFavouriteServiceIds(List<Long> ids) {
+        return favouriteRepository.findFavouriteIds(authService.getCurrentUser().getId(), ids);
     }
 }
@@ -4,12 +4,13 @@ import com.iss.eventorium.solution.mappers.SolutionMapper;
 import com.iss.eventorium.solution.models.Memento;
 import com.iss.eventorium.solution.models.Solution;
 import com.iss.eventorium.solution.repositories.MementoRepository;
-import com.iss.eventorium.solution.specifications.MementoSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @org.springframework.stereotype.Service
 @RequiredArgsConstructor
@@ -19,41 +20,55 @@ public class HistoryService {
 
     private final SolutionMapper solutionMapper;
 
+    private static final PageRequest FIRST = PageRequest.of(0, 1);
+
+    /** NOTE: The open version is closed with a single UPDATE and the new one starts at the same instant,
+     so versions of a solution never overlap and never leave a gap.*/
     public void addMemento(Solution solution) {
-        updateOldMemento(mementoRepository.findAll(
-                MementoSpecification.filterBySolution(solution.getId())
-        ));
+        LocalDateTime now = LocalDateTime.now();
+        mementoRepository.closeOpenVersion(solution.getId(), now);
 
         Memento memento = solutionMapper.toMemento(solution);
-        memento.setId(0L);
+        memento.setId(null);
         memento.setSolution(solution);
-        memento.setValidFrom(LocalDateTime.now());
+        memento.setValidFrom(now);
+        memento.setValidTo(null);
         mementoRepository.save(memento);
     }
 
     public Memento getValidSolution(Long id, LocalDateTime givenTime) {
-        return findValidSolution(givenTime,  mementoRepository.findAll(MementoSpecification.hasSolution(id)));
+        return mementoRepository.findValidAt(id, givenTime, FIRST).stream()
+                .findFirst()
+                .or(() -> mementoRepository.findOldest(id, FIRST).stream().findFirst())
+                .orElseThrow(() -> new EntityNotFoundException("Solution not found!"));
     }
 
-    private void updateOldMemento(List<Memento> mementos) {
-        for (Memento old : mementos) {
-            if (old.getValidTo() == null) {
-                old.setValidTo(LocalDateTime.now());
-                mementoRepository.save(old);
-                break;
-            }
+    /** NOTE: Resolves every (solution, time) pair with one query over the histories of the requested solutions.
+     Same rules as getValidSolution: the latest version that started at the given time, or the oldest one
+     if the time precedes the whole history. A version without valid_from counts as the start of the history,
+     and of versions starting at the same instant the one with the highest id wins. Pairs of solutions without
+     history are left out.*/
+    public Map<VersionKey, Memento> getValidSolutions(Collection<VersionKey> keys) {
+        if (keys.isEmpty()) return Map.of();
+
+        Set<Long> solutionIds = keys.stream().map(VersionKey::solutionId).collect(Collectors.toSet());
+        Map<Long, NavigableMap<LocalDateTime, Memento>> histories = new HashMap<>();
+        for (Object[] row : mementoRepository.findHistories(solutionIds)) {
+            Memento memento = (Memento) row[1];
+            LocalDateTime validFrom = memento.getValidFrom() == null ? LocalDateTime.MIN : memento.getValidFrom();
+            histories.computeIfAbsent((Long) row[0], id -> new TreeMap<>()).put(validFrom, memento);
         }
-    }
 
-    private Memento findValidSolution(LocalDateTime givenTime, List<Memento> mementos) {
-        if (mementos.size() == 1) return mementos.get(0);
+        Map<VersionKey, Memento> versions = new HashMap<>();
+        for (VersionKey key : keys) {
+            NavigableMap<LocalDateTime, Memento> history = histories.get(key.solutionId());
+            if (history == null) continue;
 
-        return mementos.stream()
-                .filter(m ->
-                        (m.getValidFrom() == null || !m.getValidFrom().isAfter(givenTime)) &&
-                                (m.getValidTo() == null || !m.getValidTo().isBefore(givenTime)))
-                .findFirst()
-                .orElseThrow(() -> new EntityNotFoundException("Solution not found!"));
+            Map.Entry<LocalDateTime, Memento> version = history.floorEntry(key.time());
+            versions.put(key, version != null ? version.getValue() : history.firstEntry().getValue());
+        }
+        return versions;
     }
 
+    public record VersionKey(Long solutionId, LocalDateTime time) {}
 }
@@ -27,6 +27,7 @@ import java.util.Objects;
 public class PriceListService {
 
     private final HistoryService historyService;
+    private final SolutionSuggestionIndex suggestionIndex;
     private final AuthService authService;
     private final PdfService pdfService;
     private final ServiceService serviceService;
@@ -58,7 +59,9 @@ public class PriceListService {
         service.setDiscount(updateRequestDto.getDiscount());
         historyService.addMemento(service);
 
-        return mapper.toResponse(serviceRepository.save(service));
+        Service updated = serviceRepository.save(service);
+        suggestionIndex.refresh(updated);
+        return mapper.toResponse(updated);
     }
 
     public List<PriceListResponseDto> getPriceListProducts() {
@@ -83,7 +86,9 @@ public class PriceListService {
         product.setDiscount(updateRequestDto.getDiscount());
         historyService.addMemento(product);
 
-        return mapper.toResponse(productRepository.save(product));
+        Product updated = productRepository.save(product);
+        suggestionIndex.refresh(updated);
+        return mapper.toResponse(updated);
     }
 
     public byte[] generatePdf() {
@@ -42,6 +42,7 @@ public class ProductService {
     private final AuthService authService;
     private final ImageService imageService;
     private final HistoryService historyService;
+    private final SolutionSuggestionIndex suggestionIndex;
     private final CategoryProposalService categoryProposalService;
 
     private final ProductMapper mapper;
@@ -127,6 +128,7 @@ public class ProductService {
 
         repository.save(product);
         historyService.addMemento(product);
+        suggestionIndex.refresh(product);
 
         return mapper.toResponse(product);
     }
@@ -180,6 +182,7 @@ public class ProductService {
         product.setEventTypes(eventTypes);
         historyService.addMemento(product);
         repository.save(product);
+        suggestionIndex.refresh(product);
         return mapper.toResponse(product);
     }
 
@@ -189,6 +192,7 @@ public class ProductService {
 
         product.setIsDeleted(true);
         repository.save(product);
+        suggestionIndex.refresh(product);
     }
 
     private void assertOwnership(Product product) {
@@ -0,0 +1,138 @@
+package com.iss.eventorium.solution.services;
+
+import com.iss.eventorium.solution.models.Reservation;
+import com.iss.eventorium.solution.repositories.ReservationRepository;
+import com.iss.eventorium.solution.specifications.ServiceReservationSpecification;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of upcoming active (neither canceled nor declined) reservations per service, grouped by event date and sorted by starting time.
+ * A service schedule is loaded with a single query on first access and kept up to date by {@link ReservationService}
+ * once every reservation change is committed. Schedules also expire after {@code availability.index-ttl-seconds}, so changes made by
+ * other instances are picked up eventually.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationIntervalIndex {
+
+    private final ReservationRepository repository;
+
+    @Value("${availability.index-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<Long, ServiceSchedule> schedules = new ConcurrentHashMap<>();
+
+    public NavigableMap<LocalDate, List<ReservedInterval>> getReservedIntervals(Long serviceId, LocalDate from, LocalDate to) {
+        return getSchedule(serviceId).between(from, to);
+    }
+
+    public void record(Reservation reservation) {
+        afterCommit(() -> {
+            ServiceSchedule schedule = schedules.get(reservation.getService().getId());
+            if (schedule != null)
+                schedule.put(reservation);
+        });
+    }
+
+    /** NOTE: Evicted right away and again after commit, so a schedule loaded in between (that still saw the old data)
+     does not stay cached.*/
+    public void evict(Long serviceId) {
+        schedules.remove(serviceId);
+        afterCommit(() -> schedules.remove(serviceId));
+    }
+
+    // NOTE: Inside a transaction the index is only changed once the change is committed, a rolled back change never shows up.
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private ServiceSchedule getSchedule(Long serviceId) {
+        ServiceSchedule schedule = schedules.get(serviceId);
+        if (schedule == null || schedule.isExpired(ttlSeconds)) {
+            schedule = load(serviceId);
+            schedules.put(serviceId, schedule);
+        }
+        return schedule;
+    }
+
+    private ServiceSchedule load(Long serviceId) {
+        Specification<Reservation> specification = ServiceReservationSpecification.getUpcomingServiceReservations(serviceId);
+        ServiceSchedule schedule = new ServiceSchedule();
+        repository.findAll(specification).forEach(schedule::put);
+        return schedule;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ReservedInterval {
+        private Long reservationId;
+        private Long eventId;
+        private LocalTime startingTime;
+        private LocalTime endingTime;
+    }
+
+    private static class ServiceSchedule {
+        private final Instant loadedAt = Instant.now();
+        private final NavigableMap<LocalDate, List<ReservedInterval>> intervals = new TreeMap<>();
+        private final Map<Long, LocalDate> reservationDates = new HashMap<>();
+
+        boolean isExpired(long ttlSeconds) {
+            return loadedAt.plusSeconds(ttlSeconds).isBefore(Instant.now());
+        }
+
+        synchronized void put(Reservation reservation) {
+            remove(reservation.getId());
+            if (!reservation.isActive())
+                return;
+
+            LocalDate date = reservation.getEvent().getDate();
+            List<ReservedInterval> day = intervals.computeIfAbsent(date, d -> new ArrayList<>());
+            day.add(new ReservedInterval(
+                    reservation.getId(),
+                    reservation.getEvent().getId(),
+                    reservation.getStartingTime(),
+                    reservation.getEndingTime()
+            ));
+            day.sort(Comparator.comparing(ReservedInterval::getStartingTime));
+            reservationDates.put(reservation.getId(), date);
+        }
+
+        synchronized NavigableMap<LocalDate, List<ReservedInterval>> between(LocalDate from, LocalDate to) {
+            NavigableMap<LocalDate, List<ReservedInterval>> result = new TreeMap<>();
+            intervals.subMap(from, true, to, true).forEach((date, day) -> result.put(date, List.copyOf(day)));
+            return result;
+        }
+
+        private void remove(Long reservationId) {
+            LocalDate date = reservationDates.remove(reservationId);
+            if (date == null) return;
+
+            List<ReservedInterval> day = intervals.get(date);
+            day.removeIf(interval -> Objects.equals(interval.getReservationId(), reservationId));
+            if (day.isEmpty())
+                intervals.remove(date);
+        }
+    }
+}
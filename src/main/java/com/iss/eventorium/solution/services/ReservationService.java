@@ -8,9 +8,12 @@ import com.iss.eventorium.event.services.BudgetService;
 import com.iss.eventorium.event.services.EventService;
 import com.iss.eventorium.shared.exceptions.InsufficientFundsException;
 import com.iss.eventorium.shared.exceptions.OwnershipRequiredException;
+import com.iss.eventorium.shared.models.CalendarEntry;
+import com.iss.eventorium.shared.models.DateWindow;
 import com.iss.eventorium.shared.models.EmailDetails;
 import com.iss.eventorium.shared.models.Status;
 import com.iss.eventorium.shared.services.EmailService;
+import com.iss.eventorium.shared.utils.SchedulerLock;
 import com.iss.eventorium.solution.dtos.services.CalendarReservationDto;
 import com.iss.eventorium.solution.dtos.services.ReservationRequestDto;
 import com.iss.eventorium.solution.dtos.services.ReservationResponseDto;
@@ -26,6 +29,7 @@ import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.AuthService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -33,11 +37,14 @@ import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+@Slf4j
 @org.springframework.stereotype.Service
 @RequiredArgsConstructor
 public class ReservationService {
@@ -49,11 +56,14 @@ public class ReservationService {
     private final EmailService emailService;
     private final AuthService authService;
     private final BudgetService budgetService;
+    private final ReservationIntervalIndex intervalIndex;
 
     private final ReservationMapper mapper;
 
     private final SpringTemplateEngine templateEngine;
 
+    private static final int REMINDER_HOURS_BEFORE = 1;
+
     /** NOTE: The same service can be reserved simultaneously for different events (since one service can be available in multiple locations at the same time).
      For the same event, the same service can be reserved multiple times, but the reservation time periods must not overlap.
      To create a new reservation for the same service, same event, and same time range, the previous reservation must first be rejected.*/
@@ -97,7 +107,7 @@ public class ReservationService {
 
         Service service = reservation.getService();
 
-        if (plannedAmount < service.getPrice() * (1 - service.getDiscount() / 100))
+        if (plannedAmount < service.calculateNetPrice())
             throw new InsufficientFundsException("You do not have enough funds for this reservation!");
     }
 
@@ -110,7 +120,7 @@ public class ReservationService {
     private void saveEntity(Reservation reservation) {
         if (reservation.getService().getType() == ReservationType.AUTOMATIC)
             reservation.setStatus(Status.ACCEPTED);
-        repository.save(reservation);
+        intervalIndex.record(repository.save(reservation));
     }
 
     public Company getCompany(Service service) {
@@ -118,9 +128,14 @@ public class ReservationService {
         return companyService.getByProviderId(provider.getId());
     }
 
-    public List<CalendarReservationDto> getProviderReservations() {
+    public List<CalendarReservationDto> getProviderReservations(LocalDate from, LocalDate to) {
+        DateWindow window = DateWindow.of(from, to);
         User provider = authService.getCurrentUser();
-        return repository.findAll(ServiceReservationSpecification.getProviderReservations(provider)).stream().map(mapper::toCalendarReservation).toList();
+        return repository.findCalendarReservations(provider.getId(), Status.ACCEPTED, window.getFrom(), window.getTo());
+    }
+
+    public List<CalendarEntry> getCalendarEntries(LocalDate from, LocalDate to) {
+        return getProviderReservations(from, to).stream().map(mapper::toCalendarEntry).toList();
     }
 
     public List<ReservationResponseDto> getPendingReservations() {
@@ -129,11 +144,25 @@ public class ReservationService {
         return repository.findAll(specification).stream().map(ReservationMapper::toResponse).toList();
     }
 
+    /** NOTE: Reminders are sent for accepted reservations starting within the next hour that have not been reminded yet.
+     Because the window is not tied to the exact minute, a late or skipped run catches up on the next one.
+     Each reminder is claimed with a conditional update before sending, so it is sent once even with multiple instances,
+     and the persisted sent-state survives restarts. If sending fails the claim is cleared, so the next run retries it.*/
     @Scheduled(fixedRate = 60000)
+    @SchedulerLock(name = "reservation-reminders", lockAtMostFor = "PT5M", lockAtLeastFor = "PT30S")
     public void checkReservations() {
-        List<Reservation> reservations = repository.findAll(ServiceReservationSpecification.checkForReservationsInOneHour());
-        for (Reservation reservation: reservations)
-            sendEmails(reservation, true);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS); // stored exactly, so the claim can be matched when it is cleared
+        Specification<Reservation> specification = ServiceReservationSpecification.checkForDueReminders(now, now.plusHours(REMINDER_HOURS_BEFORE));
+        for (Reservation reservation: repository.findAll(specification)) {
+            if (repository.markReminderSent(reservation.getId(), now) != 1)
+                continue;
+            try {
+                sendEmails(reservation, true);
+            } catch (RuntimeException e) {
+                repository.clearReminderSent(reservation.getId(), now);
+                log.warn("Failed to send reminder for reservation {}, it will be retried", reservation.getId(), e);
+            }
+        }
     }
 
     private void sendEmails(Reservation reservation, boolean isReminder) {
@@ -191,7 +220,9 @@ public class ReservationService {
         if(status == Status.ACCEPTED)
             budgetService.markAsReserved(reservation);
 
-        return ReservationMapper.toResponse(repository.save(reservation));
+        Reservation updated = repository.save(reservation);
+        intervalIndex.record(updated);
+        return ReservationMapper.toResponse(updated);
     }
 
     public Reservation find(Long id) {
@@ -211,8 +242,13 @@ public class ReservationService {
         reservations.stream()
                 .filter(reservation -> isCancellable(reservation, event.getDate()))
                 .forEach(reservation -> reservation.setIsCanceled(true));
+        reservations.stream()
+                .filter(Reservation::isActive)
+                .forEach(reservation -> reservation.setReminderSentAt(null)); // the reservation moves with the event, so it needs a new reminder
 
         repository.saveAll(reservations);
+        // NOTE: The event date is not persisted yet, so cached schedules are dropped and reloaded on the next read.
+        reservations.forEach(reservation -> intervalIndex.evict(reservation.getService().getId()));
     }
 
     private boolean isCancellable(Reservation reservation, LocalDate date) {
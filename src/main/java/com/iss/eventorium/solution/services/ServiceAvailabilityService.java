@@ -0,0 +1,97 @@
+package com.iss.eventorium.solution.services;
+
+import com.iss.eventorium.company.models.Company;
+import com.iss.eventorium.company.services.CompanyService;
+import com.iss.eventorium.shared.exceptions.InvalidTimeRangeException;
+import com.iss.eventorium.solution.dtos.services.DailyAvailabilityDto;
+import com.iss.eventorium.solution.dtos.services.ServiceAvailabilityDto;
+import com.iss.eventorium.solution.dtos.services.TimeSlotDto;
+import com.iss.eventorium.solution.models.Service;
+import com.iss.eventorium.solution.services.ReservationIntervalIndex.ReservedInterval;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+public class ServiceAvailabilityService {
+
+    private final ServiceService serviceService;
+    private final CompanyService companyService;
+    private final ReservationIntervalIndex index;
+
+    private static final int MAX_RANGE_DAYS = 92;
+
+    /** NOTE: Mirrors the reservation validators (past event, reservation deadline, working hours, duration and conflicts),
+     so every returned slot can be reserved as long as nobody takes it in the meantime.
+     If eventId is given, only reservations of that event are treated as conflicts (same rule as ReservationConflictValidator),
+     otherwise every reservation of the service blocks its time slot.
+     In both cases only active reservations count, canceled and declined ones free their slot (see Reservation.isActive).*/
+    public ServiceAvailabilityDto getAvailability(Long serviceId, LocalDate from, LocalDate to, Long eventId) {
+        validateRange(from, to);
+
+        Service service = serviceService.find(serviceId);
+        Company company = companyService.getByProviderId(service.getProvider().getId());
+        NavigableMap<LocalDate, List<ReservedInterval>> reserved = index.getReservedIntervals(serviceId, from, to);
+
+        List<DailyAvailabilityDto> days = from.datesUntil(to.plusDays(1))
+                .map(date -> getDailyAvailability(service, company, date, reserved.getOrDefault(date, List.of()), eventId))
+                .toList();
+
+        return ServiceAvailabilityDto.builder()
+                .serviceId(service.getId())
+                .available(Boolean.TRUE.equals(service.getIsAvailable()))
+                .minDuration(service.getMinDuration())
+                .maxDuration(service.getMaxDuration())
+                .openingHours(company.getOpeningHours())
+                .closingHours(company.getClosingHours())
+                .days(days)
+                .build();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from))
+            throw new InvalidTimeRangeException(String.format("Invalid date range: end date (%s) must not be before start date (%s).", to, from));
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS)
+            throw new InvalidTimeRangeException(String.format("Availability can be requested for at most %d days at once.", MAX_RANGE_DAYS));
+    }
+
+    private DailyAvailabilityDto getDailyAvailability(Service service, Company company, LocalDate date, List<ReservedInterval> reserved, Long eventId) {
+        if (!Boolean.TRUE.equals(service.getIsAvailable()) || !isBeforeReservationDeadline(service, date))
+            return new DailyAvailabilityDto(date, false, List.of());
+
+        List<TimeSlotDto> slots = new ArrayList<>();
+        LocalTime cursor = company.getOpeningHours();
+
+        for (ReservedInterval interval : reserved) {
+            if (eventId != null && !eventId.equals(interval.getEventId())) continue;
+
+            addSlotIfLongEnough(slots, service, cursor, min(interval.getStartingTime(), company.getClosingHours()));
+            if (interval.getEndingTime().isAfter(cursor))
+                cursor = interval.getEndingTime();
+        }
+        addSlotIfLongEnough(slots, service, cursor, company.getClosingHours());
+
+        return new DailyAvailabilityDto(date, !slots.isEmpty(), slots);
+    }
+
+    private boolean isBeforeReservationDeadline(Service service, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        return !date.isBefore(today) && ChronoUnit.DAYS.between(today, date) >= service.getReservationDeadline();
+    }
+
+    private void addSlotIfLongEnough(List<TimeSlotDto> slots, Service service, LocalTime start, LocalTime end) {
+        if (Duration.between(start, end).toMinutes() >= service.getMinDuration() * 60L)
+            slots.add(new TimeSlotDto(start, end));
+    }
+
+    private LocalTime min(LocalTime first, LocalTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
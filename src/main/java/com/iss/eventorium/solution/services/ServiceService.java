@@ -47,6 +47,7 @@ public class ServiceService {
     private final EventTypeService eventTypeService;
     private final ReservationRepository reservationRepository;
     private final HistoryService historyService;
+    private final SolutionSuggestionIndex suggestionIndex;
     private final CategoryProposalService categoryProposalService;
     private final ImageService imageService;
 
@@ -105,6 +106,7 @@ public class ServiceService {
 
         repository.save(service);
         historyService.addMemento(service);
+        suggestionIndex.refresh(service);
         return mapper.toResponse(service);
     }
 
@@ -162,6 +164,7 @@ public class ServiceService {
 
         historyService.addMemento(service);
         repository.save(service);
+        suggestionIndex.refresh(service);
         return mapper.toResponse(service);
     }
 
@@ -174,6 +177,7 @@ public class ServiceService {
 
         service.setIsDeleted(true);
         repository.save(service);
+        suggestionIndex.refresh(service);
     }
 
     public void deleteImages(Long id, List<RemoveImageRequestDto> removedImages) {
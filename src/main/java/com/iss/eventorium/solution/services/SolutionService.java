@@ -3,54 +3,73 @@ package com.iss.eventorium.solution.services;
 import com.iss.eventorium.category.models.Category;
 import com.iss.eventorium.interaction.models.Rating;
 import com.iss.eventorium.shared.models.Status;
+import com.iss.eventorium.solution.models.Product;
+import com.iss.eventorium.solution.models.Service;
 import com.iss.eventorium.solution.models.Solution;
-import com.iss.eventorium.solution.repositories.SolutionRepository;
+import com.iss.eventorium.solution.models.SolutionSuggestion;
+import com.iss.eventorium.solution.repositories.ProductRepository;
+import com.iss.eventorium.solution.repositories.ServiceRepository;
 import com.iss.eventorium.solution.specifications.SolutionSpecification;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.AuthService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
 
-@Service
+@org.springframework.stereotype.Service
 @RequiredArgsConstructor
 public class SolutionService {
 
-    private final SolutionRepository repository;
+    private final ProductRepository productRepository;
+    private final ServiceRepository serviceRepository;
     private final AuthService authService;
+    private final SolutionSuggestionIndex suggestionIndex;
 
-    public List<Solution> findSuggestions(Category category, double maxPrice, LocalDate eventDate) {
-        User user = authService.getCurrentUser();
-        Specification<Solution> specification = SolutionSpecification.filterSuggestions(user, category, maxPrice, eventDate);
-        return repository.findAll(specification);
+    public List<SolutionSuggestion> findSuggestions(Category category, double maxPrice, LocalDate eventDate) {
+        return suggestionIndex.findSuggestions(authService.getCurrentUser(), category.getId(), maxPrice, eventDate);
     }
 
+    /** NOTE: Products and services share one id sequence, so looking the id up in each table finds the same solution
+     a polymorphic query would, with a primary key lookup per table instead of a UNION ALL over both of them.*/
     public Solution find(Long id) {
-        Specification<Solution> specification = SolutionSpecification.filterById(id, authService.getCurrentUser(), false);
-        return repository.findOne(specification).orElseThrow(() -> new EntityNotFoundException("Solution not found"));
+        User user = authService.getCurrentUser();
+        return productRepository.findOne(SolutionSpecification.<Product>filterById(id, user, false))
+                .map(Solution.class::cast)
+                .or(() -> serviceRepository.findOne(SolutionSpecification.<Service>filterById(id, user, false)))
+                .orElseThrow(() -> new EntityNotFoundException("Solution not found"));
     }
 
     public void addRating(Solution solution, Rating rating) {
         solution.getRatings().add(rating);
-        repository.save(solution);
+        save(solution);
+        suggestionIndex.addRating(solution, rating);
     }
 
     public boolean existsCategory(Long categoryId) {
-        return repository.count(SolutionSpecification.hasCategory(categoryId)) > 0;
+        return productRepository.exists(SolutionSpecification.hasCategory(categoryId))
+                || serviceRepository.exists(SolutionSpecification.hasCategory(categoryId));
     }
 
     public Solution findSolutionByCategory(Category category) {
-        return repository.findOne(SolutionSpecification.hasCategory(category.getId()))
+        return productRepository.findOne(SolutionSpecification.<Product>hasCategory(category.getId()))
+                .map(Solution.class::cast)
+                .or(() -> serviceRepository.findOne(SolutionSpecification.<Service>hasCategory(category.getId())))
                 .orElseThrow(() -> new EntityNotFoundException("Solution with category '" + category.getName() + "' not found"));
     }
 
     public void saveStatus(Solution solution, Status status) {
         solution.setStatus(status);
-        repository.save(solution);
+        save(solution);
+        suggestionIndex.refresh(solution);
+    }
+
+    private void save(Solution solution) {
+        if (solution instanceof Product product)
+            productRepository.save(product);
+        else
+            serviceRepository.save((Service) solution);
     }
 
     public void setCategory(Solution solution, Category category) {
@@ -0,0 +1,108 @@
+package com.iss.eventorium.solution.services;
+
+import com.iss.eventorium.interaction.models.Rating;
+import com.iss.eventorium.shared.utils.SchedulerLock;
+import com.iss.eventorium.solution.models.Service;
+import com.iss.eventorium.solution.models.Solution;
+import com.iss.eventorium.solution.models.SolutionSuggestion;
+import com.iss.eventorium.solution.models.SolutionType;
+import com.iss.eventorium.solution.repositories.SolutionSuggestionRepository;
+import com.iss.eventorium.solution.specifications.SolutionSuggestionSpecification;
+import com.iss.eventorium.user.models.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Materialized budget suggestion candidates, see {@link SolutionSuggestion}.
+ * <p>
+ * The solution services refresh the row of a solution whenever they save it and ratings are added with an atomic
+ * increment of the stored aggregates. The whole index is rebuilt from the solution tables on startup and nightly,
+ * which also picks up changes made outside the services (seed data, manual fixes).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SolutionSuggestionIndex {
+
+    private static final Sort RANKING = Sort.by(
+            Sort.Order.desc("averageRating"),
+            Sort.Order.desc("ratingCount"),
+            Sort.Order.asc("netPrice")
+    );
+
+    private final SolutionSuggestionRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    public List<SolutionSuggestion> findSuggestions(User user, Long categoryId, double maxPrice, LocalDate eventDate) {
+        return repository.findAll(SolutionSuggestionSpecification.filterSuggestions(user, categoryId, maxPrice, eventDate), RANKING);
+    }
+
+    public void refresh(Solution solution) {
+        if (isSuggestible(solution))
+            repository.save(toSuggestion(solution));
+        else if (solution.getId() != null && repository.existsById(solution.getId()))
+            repository.deleteById(solution.getId());
+    }
+
+    public void addRating(Solution solution, Rating rating) {
+        repository.addRating(solution.getId(), rating.getRating());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Failed to build the solution suggestion index", e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * ?") // runs every day at 03:30
+    @SchedulerLock(name = "rebuild-solution-suggestions")
+    public void rebuild() {
+        Integer indexed = transactionTemplate.execute(status -> {
+            repository.deleteAllInBatch();
+            return repository.insertAll();
+        });
+        log.info("Indexed {} solutions as budget suggestions", indexed);
+    }
+
+    private boolean isSuggestible(Solution solution) {
+        return solution.getId() != null
+                && Boolean.TRUE.equals(solution.getIsAvailable())
+                && Boolean.TRUE.equals(solution.getIsVisible())
+                && !Boolean.TRUE.equals(solution.getIsDeleted())
+                && solution.getCategory() != null && solution.getCategory().getId() != null
+                && solution.getProvider() != null;
+    }
+
+    private SolutionSuggestion toSuggestion(Solution solution) {
+        List<Rating> ratings = solution.getRatings() != null ? solution.getRatings() : List.of();
+        long ratingSum = ratings.stream().mapToLong(Rating::getRating).sum();
+        boolean isService = solution instanceof Service;
+
+        return SolutionSuggestion.builder()
+                .solutionId(solution.getId())
+                .solutionType(isService ? SolutionType.SERVICE : SolutionType.PRODUCT)
+                .categoryId(solution.getCategory().getId())
+                .providerId(solution.getProvider().getId())
+                .name(solution.getName())
+                .price(solution.getPrice())
+                .discount(solution.getDiscount())
+                .netPrice(solution.calculateNetPrice())
+                .reservationDeadline(isService ? ((Service) solution).getReservationDeadline() : 0)
+                .ratingCount(ratings.size())
+                .ratingSum(ratingSum)
+                .averageRating(ratings.isEmpty() ? 0 : (double) ratingSum / ratings.size())
+                .build();
+    }
+}
@@ -25,21 +25,38 @@ public class ServiceReservationSpecification {
                 .and(hasStartTime(reservation.getEndingTime()))
                 .and(hasEndTime(reservation.getStartingTime()))
                 .and(hasDate(reservation.getEvent().getDate()))
-                .and(statusIsNot(Status.DECLINED));
+                .and(isActive());
     }
 
-    public static Specification<Reservation> checkForReservationsInOneHour() {
+    public static Specification<Reservation> checkForDueReminders(LocalDateTime from, LocalDateTime to) {
         return Specification
                 .where(hasStatus(Status.ACCEPTED))
-                .and(hasEventDateToday())
-                .and(hasStartTimeInNextHour());
+                .and(isActive())
+                .and(reminderNotSent())
+                .and(startsBetween(from, to));
     }
 
-    private static Specification<Reservation> hasStartTimeInNextHour() {
+    private static Specification<Reservation> reminderNotSent() {
+        return (root, query, cb) -> cb.isNull(root.get("reminderSentAt"));
+    }
+
+    // NOTE: Starting time is stored without a date, so a window crossing midnight is split into two (date, time) ranges.
+    private static Specification<Reservation> startsBetween(LocalDateTime from, LocalDateTime to) {
         return (root, query, cb) -> {
-            LocalTime nextHour = LocalDateTime.now().plusHours(1).toLocalTime().withSecond(0).withNano(0);
-            Expression<LocalTime> startingTime = root.get("startingTime").as(LocalTime.class);
-            return cb.equal(startingTime, nextHour);
+            Expression<LocalDate> date = root.get("event").get("date");
+            Expression<LocalTime> startingTime = root.get("startingTime");
+
+            if (from.toLocalDate().equals(to.toLocalDate()))
+                return cb.and(
+                        cb.equal(date, from.toLocalDate()),
+                        cb.greaterThan(startingTime, from.toLocalTime()),
+                        cb.lessThanOrEqualTo(startingTime, to.toLocalTime())
+                );
+
+            return cb.or(
+                    cb.and(cb.equal(date, from.toLocalDate()), cb.greaterThan(startingTime, from.toLocalTime())),
+                    cb.and(cb.equal(date, to.toLocalDate()), cb.lessThanOrEqualTo(startingTime, to.toLocalTime()))
+            );
         };
     }
 
@@ -50,10 +67,6 @@ public class ServiceReservationSpecification {
                 .and(hasEventDateInFuture());
     }
 
-    public static Specification<Reservation> getProviderReservations(User provider) {
-        return Specification.where(hasProviderId(provider.getId())).and(hasStatus(Status.ACCEPTED));
-    }
-
     public static Specification<Reservation> getPendingReservations(User provider) {
         return Specification.where(hasProviderId(provider.getId()))
                 .and(hasStatus(Status.PENDING)
@@ -64,6 +77,24 @@ public class ServiceReservationSpecification {
         return Specification.where(hasEventId(event.getId()));
     }
 
+    public static Specification<Reservation> getUpcomingServiceReservations(Long serviceId) {
+        return Specification.where(hasServiceId(serviceId))
+                .and(isActive())
+                .and(hasEventDateFromToday());
+    }
+
+    // NOTE: Same rule as Reservation.isActive, only active reservations occupy their time slot.
+    private static Specification<Reservation> isActive() {
+        return (root, query, cb) -> cb.and(
+                cb.isFalse(root.get("isCanceled")),
+                cb.notEqual(root.get("status"), Status.DECLINED)
+        );
+    }
+
+    private static Specification<Reservation> hasEventDateFromToday() {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("event").get("date"), LocalDate.now());
+    }
+
     private static Specification<Reservation> hasEventDateInFuture() {
         return (root, query, cb) -> cb.greaterThan(root.get("event").get("date"), LocalDate.now());
     }
@@ -75,14 +106,6 @@ public class ServiceReservationSpecification {
         };
     }
 
-    private static Specification<Reservation> statusIsNot(Status status) {
-        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
-    }
-
-    private static Specification<Reservation> hasEventDateToday() {
-        return (root, query, cb) -> cb.equal(root.get("event").get("date"), LocalDate.now());
-    }
-
     private static Specification<Reservation> hasStatus(Status status) {
         return (root, query, cb) -> cb.equal(root.get("status"), status);
     }
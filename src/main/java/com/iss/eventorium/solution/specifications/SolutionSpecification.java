@@ -1,32 +1,18 @@
 package com.iss.eventorium.solution.specifications;
 
-import com.iss.eventorium.category.models.Category;
 import com.iss.eventorium.interaction.models.Rating;
-import com.iss.eventorium.solution.models.Service;
 import com.iss.eventorium.solution.models.Solution;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.models.UserBlock;
 import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-
 public class SolutionSpecification {
 
     private SolutionSpecification() {}
 
-    public static Specification<Solution> filterSuggestions(User user, Category category, double maxPrice,LocalDate eventDate) {
-        return Specification.where(hasCategory(category.getName()))
-                .and(hasAvailability(true))
-                .and(isVisible())
-                .and(hasMaxPrice(maxPrice))
-                .and(serviceBeforeReservationDeadline(eventDate))
-                .and(filterOutBlockedContent(user));
-    }
-
-    public static Specification<Solution> filterById(Long id, User user, boolean includeDeleted) {
-        Specification<Solution> spec = Specification.where(hasId(id))
+    public static<T extends Solution> Specification<T> filterById(Long id, User user, boolean includeDeleted) {
+        Specification<T> spec = Specification.<T>where(hasId(id))
                 .and(filterOutBlockedContent(user))
                 .and(applyUserRoleFilter(user));
 
@@ -37,10 +23,6 @@ public class SolutionSpecification {
         return spec;
     }
 
-    private static Specification<Solution> isVisible() {
-        return (root, query, cb) -> cb.isTrue(root.get("isVisible"));
-    }
-
     public static<T extends Solution> Specification<T> hasCategory(Long categoryId) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get("category").get("id"), categoryId);
@@ -83,10 +65,7 @@ public class SolutionSpecification {
                 return cb.conjunction();
 
             double delta = 0.001;
-            Expression<Double> discountedPrice = calculateDiscountedPrice(root, cb);
-            Expression<Double> maxPriceWithDelta = cb.sum(cb.literal(maxPrice), cb.literal(delta));
-
-            return cb.lessThanOrEqualTo(discountedPrice, maxPriceWithDelta);
+            return cb.lessThanOrEqualTo(root.get("netPrice"), maxPrice + delta);
         };
     }
 
@@ -101,17 +80,10 @@ public class SolutionSpecification {
         return (root, query, cb) -> {
             if (minPrice == null) return cb.conjunction();
 
-            Expression<Double> discountedPrice = SolutionSpecification.calculateDiscountedPrice(root, cb);
-
-            return cb.greaterThanOrEqualTo(discountedPrice, minPrice);
+            return cb.greaterThanOrEqualTo(root.get("netPrice"), minPrice);
         };
     }
 
-    public static Expression<Double> calculateDiscountedPrice(Root<? extends Solution> root, CriteriaBuilder cb) {
-        Expression<Double> discount = cb.prod(cb.diff(cb.literal(100.0), root.get("discount")), cb.literal(0.01));
-        return cb.prod(root.get("price"), discount);
-    }
-
     public static<T extends Solution> Specification<T> hasId(Long id){
         return (root, query, cb) -> cb.equal(root.get("id"), id);
     }
@@ -168,26 +140,4 @@ public class SolutionSpecification {
         };
     }
 
-    private static Specification<Solution> serviceBeforeReservationDeadline(LocalDate eventDate) {
-        return (root, query, cb) -> {
-            if (eventDate == null) return cb.conjunction();
-
-            LocalDate today = LocalDate.now();
-            int daysUntilEvent = (int) ChronoUnit.DAYS.between(today, eventDate);
-
-            if (daysUntilEvent < 0) {
-                return cb.disjunction();
-            }
-
-            Predicate isNotService = cb.notEqual(root.type(), Service.class);
-
-            Root<Service> serviceRoot = cb.treat(root, Service.class);
-            Path<Integer> reservationDeadline = serviceRoot.get("reservationDeadline");
-
-            Predicate isWithinDeadline = cb.lessThanOrEqualTo(reservationDeadline, daysUntilEvent);
-
-            return cb.or(isNotService, isWithinDeadline);
-        };
-    }
-
 }
@@ -0,0 +1,57 @@
+package com.iss.eventorium.solution.specifications;
+
+import com.iss.eventorium.solution.models.SolutionSuggestion;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.models.UserBlock;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public class SolutionSuggestionSpecification {
+
+    private SolutionSuggestionSpecification() {}
+
+    public static Specification<SolutionSuggestion> filterSuggestions(User user, Long categoryId, double maxPrice, LocalDate eventDate) {
+        return Specification.where(hasCategory(categoryId))
+                .and(hasMaxNetPrice(maxPrice))
+                .and(beforeReservationDeadline(eventDate))
+                .and(filterOutBlockedContent(user));
+    }
+
+    private static Specification<SolutionSuggestion> hasCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("categoryId"), categoryId);
+    }
+
+    private static Specification<SolutionSuggestion> hasMaxNetPrice(double maxPrice) {
+        double delta = 0.001;
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("netPrice"), maxPrice + delta);
+    }
+
+    private static Specification<SolutionSuggestion> beforeReservationDeadline(LocalDate eventDate) {
+        return (root, query, cb) -> {
+            if (eventDate == null) return cb.conjunction();
+
+            long daysUntilEvent = ChronoUnit.DAYS.between(LocalDate.now(), eventDate);
+            if (daysUntilEvent < 0) return cb.disjunction();
+
+            return cb.lessThanOrEqualTo(root.get("reservationDeadline"), (int) daysUntilEvent);
+        };
+    }
+
+    private static Specification<SolutionSuggestion> filterOutBlockedContent(User blocker) {
+        return (root, query, cb) -> {
+            if (blocker == null) return cb.conjunction();
+
+            assert query != null;
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<UserBlock> userBlockRoot = subquery.from(UserBlock.class);
+            subquery.select(userBlockRoot.get("blocked").get("id"))
+                    .where(cb.equal(userBlockRoot.get("blocker").get("id"), blocker.getId()));
+
+            return cb.not(root.get("providerId").in(subquery));
+        };
+    }
+}
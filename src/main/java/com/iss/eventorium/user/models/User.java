@@ -34,6 +34,10 @@ public class User implements UserDetails {
     @Column(name = "notificationsSilenced")
     private Boolean notificationsSilenced = false;
 
+    // NOTE: Maintained only by bulk updates in UserRepository, so saving a stale user never overwrites it.
+    @Column(name = "unread_notifications", insertable = false, updatable = false, columnDefinition = "integer default 0 not null")
+    private Integer unreadNotifications;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "user_role",
             joinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"),
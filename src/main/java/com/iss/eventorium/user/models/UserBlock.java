@@ -9,7 +9,7 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "user_blocks")
+@Table(name = "user_blocks", uniqueConstraints = @UniqueConstraint(name = "uk_user_blocks_blocker_blocked", columnNames = { "blocker_id", "blocked_id" }))
 public class UserBlock {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
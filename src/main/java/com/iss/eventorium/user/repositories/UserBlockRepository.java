@@ -2,6 +2,21 @@ package com.iss.eventorium.user.repositories;
 
 import com.iss.eventorium.user.models.UserBlock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Set;
 
 public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
-}
\ No newline at end of file
+
+    @Query("SELECT b.blocked.id FROM UserBlock b WHERE b.blocker.id = :blockerId")
+    Set<Long> findBlockedIds(Long blockerId);
+
+    boolean existsByBlockerIdAndBlockedId(Long blockerId, Long blockedId);
+
+    /** NOTE: Inserts nothing when the block already exists, returns the number of inserted rows.*/
+    @Modifying
+    @Query(value = "INSERT INTO user_blocks (blocker_id, blocked_id) SELECT u.id, :blockedId FROM users u WHERE u.id = :blockerId " +
+            "AND NOT EXISTS (SELECT 1 FROM user_blocks b WHERE b.blocker_id = :blockerId AND b.blocked_id = :blockedId)", nativeQuery = true)
+    int insertIfAbsent(Long blockerId, Long blockedId);
+}
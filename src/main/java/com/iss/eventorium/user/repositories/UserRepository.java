@@ -3,12 +3,55 @@ package com.iss.eventorium.user.repositories;
 import com.iss.eventorium.user.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
+    String UNREAD_NOTIFICATIONS = "((SELECT COUNT(*) FROM notifications n WHERE n.recipient_id = users.id AND n.seen = false) + " +
+            "CASE WHEN EXISTS (SELECT 1 FROM user_role ur JOIN roles r ON r.id = ur.role_id WHERE ur.user_id = users.id AND r.name = :adminRole) " +
+            "THEN (SELECT COUNT(*) FROM notifications n WHERE n.recipient_id IS NULL AND n.seen = false) ELSE 0 END)";
+
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     Optional<User> findByHash(String hash);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET unread_notifications = unread_notifications + 1 WHERE id = :id", nativeQuery = true)
+    void incrementUnreadNotifications(Long id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET unread_notifications = unread_notifications + :count WHERE id IN (:ids)", nativeQuery = true)
+    void incrementUnreadNotifications(Collection<Long> ids, int count);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET unread_notifications = unread_notifications + 1 WHERE id IN " +
+            "(SELECT ur.user_id FROM user_role ur JOIN roles r ON r.id = ur.role_id WHERE r.name = :role)", nativeQuery = true)
+    void incrementUnreadNotificationsForRole(String role);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET unread_notifications = GREATEST(unread_notifications - :seen, 0) WHERE id = :id", nativeQuery = true)
+    void decrementUnreadNotifications(Long id, int seen);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET unread_notifications = GREATEST(unread_notifications - :seen, 0) WHERE id IN " +
+            "(SELECT ur.user_id FROM user_role ur JOIN roles r ON r.id = ur.role_id WHERE r.name = :role)", nativeQuery = true)
+    void decrementUnreadNotificationsForRole(String role, int seen);
+
+    /** NOTE: Sets every counter that differs to the number of unseen notifications of the user,
+     plus the shared unseen admin notifications for users with the given admin role. Returns the number of fixed counters.*/
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET unread_notifications = " + UNREAD_NOTIFICATIONS +
+            " WHERE unread_notifications <> " + UNREAD_NOTIFICATIONS, nativeQuery = true)
+    int initializeUnreadNotifications(String adminRole);
 }
@@ -0,0 +1,35 @@
+package com.iss.eventorium.user.services;
+
+import com.iss.eventorium.event.repositories.EventFavouriteRepository;
+import com.iss.eventorium.event.services.AttendanceService;
+import com.iss.eventorium.solution.repositories.ProductFavouriteRepository;
+import com.iss.eventorium.solution.repositories.ServiceFavouriteRepository;
+import com.iss.eventorium.user.models.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Removes what a user kept of another user's content (favourite events, products and services, event attendances)
+ * once one of them blocks the other. Every kind is removed with a single DELETE over the rows of the user that point
+ * to the other user's content, so the cost does not depend on how many favourites the user has, and running it again
+ * removes nothing.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlockedContentService {
+
+    private final EventFavouriteRepository eventFavouriteRepository;
+    private final ProductFavouriteRepository productFavouriteRepository;
+    private final ServiceFavouriteRepository serviceFavouriteRepository;
+    private final AttendanceService attendanceService;
+
+    /** NOTE: Roles are not checked, a user who is not an organizer or provider simply owns no matching rows.*/
+    @Transactional
+    public int removeContentOf(User owner, User user) {
+        return eventFavouriteRepository.deleteByUserAndOrganizer(user.getId(), owner.getId())
+                + attendanceService.removeAttendances(user, owner)
+                + productFavouriteRepository.deleteByUserAndProvider(user.getId(), owner.getId())
+                + serviceFavouriteRepository.deleteByUserAndProvider(user.getId(), owner.getId());
+    }
+}
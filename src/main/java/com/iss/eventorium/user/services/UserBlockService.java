@@ -1,11 +1,16 @@
 package com.iss.eventorium.user.services;
 
+import com.iss.eventorium.shared.utils.RetryOnConflict;
 import com.iss.eventorium.user.exceptions.SelfBlockNotAllowedException;
 import com.iss.eventorium.user.models.User;
-import com.iss.eventorium.user.models.UserBlock;
 import com.iss.eventorium.user.repositories.UserBlockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -13,8 +18,13 @@ public class UserBlockService {
 
     private final UserBlockRepository repository;
     private final UserService userService;
+    private final BlockedContentService blockedContentService;
     private final AuthService authService;
 
+    /** NOTE: Blocking is idempotent, blocking the same user again changes nothing. The blocks and the removal of
+     each user's favourites and attendances of the other one's content commit together.*/
+    @RetryOnConflict
+    @Transactional
     public void blockUser(Long id) {
         User blocker = authService.getCurrentUser();
         User blocked = userService.find(id);
@@ -25,19 +35,26 @@ public class UserBlockService {
         saveUserBlock(blocker, blocked);
         saveUserBlock(blocked, blocker);
 
-        cleanUserOfBlockedContent(blocker, blocked);
-        cleanUserOfBlockedContent(blocked, blocker);
+        blockedContentService.removeContentOf(blocked, blocker);
+        blockedContentService.removeContentOf(blocker, blocked);
+    }
+
+    public Set<Long> getBlockedIds(User blocker) {
+        return blocker == null ? Set.of() : repository.findBlockedIds(blocker.getId());
     }
 
-    private void cleanUserOfBlockedContent(User blocker, User blocked) {
-        if (blocked.getRoles().stream().anyMatch(role -> "EVENT_ORGANIZER".equals(role.getName())))
-            userService.cleanUserOfBlockedOrganizerContent(blocker, blocked);
-        else if (blocked.getRoles().stream().anyMatch(role -> "PROVIDER".equals(role.getName())))
-            userService.cleanUserOfBlockedProviderContent(blocker, blocked);
+    // NOTE: Blocks are stored in both directions, so one lookup covers either user having blocked the other.
+    public boolean isBlocked(Long userId, Long otherId) {
+        return repository.existsByBlockerIdAndBlockedId(userId, otherId);
     }
 
+    /** NOTE: Two requests blocking the same pair race on the unique constraint.
+     The loser is reported as a concurrency conflict, so it is retried and then finds the blocks created by the winner.*/
     private void saveUserBlock(User blocker, User blocked) {
-        UserBlock block = new UserBlock(blocker, blocked);
-        repository.save(block);
+        try {
+            repository.insertIfAbsent(blocker.getId(), blocked.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockingFailureException("User block was created concurrently", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -32,6 +32,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -56,6 +57,10 @@ public class UserService {
         return repository.findById(id).orElseThrow(() -> new EntityNotFoundException("User not found."));
     }
 
+    public List<User> findAll(Collection<Long> ids) {
+        return repository.findAllById(ids);
+    }
+
     public boolean existsByEmail(String email) {
         return repository.existsByEmail(email);
     }
@@ -206,13 +211,8 @@ public class UserService {
 
     public void update(UpdateRequestDto request) {
         User user = authService.getCurrentUser();
-        Person person = user.getPerson();
         Person updated = personMapper.fromRequest(request);
         updated.setProfilePhoto(user.getPerson().getProfilePhoto());
-        updated.setAttendingEvents(person.getAttendingEvents());
-        updated.setFavouriteServices(person.getFavouriteServices());
-        updated.setFavouriteProducts(person.getFavouriteProducts());
-        updated.setFavouriteEvents(person.getFavouriteEvents());
         user.setPerson(updated);
         repository.save(user);
     }
@@ -238,27 +238,10 @@ public class UserService {
         repository.save(user);
     }
 
-    public void cleanUserOfBlockedOrganizerContent(User user, User organizer) {
-        user.getPerson().getFavouriteEvents().removeIf(event -> event.getOrganizer().equals(organizer));
-        user.getPerson().getAttendingEvents().removeIf(event -> event.getOrganizer().equals(organizer));
-        repository.save(user);
-    }
-
-    public void cleanUserOfBlockedProviderContent(User user, User provider) {
-        user.getPerson().getFavouriteProducts().removeIf(product -> product.getProvider().equals(provider));
-        user.getPerson().getFavouriteServices().removeIf(service -> service.getProvider().equals(provider));
-        repository.save(user);
-    }
-
     public void deactivateAccount() {
         User user = authService.getCurrentUser();
         validator.validate(user);
         user.setDeactivated(true);
         repository.save(user);
     }
-
-    public List<User> findByEventAttendance(Long eventId) {
-        Specification<User> specification = UserSpecification.filterByEventAttendance(eventId);
-        return repository.findAll(specification);
-    }
 }
@@ -1,7 +1,5 @@
 package com.iss.eventorium.user.specifications;
 
-import com.iss.eventorium.event.models.Event;
-import com.iss.eventorium.user.models.Person;
 import com.iss.eventorium.user.models.Role;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.models.UserBlock;
@@ -15,14 +13,6 @@ public class UserSpecification {
 
     private UserSpecification() {}
 
-    public static Specification<User> filterByEventAttendance(Long eventId) {
-        return (root, query, criteriaBuilder) -> {
-            Join<User, Person> personJoin = root.join("person");
-            Join<Person, Event> eventJoin = personJoin.join("attendingEvents");
-            return criteriaBuilder.equal(eventJoin.get("id"), eventId);
-        };
-    }
-
     public static Specification<User> filterByRole(String roleName) {
         return Specification.where(hasRoleName(roleName));
     }
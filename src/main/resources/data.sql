@@ -124,7 +124,7 @@ INSERT INTO services (id, name, description, specialties, price, discount, statu
 (nextval('solution_sequence'), 'Live DJ Performance', 'Energetic DJ services for weddings and parties', 'Music, DJ', 300.00, 25.00, 'ACCEPTED', TRUE, FALSE, TRUE, 'MANUAL', 7, 2, 2, 5, 5, 4),
 (nextval('solution_sequence'), 'Live Band Performance', 'Energetic live music band available for weddings, parties, and corporate events', 'Music, Live Performance, Entertainment', 800.00, 10.00, 'ACCEPTED', TRUE, FALSE, TRUE, 'AUTOMATIC', 10, 5, 2, 4, 5, 4);
 
-INSERT INTO budgets VALUES (167.0, 159.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0, 0),
+INSERT INTO budgets (planned_amount, spent_amount) VALUES (167.0, 159.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0, 0),
                            (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0, 0),
                            (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0, 0),
                            (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0.0, 0.0), (0, 0), (0,0);
@@ -380,12 +380,14 @@ INSERT INTO mementos (solution_id, name, price, discount, valid_from, valid_to)
 (19, 'Live DJ Performance', 300.00, 25.00, CURRENT_DATE, NULL),
 (20, 'Live Band Performance', 800.00, 10.00, CURRENT_DATE, NULL);
 
-INSERT INTO users_attending_events (user_id, attending_events_id) VALUES
-                                                                      (1, 25), (1, 26), (1, 27), (1, 28),
-                                                                      (2, 25), (2, 26), (2, 28), (2, 29),
-                                                                      (3, 26), (3, 27), (3, 29),
-                                                                      (4, 25), (4, 26), (4, 27), (4, 28),
-                                                                      (5, 27), (5, 28), (5, 29);
+INSERT INTO event_attendances (user_id, event_id, created_at) VALUES
+    (1, 25, CURRENT_TIMESTAMP), (1, 26, CURRENT_TIMESTAMP), (1, 27, CURRENT_TIMESTAMP), (1, 28, CURRENT_TIMESTAMP),
+    (2, 25, CURRENT_TIMESTAMP), (2, 26, CURRENT_TIMESTAMP), (2, 28, CURRENT_TIMESTAMP), (2, 29, CURRENT_TIMESTAMP),
+    (3, 26, CURRENT_TIMESTAMP), (3, 27, CURRENT_TIMESTAMP), (3, 29, CURRENT_TIMESTAMP),
+    (4, 25, CURRENT_TIMESTAMP), (4, 26, CURRENT_TIMESTAMP), (4, 27, CURRENT_TIMESTAMP), (4, 28, CURRENT_TIMESTAMP),
+    (5, 27, CURRENT_TIMESTAMP), (5, 28, CURRENT_TIMESTAMP), (5, 29, CURRENT_TIMESTAMP);
+
+UPDATE events SET attendee_count = (SELECT COUNT(*) FROM event_attendances a WHERE a.event_id = events.id);
 
 INSERT INTO ratings (rating, rater_id, creation_date, event_id) VALUES
                                                                     (5, 1, CURRENT_TIMESTAMP, 25),
@@ -410,3 +412,6 @@ INSERT INTO ratings (rating, rater_id, creation_date, event_id) VALUES
                                                                     (4, 5, CURRENT_TIMESTAMP, 27),
                                                                     (5, 5, CURRENT_TIMESTAMP, 28),
                                                                     (3, 5, CURRENT_TIMESTAMP, 29);
+
+UPDATE products SET net_price = price * (1 - discount / 100);
+UPDATE services SET net_price = price * (1 - discount / 100);
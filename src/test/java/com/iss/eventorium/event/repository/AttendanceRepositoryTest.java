@@ -0,0 +1,118 @@
+package com.iss.eventorium.event.repository;
+
+import com.iss.eventorium.event.dtos.event.CalendarEventDto;
+import com.iss.eventorium.event.repositories.AttendanceRepository;
+import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.user.models.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/event-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class AttendanceRepositoryTest {
+
+    @Autowired
+    private AttendanceRepository repository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should insert attendance only once for the same user and event")
+    void givenExistingAttendance_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(1, repository.insertIfAbsent(2L, 1L));
+        assertEquals(0, repository.insertIfAbsent(2L, 1L));
+
+        assertTrue(repository.existsByUserIdAndEventId(2L, 1L));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should not reserve a place when the event has reached its maximum number of participants")
+    void givenFullEvent_whenReserveAttendance_thenNothingIsReserved() {
+        entityManager.getEntityManager().createNativeQuery("UPDATE events SET max_participants = 1 WHERE id = 3").executeUpdate();
+
+        assertEquals(1, eventRepository.reserveAttendance(3L));
+        assertEquals(0, eventRepository.reserveAttendance(3L));
+        assertEquals(1, attendeeCount(3L));
+    }
+
+    @Test
+    @DisplayName("Should return only attended events dated within the [from, to) window, ordered by date")
+    void givenAttendedEvents_whenFindCalendarEvents_thenReturnEventsWithinWindow() {
+        for (long eventId = 1; eventId <= 4; eventId++)
+            repository.insertIfAbsent(3L, eventId);
+        LocalDate today = LocalDate.now();
+
+        List<CalendarEventDto> events = repository.findCalendarEvents(3L, today.plusDays(3), today.plusDays(5));
+
+        assertEquals(List.of(1L, 4L, 2L), events.stream().map(CalendarEventDto::getId).toList());
+        assertEquals(today.plusDays(4), events.get(2).getDate());
+    }
+
+    @Test
+    @DisplayName("Should return the organizer's events dated within the [from, to) window")
+    void givenOrganizer_whenFindCalendarEvents_thenReturnOwnEventsWithinWindow() {
+        LocalDate today = LocalDate.now();
+
+        List<CalendarEventDto> events = eventRepository.findCalendarEvents(1L, today.plusDays(4), today.plusDays(6));
+
+        assertEquals(List.of(2L, 3L), events.stream().map(CalendarEventDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should return attendees of an event page by page in the order they marked attendance")
+    void givenAttendees_whenFindAttendeesPaged_thenReturnPageInAttendanceOrder() {
+        repository.insertIfAbsent(3L, 1L);
+        repository.insertIfAbsent(1L, 1L);
+        repository.insertIfAbsent(2L, 1L);
+        repository.insertIfAbsent(2L, 2L);
+
+        Page<User> page = repository.findAttendees(1L, PageRequest.of(0, 2));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(3L, 1L), page.getContent().stream().map(User::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should remove attendances and release places only for events of the given organizer")
+    void givenAttendancesOfManyOrganizers_whenRemovingAttendancesOfOrganizer_thenOtherAttendancesStay() {
+        for (long eventId : new long[] { 1L, 4L }) {
+            eventRepository.reserveAttendance(eventId);
+            repository.insertIfAbsent(3L, eventId);
+        }
+
+        assertEquals(1, eventRepository.releaseAttendances(3L, 1L));
+        assertEquals(1, repository.deleteByUserAndOrganizer(3L, 1L));
+
+        assertFalse(repository.existsByUserIdAndEventId(3L, 1L));
+        assertTrue(repository.existsByUserIdAndEventId(3L, 4L));
+        assertEquals(0, attendeeCount(1L));
+        assertEquals(1, attendeeCount(4L));
+    }
+
+    private int attendeeCount(Long eventId) {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT attendee_count FROM events WHERE id = :id")
+                .setParameter("id", eventId)
+                .getSingleResult()).intValue();
+    }
+}
@@ -0,0 +1,77 @@
+package com.iss.eventorium.event.repository;
+
+import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.repositories.EventFavouriteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/event-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class EventFavouriteRepositoryTest {
+
+    @Autowired
+    private EventFavouriteRepository repository;
+
+    @Test
+    @DisplayName("Should add a favourite only once for the same user and event")
+    void givenExistingFavourite_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(1, repository.insertIfAbsent(2L, 1L));
+        assertEquals(0, repository.insertIfAbsent(2L, 1L));
+
+        assertTrue(repository.existsByUserIdAndEventId(2L, 1L));
+        assertFalse(repository.existsByUserIdAndEventId(3L, 1L));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should not add a favourite of an event that does not exist")
+    void givenUnknownEvent_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(0, repository.insertIfAbsent(2L, 99L));
+    }
+
+    @Test
+    @DisplayName("Should return only the favourite ids among the requested ids")
+    void givenFavourites_whenFindFavouriteIds_thenReturnRequestedFavourites() {
+        repository.insertIfAbsent(2L, 1L);
+        repository.insertIfAbsent(2L, 3L);
+        repository.insertIfAbsent(2L, 4L);
+        repository.insertIfAbsent(3L, 2L);
+
+        List<Long> favourites = repository.findFavouriteIds(2L, List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 3L), favourites.stream().sorted().toList());
+        assertEquals(List.of(1L, 3L, 4L), repository.findEventsByUserId(2L).stream().map(Event::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should remove a single favourite")
+    void givenFavourite_whenRemove_thenFavouriteIsDeleted() {
+        repository.insertIfAbsent(2L, 1L);
+
+        assertEquals(1, repository.remove(2L, 1L));
+        assertEquals(0, repository.remove(2L, 1L));
+        assertFalse(repository.existsByUserIdAndEventId(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should delete only favourite events of the given organizer")
+    void givenFavouritesOfManyOrganizers_whenDeleteByUserAndOrganizer_thenOtherFavouritesStay() {
+        repository.insertIfAbsent(3L, 1L);
+        repository.insertIfAbsent(3L, 2L);
+        repository.insertIfAbsent(3L, 4L);
+
+        assertEquals(2, repository.deleteByUserAndOrganizer(3L, 1L));
+        assertEquals(List.of(4L), repository.findEventsByUserId(3L).stream().map(Event::getId).toList());
+    }
+}
@@ -0,0 +1,79 @@
+package com.iss.eventorium.event.service;
+
+import com.iss.eventorium.event.exceptions.EventFullException;
+import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.repositories.AttendanceRepository;
+import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.event.services.AttendanceService;
+import com.iss.eventorium.user.models.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long EVENT_ID = 2L;
+
+    @InjectMocks
+    private AttendanceService service;
+
+    @Mock
+    private AttendanceRepository repository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final User user = User.builder().id(USER_ID).build();
+    private final Event event = Event.builder().id(EVENT_ID).build();
+
+    @Test
+    @DisplayName("Should take a place on the event and insert the attendance")
+    void givenEventWithFreePlaces_whenAttend_thenAttendanceIsInserted() {
+        when(eventRepository.reserveAttendance(EVENT_ID)).thenReturn(1);
+        when(repository.insertIfAbsent(USER_ID, EVENT_ID)).thenReturn(1);
+
+        assertTrue(service.attend(event, user));
+        verify(eventRepository, never()).releaseAttendance(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should not take a place when the user already attends the event")
+    void givenExistingAttendance_whenAttend_thenNothingChanges() {
+        when(repository.existsByUserIdAndEventId(USER_ID, EVENT_ID)).thenReturn(true);
+
+        assertFalse(service.attend(event, user));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Should give the place back when a concurrent request already inserted the attendance")
+    void givenConcurrentlyInsertedAttendance_whenAttend_thenPlaceIsReleased() {
+        when(eventRepository.reserveAttendance(EVENT_ID)).thenReturn(1);
+        when(repository.insertIfAbsent(USER_ID, EVENT_ID)).thenReturn(0);
+
+        assertFalse(service.attend(event, user));
+        verify(eventRepository).releaseAttendance(EVENT_ID);
+    }
+
+    @Test
+    @Tag("exception-handling")
+    @DisplayName("Should throw EventFullException when the event has no free places")
+    void givenFullEvent_whenAttend_thenThrowEventFullException() {
+        when(eventRepository.reserveAttendance(EVENT_ID)).thenReturn(0);
+
+        EventFullException exception = assertThrows(EventFullException.class, () -> service.attend(event, user));
+
+        assertEquals("Event has reached its maximum number of participants.", exception.getMessage());
+        verify(repository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
+}
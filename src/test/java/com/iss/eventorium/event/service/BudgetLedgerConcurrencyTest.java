@@ -0,0 +1,301 @@
+package com.iss.eventorium.event.service;
+
+import com.iss.eventorium.category.models.Category;
+import com.iss.eventorium.category.services.CategoryService;
+import com.iss.eventorium.event.dtos.budget.BudgetItemRequestDto;
+import com.iss.eventorium.event.exceptions.AlreadyProcessedException;
+import com.iss.eventorium.event.mappers.BudgetMapper;
+import com.iss.eventorium.event.models.Budget;
+import com.iss.eventorium.event.models.BudgetCategoryTotal;
+import com.iss.eventorium.event.models.BudgetItem;
+import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.repositories.BudgetCategoryTotalRepository;
+import com.iss.eventorium.event.repositories.BudgetRepository;
+import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.event.services.BudgetLedgerService;
+import com.iss.eventorium.event.services.BudgetService;
+import com.iss.eventorium.event.services.EventService;
+import com.iss.eventorium.shared.utils.RetryOnConflictAspect;
+import com.iss.eventorium.solution.mappers.ProductMapper;
+import com.iss.eventorium.solution.mappers.SolutionMapper;
+import com.iss.eventorium.solution.models.*;
+import com.iss.eventorium.solution.services.HistoryService;
+import com.iss.eventorium.solution.services.ProductService;
+import com.iss.eventorium.solution.services.SolutionService;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.AuthService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Changes one event's budget from many threads at once through {@link BudgetService}, with the real budget lock,
+ * retries and ledger. Every solution is purchased or reserved twice at the same time, exactly one of the two calls
+ * may count it, the other has to find it already processed.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BudgetService.class, BudgetLedgerService.class, RetryOnConflictAspect.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class BudgetLedgerConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int PRODUCTS = 10;
+    private static final int SERVICES = 6;
+    private static final long ORGANIZER_ID = 1L;
+    private static final long CATEGORY_ID = 1L;
+    private static final long EVENT_ID = 1L;
+    private static final long BUDGET_ID = 1L;
+    private static final long FIRST_PRODUCT_ID = 1L;
+    private static final long FIRST_SERVICE_ID = 101L;
+    private static final double PRODUCT_PRICE = 100.0;
+    private static final double SERVICE_PRICE = 200.0;
+    private static final double DISCOUNT = 10.0;
+    private static final double PRODUCT_PLANNED = 150.0;
+    private static final double SERVICE_PLANNED = 250.0;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetCategoryTotalRepository totalRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private ProductService productService;
+
+    @MockBean
+    private EventService eventService;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private BudgetMapper budgetMapper;
+
+    @MockBean
+    private SolutionService solutionService;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @MockBean
+    private HistoryService historyService;
+
+    @MockBean
+    private ProductMapper productMapper;
+
+    @MockBean
+    private SolutionMapper solutionMapper;
+
+    @BeforeEach
+    void setup() {
+        createBudget();
+
+        // NOTE: Like the real services, solutions and events are loaded in the transaction of the budget change.
+        when(productService.find(anyLong())).thenAnswer(invocation -> entityManager.find(Product.class, invocation.getArgument(0)));
+        when(eventService.find(anyLong())).thenAnswer(invocation -> entityManager.find(Event.class, invocation.getArgument(0)));
+        when(authService.getCurrentUser()).thenReturn(User.builder().id(ORGANIZER_ID).build());
+        when(budgetMapper.fromRequest(any(BudgetItemRequestDto.class), any(Solution.class))).thenAnswer(invocation -> {
+            BudgetItemRequestDto request = invocation.getArgument(0);
+            Solution solution = invocation.getArgument(1);
+            return BudgetItem.builder()
+                    .plannedAmount(request.getPlannedAmount())
+                    .itemType(request.getItemType())
+                    .category(solution.getCategory())
+                    .solution(solution)
+                    .build();
+        });
+    }
+
+    @Test
+    @DisplayName("Should count every purchased and reserved solution exactly once when the same event's budget is changed concurrently")
+    void givenConcurrentPurchasesAndReservations_whenChangingOneBudget_thenCountEveryItemOnce() throws Exception {
+        Event event = eventRepository.findById(EVENT_ID).orElseThrow();
+
+        List<Callable<Boolean>> firstRound = new ArrayList<>();
+        for (long id = FIRST_PRODUCT_ID; id < FIRST_PRODUCT_ID + PRODUCTS; id++) {
+            BudgetItemRequestDto request = purchase(id);
+            for (int i = 0; i < 2; i++)
+                firstRound.add(() -> {
+                    budgetService.purchaseProduct(EVENT_ID, request);
+                    return true;
+                });
+        }
+        for (long id = FIRST_SERVICE_ID; id < FIRST_SERVICE_ID + SERVICES; id++) {
+            Reservation reservation = reservation(event, id);
+            firstRound.add(() -> {
+                budgetService.addReservationAsBudgetItem(reservation, SERVICE_PLANNED);
+                return true;
+            });
+        }
+        assertEquals(PRODUCTS + SERVICES, runConcurrently(firstRound));
+
+        List<Callable<Boolean>> secondRound = new ArrayList<>();
+        for (long id = FIRST_SERVICE_ID; id < FIRST_SERVICE_ID + SERVICES; id++) {
+            Reservation reservation = reservation(event, id);
+            for (int i = 0; i < 2; i++)
+                secondRound.add(() -> {
+                    budgetService.markAsReserved(reservation);
+                    return true;
+                });
+        }
+        assertEquals(SERVICES, runConcurrently(secondRound));
+
+        double productNetPrice = PRODUCT_PRICE * (1 - DISCOUNT / 100);
+        double serviceNetPrice = SERVICE_PRICE * (1 - DISCOUNT / 100);
+        double planned = PRODUCTS * PRODUCT_PLANNED + SERVICES * SERVICE_PLANNED;
+        double spent = PRODUCTS * productNetPrice + SERVICES * serviceNetPrice;
+
+        Map<Long, Long> itemsPerSolution = jdbcTemplate.queryForList(
+                "SELECT i.solution_id FROM budgets_items bi JOIN budget_items i ON i.id = bi.items_id WHERE bi.budget_id = ?",
+                Long.class, BUDGET_ID
+        ).stream().collect(Collectors.groupingBy(id -> id, Collectors.counting()));
+        assertEquals(PRODUCTS + SERVICES, itemsPerSolution.size());
+        itemsPerSolution.forEach((solutionId, count) -> assertEquals(1L, count, "Solution " + solutionId + " has more than one item"));
+
+        for (Map<String, Object> row : jdbcTemplate.queryForList(
+                "SELECT i.solution_id, i.processed_at, SUM(e.planned_delta) AS planned, SUM(e.spent_delta) AS spent " +
+                "FROM budget_ledger_entries e JOIN budget_items i ON i.id = e.budget_item_id " +
+                "WHERE e.budget_id = ? GROUP BY i.id, i.solution_id, i.processed_at", BUDGET_ID)) {
+            boolean isProduct = ((Number) row.get("solution_id")).longValue() < FIRST_SERVICE_ID;
+            assertEquals(isProduct ? PRODUCT_PLANNED : SERVICE_PLANNED, ((Number) row.get("planned")).doubleValue(), 0.001);
+            assertEquals(isProduct ? productNetPrice : serviceNetPrice, ((Number) row.get("spent")).doubleValue(), 0.001);
+            assertNotNull(row.get("processed_at"));
+        }
+
+        Budget budget = budgetRepository.findById(BUDGET_ID).orElseThrow();
+        BudgetCategoryTotal total = totalRepository.findAll().stream()
+                .filter(t -> t.getBudgetId().equals(BUDGET_ID) && t.getCategoryId().equals(CATEGORY_ID))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(planned, budget.getPlannedAmount(), 0.001);
+        assertEquals(spent, budget.getSpentAmount(), 0.001);
+        assertEquals(planned, total.getPlannedAmount(), 0.001);
+        assertEquals(spent, total.getSpentAmount(), 0.001);
+    }
+
+    /**
+     * NOTE: Returns how many calls changed the budget. A call that finds its solution already processed lost the race
+     * and does not count, a call that runs out of retries is repeated like a client would, any other failure fails the test.
+     */
+    private int runConcurrently(List<Callable<Boolean>> calls) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Callable<Boolean> call : calls)
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (true) {
+                        try {
+                            return call.call();
+                        } catch (AlreadyProcessedException e) {
+                            return false;
+                        } catch (ConcurrencyFailureException e) {
+                            // retries of the service were exhausted, the client sends the request again
+                        }
+                    }
+                }));
+            start.countDown();
+
+            int changed = 0;
+            for (Future<Boolean> future : futures)
+                if (future.get(60, TimeUnit.SECONDS))
+                    changed++;
+            return changed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BudgetItemRequestDto purchase(long productId) {
+        BudgetItemRequestDto request = new BudgetItemRequestDto();
+        request.setItemId(productId);
+        request.setPlannedAmount(PRODUCT_PLANNED);
+        request.setItemType(SolutionType.PRODUCT);
+        return request;
+    }
+
+    // NOTE: Reservations hand over detached entities, as they do when the reservation service retries.
+    private Reservation reservation(Event event, long serviceId) {
+        Service service = Service.builder()
+                .id(serviceId)
+                .price(SERVICE_PRICE)
+                .discount(DISCOUNT)
+                .type(ReservationType.MANUAL)
+                .category(Category.builder().id(CATEGORY_ID).build())
+                .build();
+        return Reservation.builder().event(event).service(service).build();
+    }
+
+    private void createBudget() {
+        for (String table : List.of("budget_ledger_entries", "budget_category_totals", "budgets_items", "budget_items",
+                "events", "budgets", "products", "services", "categories", "users"))
+            jdbcTemplate.update("DELETE FROM " + table);
+
+        jdbcTemplate.update("INSERT INTO users (id, email, password, hash, verified, activation_timestamp, " +
+                "last_password_reset, deactivated, notifications_silenced) " +
+                "VALUES (?, 'organizer@budget.com', 'password', 'organizer', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, FALSE, FALSE)",
+                ORGANIZER_ID);
+        jdbcTemplate.update("INSERT INTO categories (id, name, description, suggested, deleted) " +
+                "VALUES (?, 'Catering', 'Food and drinks', FALSE, FALSE)", CATEGORY_ID);
+        jdbcTemplate.update("INSERT INTO budgets (id, planned_amount, spent_amount, version) VALUES (?, 0, 0, 0)", BUDGET_ID);
+        jdbcTemplate.update("INSERT INTO events (id, name, description, date, privacy, max_participants, organizer_id, " +
+                "is_draft, budget_id) VALUES (?, 'Wedding', 'Budget event', CURRENT_DATE, 'OPEN', 100, ?, FALSE, ?)",
+                EVENT_ID, ORGANIZER_ID, BUDGET_ID);
+
+        double productNetPrice = PRODUCT_PRICE * (1 - DISCOUNT / 100);
+        double serviceNetPrice = SERVICE_PRICE * (1 - DISCOUNT / 100);
+        for (long i = 0; i < PRODUCTS; i++)
+            jdbcTemplate.update("INSERT INTO products (id, name, description, price, discount, net_price, status, " +
+                    "is_available, is_deleted, is_visible, category_id) " +
+                    "VALUES (?, ?, 'Budget product', ?, ?, ?, 'ACCEPTED', TRUE, FALSE, TRUE, ?)",
+                    FIRST_PRODUCT_ID + i, "Product " + i, PRODUCT_PRICE, DISCOUNT, productNetPrice, CATEGORY_ID);
+        for (long i = 0; i < SERVICES; i++)
+            jdbcTemplate.update("INSERT INTO services (id, name, description, price, discount, net_price, status, " +
+                    "is_available, is_deleted, is_visible, category_id, type, specialties, reservation_deadline, " +
+                    "cancellation_deadline, min_duration, max_duration) " +
+                    "VALUES (?, ?, 'Budget service', ?, ?, ?, 'ACCEPTED', TRUE, FALSE, TRUE, ?, 'MANUAL', 'None', 1, 1, 1, 2)",
+                    FIRST_SERVICE_ID + i, "Service " + i, SERVICE_PRICE, DISCOUNT, serviceNetPrice, CATEGORY_ID);
+    }
+}
@@ -3,6 +3,7 @@ package com.iss.eventorium.event.service;
 import com.iss.eventorium.event.dtos.budget.BudgetItemRequestDto;
 import com.iss.eventorium.event.dtos.budget.BudgetItemResponseDto;
 import com.iss.eventorium.event.dtos.budget.BudgetResponseDto;
+import com.iss.eventorium.event.dtos.budget.BudgetSummaryResponseDto;
 import com.iss.eventorium.event.dtos.budget.UpdateBudgetItemRequestDto;
 import com.iss.eventorium.event.exceptions.AlreadyProcessedException;
 import com.iss.eventorium.event.exceptions.ProductNotAvailableException;
@@ -13,6 +14,7 @@ import com.iss.eventorium.event.models.BudgetItemStatus;
 import com.iss.eventorium.event.models.Event;
 import com.iss.eventorium.event.repositories.BudgetItemRepository;
 import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.event.services.BudgetLedgerService;
 import com.iss.eventorium.event.services.BudgetService;
 import com.iss.eventorium.event.services.EventService;
 import com.iss.eventorium.shared.exceptions.InsufficientFundsException;
@@ -21,6 +23,7 @@ import com.iss.eventorium.solution.dtos.products.ProductResponseDto;
 import com.iss.eventorium.solution.mappers.ProductMapper;
 import com.iss.eventorium.solution.models.*;
 import com.iss.eventorium.solution.services.HistoryService;
+import com.iss.eventorium.solution.services.HistoryService.VersionKey;
 import com.iss.eventorium.solution.services.ProductService;
 import com.iss.eventorium.solution.services.SolutionService;
 import com.iss.eventorium.user.models.User;
@@ -46,6 +49,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -73,6 +78,8 @@ class BudgetServiceTest {
     @Mock
     private HistoryService historyService;
     @Mock
+    private BudgetLedgerService ledgerService;
+    @Mock
     private BudgetMapper mapper;
     @Mock
     private ProductMapper productMapper;
@@ -127,7 +134,7 @@ class BudgetServiceTest {
         item.setSolution(product);
         item.setPlannedAmount(200.0);
         Budget budget = new Budget();
-        budget.addItem(item);
+        budget.getItems().add(item);
         Event event = mock(Event.class);
         User user = User.builder().id(999L).build();
         when(event.getOrganizer()).thenReturn(user);
@@ -152,14 +159,14 @@ class BudgetServiceTest {
             "0.0, 0.0, 100.0"
     })
     @Tag("purchase-product")
-    @DisplayName("Should save event if product purchase has sufficient budget")
-    void givenSufficientBudget_whenPurchasingProduct_thenEventIsSaved(double price, double discount, double plannedAmount) {
+    @DisplayName("Should add processed item to budget and record it in the ledger if product purchase has sufficient budget")
+    void givenSufficientBudget_whenPurchasingProduct_thenItemIsProcessedAndRecorded(double price, double discount, double plannedAmount) {
         Product product = mockProduct(price, discount);
         when(product.getIsAvailable()).thenReturn(true);
         Budget budget = mock(Budget.class);
-        Event event = mockEvent(budget);
+        mockEvent(budget);
         BudgetItem item = mock(BudgetItem.class);
-        item.setSolution(product);
+        when(item.getPlannedAmount()).thenReturn(plannedAmount);
         when(mapper.fromRequest(any(), any())).thenReturn(item);
         ProductResponseDto dto = mock(ProductResponseDto.class);
         when(productMapper.toResponse(any())).thenReturn(dto);
@@ -167,9 +174,12 @@ class BudgetServiceTest {
 
         budgetService.purchaseProduct(DEFAULT_EVENT_ID, request);
 
-        verify(budget).addItem(item);
+        verify(item).setStatus(BudgetItemStatus.PROCESSED);
         verify(authService, times(1)).getCurrentUser();
-        verify(eventRepository, times(1)).save(event);
+        verify(budgetItemRepository, times(1)).save(item);
+        verify(budgetItemRepository, times(1)).linkToBudget(any(), any());
+        verify(ledgerService, times(1)).record(budget, item, plannedAmount, price * (1 - discount / 100));
+        verify(eventRepository, never()).save(any(Event.class));
     }
 
     @Test
@@ -215,9 +225,8 @@ class BudgetServiceTest {
         processedItem.setStatus(BudgetItemStatus.PROCESSED);
         processedItem.setSolution(product);
         processedItem.setProcessedAt(LocalDateTime.now());
-        when(mapper.fromRequest(request, product)).thenReturn(processedItem);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(product.getId()))).thenReturn(List.of(processedItem));
         Budget budget = new Budget();
-        budget.setItems(List.of(processedItem));
         Event event = new Event();
         event.setId(DEFAULT_EVENT_ID);
         event.setOrganizer(organizer);
@@ -262,9 +271,8 @@ class BudgetServiceTest {
         item.setStatus(BudgetItemStatus.PLANNED);
         item.setSolution(product);
         item.setProcessedAt(null);
-        when(mapper.fromRequest(request, product)).thenReturn(item);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(product.getId()))).thenReturn(List.of(item));
         Budget budget = new Budget();
-        budget.setItems(List.of(item));
         mockEvent(budget);
 
         ProductResponseDto response = budgetService.purchaseProduct(DEFAULT_EVENT_ID, request);
@@ -274,7 +282,9 @@ class BudgetServiceTest {
         assertEquals(product, item.getSolution());
         assertEquals(BudgetItemStatus.PROCESSED, item.getStatus());
         verify(authService, times(1)).getCurrentUser();
-        verify(eventRepository, times(1)).save(any(Event.class));
+        verify(budgetItemRepository, times(1)).save(item);
+        verify(budgetItemRepository, never()).linkToBudget(any(), any());
+        verify(ledgerService, times(1)).record(budget, item, 0.0, 60.0);
     }
 
     @Test
@@ -319,7 +329,8 @@ class BudgetServiceTest {
         Event event = createEvent(budget);
         when(authService.getCurrentUser()).thenReturn(organizer);
         when(eventService.find(eventId)).thenReturn(event);
-        when(historyService.getValidSolution(solutionId, processedAt)).thenReturn(memento);
+        VersionKey version = new VersionKey(solutionId, processedAt);
+        when(historyService.getValidSolutions(List.of(version))).thenReturn(Map.of(version, memento));
         BudgetItemResponseDto expectedResponse = new BudgetItemResponseDto();
         expectedResponse.setSolutionId(solutionId);
         expectedResponse.setSolutionName("Restored Name");
@@ -349,15 +360,35 @@ class BudgetServiceTest {
         assertEquals(expectedResponse, response);
     }
 
+    @Test
+    @Tag("get-budget-summary")
+    @DisplayName("Should return ledger summary of the event budget without loading budget items")
+    void givenExistingBudget_whenGetBudgetSummary_thenReturnLedgerSummary() {
+        Budget budget = mock(Budget.class);
+        mockEvent(budget);
+        BudgetSummaryResponseDto expectedResponse = BudgetSummaryResponseDto.builder()
+                .plannedAmount(100.0)
+                .spentAmount(40.0)
+                .categories(List.of())
+                .build();
+        when(ledgerService.getSummary(budget)).thenReturn(expectedResponse);
+
+        BudgetSummaryResponseDto response = budgetService.getBudgetSummary(DEFAULT_EVENT_ID);
+
+        assertEquals(expectedResponse, response);
+        verify(budget, never()).getItems();
+        verifyNoInteractions(budgetItemRepository);
+    }
+
     @Test
     @Tag("update-budget-item")
-    @DisplayName("Should save event with updated item when updating valid budget item")
-    void givenValidBudgetItem_whenUpdateBudgetItem_thenSaveBudgetWithUpdatedItem() {
+    @DisplayName("Should save updated item and record the planned amount difference when updating valid budget item")
+    void givenValidBudgetItem_whenUpdateBudgetItem_thenSaveItemAndRecordDifference() {
         UpdateBudgetItemRequestDto request = new UpdateBudgetItemRequestDto(200.0);
         BudgetItem item = mockProductBudgetItemProcessedAt(null);
         Budget budget = new Budget();
-        budget.addItem(item);
         mockEvent(budget);
+        when(budgetItemRepository.findInBudget(any(), eq(DEFAULT_BUDGET_ITEM_ID))).thenReturn(Optional.of(item));
         BudgetItemResponseDto expectedResponse = new BudgetItemResponseDto();
         expectedResponse.setPlannedAmount(200.0);
         expectedResponse.setSolutionId(DEFAULT_BUDGET_ITEM_ID);
@@ -367,7 +398,8 @@ class BudgetServiceTest {
 
         verify(item).setPlannedAmount(200.0);
         verify(authService, times(1)).getCurrentUser();
-        verify(eventRepository, times(1)).save(any(Event.class));
+        verify(budgetItemRepository, times(1)).save(item);
+        verify(ledgerService, times(1)).record(budget, item, 100.0, 0.0);
         assertEquals(expectedResponse, response);
     }
 
@@ -377,10 +409,8 @@ class BudgetServiceTest {
     void givenProcessedBudgetItem_whenUpdateBudgetItem_thenThrowAlreadyProcessedException() {
         UpdateBudgetItemRequestDto request = new UpdateBudgetItemRequestDto(200.0);
         BudgetItem item = mockProductBudgetItemProcessedAt(LocalDateTime.now());
-        Budget budget = new Budget();
-        budget.addItem(item);
-
-        mockEvent(budget);
+        mockEvent(new Budget());
+        when(budgetItemRepository.findInBudget(any(), eq(DEFAULT_BUDGET_ITEM_ID))).thenReturn(Optional.of(item));
 
         AlreadyProcessedException exception = assertThrows(
                 AlreadyProcessedException.class,
@@ -395,9 +425,8 @@ class BudgetServiceTest {
     void givenInsufficientBudgetItem_whenUpdateBudgetItem_thenThrowInsufficientBudgetException() {
         UpdateBudgetItemRequestDto request = new UpdateBudgetItemRequestDto(0.0);
         BudgetItem item = mockProductBudgetItemProcessedAt(null);
-        Budget budget = new Budget();
-        budget.addItem(item);
-        mockEvent(budget);
+        mockEvent(new Budget());
+        when(budgetItemRepository.findInBudget(any(), eq(DEFAULT_BUDGET_ITEM_ID))).thenReturn(Optional.of(item));
 
         InsufficientFundsException exception = assertThrows(
                 InsufficientFundsException.class,
@@ -436,21 +465,23 @@ class BudgetServiceTest {
 
     @Test
     @Tag("delete-budget-item")
-    @DisplayName("Should remove item and save event if budget item is planned during deletion")
-    void givenPlannedBudgetItem_whenDeleteBudgetItem_thenItemIsRemovedAndEventSaved() {
+    @DisplayName("Should unlink item and record removed planned amount if budget item is planned during deletion")
+    void givenPlannedBudgetItem_whenDeleteBudgetItem_thenItemIsUnlinkedAndRecorded() {
         BudgetItem item = mock(BudgetItem.class);
         when(item.getId()).thenReturn(DEFAULT_BUDGET_ITEM_ID);
         when(item.getStatus()).thenReturn(BudgetItemStatus.PLANNED);
-        Budget budget = mock(Budget.class);
-        when(budget.getItems()).thenReturn(List.of(item));
-        budget.addItem(item);
-        Event event = mockEvent(budget);
+        when(item.getPlannedAmount()).thenReturn(100.0);
+        Budget budget = new Budget();
+        budget.setId(3L);
+        mockEvent(budget);
+        when(budgetItemRepository.findInBudget(3L, DEFAULT_BUDGET_ITEM_ID)).thenReturn(Optional.of(item));
 
         budgetService.deleteBudgetItem(DEFAULT_EVENT_ID, DEFAULT_BUDGET_ITEM_ID);
 
-        verify(budget, times(1)).removeItem(item);
+        verify(budgetItemRepository, times(1)).unlinkFromBudget(3L, DEFAULT_BUDGET_ITEM_ID);
+        verify(ledgerService, times(1)).record(budget, item, -100.0, 0.0);
         verify(authService, times(1)).getCurrentUser();
-        verify(eventRepository, times(1)).save(event);
+        verify(eventRepository, never()).save(any(Event.class));
     }
 
     @ParameterizedTest
@@ -459,12 +490,9 @@ class BudgetServiceTest {
     @DisplayName("Should throw AlreadyProcessedException when deleting budget item without planned status")
     void givenNonPlannedBudgetItem_whenDeleteBudgetItem_thenThrowAlreadyProcessedException(BudgetItemStatus status) {
         BudgetItem item = mock(BudgetItem.class);
-        when(item.getId()).thenReturn(DEFAULT_BUDGET_ITEM_ID);
         when(item.getStatus()).thenReturn(status);
-        Budget budget = mock(Budget.class);
-        when(budget.getItems()).thenReturn(List.of(item));
-        budget.addItem(item);
-        mockEvent(budget);
+        mockEvent(new Budget());
+        when(budgetItemRepository.findInBudget(any(), eq(DEFAULT_BUDGET_ITEM_ID))).thenReturn(Optional.of(item));
 
         AlreadyProcessedException exception =  assertThrows(
                 AlreadyProcessedException.class,
@@ -514,6 +542,7 @@ class BudgetServiceTest {
         verify(item, times(1)).setProcessedAt(any(LocalDateTime.class));
         verify(authService, times(1)).getCurrentUser();
         verify(budgetItemRepository, times(1)).save(item);
+        verify(ledgerService, times(1)).record(any(Budget.class), eq(item), eq(0.0), eq(100.0));
     }
 
     @Test
@@ -535,10 +564,8 @@ class BudgetServiceTest {
         processed2.setItemType(SolutionType.SERVICE);
         processed2.setProcessedAt(LocalDateTime.now());
         processed2.setStatus(BudgetItemStatus.PROCESSED);
-        Budget budget = new Budget();
-        budget.addItem(processed1);
-        budget.addItem(processed2);
-        Event event = createEvent(budget);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(service.getId()))).thenReturn(List.of(processed1, processed2));
+        Event event = createEvent(new Budget());
         Reservation reservation = new Reservation();
         reservation.setService(service);
         reservation.setEvent(event);
@@ -582,13 +609,9 @@ class BudgetServiceTest {
         processedItem.setProcessedAt(LocalDateTime.now());
         processedItem.setStatus(BudgetItemStatus.PROCESSED);
         BudgetItem toBeReserved = mock(BudgetItem.class);
-        when(toBeReserved.getSolution()).thenReturn(service);
-        when(toBeReserved.getPlannedAmount()).thenReturn(200.0);
         when(toBeReserved.getItemType()).thenReturn(SolutionType.SERVICE);
-        Budget budget = new Budget();
-        budget.addItem(processedItem);
-        budget.addItem(toBeReserved);
-        Event event = createEvent(budget);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(service.getId()))).thenReturn(List.of(processedItem, toBeReserved));
+        Event event = createEvent(new Budget());
         Reservation reservation = new Reservation();
         reservation.setService(service);
         reservation.setEvent(event);
@@ -608,9 +631,9 @@ class BudgetServiceTest {
         Product product = createProduct(100.0, 0.0);
         BudgetItemRequestDto request = createRequest(120.0);
         BudgetItem item = new BudgetItem();
+        item.setPlannedAmount(120.0);
         Budget budget = mock(Budget.class);
-        when(budget.getItems()).thenReturn(Collections.emptyList());
-        Event event = mockEvent(budget);
+        mockEvent(budget);
         when(solutionService.find(anyLong())).thenReturn(product);
         when(mapper.fromRequest(request, product)).thenReturn(item);
         BudgetItemResponseDto expectedResponse = new BudgetItemResponseDto();
@@ -621,8 +644,10 @@ class BudgetServiceTest {
 
         BudgetItemResponseDto response = budgetService.createBudgetItem(DEFAULT_BUDGET_ITEM_ID, request);
 
-        verify(eventRepository, times(1)).save(event);
-        verify(budget, times(1)).addItem(item);
+        assertEquals(BudgetItemStatus.PLANNED, item.getStatus());
+        verify(budgetItemRepository, times(1)).save(item);
+        verify(budgetItemRepository, times(1)).linkToBudget(any(), any());
+        verify(ledgerService, times(1)).record(budget, item, 120.0, 0.0);
         verify(authService, times(1)).getCurrentUser();
         verify(mapper).toResponse(item);
         assertEquals(expectedResponse, response);
@@ -668,10 +693,10 @@ class BudgetServiceTest {
         double plannedAmount = 200.0;
         Product product = createProduct(120.0, 0.0);
         BudgetItem item = mock(BudgetItem.class);
-        when(item.getSolution()).thenReturn(product);
+        when(item.getPlannedAmount()).thenReturn(150.0);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(product.getId()))).thenReturn(List.of(item));
         Budget budget = new Budget();
-        budget.addItem(item);
-        Event event = mockEvent(budget);
+        mockEvent(budget);
         BudgetItemRequestDto request = createRequest(plannedAmount);
         BudgetItemResponseDto expectedResponse = new BudgetItemResponseDto();
         expectedResponse.setPlannedAmount(plannedAmount);
@@ -683,7 +708,9 @@ class BudgetServiceTest {
 
         verify(item, times(1)).setPlannedAmount(plannedAmount);
         verify(authService, times(1)).getCurrentUser();
-        verify(eventRepository, times(1)).save(event);
+        verify(budgetItemRepository, times(1)).save(item);
+        verify(budgetItemRepository, never()).linkToBudget(any(), any());
+        verify(ledgerService, times(1)).record(budget, item, 50.0, 0.0);
         assertEquals(expectedResponse, response);
     }
 
@@ -696,9 +723,8 @@ class BudgetServiceTest {
         item.setPlannedAmount(200.0);
         item.setSolution(product);
         item.setProcessedAt(LocalDateTime.now());
-        Budget budget = new Budget();
-        budget.addItem(item);
-        mockEvent(budget);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(product.getId()))).thenReturn(List.of(item));
+        mockEvent(new Budget());
 
         BudgetItemRequestDto request = createRequest(200.0);
 
@@ -712,8 +738,8 @@ class BudgetServiceTest {
     @ParameterizedTest
     @MethodSource("com.iss.eventorium.event.provider.BudgetProvider#provideReservationTypeAndExpectedStatus")
     @Tag("add-reservation")
-    @DisplayName("Should save event and add reservation as budget item with appropriate status")
-    void givenReservation_whenAddToReservationAsBudgetItem_thenEventIsSaved(
+    @DisplayName("Should add reservation as budget item with appropriate status and record it in the ledger")
+    void givenReservation_whenAddToReservationAsBudgetItem_thenItemIsAddedAndRecorded(
             ReservationType type,
             BudgetItemStatus expectedStatus
     ) {
@@ -727,25 +753,25 @@ class BudgetServiceTest {
 
         budgetService.addReservationAsBudgetItem(reservation, 200.0);
 
-        verify(budget).addItem(budgetItemCaptor.capture());
+        verify(budgetItemRepository).save(budgetItemCaptor.capture());
         BudgetItem item = budgetItemCaptor.getValue();
         assertReservationStatus(item, expectedStatus);
-        verify(eventRepository, times(1)).save(event);
+        verify(budgetItemRepository, times(1)).linkToBudget(any(), any());
+        verify(ledgerService, times(1)).record(eq(budget), eq(item), eq(200.0), anyDouble());
     }
 
     @ParameterizedTest
     @MethodSource("com.iss.eventorium.event.provider.BudgetProvider#provideReservationTypeAndExpectedStatus")
     @Tag("add-reservation")
-    @DisplayName("Should save event and update existing reservation budget item with new status")
-    void givenExistingReservation_whenAddToReservationAsBudgetItem_thenEventIsSaved(
+    @DisplayName("Should update existing reservation budget item with new status and record it in the ledger")
+    void givenExistingReservation_whenAddToReservationAsBudgetItem_thenItemIsUpdatedAndRecorded(
             ReservationType type,
             BudgetItemStatus expectedStatus
     ) {
         Service service = createService(type);
         BudgetItem budgetItem = mock(BudgetItem.class);
-        when(budgetItem.getSolution()).thenReturn(service);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(service.getId()))).thenReturn(List.of(budgetItem));
         Budget budget = new Budget();
-        budget.addItem(budgetItem);
         Event event = createEvent(budget);
         Reservation reservation = new Reservation();
         reservation.setEvent(event);
@@ -754,7 +780,9 @@ class BudgetServiceTest {
         budgetService.addReservationAsBudgetItem(reservation, 200.0);
 
         verify(budgetItem).setStatus(expectedStatus);
-        verify(eventRepository, times(1)).save(event);
+        verify(budgetItemRepository, times(1)).save(budgetItem);
+        verify(budgetItemRepository, never()).linkToBudget(any(), any());
+        verify(ledgerService, times(1)).record(eq(budget), eq(budgetItem), eq(200.0), anyDouble());
     }
 
     @Test
@@ -763,12 +791,9 @@ class BudgetServiceTest {
     void givenProcessedItem_whenAddReservationAsBudgetItem_thenThrowAlreadyProcessedException() {
         Service service = createService(ReservationType.AUTOMATIC);
         BudgetItem budgetItem = mock(BudgetItem.class);
-        when(budgetItem.getSolution()).thenReturn(service);
         when(budgetItem.getProcessedAt()).thenReturn(LocalDateTime.now());
-        when(budgetItem.getSolution()).thenReturn(service);
-        Budget budget = new Budget();
-        budget.addItem(budgetItem);
-        Event event = createEvent(budget);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(service.getId()))).thenReturn(List.of(budgetItem));
+        Event event = createEvent(new Budget());
         Reservation reservation = new Reservation();
         reservation.setEvent(event);
         reservation.setService(service);
@@ -785,6 +810,7 @@ class BudgetServiceTest {
         Product product = mock(Product.class);
         when(product.getPrice()).thenReturn(price);
         when(product.getDiscount()).thenReturn(discount);
+        when(product.calculateNetPrice()).thenCallRealMethod();
         when(productService.find(anyLong())).thenReturn(product);
         return product;
     }
@@ -820,10 +846,10 @@ class BudgetServiceTest {
         Product product = createProduct(100.0, 0.0);
 
         BudgetItem item = mock(BudgetItem.class);
-        when(item.getProcessedAt()).thenReturn(processedAt);
-        when(item.getId()).thenReturn(1L);
-        when(item.getPlannedAmount()).thenReturn(100.0);
-        when(item.getSolution()).thenReturn(product);
+        lenient().when(item.getProcessedAt()).thenReturn(processedAt);
+        lenient().when(item.getId()).thenReturn(1L);
+        lenient().when(item.getPlannedAmount()).thenReturn(100.0);
+        lenient().when(item.getSolution()).thenReturn(product);
         return item;
     }
 
@@ -850,11 +876,10 @@ class BudgetServiceTest {
     private Reservation createReservationProcessedAt(LocalDateTime processedAt, BudgetItem item, Service service) {
         when(item.getProcessedAt()).thenReturn(processedAt);
         when(item.getItemType()).thenReturn(SolutionType.SERVICE);
-        when(item.getSolution()).thenReturn(service);
         when(authService.getCurrentUser()).thenReturn(organizer);
+        when(budgetItemRepository.findInBudgetBySolution(any(), eq(service.getId()))).thenReturn(List.of(item));
 
         Budget budget = new Budget();
-        budget.addItem(item);
 
         Event event = new Event();
         event.setId(DEFAULT_EVENT_ID);
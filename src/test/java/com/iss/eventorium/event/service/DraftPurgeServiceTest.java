@@ -0,0 +1,97 @@
+package com.iss.eventorium.event.service;
+
+import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.event.services.DraftPurgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DraftPurgeServiceTest {
+
+    @InjectMocks
+    private DraftPurgeService service;
+
+    @Mock
+    private EventRepository repository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should purge drafts chunk by chunk, continuing after the last purged id")
+    void givenDraftsInSeveralChunks_whenPurgeDrafts_thenEveryChunkIsPurgedInItsOwnTransaction() {
+        when(repository.findPurgeableDraftIds(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(repository.findPurgeableDraftIds(2L, 2)).thenReturn(List.of(5L));
+        when(repository.findPurgeableDraftIds(5L, 2)).thenReturn(List.of());
+        when(repository.lockPurgeableDrafts(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.findBudgetIds(anyList())).thenReturn(List.of());
+        when(repository.deleteEvents(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        int deleted = service.purgeDrafts();
+
+        assertEquals(3, deleted);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(repository).deleteEvents(List.of(1L, 2L));
+        verify(repository).deleteEvents(List.of(5L));
+    }
+
+    @Test
+    @DisplayName("Should delete rows referencing the drafts before the drafts, and their budgets after them")
+    void givenDraftsWithBudgets_whenPurgeDrafts_thenChildrenAreDeletedBeforeParents() {
+        List<Long> ids = List.of(1L, 2L);
+        List<Long> budgetIds = List.of(10L, 20L);
+        when(repository.findPurgeableDraftIds(0L, 2)).thenReturn(ids);
+        when(repository.findPurgeableDraftIds(2L, 2)).thenReturn(List.of());
+        when(repository.lockPurgeableDrafts(ids)).thenReturn(ids);
+        when(repository.findBudgetIds(ids)).thenReturn(budgetIds);
+        when(repository.deleteEvents(ids)).thenReturn(2);
+
+        service.purgeDrafts();
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).deleteActivities(ids);
+        inOrder.verify(repository).deleteRatings(ids);
+        inOrder.verify(repository).deleteInvitations(ids);
+        inOrder.verify(repository).deleteFavourites(ids);
+        inOrder.verify(repository).deleteAttendances(ids);
+        inOrder.verify(repository).deleteEvents(ids);
+        inOrder.verify(repository).deleteBudgetItemLinks(budgetIds);
+        inOrder.verify(repository).deleteBudgetCategories(budgetIds);
+        inOrder.verify(repository).deleteBudgets(budgetIds);
+    }
+
+    @Test
+    @DisplayName("Should skip drafts that were published after the chunk was selected")
+    void givenDraftsPublishedMeanwhile_whenPurgeDrafts_thenNothingIsDeleted() {
+        when(repository.findPurgeableDraftIds(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(repository.findPurgeableDraftIds(2L, 2)).thenReturn(List.of());
+        when(repository.lockPurgeableDrafts(anyList())).thenReturn(List.of());
+
+        int deleted = service.purgeDrafts();
+
+        assertEquals(0, deleted);
+        verify(repository, never()).deleteEvents(anyList());
+        verify(repository, never()).deleteActivities(anyList());
+    }
+}
@@ -14,13 +14,13 @@ import com.iss.eventorium.event.models.Activity;
 import com.iss.eventorium.event.models.Event;
 import com.iss.eventorium.event.models.Privacy;
 import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.event.services.AttendanceService;
 import com.iss.eventorium.event.services.EventService;
 import com.iss.eventorium.shared.exceptions.InvalidTimeRangeException;
 import com.iss.eventorium.shared.exceptions.OwnershipRequiredException;
 import com.iss.eventorium.shared.services.PdfService;
 import com.iss.eventorium.user.models.User;
 import com.iss.eventorium.user.services.AuthService;
-import com.iss.eventorium.user.services.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -55,7 +55,7 @@ class EventServiceTest {
     private AuthService authService;
 
     @Mock
-    private UserService userService;
+    private AttendanceService attendanceService;
 
     @Mock
     private PdfService pdfService;
@@ -204,7 +204,7 @@ class EventServiceTest {
         byte[] pdfBytes = new byte[]{1, 2, 3};
 
         when(authService.getCurrentUser()).thenReturn(currentUser);
-        when(userService.findByEventAttendance(EVENT_ID)).thenReturn(guests);
+        when(attendanceService.findAttendees(EVENT_ID)).thenReturn(guests);
         when(eventRepository.findOne(any(Specification.class))).thenReturn(Optional.of(event));
         when(pdfService.generate(anyString(), eq(guests), anyMap())).thenReturn(pdfBytes);
 
@@ -212,7 +212,7 @@ class EventServiceTest {
 
         assertNotNull(result);
         assertArrayEquals(pdfBytes, result);
-        verify(userService).findByEventAttendance(EVENT_ID);
+        verify(attendanceService).findAttendees(EVENT_ID);
         verify(pdfService).generate(eq("/templates/guest-list-pdf.jrxml"), eq(guests), anyMap());
     }
 
@@ -221,7 +221,7 @@ class EventServiceTest {
     void shouldGeneratePdfWithNoGuestsWhenAttendanceIsEmpty() {
 
         when(authService.getCurrentUser()).thenReturn(currentUser);
-        when(userService.findByEventAttendance(EVENT_ID)).thenReturn(Collections.emptyList());
+        when(attendanceService.findAttendees(EVENT_ID)).thenReturn(Collections.emptyList());
         when(eventRepository.findOne(any(Specification.class))).thenReturn(Optional.of(event));
         when(pdfService.generate(anyString(), eq(Collections.emptyList()), anyMap())).thenReturn(new byte[]{0, 1, 2});
 
@@ -0,0 +1,100 @@
+package com.iss.eventorium.event.service;
+
+import com.iss.eventorium.event.dtos.statistics.EventRatingsStatisticsDto;
+import com.iss.eventorium.event.models.Event;
+import com.iss.eventorium.event.repositories.EventRepository;
+import com.iss.eventorium.event.services.EventService;
+import com.iss.eventorium.event.services.EventStatisticsService;
+import com.iss.eventorium.shared.services.PdfService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventStatisticsServiceTest {
+
+    @InjectMocks
+    private EventStatisticsService service;
+
+    @Mock
+    private EventRepository repository;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private PdfService pdfService;
+
+    @Test
+    @DisplayName("Should build statistics of an event from its attendee count and aggregated ratings")
+    void givenEvent_whenGetStatistics_thenReturnCountsFromAggregates() {
+        when(eventService.find(1L)).thenReturn(Event.builder().id(1L).name("Concert").attendeeCount(12).build());
+        when(repository.countRatings(Set.of(1L))).thenReturn(rows(
+                new Object[] { 1L, 5, 3L },
+                new Object[] { 1L, 2, 1L }
+        ));
+
+        EventRatingsStatisticsDto statistics = service.getStatistics(1L);
+
+        assertEquals(1L, statistics.getEventId());
+        assertEquals("Concert", statistics.getEventName());
+        assertEquals(12, statistics.getTotalVisitors());
+        assertEquals(4, statistics.getTotalRatings());
+        assertEquals(Map.of(1, 0, 2, 1, 3, 0, 4, 0, 5, 3), statistics.getRatingsCount());
+    }
+
+    @Test
+    @Tag("exception-handling")
+    @DisplayName("Should not run aggregate queries when the event is not found")
+    void givenUnknownEvent_whenGetStatistics_thenThrowEntityNotFoundException() {
+        when(eventService.find(1L)).thenThrow(new EntityNotFoundException("Event not found"));
+
+        assertThrows(EntityNotFoundException.class, () -> service.getStatistics(1L));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should return statistics of many events in request order, with zeros for events without visitors or ratings")
+    void givenManyEvents_whenGetStatistics_thenReturnStatisticsInRequestOrder() {
+        when(repository.findAttendeeCounts(any())).thenReturn(rows(
+                new Object[] { 1L, "Concert", 0 },
+                new Object[] { 2L, "Wedding", 4 }
+        ));
+        when(repository.countRatings(any())).thenReturn(rows(new Object[] { 2L, 4, 2L }));
+
+        List<EventRatingsStatisticsDto> statistics = service.getStatistics(List.of(2L, 99L, 1L, 2L));
+
+        assertEquals(List.of(2L, 1L), statistics.stream().map(EventRatingsStatisticsDto::getEventId).toList());
+        assertEquals(4, statistics.get(0).getTotalVisitors());
+        assertEquals(2, statistics.get(0).getTotalRatings());
+        assertEquals(0, statistics.get(1).getTotalVisitors());
+        assertEquals(0, statistics.get(1).getTotalRatings());
+        assertEquals(Map.of(1, 0, 2, 0, 3, 0, 4, 0, 5, 0), statistics.get(1).getRatingsCount());
+    }
+
+    @Test
+    @DisplayName("Should skip aggregate queries when none of the requested events exist")
+    void givenUnknownEvents_whenGetStatistics_thenReturnEmptyList() {
+        when(repository.findAttendeeCounts(any())).thenReturn(List.of());
+
+        assertTrue(service.getStatistics(List.of(98L, 99L)).isEmpty());
+        verify(repository, never()).countRatings(any());
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
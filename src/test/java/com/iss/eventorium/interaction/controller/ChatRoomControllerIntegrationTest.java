@@ -0,0 +1,127 @@
+package com.iss.eventorium.interaction.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iss.eventorium.interaction.dtos.chat.ChatRoomResponseDto;
+import com.iss.eventorium.interaction.models.ChatMessage;
+import com.iss.eventorium.interaction.repositories.ChatMessageRepository;
+import com.iss.eventorium.interaction.services.ChatRoomService;
+import com.iss.eventorium.shared.models.ExceptionResponse;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.repositories.UserRepository;
+import com.iss.eventorium.util.TestRestTemplateAuthHelper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("integration-test")
+class ChatRoomControllerIntegrationTest {
+
+    private static final String SENDER_EMAIL = "organizer2@gmail.com";
+    private static final String RECIPIENT_EMAIL = "organizer3@gmail.com";
+    private static final String OUTSIDER_EMAIL = "admin@gmail.com";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatRoomService chatRoomService;
+
+    private TestRestTemplateAuthHelper authHelper;
+
+    private User sender;
+
+    private User recipient;
+
+    @BeforeAll
+    void setup() {
+        authHelper = new TestRestTemplateAuthHelper(restTemplate, objectMapper);
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+        sender = userRepository.findByEmail(SENDER_EMAIL).orElseThrow();
+        recipient = userRepository.findByEmail(RECIPIENT_EMAIL).orElseThrow();
+    }
+
+    @Test
+    @Tag("chat-room-read")
+    @DisplayName("Should show a new message as unread to the recipient only, until the recipient reads the room")
+    void givenNewMessage_whenRecipientMarksRoomAsRead_thenRoomIsNoLongerUnread() {
+        ChatRoomResponseDto beforeForRecipient = send("Hello");
+        ChatRoomResponseDto forSender = getRoom(SENDER_EMAIL);
+
+        assertTrue(beforeForRecipient.getUnread());
+        assertEquals("Hello", beforeForRecipient.getLastMessage());
+        assertFalse(forSender.getUnread());
+
+        ResponseEntity<Void> read = markAsRead(RECIPIENT_EMAIL, beforeForRecipient.getId(), Void.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, read.getStatusCode());
+        assertFalse(getRoom(RECIPIENT_EMAIL).getUnread());
+
+        ChatRoomResponseDto afterNextMessage = send("Are you there?");
+
+        assertTrue(afterNextMessage.getUnread());
+        assertEquals("Are you there?", afterNextMessage.getLastMessage());
+    }
+
+    @Test
+    @Tag("chat-room-read")
+    @DisplayName("Should return NOT_FOUND when a user marks a room they do not take part in as read")
+    void givenOutsider_whenMarkRoomAsRead_thenReturnNotFound() {
+        Long roomId = send("Hi").getId();
+
+        ResponseEntity<ExceptionResponse> response = markAsRead(OUTSIDER_EMAIL, roomId, ExceptionResponse.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Chat room not found.", Objects.requireNonNull(response.getBody()).getMessage());
+        assertTrue(getRoom(RECIPIENT_EMAIL).getUnread());
+    }
+
+    private ChatRoomResponseDto send(String text) {
+        // NOTE: The chat room is updated directly instead of through the write-behind queue, so it is visible right away
+        ChatMessage message = chatMessageRepository.save(ChatMessage.builder()
+                .sender(sender)
+                .recipient(recipient)
+                .conversationId(ChatMessage.conversationId(sender.getId(), recipient.getId()))
+                .message(text)
+                .timestamp(LocalDateTime.now())
+                .build());
+        chatRoomService.updateChatRoom(message);
+        return getRoom(RECIPIENT_EMAIL);
+    }
+
+    private ChatRoomResponseDto getRoom(String email) {
+        ResponseEntity<ChatRoomResponseDto[]> response = authHelper.authorizedGet(email, "/api/v1/chat-rooms/all", ChatRoomResponseDto[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Long partnerId = email.equals(RECIPIENT_EMAIL) ? sender.getId() : recipient.getId();
+        return Arrays.stream(Objects.requireNonNull(response.getBody()))
+                .filter(room -> room.getRecipientId().equals(partnerId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private <T> ResponseEntity<T> markAsRead(String email, Long roomId, Class<T> responseType) {
+        return authHelper.authorizedPatch(email, "/api/v1/chat-rooms/{id}/read", null, responseType, roomId);
+    }
+}
@@ -0,0 +1,143 @@
+package com.iss.eventorium.interaction.controller;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives many SockJS/STOMP clients against /api/v1/ws and reports delivery latency percentiles.
+ * Disabled by default, run with {@code -Dwebsocket.load-test=true}. The number of clients and messages per client
+ * are set with {@code -Dwebsocket.load-test.clients} and {@code -Dwebsocket.load-test.messages}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "websocket.load-test", matches = "true")
+class WebSocketLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("websocket.load-test.clients", 2000);
+    private static final int MESSAGES_PER_CLIENT = Integer.getInteger("websocket.load-test.messages", 5);
+    private static final String READY = "ready";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    @AfterAll
+    void tearDown() {
+        sessions.forEach(StompSession::disconnect);
+    }
+
+    @Test
+    @DisplayName("Should deliver every user message to thousands of concurrent clients and report latency percentiles")
+    void givenThousandsOfClients_whenMessagesAreSentToUsers_thenAllAreDelivered() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())))
+        );
+        stompClient.setMessageConverter(new StringMessageConverter());
+
+        CountDownLatch ready = new CountDownLatch(CLIENTS);
+        CountDownLatch delivered = new CountDownLatch(CLIENTS * MESSAGES_PER_CLIENT);
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        String url = "http://localhost:" + port + "/api/v1/ws";
+        for (int i = 0; i < CLIENTS; i++) {
+            StompSession session = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {}).get(30, TimeUnit.SECONDS);
+            session.subscribe("/user/" + user(i) + "/queue/messages", new LatencyHandler(ready, delivered, latencies));
+            sessions.add(session);
+        }
+
+        // NOTE: Subscriptions are processed asynchronously, ping every client until all of them are listening
+        while (!ready.await(200, TimeUnit.MILLISECONDS))
+            for (int i = 0; i < CLIENTS; i++)
+                messagingTemplate.convertAndSendToUser(user(i), "/queue/messages", READY);
+
+        long started = System.nanoTime();
+        for (int round = 0; round < MESSAGES_PER_CLIENT; round++)
+            for (int i = 0; i < CLIENTS; i++)
+                messagingTemplate.convertAndSendToUser(user(i), "/queue/messages", String.valueOf(System.nanoTime()));
+
+        boolean allDelivered = delivered.await(2, TimeUnit.MINUTES);
+        report(latencies, System.nanoTime() - started);
+
+        assertTrue(allDelivered, "Expected every message to be delivered");
+    }
+
+    private String user(int i) {
+        return "load-" + i;
+    }
+
+    private void report(Queue<Long> latencies, long elapsedNanos) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (sorted.length == 0) return;
+
+        System.out.printf(
+                "WebSocket load test: %d clients, %d messages in %d ms, latency p50=%.2f ms p95=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                CLIENTS, sorted.length, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sorted[sorted.length - 1] / 1e6
+        );
+    }
+
+    private double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static class LatencyHandler implements StompFrameHandler {
+        private final AtomicBoolean isReady = new AtomicBoolean(false);
+        private final CountDownLatch ready;
+        private final CountDownLatch delivered;
+        private final Queue<Long> latencies;
+
+        LatencyHandler(CountDownLatch ready, CountDownLatch delivered, Queue<Long> latencies) {
+            this.ready = ready;
+            this.delivered = delivered;
+            this.latencies = latencies;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            if (READY.equals(payload)) {
+                if (isReady.compareAndSet(false, true))
+                    ready.countDown();
+                return;
+            }
+            latencies.add(System.nanoTime() - Long.parseLong((String) payload));
+            delivered.countDown();
+        }
+    }
+}
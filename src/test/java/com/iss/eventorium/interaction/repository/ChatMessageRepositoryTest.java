@@ -0,0 +1,198 @@
+package com.iss.eventorium.interaction.repository;
+
+import com.iss.eventorium.interaction.dtos.chat.ChatMessagePageDto;
+import com.iss.eventorium.interaction.dtos.chat.ChatMessageProjection;
+import com.iss.eventorium.interaction.dtos.chat.ChatMessageResponseDto;
+import com.iss.eventorium.interaction.mappers.ChatMapper;
+import com.iss.eventorium.interaction.models.ChatMessage;
+import com.iss.eventorium.interaction.repositories.ChatMessageRepository;
+import com.iss.eventorium.interaction.services.ChatMessageWriter;
+import com.iss.eventorium.interaction.services.ChatService;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ ChatService.class, ChatMapper.class })
+@Sql(scripts = "/sql/event-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ChatMessageRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Autowired
+    private ChatMessageRepository repository;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private ChatMessageWriter messageWriter;
+
+    @MockBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    // NOTE: Oldest first, several messages share a timestamp, so only the id orders them
+    private List<Long> conversation;
+
+    @BeforeEach
+    void setUp() {
+        conversation = List.of(
+                message(1L, 2L, NOW),
+                message(2L, 1L, NOW.plusMinutes(1)),
+                message(1L, 2L, NOW.plusMinutes(1)),
+                message(2L, 1L, NOW.plusMinutes(1)),
+                message(1L, 2L, NOW.plusMinutes(2)),
+                message(2L, 1L, NOW.plusMinutes(3)),
+                message(2L, 1L, NOW.plusMinutes(3))
+        );
+        // NOTE: Same timestamps in another conversation, which must never leak into this one
+        message(1L, 3L, NOW.plusMinutes(1));
+        message(3L, 1L, NOW.plusMinutes(3));
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should break ties between messages with the same timestamp by id")
+    void givenEqualTimestamps_whenFindBefore_thenOnlyMessagesWithSmallerIdAreReturned() {
+        Long cursor = conversation.get(3);
+
+        List<ChatMessageProjection> before = repository.findBefore("1_2", NOW.plusMinutes(1), cursor, PageRequest.of(0, 10));
+
+        assertEquals(List.of(conversation.get(2), conversation.get(1), conversation.get(0)),
+                before.stream().map(ChatMessageProjection::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should return the newest messages in chronological order and a cursor on the first page")
+    void givenConversation_whenGetFirstPage_thenReturnNewestMessagesAndCursor() {
+        ChatMessagePageDto page = chatService.getMessagesBefore(1L, 2L, null, 3);
+
+        assertEquals(conversation.subList(4, 7), ids(page));
+        assertEquals(conversation.get(4), page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should return every message exactly once when following the cursor, even across equal timestamps")
+    void givenConversation_whenFollowCursor_thenEveryMessageIsReturnedOnce() {
+        List<List<Long>> pages = new ArrayList<>();
+        Long cursor = null;
+        do {
+            ChatMessagePageDto page = chatService.getMessagesBefore(2L, 1L, cursor, 2);
+            pages.add(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(
+                conversation.subList(5, 7),
+                conversation.subList(3, 5),
+                conversation.subList(1, 3),
+                conversation.subList(0, 1)
+        ), pages);
+    }
+
+    @Test
+    @DisplayName("Should return the last page without a cursor when exactly a page of older messages is left")
+    void givenExactlyOnePageLeft_whenGetMessagesBefore_thenReturnLastPageWithoutCursor() {
+        ChatMessagePageDto page = chatService.getMessagesBefore(1L, 2L, conversation.get(2), 2);
+
+        assertEquals(conversation.subList(0, 2), ids(page));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should return an empty page without a cursor for the cursor of the oldest message")
+    void givenOldestMessageCursor_whenGetMessagesBefore_thenReturnEmptyPage() {
+        ChatMessagePageDto page = chatService.getMessagesBefore(1L, 2L, conversation.get(0), 2);
+
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should return an empty page without a cursor for a conversation without messages")
+    void givenEmptyConversation_whenGetFirstPage_thenReturnEmptyPage() {
+        ChatMessagePageDto page = chatService.getMessagesBefore(2L, 3L, null, 10);
+
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should not accept the cursor of a message from another conversation")
+    void givenCursorFromOtherConversation_whenGetMessagesBefore_thenThrowNotFound() {
+        Long foreign = repository.findLatest("1_3", PageRequest.of(0, 1)).get(0).getId();
+
+        assertThrows(EntityNotFoundException.class, () -> chatService.getMessagesBefore(1L, 2L, foreign, 10));
+    }
+
+    @Test
+    @DisplayName("Should store messages with ids handed out before the insert, without clashing with generated ids")
+    void givenPreassignedIds_whenInsertAll_thenMessagesAreStoredUnderThoseIds() {
+        Long first = repository.nextId();
+        Long second = repository.nextId();
+        assertNotEquals(first, second);
+        assertFalse(conversation.contains(first) || conversation.contains(second));
+
+        repository.insertAll(List.of(
+                preassigned(first, 2L, 3L, NOW.plusMinutes(5)),
+                preassigned(second, 3L, 2L, NOW.plusMinutes(6))
+        ));
+        Long generated = message(2L, 3L, NOW.plusMinutes(7));
+
+        assertFalse(List.of(first, second).contains(generated));
+        assertEquals(List.of(generated, second, first),
+                repository.findLatest("2_3", PageRequest.of(0, 10)).stream().map(ChatMessageProjection::getId).toList());
+    }
+
+    private ChatMessage preassigned(Long id, Long senderId, Long recipientId, LocalDateTime timestamp) {
+        return ChatMessage.builder()
+                .id(id)
+                .sender(User.builder().id(senderId).build())
+                .recipient(User.builder().id(recipientId).build())
+                .conversationId(ChatMessage.conversationId(senderId, recipientId))
+                .message("Message at " + timestamp)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private Long message(Long senderId, Long recipientId, LocalDateTime timestamp) {
+        return entityManager.persistAndFlush(ChatMessage.builder()
+                .sender(entityManager.find(User.class, senderId))
+                .recipient(entityManager.find(User.class, recipientId))
+                .conversationId(ChatMessage.conversationId(senderId, recipientId))
+                .message("Message at " + timestamp)
+                .timestamp(timestamp)
+                .build()).getId();
+    }
+
+    private List<Long> ids(ChatMessagePageDto page) {
+        return page.getContent().stream().map(ChatMessageResponseDto::getId).toList();
+    }
+}
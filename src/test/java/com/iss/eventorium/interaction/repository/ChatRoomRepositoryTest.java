@@ -0,0 +1,139 @@
+package com.iss.eventorium.interaction.repository;
+
+import com.iss.eventorium.interaction.models.ChatMessage;
+import com.iss.eventorium.interaction.models.ChatRoom;
+import com.iss.eventorium.interaction.repositories.ChatRoomRepository;
+import com.iss.eventorium.user.models.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/event-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ChatRoomRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Autowired
+    private ChatRoomRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should create the room only once for the same pair of users")
+    void givenExistingRoom_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(1, repository.insertIfAbsent(1L, 2L));
+        assertEquals(0, repository.insertIfAbsent(1L, 2L));
+        assertEquals(1, repository.insertIfAbsent(2L, 3L));
+
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should store the last message as unread by the recipient and read by the sender")
+    void givenNewMessage_whenUpdateLastMessage_thenRecipientHasUnreadRoom() {
+        ChatMessage message = message(2L, 1L, NOW);
+
+        ChatRoom room = send(message);
+
+        assertEquals(message.getId(), room.getLastMessage().getId());
+        assertEquals(NOW, room.getLastMessageAt());
+        assertEquals(NOW, room.getSecondUserReadAt());
+        assertNull(room.getFirstUserReadAt());
+        assertTrue(room.isUnreadBy(room.getFirstUser()));
+        assertFalse(room.isUnreadBy(room.getSecondUser()));
+    }
+
+    @Test
+    @DisplayName("Should not let an older message replace a newer last message")
+    void givenNewerLastMessage_whenUpdateWithOlderMessage_thenLastMessageIsKept() {
+        ChatMessage newer = message(1L, 2L, NOW);
+        ChatMessage older = message(2L, 1L, NOW.minusMinutes(1));
+        send(newer);
+
+        ChatRoom room = send(older);
+
+        assertEquals(newer.getId(), room.getLastMessage().getId());
+        assertEquals(NOW, room.getLastMessageAt());
+        assertNull(room.getSecondUserReadAt());
+    }
+
+    @Test
+    @DisplayName("Should keep the read marker of the recipient and move it once the room is read")
+    void givenUnreadRoom_whenMarkRead_thenOnlyParticipantsCanMarkIt() {
+        ChatRoom room = send(message(2L, 1L, NOW));
+        LocalDateTime readAt = NOW.plusMinutes(5);
+
+        assertEquals(0, repository.markReadByFirstUser(room.getId(), 3L, readAt));
+        assertEquals(0, repository.markReadBySecondUser(room.getId(), 1L, readAt));
+        assertEquals(1, repository.markReadByFirstUser(room.getId(), 1L, readAt));
+        entityManager.clear();
+
+        ChatRoom read = entityManager.find(ChatRoom.class, room.getId());
+        assertEquals(readAt, read.getFirstUserReadAt());
+        assertEquals(NOW, read.getSecondUserReadAt());
+        assertFalse(read.isUnreadBy(read.getFirstUser()));
+    }
+
+    @Test
+    @DisplayName("Should make a read room unread again when a newer message arrives")
+    void givenReadRoom_whenNewMessageArrives_thenRoomIsUnreadAgain() {
+        ChatRoom room = send(message(2L, 1L, NOW));
+        repository.markReadByFirstUser(room.getId(), 1L, NOW.plusMinutes(1));
+
+        ChatRoom updated = send(message(2L, 1L, NOW.plusMinutes(2)));
+
+        assertTrue(updated.isUnreadBy(updated.getFirstUser()));
+    }
+
+    @Test
+    @DisplayName("Should return chat partners except users blocked by either side")
+    void givenBlockedPartner_whenFindPartnerIds_thenBlockedPartnerIsLeftOut() {
+        send(message(1L, 2L, NOW));
+        send(message(3L, 1L, NOW));
+        send(message(2L, 3L, NOW));
+
+        assertEquals(List.of(2L), repository.findPartnerIds(1L));
+        assertEquals(List.of(1L, 3L), repository.findPartnerIds(2L).stream().sorted().toList());
+        assertEquals(List.of(2L), repository.findPartnerIds(3L));
+    }
+
+    private ChatMessage message(Long senderId, Long recipientId, LocalDateTime timestamp) {
+        return entityManager.persistAndFlush(ChatMessage.builder()
+                .sender(entityManager.find(User.class, senderId))
+                .recipient(entityManager.find(User.class, recipientId))
+                .conversationId(ChatMessage.conversationId(senderId, recipientId))
+                .message("Hi")
+                .timestamp(timestamp)
+                .build());
+    }
+
+    private ChatRoom send(ChatMessage message) {
+        Long senderId = message.getSender().getId();
+        Long recipientId = message.getRecipient().getId();
+        Long firstUserId = Math.min(senderId, recipientId);
+        Long secondUserId = Math.max(senderId, recipientId);
+
+        repository.insertIfAbsent(firstUserId, secondUserId);
+        repository.updateLastMessage(firstUserId, secondUserId, senderId, message.getId(), message.getTimestamp());
+        entityManager.clear();
+
+        return repository.findAll().stream()
+                .filter(room -> room.getFirstUser().getId().equals(firstUserId) && room.getSecondUser().getId().equals(secondUserId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
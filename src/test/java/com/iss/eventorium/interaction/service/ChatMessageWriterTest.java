@@ -0,0 +1,145 @@
+package com.iss.eventorium.interaction.service;
+
+import com.iss.eventorium.interaction.models.ChatMessage;
+import com.iss.eventorium.interaction.repositories.ChatMessageRepository;
+import com.iss.eventorium.interaction.services.ChatRoomService;
+import com.iss.eventorium.interaction.services.ChatMessageWriter;
+import com.iss.eventorium.user.models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @InjectMocks
+    private ChatMessageWriter writer;
+
+    @Mock
+    private ChatMessageRepository repository;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // NOTE: The worker thread is not started, the tests write the queue on their own thread
+        ReflectionTestUtils.setField(writer, "batchSize", 3);
+        ReflectionTestUtils.setField(writer, "offerTimeoutMs", 0L);
+        useQueue(10);
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("Should insert the messages of each batch at once and update each chat room with the newest message of the conversation")
+    void givenQueuedMessages_whenWriteQueued_thenInsertBatchesAndUpdateNewestMessagePerConversation() {
+        ChatMessage first = message(1L, 1L, 2L, 0);
+        ChatMessage second = message(2L, 2L, 1L, 1);
+        ChatMessage other = message(3L, 1L, 3L, 2);
+        ChatMessage third = message(4L, 1L, 2L, 3);
+        List.of(first, second, other, third).forEach(writer::enqueue);
+
+        ReflectionTestUtils.invokeMethod(writer, "writeQueued");
+
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        InOrder inOrder = inOrder(repository, chatRoomService);
+        inOrder.verify(repository).insertAll(List.of(first, second, other));
+        inOrder.verify(chatRoomService).updateChatRoom(second);
+        inOrder.verify(repository).insertAll(List.of(third));
+        ArgumentCaptor<ChatMessage> updated = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(chatRoomService, times(3)).updateChatRoom(updated.capture());
+        assertThat(updated.getAllValues()).containsExactlyInAnyOrder(second, other, third);
+    }
+
+    @Test
+    @DisplayName("Should store the message on the sender's thread when the queue is full")
+    void givenFullQueue_whenEnqueue_thenStoreMessageSynchronously() {
+        useQueue(1);
+        ChatMessage queued = message(1L, 1L, 2L, 0);
+        ChatMessage overflow = message(2L, 1L, 3L, 1);
+
+        writer.enqueue(queued);
+        writer.enqueue(overflow);
+
+        verify(repository).insertAll(List.of(overflow));
+        verify(chatRoomService).updateChatRoom(overflow);
+        verify(repository, never()).insertAll(List.of(queued));
+        verify(chatRoomService, never()).updateChatRoom(queued);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch message by message, so one failing message does not block the others")
+    void givenFailingMessage_whenWriteQueued_thenRetryOneByOne() {
+        ChatMessage failing = message(1L, 1L, 2L, 0);
+        ChatMessage healthy = message(2L, 1L, 3L, 1);
+        doThrow(new IllegalStateException("Broken chat room")).when(chatRoomService).updateChatRoom(failing);
+        writer.enqueue(failing);
+        writer.enqueue(healthy);
+
+        ReflectionTestUtils.invokeMethod(writer, "writeQueued");
+
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        verify(chatRoomService, times(2)).updateChatRoom(failing);
+        verify(repository).insertAll(List.of(failing));
+        verify(repository).insertAll(List.of(healthy));
+        verify(chatRoomService, atLeastOnce()).updateChatRoom(healthy);
+    }
+
+    @Test
+    @DisplayName("Should write every queued message when the writer stops")
+    void givenQueuedMessages_whenStop_thenDrainQueue() {
+        ChatMessage first = message(1L, 1L, 2L, 0);
+        ChatMessage second = message(2L, 1L, 3L, 1);
+        ChatMessage third = message(3L, 1L, 4L, 2);
+        ChatMessage fourth = message(4L, 1L, 5L, 3);
+        List.of(first, second, third, fourth).forEach(writer::enqueue);
+
+        ReflectionTestUtils.invokeMethod(writer, "stop");
+
+        verify(chatRoomService).updateChatRoom(first);
+        verify(chatRoomService).updateChatRoom(second);
+        verify(chatRoomService).updateChatRoom(third);
+        verify(chatRoomService).updateChatRoom(fourth);
+    }
+
+    private void useQueue(int capacity) {
+        ReflectionTestUtils.setField(writer, "queue", new ArrayBlockingQueue<>(capacity));
+    }
+
+    private ChatMessage message(Long id, Long senderId, Long recipientId, int minutes) {
+        return ChatMessage.builder()
+                .id(id)
+                .sender(User.builder().id(senderId).build())
+                .recipient(User.builder().id(recipientId).build())
+                .conversationId(ChatMessage.conversationId(senderId, recipientId))
+                .message("Message " + id)
+                .timestamp(NOW.plusMinutes(minutes))
+                .build();
+    }
+}
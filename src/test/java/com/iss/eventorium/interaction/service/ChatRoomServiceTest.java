@@ -0,0 +1,122 @@
+package com.iss.eventorium.interaction.service;
+
+import com.iss.eventorium.interaction.dtos.chat.ChatRoomResponseDto;
+import com.iss.eventorium.interaction.mappers.ChatMapper;
+import com.iss.eventorium.interaction.models.ChatMessage;
+import com.iss.eventorium.interaction.models.ChatRoom;
+import com.iss.eventorium.interaction.repositories.ChatRoomRepository;
+import com.iss.eventorium.interaction.services.ChatRoomService;
+import com.iss.eventorium.user.models.Person;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.AuthService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @InjectMocks
+    private ChatRoomService service;
+
+    @Mock
+    private ChatRoomRepository repository;
+
+    @Mock
+    private AuthService authService;
+
+    @Spy
+    private ChatMapper mapper = new ChatMapper();
+
+    @Test
+    @DisplayName("Should create the room of the pair if needed and move it to the message, smaller user id first")
+    void givenMessage_whenUpdateChatRoom_thenInsertIfAbsentAndUpdateLastMessage() {
+        ChatMessage message = ChatMessage.builder().id(42L).sender(user(5L)).recipient(user(2L)).timestamp(NOW).build();
+
+        service.updateChatRoom(message);
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).insertIfAbsent(2L, 5L);
+        order.verify(repository).updateLastMessage(2L, 5L, 5L, 42L, NOW);
+    }
+
+    @Test
+    @DisplayName("Should mark the room as read by the current user when they are its first participant")
+    void givenFirstParticipant_whenMarkAsRead_thenMarkReadByFirstUser() {
+        when(authService.getCurrentUser()).thenReturn(user(2L));
+        when(repository.markReadByFirstUser(eq(7L), eq(2L), any(LocalDateTime.class))).thenReturn(1);
+
+        service.markAsRead(7L);
+
+        verify(repository).markReadBySecondUser(eq(7L), eq(2L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should mark the room as read by the current user when they are its second participant")
+    void givenSecondParticipant_whenMarkAsRead_thenMarkReadBySecondUser() {
+        when(authService.getCurrentUser()).thenReturn(user(5L));
+        when(repository.markReadBySecondUser(eq(7L), eq(5L), any(LocalDateTime.class))).thenReturn(1);
+
+        assertDoesNotThrow(() -> service.markAsRead(7L));
+    }
+
+    @Test
+    @DisplayName("Should not find a room the current user does not take part in")
+    void givenNonParticipant_whenMarkAsRead_thenThrowNotFound() {
+        when(authService.getCurrentUser()).thenReturn(user(9L));
+
+        assertThrows(EntityNotFoundException.class, () -> service.markAsRead(7L));
+    }
+
+    @Test
+    @DisplayName("Should show a room as unread only to the participant who has not read its last message")
+    @SuppressWarnings("unchecked")
+    void givenRoomReadBySender_whenGetChatRooms_thenOnlyRecipientSeesItUnread() {
+        User first = user(2L);
+        User second = user(5L);
+        ChatRoom room = ChatRoom.builder()
+                .id(7L)
+                .firstUser(first)
+                .secondUser(second)
+                .lastMessage(ChatMessage.builder().id(42L).message("Hi").build())
+                .lastMessageAt(NOW)
+                .secondUserReadAt(NOW)
+                .build();
+        when(repository.findAll(any(Specification.class))).thenReturn(List.of(room));
+
+        when(authService.getCurrentUser()).thenReturn(first);
+        ChatRoomResponseDto forRecipient = service.getChatRooms().get(0);
+        when(authService.getCurrentUser()).thenReturn(second);
+        ChatRoomResponseDto forSender = service.getChatRooms().get(0);
+
+        assertTrue(forRecipient.getUnread());
+        assertEquals(5L, forRecipient.getRecipientId());
+        assertEquals("Hi", forRecipient.getLastMessage());
+        assertFalse(forSender.getUnread());
+        assertEquals(2L, forSender.getRecipientId());
+    }
+
+    private User user(Long id) {
+        return User.builder()
+                .id(id)
+                .person(Person.builder().name("Name " + id).lastname("Lastname " + id).build())
+                .build();
+    }
+}
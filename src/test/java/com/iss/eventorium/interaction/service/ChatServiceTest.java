@@ -0,0 +1,85 @@
+package com.iss.eventorium.interaction.service;
+
+import com.iss.eventorium.interaction.dtos.chat.ChatMessageRequestDto;
+import com.iss.eventorium.interaction.dtos.chat.ChatMessageResponseDto;
+import com.iss.eventorium.interaction.mappers.ChatMapper;
+import com.iss.eventorium.interaction.models.ChatMessage;
+import com.iss.eventorium.interaction.repositories.ChatMessageRepository;
+import com.iss.eventorium.interaction.services.ChatMessageWriter;
+import com.iss.eventorium.interaction.services.ChatService;
+import com.iss.eventorium.user.models.Person;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceTest {
+
+    @InjectMocks
+    private ChatService service;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ChatMessageWriter messageWriter;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Spy
+    private ChatMapper mapper = new ChatMapper();
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Test
+    @DisplayName("Should deliver the message with its id first and leave storing it to the writer")
+    void givenMessage_whenSendMessage_thenDeliverWithIdAndQueueForWriting() {
+        when(userService.find(1L)).thenReturn(user(1L));
+        when(userService.find(2L)).thenReturn(user(2L));
+        when(chatMessageRepository.nextId()).thenReturn(42L);
+
+        service.sendMessage(new ChatMessageRequestDto(1L, 2L, "Hello"));
+
+        InOrder inOrder = inOrder(chatMessageRepository, messagingTemplate, messageWriter);
+        inOrder.verify(chatMessageRepository).nextId();
+        ArgumentCaptor<ChatMessageResponseDto> delivered = ArgumentCaptor.forClass(ChatMessageResponseDto.class);
+        inOrder.verify(messagingTemplate).convertAndSendToUser(eq("2"), eq("/queue/messages"), delivered.capture());
+        inOrder.verify(messageWriter).enqueue(argThat(message -> message.getId() == 42L && "1_2".equals(message.getConversationId())));
+        assertEquals(42L, delivered.getValue().getId());
+        verify(chatMessageRepository, never()).save(any(ChatMessage.class));
+    }
+
+    @Test
+    @Tag("exception-handling")
+    @DisplayName("Should reject a message to an unknown recipient without storing or delivering it")
+    void givenUnknownRecipient_whenSendMessage_thenThrowEntityNotFoundException() {
+        when(userService.find(1L)).thenReturn(user(1L));
+        when(userService.find(99L)).thenThrow(new EntityNotFoundException("User not found."));
+
+        assertThrows(EntityNotFoundException.class, () -> service.sendMessage(new ChatMessageRequestDto(1L, 99L, "Hello")));
+
+        verifyNoInteractions(chatMessageRepository, messagingTemplate, messageWriter);
+    }
+
+    private User user(Long id) {
+        return User.builder()
+                .id(id)
+                .person(Person.builder().name("Name " + id).lastname("Lastname " + id).build())
+                .build();
+    }
+}
@@ -0,0 +1,253 @@
+package com.iss.eventorium.interaction.service;
+
+import com.iss.eventorium.interaction.dtos.comment.CommentProjection;
+import com.iss.eventorium.interaction.dtos.comment.CommentResponseDto;
+import com.iss.eventorium.interaction.dtos.comment.CommentTargetProjection;
+import com.iss.eventorium.interaction.mappers.CommentMapper;
+import com.iss.eventorium.interaction.models.CommentType;
+import com.iss.eventorium.interaction.repositories.CommentRepository;
+import com.iss.eventorium.interaction.services.CommentService;
+import com.iss.eventorium.interaction.services.CommentTargetResolver;
+import com.iss.eventorium.interaction.services.CommentThreadCache;
+import com.iss.eventorium.interaction.services.CommentThreadCache.CommentThread;
+import com.iss.eventorium.notifications.models.Notification;
+import com.iss.eventorium.notifications.services.NotificationService;
+import com.iss.eventorium.shared.exceptions.UnsupportedSortException;
+import com.iss.eventorium.shared.models.PagedResponse;
+import com.iss.eventorium.shared.models.Status;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.AuthService;
+import com.iss.eventorium.user.services.UserBlockService;
+import com.iss.eventorium.user.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    @InjectMocks
+    private CommentService service;
+
+    @Mock
+    private CommentRepository repository;
+
+    @Mock
+    private CommentMapper mapper;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private CommentThreadCache threadCache;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private UserBlockService userBlockService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "targetResolver", new CommentTargetResolver(repository, authService));
+        lenient().when(mapper.toResponse(any(CommentProjection.class), anyString())).thenAnswer(invocation -> {
+            CommentProjection comment = invocation.getArgument(0);
+            return CommentResponseDto.builder().id(comment.getId()).displayName(invocation.getArgument(1)).build();
+        });
+    }
+
+    @Test
+    @DisplayName("Should update only pending comments with one update and notify their owners in one batch")
+    void givenPendingComments_whenAcceptComments_thenUpdatesOnceAndNotifiesOwnersInBatch() {
+        User provider = User.builder().id(7L).build();
+        CommentProjection onProduct = comment(1L, CommentType.PRODUCT, 10L);
+        CommentProjection onDeletedProduct = comment(2L, CommentType.PRODUCT, 11L);
+        when(repository.lockPendingIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L));
+        when(repository.findProjectionsByIds(List.of(1L, 2L))).thenReturn(List.of(onProduct, onDeletedProduct));
+        when(repository.findProductTargets(Set.of(10L, 11L), null)).thenReturn(List.of(
+                target(10L, "Cake", false, 7L),
+                target(11L, "Balloons", true, 7L)
+        ));
+        when(userService.findAll(Set.of(7L))).thenReturn(List.of(provider));
+        when(messageSource.getMessage(anyString(), any(), any())).thenReturn("message");
+
+        List<CommentResponseDto> updated = service.updateCommentStatuses(List.of(1L, 2L, 3L), Status.ACCEPTED);
+
+        assertThat(updated).extracting(CommentResponseDto::getDisplayName).containsExactly("Cake", "[Deleted Product]");
+        verify(repository).updateStatus(List.of(1L, 2L), Status.ACCEPTED);
+        verify(repository, times(1)).findProductTargets(any(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).sendNotifications(notifications.capture());
+        assertThat(notifications.getValue()).hasSize(2).allMatch(notification -> notification.getRecipient() == provider);
+        verify(threadCache).evict(CommentType.PRODUCT, 10L);
+        verify(threadCache).evict(CommentType.PRODUCT, 11L);
+    }
+
+    @Test
+    @DisplayName("Should neither update nor notify when none of the comments is pending anymore")
+    void givenNoPendingComments_whenUpdateComments_thenNothingIsUpdated() {
+        when(repository.lockPendingIds(List.of(1L))).thenReturn(List.of());
+
+        List<CommentResponseDto> updated = service.updateCommentStatuses(List.of(1L), Status.DECLINED);
+
+        assertThat(updated).isEmpty();
+        verify(repository, never()).updateStatus(any(), any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("Should page the cached thread without comments of blocked authors")
+    void givenBlockedAuthor_whenGetCommentsPaged_thenTheirCommentsAreLeftOut() {
+        User viewer = User.builder().id(1L).build();
+        CommentThread thread = mock(CommentThread.class);
+        when(thread.getDisplayName()).thenReturn("Cake");
+        when(thread.getComments()).thenReturn(List.of(
+                comment(1L, CommentType.PRODUCT, 10L, 3L),
+                comment(2L, CommentType.PRODUCT, 10L, 4L),
+                comment(3L, CommentType.PRODUCT, 10L, 3L),
+                comment(4L, CommentType.PRODUCT, 10L, 5L)
+        ));
+        when(threadCache.getThread(CommentType.PRODUCT, 10L)).thenReturn(thread);
+        when(authService.getCurrentUser()).thenReturn(viewer);
+        when(userBlockService.getBlockedIds(viewer)).thenReturn(Set.of(4L));
+
+        PagedResponse<CommentResponseDto> page = service.getAcceptedCommentsForTargetPaged(CommentType.PRODUCT, 10L, PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(CommentResponseDto::getId).containsExactly(4L);
+        assertThat(page.getContent()).extracting(CommentResponseDto::getDisplayName).containsExactly("Cake");
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should order the pending queue newest first when the client does not sort it")
+    void givenUnsortedPageable_whenGetPendingCommentsPaged_thenOrderNewestFirst() {
+        when(repository.findByStatus(eq(Status.PENDING), any(Pageable.class))).thenReturn(Page.empty());
+
+        service.getPendingCommentsPaged(PageRequest.of(2, 5));
+
+        verify(repository).findByStatus(Status.PENDING, PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "creationDate", "id")));
+    }
+
+    @Test
+    @DisplayName("Should keep the client's sort of the pending queue and break ties by id")
+    void givenOldestFirstSort_whenGetPendingCommentsPaged_thenSortIsKept() {
+        CommentProjection onProduct = comment(1L, CommentType.PRODUCT, 10L);
+        when(repository.findByStatus(eq(Status.PENDING), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(onProduct)));
+        when(repository.findProductTargets(Set.of(10L), null)).thenReturn(List.of(target(10L, "Cake", false, 7L)));
+        when(mapper.toPagedResponse(any(), any())).thenCallRealMethod();
+
+        PagedResponse<CommentResponseDto> page = service.getPendingCommentsPaged(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "creationDate")));
+
+        assertThat(page.getContent()).extracting(CommentResponseDto::getDisplayName).containsExactly("Cake");
+        verify(repository).findByStatus(Status.PENDING, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "creationDate", "id")));
+    }
+
+    @Test
+    @DisplayName("Should reject sorting the pending queue by a property it cannot be sorted by")
+    void givenUnsupportedSort_whenGetPendingCommentsPaged_thenThrowUnsupportedSort() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("comment"));
+
+        assertThrows(UnsupportedSortException.class, () -> service.getPendingCommentsPaged(pageable));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should not show comments of an event whose organizer the viewer blocked")
+    void givenEventOfBlockedOrganizer_whenGetComments_thenThrowNotFound() {
+        User viewer = User.builder().id(1L).build();
+        when(authService.getCurrentUser()).thenReturn(viewer);
+        when(repository.findEventTargets(Set.of(20L), 1L)).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class, () -> service.getAcceptedCommentsForTarget(CommentType.EVENT, 20L));
+        verifyNoInteractions(threadCache);
+    }
+
+    @Test
+    @DisplayName("Should show an event as unknown in the pending queue when the viewer blocked its organizer")
+    void givenEventOfBlockedOrganizer_whenGetPendingComments_thenShowUnknownEvent() {
+        User admin = User.builder().id(3L).build();
+        when(authService.getCurrentUser()).thenReturn(admin);
+        when(repository.findAllByStatus(Status.PENDING)).thenReturn(List.of(comment(1L, CommentType.EVENT, 20L)));
+        when(repository.findEventTargets(Set.of(20L), 3L)).thenReturn(List.of());
+
+        List<CommentResponseDto> comments = service.getPendingComments();
+
+        assertThat(comments).extracting(CommentResponseDto::getDisplayName).containsExactly("[Unknown Event]");
+    }
+
+    @Test
+    @DisplayName("Should show a product of a blocked provider as unknown and notify only the owners the admin did not block")
+    void givenProductOfBlockedProvider_whenAcceptComments_thenShowUnknownProductAndSkipItsProvider() {
+        User admin = User.builder().id(3L).build();
+        User serviceProvider = User.builder().id(8L).build();
+        when(authService.getCurrentUser()).thenReturn(admin);
+        when(repository.lockPendingIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(repository.findProjectionsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                comment(1L, CommentType.PRODUCT, 10L),
+                comment(2L, CommentType.SERVICE, 12L)
+        ));
+        when(repository.findProductTargets(Set.of(10L), 3L)).thenReturn(List.of());
+        when(repository.findServiceTargets(Set.of(12L), 3L)).thenReturn(List.of(target(12L, "Catering", false, 8L)));
+        when(userService.findAll(Set.of(8L))).thenReturn(List.of(serviceProvider));
+        when(messageSource.getMessage(anyString(), any(), any())).thenReturn("message");
+
+        List<CommentResponseDto> updated = service.updateCommentStatuses(List.of(1L, 2L), Status.ACCEPTED);
+
+        assertThat(updated).extracting(CommentResponseDto::getDisplayName).containsExactly("[Unknown Product]", "Catering");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).sendNotifications(notifications.capture());
+        assertThat(notifications.getValue()).hasSize(1).allMatch(notification -> notification.getRecipient() == serviceProvider);
+    }
+
+    private CommentProjection comment(Long id, CommentType type, Long objectId) {
+        return comment(id, type, objectId, 3L);
+    }
+
+    private CommentProjection comment(Long id, CommentType type, Long objectId, Long authorId) {
+        return new CommentProjection(id, "Nice", LocalDateTime.now(), type, objectId, authorId, "Ana", "Anic");
+    }
+
+    private CommentTargetProjection target(Long id, String name, boolean deleted, Long owner) {
+        CommentTargetProjection target = mock(CommentTargetProjection.class);
+        lenient().when(target.getId()).thenReturn(id);
+        lenient().when(target.getName()).thenReturn(name);
+        lenient().when(target.getDeleted()).thenReturn(deleted);
+        lenient().when(target.getOwner()).thenReturn(owner);
+        return target;
+    }
+}
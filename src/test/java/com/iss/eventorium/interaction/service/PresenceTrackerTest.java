@@ -0,0 +1,173 @@
+package com.iss.eventorium.interaction.service;
+
+import com.iss.eventorium.interaction.dtos.chat.PresenceDto;
+import com.iss.eventorium.interaction.dtos.chat.TypingDto;
+import com.iss.eventorium.interaction.services.ChatRoomService;
+import com.iss.eventorium.interaction.services.PresenceTracker;
+import com.iss.eventorium.security.utils.JwtTokenUtil;
+import com.iss.eventorium.user.services.AuthService;
+import com.iss.eventorium.user.services.UserBlockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceTrackerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long PARTNER_ID = 2L;
+    private static final String USER_SESSION = "session-1";
+    private static final String PARTNER_SESSION = "session-2";
+
+    @InjectMocks
+    private PresenceTracker tracker;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private UserBlockService userBlockService;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @BeforeEach
+    void setup() {
+        // NOTE: A negative timeout puts every session past its deadline, so only the heartbeat rule decides what expires.
+        ReflectionTestUtils.setField(tracker, "timeoutMs", -60_000L);
+        lenient().when(jwtTokenUtil.getUserIdFromToken("user-token")).thenReturn(USER_ID);
+        lenient().when(jwtTokenUtil.getUserIdFromToken("partner-token")).thenReturn(PARTNER_ID);
+        lenient().when(chatRoomService.getPartnerIds(anyLong())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should keep a session that never sent a heartbeat until it disconnects")
+    void givenSessionWithoutHeartbeats_whenBroadcastChanges_thenUserStaysOnline() {
+        tracker.onConnect(connect(USER_SESSION, "user-token"));
+
+        tracker.broadcastChanges();
+
+        assertTrue(tracker.isOnline(USER_ID));
+
+        tracker.onDisconnect(disconnect(USER_SESSION));
+
+        assertFalse(tracker.isOnline(USER_ID));
+        assertNotNull(tracker.getPresence(USER_ID).getLastSeen());
+    }
+
+    @Test
+    @DisplayName("Should drop a session that sent heartbeats and then stopped")
+    void givenSessionWithStaleHeartbeat_whenBroadcastChanges_thenUserGoesOffline() {
+        tracker.onConnect(connect(USER_SESSION, "user-token"));
+        tracker.heartbeat(USER_SESSION);
+
+        tracker.broadcastChanges();
+
+        PresenceDto presence = tracker.getPresence(USER_ID);
+        assertFalse(presence.getOnline());
+        assertNotNull(presence.getLastSeen());
+    }
+
+    @Test
+    @DisplayName("Should ignore a session whose CONNECT frame has no valid token")
+    void givenConnectWithoutToken_whenOnConnect_thenUserIsNotTracked() {
+        tracker.onConnect(connect(USER_SESSION, null));
+
+        assertFalse(tracker.isOnline(USER_ID));
+        verifyNoInteractions(jwtTokenUtil);
+    }
+
+    @Test
+    @DisplayName("Should send a presence change only to online chat partners")
+    void givenOnlinePartner_whenUserDisconnects_thenPartnerIsNotified() {
+        when(chatRoomService.getPartnerIds(USER_ID)).thenReturn(List.of(PARTNER_ID, 3L));
+        tracker.onConnect(connect(USER_SESSION, "user-token"));
+        tracker.onConnect(connect(PARTNER_SESSION, "partner-token"));
+        tracker.broadcastChanges();
+        clearInvocations(messagingTemplate);
+
+        tracker.onDisconnect(disconnect(USER_SESSION));
+        tracker.broadcastChanges();
+
+        verify(messagingTemplate).convertAndSendToUser(eq(PARTNER_ID.toString()), eq("/queue/presence"),
+                argThat((PresenceDto presence) -> presence.getUserId().equals(USER_ID) && !presence.getOnline()));
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("Should relay typing with the sender taken from the session")
+    void givenOnlineRecipient_whenSendTyping_thenRelayWithSessionSender() {
+        tracker.onConnect(connect(USER_SESSION, "user-token"));
+        tracker.onConnect(connect(PARTNER_SESSION, "partner-token"));
+        when(userBlockService.isBlocked(USER_ID, PARTNER_ID)).thenReturn(false);
+
+        tracker.sendTyping(USER_SESSION, new TypingDto(99L, PARTNER_ID, true));
+
+        verify(messagingTemplate).convertAndSendToUser(eq(PARTNER_ID.toString()), eq("/queue/typing"),
+                argThat((TypingDto typing) -> typing.getSenderId().equals(USER_ID)));
+    }
+
+    @Test
+    @DisplayName("Should not relay typing between users where one has blocked the other")
+    void givenBlockedRecipient_whenSendTyping_thenDropTyping() {
+        tracker.onConnect(connect(USER_SESSION, "user-token"));
+        tracker.onConnect(connect(PARTNER_SESSION, "partner-token"));
+        when(userBlockService.isBlocked(USER_ID, PARTNER_ID)).thenReturn(true);
+
+        tracker.sendTyping(USER_SESSION, new TypingDto(null, PARTNER_ID, true));
+
+        verify(messagingTemplate, never()).convertAndSendToUser(any(), eq("/queue/typing"), any());
+    }
+
+    @Test
+    @DisplayName("Should not relay typing to an offline recipient")
+    void givenOfflineRecipient_whenSendTyping_thenDropTyping() {
+        tracker.onConnect(connect(USER_SESSION, "user-token"));
+
+        tracker.sendTyping(USER_SESSION, new TypingDto(null, PARTNER_ID, true));
+
+        verifyNoInteractions(messagingTemplate, userBlockService);
+    }
+
+    private SessionConnectEvent connect(String sessionId, String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (token != null)
+            accessor.addNativeHeader("Authorization", "Bearer " + token);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionConnectEvent(this, message);
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL);
+    }
+}
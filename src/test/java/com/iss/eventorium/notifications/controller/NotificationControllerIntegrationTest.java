@@ -0,0 +1,136 @@
+package com.iss.eventorium.notifications.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iss.eventorium.notifications.dtos.NotificationPageDto;
+import com.iss.eventorium.notifications.dtos.NotificationResponseDto;
+import com.iss.eventorium.notifications.models.Notification;
+import com.iss.eventorium.notifications.repositories.NotificationRepository;
+import com.iss.eventorium.notifications.services.NotificationService;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.repositories.UserRepository;
+import com.iss.eventorium.util.TestRestTemplateAuthHelper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("integration-test")
+class NotificationControllerIntegrationTest {
+
+    private static final String EMAIL = "organizernoevents@gmail.com";
+    private static final int NOTIFICATIONS = 25;
+    private static final int SEEN = 5;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private TestRestTemplateAuthHelper authHelper;
+
+    @BeforeAll
+    void setup() {
+        authHelper = new TestRestTemplateAuthHelper(restTemplate, objectMapper);
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+
+        // NOTE: Stored directly, without bumping the counter, like notifications that existed before the counter did.
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+        notificationRepository.saveAll(IntStream.range(0, NOTIFICATIONS)
+                .mapToObj(i -> Notification.builder()
+                        .title("Notification")
+                        .message("Notification " + i)
+                        .timestamp(now.minusMinutes(NOTIFICATIONS - i))
+                        .seen(i < SEEN)
+                        .recipient(user)
+                        .build())
+                .toList());
+        notificationService.initializeUnreadCounters();
+    }
+
+    @Test
+    @Tag("notification-history")
+    @DisplayName("Should return the whole history newest first, page by page, following the cursor")
+    void givenNotifications_whenFollowHistoryCursor_thenReturnEveryNotificationOnceNewestFirst() {
+        List<String> messages = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            ResponseEntity<NotificationPageDto> response = getHistory(cursor);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            NotificationPageDto page = Objects.requireNonNull(response.getBody());
+            assertTrue(page.getContent().size() <= PAGE_SIZE);
+            page.getContent().stream().map(NotificationResponseDto::getMessage).forEach(messages::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals((NOTIFICATIONS + PAGE_SIZE - 1) / PAGE_SIZE, pages);
+        assertEquals(IntStream.iterate(NOTIFICATIONS - 1, i -> i >= 0, i -> i - 1).mapToObj(i -> "Notification " + i).toList(), messages);
+    }
+
+    @Test
+    @Tag("notification-history")
+    @DisplayName("Should return an empty last page without a cursor when there is nothing older")
+    void givenCursorOfOldestNotification_whenGetHistory_thenReturnEmptyPage() {
+        Long oldest = notificationRepository.findAll().stream()
+                .filter(notification -> "Notification 0".equals(notification.getMessage()))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+
+        ResponseEntity<NotificationPageDto> response = getHistory(oldest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(Objects.requireNonNull(response.getBody()).getContent().isEmpty());
+        assertNull(response.getBody().getNextCursor());
+    }
+
+    @Test
+    @Tag("unread-count")
+    @DisplayName("Should count notifications stored before the counter and clear the count when they are seen")
+    void givenUnseenNotifications_whenGetUnreadCountAndMarkAsSeen_thenCountDropsToZero() {
+        ResponseEntity<Integer> before = authHelper.authorizedGet(EMAIL, "/api/v1/notifications/unread-count", Integer.class);
+
+        assertEquals(HttpStatus.OK, before.getStatusCode());
+        assertEquals(NOTIFICATIONS - SEEN, before.getBody());
+
+        ResponseEntity<Void> seen = authHelper.authorizedPatch(EMAIL, "/api/v1/notifications/seen", null, Void.class);
+        ResponseEntity<Integer> after = authHelper.authorizedGet(EMAIL, "/api/v1/notifications/unread-count", Integer.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, seen.getStatusCode());
+        assertEquals(0, after.getBody());
+    }
+
+    private ResponseEntity<NotificationPageDto> getHistory(Long cursor) {
+        return cursor == null
+                ? authHelper.authorizedGet(EMAIL, "/api/v1/notifications/history?size={size}", NotificationPageDto.class, PAGE_SIZE)
+                : authHelper.authorizedGet(EMAIL, "/api/v1/notifications/history?size={size}&cursor={cursor}", NotificationPageDto.class, PAGE_SIZE, cursor);
+    }
+}
@@ -0,0 +1,74 @@
+package com.iss.eventorium.notifications.repository;
+
+import com.iss.eventorium.notifications.models.Notification;
+import com.iss.eventorium.notifications.repositories.NotificationRepository;
+import com.iss.eventorium.user.repositories.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/notification-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class NotificationRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Autowired
+    private NotificationRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should store one unseen copy of the notification for every provider, silenced ones included")
+    void givenProviders_whenInsertForRole_thenEveryProviderGetsOneCopy() {
+        int inserted = repository.insertForRole("PROVIDER", "New category", "Category Catering was added", NOW);
+        entityManager.clear();
+
+        List<Notification> notifications = repository.findAll();
+        assertEquals(2, inserted);
+        assertEquals(List.of(2L, 3L), notifications.stream().map(notification -> notification.getRecipient().getId()).sorted().toList());
+        assertTrue(notifications.stream().allMatch(notification -> "Category Catering was added".equals(notification.getMessage())
+                && NOW.equals(notification.getTimestamp())
+                && Boolean.FALSE.equals(notification.getSeen())));
+    }
+
+    @Test
+    @DisplayName("Should store nothing when nobody has the role")
+    void givenRoleWithoutUsers_whenInsertForRole_thenNothingIsInserted() {
+        assertEquals(0, repository.insertForRole("UNKNOWN", "Title", "Message", NOW));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should bump the unread counter of every provider and of nobody else")
+    void givenProviders_whenIncrementUnreadNotificationsForRole_thenOnlyProviderCountersChange() {
+        repository.insertForRole("PROVIDER", "New category", "Category Catering was added", NOW);
+        userRepository.incrementUnreadNotificationsForRole("PROVIDER");
+        entityManager.clear();
+
+        assertEquals(0, unread(1L));
+        assertEquals(1, unread(2L));
+        assertEquals(1, unread(3L));
+        assertEquals(0, unread(4L));
+    }
+
+    private int unread(Long userId) {
+        return userRepository.findById(userId).orElseThrow().getUnreadNotifications();
+    }
+}
@@ -0,0 +1,116 @@
+package com.iss.eventorium.notifications.repository;
+
+import com.iss.eventorium.notifications.models.ArchivedNotification;
+import com.iss.eventorium.notifications.models.Notification;
+import com.iss.eventorium.notifications.repositories.ArchivedNotificationRepository;
+import com.iss.eventorium.notifications.repositories.NotificationRepository;
+import com.iss.eventorium.notifications.services.NotificationRetentionService;
+import com.iss.eventorium.user.models.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NotificationRetentionService.class)
+@TestPropertySource(properties = "notifications.retention.batch-size=2")
+@Sql(scripts = "/sql/notification-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class NotificationRetentionRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final LocalDateTime CUTOFF = NOW.minusDays(90);
+
+    @Autowired
+    private NotificationRetentionService service;
+
+    @Autowired
+    private NotificationRepository repository;
+
+    @Autowired
+    private ArchivedNotificationRepository archiveRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should move old seen notifications to the archive in batches and keep unseen and recent ones")
+    void givenOldAndRecentNotifications_whenArchiveSeenNotifications_thenOnlyOldSeenOnesAreMoved() {
+        User provider = entityManager.find(User.class, 2L);
+        Notification oldSeen = save(provider, "Old seen", CUTOFF.minusDays(30), true);
+        Notification otherOldSeen = save(provider, "Other old seen", CUTOFF.minusDays(1), true);
+        Notification oldSeenAdmin = save(null, "Old seen admin", CUTOFF.minusDays(10), true);
+        Notification oldUnseen = save(provider, "Old unseen", CUTOFF.minusDays(30), false);
+        Notification recentSeen = save(provider, "Recent seen", CUTOFF.plusDays(1), true);
+        Notification recentUnseen = save(provider, "Recent unseen", NOW, false);
+
+        int moved = service.archiveSeenNotifications(CUTOFF);
+        entityManager.clear();
+
+        assertEquals(3, moved);
+        assertEquals(
+                ids(oldUnseen, recentSeen, recentUnseen),
+                repository.findAll().stream().map(Notification::getId).sorted().toList()
+        );
+        List<ArchivedNotification> archived = archiveRepository.findAll();
+        assertEquals(ids(oldSeen, otherOldSeen, oldSeenAdmin), archived.stream().map(ArchivedNotification::getId).sorted().toList());
+
+        ArchivedNotification archivedOldSeen = archiveRepository.findById(oldSeen.getId()).orElseThrow();
+        assertEquals("Old seen", archivedOldSeen.getMessage());
+        assertEquals(oldSeen.getTimestamp(), archivedOldSeen.getTimestamp());
+        assertEquals(2L, archivedOldSeen.getRecipientId());
+        assertTrue(archivedOldSeen.getSeen());
+        assertNotNull(archivedOldSeen.getArchivedAt());
+        assertNull(archiveRepository.findById(oldSeenAdmin.getId()).orElseThrow().getRecipientId());
+    }
+
+    @Test
+    @DisplayName("Should archive nothing when the old notifications are all unseen, however old they are")
+    void givenOnlyUnseenNotifications_whenArchiveSeenNotifications_thenNothingIsMoved() {
+        User provider = entityManager.find(User.class, 2L);
+        save(provider, "Old unseen", CUTOFF.minusDays(365), false);
+        save(null, "Old unseen admin", CUTOFF.minusDays(365), false);
+
+        assertEquals(0, service.archiveSeenNotifications(CUTOFF));
+        assertEquals(2, repository.count());
+        assertEquals(0, archiveRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should not archive the same notifications twice")
+    void givenArchivedNotifications_whenArchiveAgain_thenNothingIsMoved() {
+        save(entityManager.find(User.class, 3L), "Old seen", CUTOFF.minusDays(1), true);
+
+        assertEquals(1, service.archiveSeenNotifications(CUTOFF));
+        assertEquals(0, service.archiveSeenNotifications(CUTOFF));
+        assertEquals(1, archiveRepository.count());
+        assertEquals(0, repository.count());
+    }
+
+    private Notification save(User recipient, String message, LocalDateTime timestamp, boolean seen) {
+        return entityManager.persistAndFlush(Notification.builder()
+                .title("Notification")
+                .message(message)
+                .timestamp(timestamp)
+                .seen(seen)
+                .recipient(recipient)
+                .build());
+    }
+
+    private List<Long> ids(Notification... notifications) {
+        return Arrays.stream(notifications).map(Notification::getId).sorted().toList();
+    }
+}
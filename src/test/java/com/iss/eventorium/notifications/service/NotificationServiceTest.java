@@ -0,0 +1,129 @@
+package com.iss.eventorium.notifications.service;
+
+import com.iss.eventorium.notifications.dtos.NotificationResponseDto;
+import com.iss.eventorium.notifications.mappers.NotificationMapper;
+import com.iss.eventorium.notifications.models.Notification;
+import com.iss.eventorium.notifications.models.NotificationType;
+import com.iss.eventorium.notifications.repositories.NotificationRepository;
+import com.iss.eventorium.notifications.services.NotificationService;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @InjectMocks
+    private NotificationService service;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private NotificationRepository repository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private NotificationMapper mapper = new NotificationMapper(new ModelMapper());
+
+    private Notification notification;
+
+    @BeforeEach
+    void setUp() {
+        notification = new Notification("New category", "Category Catering was added", NotificationType.INFO);
+        notification.setTimestamp(NOW);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should store a copy for every provider and bump their counters in one transaction, then broadcast once")
+    void givenNotification_whenSendNotificationToProviders_thenFanOutInTransactionAndBroadcastOnce() {
+        when(repository.insertForRole("PROVIDER", "New category", "Category Catering was added", NOW)).thenReturn(3);
+
+        service.sendNotificationToProviders(notification);
+
+        InOrder order = inOrder(transactionTemplate, repository, userRepository, messagingTemplate);
+        order.verify(transactionTemplate).execute(any());
+        order.verify(repository).insertForRole("PROVIDER", "New category", "Category Catering was added", NOW);
+        order.verify(userRepository).incrementUnreadNotificationsForRole("PROVIDER");
+        order.verify(messagingTemplate).convertAndSend(eq("/topic/providers"),
+                argThat((NotificationResponseDto response) -> "Category Catering was added".equals(response.getMessage())));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        verify(repository, never()).save(any());
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should not broadcast to providers when storing their copies fails")
+    void givenFailingFanOut_whenSendNotificationToProviders_thenNothingIsBroadcast() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("Connection refused");
+        when(repository.insertForRole(any(), any(), any(), any())).thenThrow(failure);
+
+        assertSame(failure, assertThrows(DataAccessResourceFailureException.class,
+                () -> service.sendNotificationToProviders(notification)));
+        verify(userRepository, never()).incrementUnreadNotificationsForRole(any());
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("Should run the provider fan-out off the request thread")
+    void givenSendNotificationToProviders_thenItIsAsync() throws NoSuchMethodException {
+        assertTrue(NotificationService.class.getMethod("sendNotificationToProviders", Notification.class).isAnnotationPresent(Async.class));
+    }
+
+    @Test
+    @DisplayName("Should deliver only to recipients that are not silenced, store all and bump each counter by its count")
+    void givenNotificationsForSeveralUsers_whenSendNotifications_thenBumpCountersPerCount() {
+        User first = User.builder().id(1L).notificationsSilenced(false).build();
+        User second = User.builder().id(2L).notificationsSilenced(true).build();
+        List<Notification> notifications = List.of(
+                recipient(new Notification("Comment", "First", NotificationType.INFO), first),
+                recipient(new Notification("Comment", "Second", NotificationType.INFO), first),
+                recipient(new Notification("Comment", "Third", NotificationType.INFO), second)
+        );
+
+        service.sendNotifications(notifications);
+
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("1"), eq("/notifications"), any());
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("2"), anyString(), any());
+        verify(repository).saveAll(notifications);
+        verify(userRepository).incrementUnreadNotifications(List.of(1L), 2);
+        verify(userRepository).incrementUnreadNotifications(List.of(2L), 1);
+    }
+
+    private Notification recipient(Notification notification, User user) {
+        notification.setRecipient(user);
+        return notification;
+    }
+}
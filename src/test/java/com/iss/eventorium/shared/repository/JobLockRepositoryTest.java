@@ -0,0 +1,142 @@
+package com.iss.eventorium.shared.repository;
+
+import com.iss.eventorium.shared.repositories.JobLockRepository;
+import com.iss.eventorium.shared.repositories.JobRunRepository;
+import com.iss.eventorium.shared.services.JobService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class JobLockRepositoryTest {
+
+    private static final String FIRST_NODE = "node-1";
+    private static final String SECOND_NODE = "node-2";
+    private static final int NODES = 4;
+    private static final int ROUNDS = 20;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private JobLockRepository repository;
+
+    @Autowired
+    private JobRunRepository runRepository;
+
+    @Test
+    @DisplayName("Should not let a second node take a lease that is still held")
+    void givenHeldLease_whenOtherNodeAcquires_thenLeaseIsNotTaken() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(1, repository.insert("held-job", FIRST_NODE, now, now.plusMinutes(5)));
+        assertEquals(0, repository.acquire("held-job", SECOND_NODE, now, now.plusMinutes(5)));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> repository.insert("held-job", SECOND_NODE, now, now.plusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Should let another node take a lease after it expired")
+    void givenExpiredLease_whenOtherNodeAcquires_thenLeaseIsTaken() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.insert("expired-job", FIRST_NODE, now.minusMinutes(10), now.minusMinutes(5));
+
+        assertEquals(1, repository.acquire("expired-job", SECOND_NODE, now, now.plusMinutes(5)));
+        assertEquals(SECOND_NODE, repository.findById("expired-job").orElseThrow().getLockedBy());
+    }
+
+    @Test
+    @DisplayName("Should only let the owner release a lease")
+    void givenLeaseOfOtherNode_whenReleased_thenNothingChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.insert("owned-job", FIRST_NODE, now, now.plusMinutes(5));
+
+        assertEquals(0, repository.release("owned-job", SECOND_NODE, now));
+        assertEquals(1, repository.release("owned-job", FIRST_NODE, now));
+        assertEquals(1, repository.acquire("owned-job", SECOND_NODE, now, now.plusMinutes(5)));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should give a new lease to exactly one of several nodes racing for it")
+    void givenNodesRacingForNewLease_whenTryLock_thenExactlyOneNodeGetsIt() throws Exception {
+        List<JobService> nodes = createNodes();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            String name = "new-job-" + round;
+            List<JobService> winners = race(nodes, name, LocalDateTime.now());
+
+            assertEquals(1, winners.size(), "Round " + round + " had " + winners.size() + " winners");
+            assertEquals(nodeOf(winners.get(0)), repository.findById(name).orElseThrow().getLockedBy());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should let exactly one of several nodes take over an expired lease, and keep it from the others")
+    void givenNodesRacingForExpiredLease_whenTryLock_thenExactlyOneNodeTakesItOver() throws Exception {
+        List<JobService> nodes = createNodes();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            String name = "expired-job-" + round;
+            LocalDateTime now = LocalDateTime.now();
+            repository.insert(name, FIRST_NODE, now.minusMinutes(10), now.minusMinutes(5));
+
+            List<JobService> winners = race(nodes, name, now);
+
+            assertEquals(1, winners.size(), "Round " + round + " had " + winners.size() + " winners");
+            assertEquals(nodeOf(winners.get(0)), repository.findById(name).orElseThrow().getLockedBy());
+            for (JobService node : nodes)
+                assertFalse(node.tryLock(name, now.plusMinutes(1), LEASE));
+        }
+    }
+
+    // NOTE: Every JobService instance is a separate node, as in separate application contexts sharing one database.
+    private List<JobService> createNodes() {
+        List<JobService> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++)
+            nodes.add(new JobService(repository, runRepository, null));
+        return nodes;
+    }
+
+    private List<JobService> race(List<JobService> nodes, String name, LocalDateTime now) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+        try {
+            List<Future<Boolean>> attempts = new ArrayList<>();
+            for (JobService node : nodes)
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return node.tryLock(name, now, LEASE);
+                }));
+            start.countDown();
+
+            List<JobService> winners = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++)
+                if (attempts.get(i).get(10, TimeUnit.SECONDS))
+                    winners.add(nodes.get(i));
+            return winners;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String nodeOf(JobService service) {
+        return (String) ReflectionTestUtils.getField(service, "node");
+    }
+}
@@ -0,0 +1,157 @@
+package com.iss.eventorium.shared.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iss.eventorium.shared.exceptions.IdempotencyKeyConflictException;
+import com.iss.eventorium.shared.exceptions.IdempotencyKeyReusedException;
+import com.iss.eventorium.shared.models.IdempotencyRecord;
+import com.iss.eventorium.shared.models.IdempotencyStatus;
+import com.iss.eventorium.shared.repositories.IdempotencyRecordRepository;
+import com.iss.eventorium.shared.services.IdempotencyService;
+import com.iss.eventorium.shared.utils.HashUtils;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String KEY = "a1b2c3";
+    private static final String SCOPE = "purchase:1";
+    private static final List<String> REQUEST = List.of("product", "2");
+
+    @InjectMocks
+    private IdempotencyService service;
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private AuthService authService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private final Supplier<String> action = () -> "response " + runs.incrementAndGet();
+
+    @BeforeEach
+    void setup() {
+        lenient().when(authService.getCurrentUser()).thenReturn(User.builder().id(USER_ID).build());
+    }
+
+    @Test
+    @DisplayName("Should run the action and store its response when the key is new")
+    void givenNewKey_whenExecute_thenRunActionAndComplete() {
+        String response = service.execute(KEY, SCOPE, REQUEST, String.class, action);
+
+        assertEquals("response 1", response);
+        verify(repository).insert(eq(USER_ID), eq(KEY), eq(hash(REQUEST)), any(LocalDateTime.class));
+        verify(repository).complete(USER_ID, KEY, "\"response 1\"");
+        verify(repository, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return the stored response without running the action again when the same request is repeated")
+    void givenCompletedKey_whenExecuteSameRequest_thenReplayStoredResponse() {
+        keyTaken(IdempotencyStatus.COMPLETED, hash(REQUEST), "\"response 1\"");
+
+        String response = service.execute(KEY, SCOPE, REQUEST, String.class, action);
+
+        assertEquals("response 1", response);
+        assertEquals(0, runs.get());
+        verify(repository, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void givenCompletedKey_whenExecuteDifferentRequest_thenThrowKeyReused() {
+        keyTaken(IdempotencyStatus.COMPLETED, hash(List.of("product", "3")), "\"response 1\"");
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> service.execute(KEY, SCOPE, REQUEST, String.class, action));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a repeat while the first request is still processing")
+    void givenProcessingKey_whenExecuteSameRequest_thenThrowConflict() {
+        keyTaken(IdempotencyStatus.PROCESSING, hash(REQUEST), null);
+
+        assertThrows(IdempotencyKeyConflictException.class, () -> service.execute(KEY, SCOPE, REQUEST, String.class, action));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    @DisplayName("Should not take over a key whose request never finished, however old it is")
+    void givenAbandonedKey_whenExecuteSameRequest_thenThrowConflict() {
+        IdempotencyRecord existing = keyTaken(IdempotencyStatus.PROCESSING, hash(REQUEST), null);
+        existing.setCreatedAt(LocalDateTime.now().minusHours(1));
+
+        assertThrows(IdempotencyKeyConflictException.class, () -> service.execute(KEY, SCOPE, REQUEST, String.class, action));
+        assertEquals(0, runs.get());
+        verify(repository, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should release the key when the action fails, so the request can be retried")
+    void givenFailingAction_whenExecute_thenReleaseKeyAndRethrow() {
+        IllegalStateException failure = new IllegalStateException("failed");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> service.execute(KEY, SCOPE, REQUEST, String.class, () -> { throw failure; }));
+
+        assertSame(failure, thrown);
+        verify(repository).release(USER_ID, KEY);
+        verify(repository, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should run the action without a key and store nothing")
+    void givenNoKey_whenExecute_thenRunActionOnly() {
+        assertEquals("response 1", service.execute(null, SCOPE, REQUEST, String.class, action));
+        verifyNoInteractions(repository);
+    }
+
+    private IdempotencyRecord keyTaken(IdempotencyStatus status, String requestHash, String responseBody) {
+        IdempotencyRecord existing = IdempotencyRecord.builder()
+                .id(1L)
+                .userId(USER_ID)
+                .key(KEY)
+                .requestHash(requestHash)
+                .status(status)
+                .responseBody(responseBody)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(repository.insert(eq(USER_ID), eq(KEY), anyString(), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_idempotency_keys_user_id_key"));
+        when(repository.findByUserIdAndKey(USER_ID, KEY)).thenReturn(Optional.of(existing));
+        return existing;
+    }
+
+    private String hash(Object request) {
+        try {
+            return HashUtils.sha256(SCOPE + ":" + objectMapper.writeValueAsString(request));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.iss.eventorium.shared.utils;
+
+import com.iss.eventorium.shared.models.CalendarEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ICalendarWriterTest {
+
+    private static final CalendarEntry EVENT = CalendarEntry.builder()
+            .uid("event-1@eventorium")
+            .summary("Wedding; dinner, dance")
+            .date(LocalDate.of(2025, 6, 1))
+            .build();
+
+    private static final CalendarEntry RESERVATION = CalendarEntry.builder()
+            .uid("reservation-2@eventorium")
+            .summary("Catering")
+            .description("Wedding")
+            .date(LocalDate.of(2025, 6, 1))
+            .startingTime(LocalTime.of(10, 0))
+            .endingTime(LocalTime.of(12, 30))
+            .build();
+
+    @Test
+    @DisplayName("Should write an all-day event for an entry without time and a timed event otherwise")
+    void givenEntries_whenWrite_thenWriteAllDayAndTimedEvents() throws IOException {
+        String calendar = write(List.of(EVENT, RESERVATION));
+
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(calendar.contains("DTSTART;VALUE=DATE:20250601\r\nDTEND;VALUE=DATE:20250602\r\n"));
+        assertTrue(calendar.contains("SUMMARY:Wedding\\; dinner\\, dance\r\n"));
+        assertTrue(calendar.contains("DTSTART:20250601T100000\r\nDTEND:20250601T123000\r\n"));
+        assertTrue(calendar.contains("DESCRIPTION:Wedding\r\n"));
+    }
+
+    @Test
+    @DisplayName("Should fold lines longer than 75 octets without splitting multibyte characters")
+    void givenLongSummary_whenWrite_thenFoldLines() throws IOException {
+        CalendarEntry entry = CalendarEntry.builder()
+                .uid("event-3@eventorium")
+                .summary("Proslava ".repeat(10) + "čćžšđ".repeat(10))
+                .date(LocalDate.of(2025, 6, 1))
+                .build();
+
+        String calendar = write(List.of(entry));
+
+        assertTrue(Arrays.stream(calendar.split("\r\n")).allMatch(line -> line.getBytes(StandardCharsets.UTF_8).length <= 75));
+        assertTrue(calendar.replace("\r\n ", "").contains("SUMMARY:" + entry.getSummary() + "\r\n"));
+    }
+
+    @Test
+    @DisplayName("Should compute the same weak ETag for the same entries and a different one when an entry changes")
+    void givenEntries_whenComputeETag_thenDependOnlyOnEntries() {
+        CalendarEntry moved = CalendarEntry.builder()
+                .uid(RESERVATION.getUid())
+                .summary(RESERVATION.getSummary())
+                .description(RESERVATION.getDescription())
+                .date(RESERVATION.getDate().plusDays(1))
+                .startingTime(RESERVATION.getStartingTime())
+                .endingTime(RESERVATION.getEndingTime())
+                .build();
+
+        String eTag = ICalendarWriter.computeETag(List.of(EVENT, RESERVATION));
+
+        assertTrue(eTag.startsWith("W/\""));
+        assertEquals(eTag, ICalendarWriter.computeETag(List.of(EVENT, RESERVATION)));
+        assertNotEquals(eTag, ICalendarWriter.computeETag(List.of(EVENT, moved)));
+    }
+
+    private String write(List<CalendarEntry> entries) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ICalendarWriter.write(output, "Eventorium events", entries);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,139 @@
+package com.iss.eventorium.solution.repository;
+
+import com.iss.eventorium.solution.models.Memento;
+import com.iss.eventorium.solution.repositories.MementoRepository;
+import com.iss.eventorium.solution.services.HistoryService;
+import com.iss.eventorium.solution.services.HistoryService.VersionKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class MementoRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private MementoRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private HistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        historyService = new HistoryService(repository, null);
+    }
+
+    @Test
+    @DisplayName("Should return the version that was valid at the given time, or the oldest one before the history starts")
+    void givenSeveralVersions_whenGetValidSolution_thenReturnsVersionValidAtThatTime() {
+        insertHistory(1L, 3);
+
+        assertEquals("1-v0", historyService.getValidSolution(1L, START.plusHours(12)).getName());
+        assertEquals("1-v1", historyService.getValidSolution(1L, START.plusDays(1)).getName());
+        assertEquals("1-v2", historyService.getValidSolution(1L, START.plusDays(30)).getName());
+        assertEquals("1-v0", historyService.getValidSolution(1L, START.minusDays(1)).getName());
+    }
+
+    @Test
+    @DisplayName("Should resolve versions of many solutions at once, with the same rules as a single lookup")
+    void givenSeveralSolutions_whenGetValidSolutions_thenEveryPairIsResolved() {
+        insertHistory(2L, 2);
+        insertHistory(3L, 4);
+        VersionKey second = new VersionKey(2L, START.plusDays(5));
+        VersionKey third = new VersionKey(3L, START.plusDays(2).plusHours(1));
+        VersionKey unknown = new VersionKey(99L, START);
+
+        Map<VersionKey, Memento> versions = historyService.getValidSolutions(List.of(second, third, unknown));
+
+        assertEquals(2, versions.size());
+        assertEquals("2-v1", versions.get(second).getName());
+        assertEquals("3-v2", versions.get(third).getName());
+    }
+
+    @Test
+    @DisplayName("Should treat a version without valid_from as the start of the history in single and batch lookups")
+    void givenVersionWithoutValidFrom_whenGetValidSolution_thenItIsTheEarliestVersion() {
+        insert(4L, "4-legacy", null, START);
+        insertHistory(4L, 2);
+        insert(5L, "5-legacy", null, null);
+
+        for (LocalDateTime time : List.of(START.minusDays(1), START.plusHours(1), START.plusDays(1))) {
+            VersionKey withHistory = new VersionKey(4L, time);
+            VersionKey legacyOnly = new VersionKey(5L, time);
+            Map<VersionKey, Memento> versions = historyService.getValidSolutions(List.of(withHistory, legacyOnly));
+
+            assertEquals(historyService.getValidSolution(4L, time).getName(), versions.get(withHistory).getName());
+            assertEquals("5-legacy", historyService.getValidSolution(5L, time).getName());
+            assertEquals("5-legacy", versions.get(legacyOnly).getName());
+        }
+        assertEquals("4-legacy", historyService.getValidSolution(4L, START.minusDays(1)).getName());
+        assertEquals("4-v0", historyService.getValidSolution(4L, START.plusHours(1)).getName());
+        assertEquals("4-v1", historyService.getValidSolution(4L, START.plusDays(1)).getName());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "history.benchmark", matches = "true")
+    @DisplayName("Benchmark: versions of 200 processed budget items, one lookup per item versus one batch")
+    void benchmarkVersionLookupsForBudget() {
+        int solutions = 50;
+        int versionsPerSolution = 20;
+        for (long id = 100; id < 100 + solutions; id++)
+            insertHistory(id, versionsPerSolution);
+
+        List<VersionKey> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            items.add(new VersionKey(100L + i % solutions, START.plusDays(i % versionsPerSolution).plusHours(1)));
+
+        for (int warmup = 0; warmup < 5; warmup++) {
+            items.forEach(item -> historyService.getValidSolution(item.solutionId(), item.time()));
+            historyService.getValidSolutions(items);
+        }
+
+        long started = System.nanoTime();
+        items.forEach(item -> historyService.getValidSolution(item.solutionId(), item.time()));
+        long perItem = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        Map<VersionKey, Memento> versions = historyService.getValidSolutions(items);
+        long batch = System.nanoTime() - started;
+
+        assertEquals(items.size(), versions.size());
+        System.out.printf("200 budget items: per-item lookups %.2f ms, batch %.2f ms%n", perItem / 1e6, batch / 1e6);
+    }
+
+    private void insertHistory(Long solutionId, int versions) {
+        for (int version = 0; version < versions; version++) {
+            LocalDateTime validFrom = START.plusDays(version);
+            insert(solutionId, solutionId + "-v" + version, validFrom, version == versions - 1 ? null : validFrom.plusDays(1));
+        }
+    }
+
+    private void insert(Long solutionId, String name, LocalDateTime validFrom, LocalDateTime validTo) {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO mementos (solution_id, name, price, discount, valid_from, valid_to) " +
+                        "VALUES (?, ?, 100, 0, ?, ?)")
+                .setParameter(1, solutionId)
+                .setParameter(2, name)
+                .setParameter(3, validFrom)
+                .setParameter(4, validTo)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,88 @@
+package com.iss.eventorium.solution.repository;
+
+import com.iss.eventorium.solution.models.Product;
+import com.iss.eventorium.solution.repositories.ProductFavouriteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/budget-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ProductFavouriteRepositoryTest {
+
+    @Autowired
+    private ProductFavouriteRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should add a favourite only once for the same user and product")
+    void givenExistingFavourite_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(1, repository.insertIfAbsent(1L, 1L));
+        assertEquals(0, repository.insertIfAbsent(1L, 1L));
+
+        assertTrue(repository.existsByUserIdAndProductId(1L, 1L));
+        assertFalse(repository.existsByUserIdAndProductId(2L, 1L));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should not add a favourite of a product that does not exist")
+    void givenUnknownProduct_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(0, repository.insertIfAbsent(1L, 99L));
+        // NOTE: Services share the id sequence with products, but are never favourite products
+        assertEquals(0, repository.insertIfAbsent(1L, 5L));
+    }
+
+    @Test
+    @DisplayName("Should return only the favourite ids among the requested ids and hide deleted products from the list")
+    void givenFavourites_whenFindFavourites_thenReturnRequestedFavouritesWithoutDeletedProducts() {
+        repository.insertIfAbsent(1L, 1L);
+        repository.insertIfAbsent(1L, 2L);
+        repository.insertIfAbsent(1L, 4L);
+        repository.insertIfAbsent(2L, 3L);
+        jdbcTemplate.update("UPDATE products SET is_deleted = TRUE WHERE id = 4");
+
+        List<Long> favourites = repository.findFavouriteIds(1L, List.of(1L, 3L, 4L));
+
+        assertEquals(List.of(1L, 4L), favourites.stream().sorted().toList());
+        assertEquals(List.of(1L, 2L), repository.findProductsByUserId(1L).stream().map(Product::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should remove a single favourite")
+    void givenFavourite_whenRemove_thenFavouriteIsDeleted() {
+        repository.insertIfAbsent(1L, 1L);
+        repository.insertIfAbsent(1L, 2L);
+
+        assertEquals(1, repository.remove(1L, 1L));
+        assertEquals(0, repository.remove(1L, 1L));
+        assertFalse(repository.existsByUserIdAndProductId(1L, 1L));
+        assertTrue(repository.existsByUserIdAndProductId(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should delete only favourite products of the given provider kept by the given user")
+    void givenFavouritesOfManyUsers_whenDeleteByUserAndProvider_thenOtherFavouritesStay() {
+        repository.insertIfAbsent(1L, 1L);
+        repository.insertIfAbsent(1L, 2L);
+        repository.insertIfAbsent(2L, 1L);
+
+        assertEquals(0, repository.deleteByUserAndProvider(1L, 2L));
+        assertEquals(2, repository.deleteByUserAndProvider(1L, 3L));
+        assertTrue(repository.findProductsByUserId(1L).isEmpty());
+        assertEquals(List.of(1L), repository.findProductsByUserId(2L).stream().map(Product::getId).toList());
+    }
+}
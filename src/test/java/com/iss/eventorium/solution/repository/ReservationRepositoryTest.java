@@ -47,6 +47,20 @@ class ReservationRepositoryTest {
         assertFalse(exists);
     }
 
+    @Test
+    @DisplayName("Should return false because the existing reservation for this event and service at the specified time is canceled, which frees its time slot.")
+    void givenExistingCanceledReservationInDatabase_whenCheckingForOverlap_thenShouldReturnFalse() {
+        Service service = entityManager.find(Service.class, 2);
+        Event event = entityManager.find(Event.class, 1);
+
+        // Existing canceled reservation in DB: event_id = 1, service_id = 2, Time = 12:00 – 14:00
+        Reservation reservation = Reservation.builder().startingTime(LocalTime.of(12, 0)).endingTime(LocalTime.of(14, 0)).service(service).event(event).build();
+        Specification<Reservation> specification = ServiceReservationSpecification.checkForOverlappingReservations(reservation);
+        boolean exists = reservationRepository.exists(specification);
+
+        assertFalse(exists);
+    }
+
     @ParameterizedTest
     @MethodSource("com.iss.eventorium.solution.provider.ReservationProvider#provideReservationsThatOverlapExisting")
     @DisplayName("Should return true because an existing reservation for this event and service at the specified time is active, meaning overlapping is detected.")
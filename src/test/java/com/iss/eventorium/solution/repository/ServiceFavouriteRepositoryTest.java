@@ -0,0 +1,87 @@
+package com.iss.eventorium.solution.repository;
+
+import com.iss.eventorium.solution.models.Service;
+import com.iss.eventorium.solution.repositories.ServiceFavouriteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/budget-repository-test-data.sql")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ServiceFavouriteRepositoryTest {
+
+    @Autowired
+    private ServiceFavouriteRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should add a favourite only once for the same user and service")
+    void givenExistingFavourite_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(1, repository.insertIfAbsent(1L, 5L));
+        assertEquals(0, repository.insertIfAbsent(1L, 5L));
+
+        assertTrue(repository.existsByUserIdAndServiceId(1L, 5L));
+        assertFalse(repository.existsByUserIdAndServiceId(2L, 5L));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should not add a favourite of a service that does not exist")
+    void givenUnknownService_whenInsertIfAbsent_thenNothingIsInserted() {
+        assertEquals(0, repository.insertIfAbsent(1L, 99L));
+        // NOTE: Products share the id sequence with services, but are never favourite services
+        assertEquals(0, repository.insertIfAbsent(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should return only the favourite ids among the requested ids and hide deleted services from the list")
+    void givenFavourites_whenFindFavourites_thenReturnRequestedFavouritesWithoutDeletedServices() {
+        repository.insertIfAbsent(1L, 5L);
+        repository.insertIfAbsent(1L, 7L);
+        repository.insertIfAbsent(2L, 6L);
+        jdbcTemplate.update("UPDATE services SET is_deleted = TRUE WHERE id = 7");
+
+        List<Long> favourites = repository.findFavouriteIds(1L, List.of(5L, 6L, 7L));
+
+        assertEquals(List.of(5L, 7L), favourites.stream().sorted().toList());
+        assertEquals(List.of(5L), repository.findServicesByUserId(1L).stream().map(Service::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should remove a single favourite")
+    void givenFavourite_whenRemove_thenFavouriteIsDeleted() {
+        repository.insertIfAbsent(1L, 5L);
+        repository.insertIfAbsent(1L, 6L);
+
+        assertEquals(1, repository.remove(1L, 5L));
+        assertEquals(0, repository.remove(1L, 5L));
+        assertFalse(repository.existsByUserIdAndServiceId(1L, 5L));
+        assertTrue(repository.existsByUserIdAndServiceId(1L, 6L));
+    }
+
+    @Test
+    @DisplayName("Should delete only favourite services of the given provider kept by the given user")
+    void givenFavouritesOfManyUsers_whenDeleteByUserAndProvider_thenOtherFavouritesStay() {
+        repository.insertIfAbsent(1L, 5L);
+        repository.insertIfAbsent(1L, 6L);
+        repository.insertIfAbsent(2L, 5L);
+
+        assertEquals(0, repository.deleteByUserAndProvider(1L, 2L));
+        assertEquals(2, repository.deleteByUserAndProvider(1L, 3L));
+        assertTrue(repository.findServicesByUserId(1L).isEmpty());
+        assertEquals(List.of(5L), repository.findServicesByUserId(2L).stream().map(Service::getId).toList());
+    }
+}
@@ -0,0 +1,151 @@
+package com.iss.eventorium.solution.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares how the solution lookups (find by id, is the category in use) perform with
+ * the current TABLE_PER_CLASS mapping queried polymorphically (UNION ALL over products and services), with the
+ * per-table lookups SolutionService does now, and with SINGLE_TABLE and JOINED layouts of the same catalog.
+ * <p>
+ * Every strategy runs the shape of SQL Hibernate generates for it, against tables created and filled by the benchmark.
+ * Disabled by default, run with {@code -Dsolution.inheritance-benchmark=true}. Catalog sizes are set with
+ * {@code -Dsolution.inheritance-benchmark.sizes} (comma separated, 10 000 and 100 000 by default).
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "solution.inheritance-benchmark", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SolutionInheritanceBenchmarkTest {
+
+    private static final String SIZES = System.getProperty("solution.inheritance-benchmark.sizes", "10000,100000");
+    private static final int CATEGORIES = 50;
+    private static final int LOOKUPS = 2000;
+
+    private static final String COLUMNS = "id, name, price, discount, category_id, provider_id, is_deleted";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should report lookup times of every inheritance strategy for each catalog size")
+    void givenCatalogSizes_whenLookingUpSolutions_thenReportTimesPerStrategy() {
+        for (String size : SIZES.split(",")) {
+            int rows = Integer.parseInt(size.trim());
+            createCatalog(rows);
+            Random random = new Random(7);
+            long[] ids = random.longs(LOOKUPS, 1, rows + 1).toArray();
+            long[] categories = random.longs(LOOKUPS, 1, CATEGORIES + 1).toArray();
+
+            Map<String, LongFunction<Object>> findById = new LinkedHashMap<>();
+            findById.put("TABLE_PER_CLASS, polymorphic", id -> first(
+                    "SELECT * FROM (SELECT " + COLUMNS + ", 0 AS reservation_deadline, 1 AS clazz FROM bench_products " +
+                    "UNION ALL SELECT " + COLUMNS + ", reservation_deadline, 2 AS clazz FROM bench_services) s WHERE s.id = ?", id));
+            findById.put("TABLE_PER_CLASS, per table", id -> Optional.ofNullable(first("SELECT * FROM bench_products WHERE id = ?", id))
+                    .orElseGet(() -> first("SELECT * FROM bench_services WHERE id = ?", id)));
+            findById.put("SINGLE_TABLE", id -> first("SELECT * FROM bench_solutions WHERE id = ?", id));
+            findById.put("JOINED", id -> first("SELECT b.*, s.reservation_deadline FROM bench_solution_base b " +
+                    "LEFT JOIN bench_joined_products p ON p.id = b.id LEFT JOIN bench_joined_services s ON s.id = b.id WHERE b.id = ?", id));
+
+            Map<String, LongFunction<Object>> existsCategory = new LinkedHashMap<>();
+            existsCategory.put("TABLE_PER_CLASS, polymorphic", category -> first(
+                    "SELECT COUNT(*) FROM (SELECT " + COLUMNS + " FROM bench_products UNION ALL SELECT " + COLUMNS + " FROM bench_services) s " +
+                    "WHERE s.category_id = ? AND s.is_deleted = FALSE", category));
+            existsCategory.put("TABLE_PER_CLASS, per table", category -> Optional.ofNullable(
+                    first("SELECT 1 FROM bench_products WHERE category_id = ? AND is_deleted = FALSE FETCH FIRST 1 ROWS ONLY", category))
+                    .orElseGet(() -> first("SELECT 1 FROM bench_services WHERE category_id = ? AND is_deleted = FALSE FETCH FIRST 1 ROWS ONLY", category)));
+            existsCategory.put("SINGLE_TABLE", category ->
+                    first("SELECT 1 FROM bench_solutions WHERE category_id = ? AND is_deleted = FALSE FETCH FIRST 1 ROWS ONLY", category));
+            existsCategory.put("JOINED", category ->
+                    first("SELECT 1 FROM bench_solution_base WHERE category_id = ? AND is_deleted = FALSE FETCH FIRST 1 ROWS ONLY", category));
+
+            for (Map.Entry<String, LongFunction<Object>> strategy : findById.entrySet())
+                report(rows, "find by id", strategy.getKey(), ids, strategy.getValue());
+            for (Map.Entry<String, LongFunction<Object>> strategy : existsCategory.entrySet())
+                report(rows, "category in use", strategy.getKey(), categories, strategy.getValue());
+
+            assertEquals(rows, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bench_solutions", Integer.class));
+        }
+    }
+
+    private void createCatalog(int rows) {
+        for (String table : List.of("bench_products", "bench_services", "bench_solutions", "bench_solution_base",
+                "bench_joined_products", "bench_joined_services"))
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+
+        String columns = "id BIGINT PRIMARY KEY, name VARCHAR(75) NOT NULL, price DOUBLE PRECISION NOT NULL, " +
+                "discount DOUBLE PRECISION NOT NULL, category_id BIGINT, provider_id BIGINT, is_deleted BOOLEAN NOT NULL";
+        jdbcTemplate.execute("CREATE TABLE bench_products (" + columns + ")");
+        jdbcTemplate.execute("CREATE TABLE bench_services (" + columns + ", reservation_deadline INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE bench_solutions (" + columns + ", dtype VARCHAR(31) NOT NULL, reservation_deadline INT)");
+        jdbcTemplate.execute("CREATE TABLE bench_solution_base (" + columns + ", dtype VARCHAR(31) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE bench_joined_products (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE bench_joined_services (id BIGINT PRIMARY KEY, reservation_deadline INT NOT NULL)");
+        for (String table : List.of("bench_products", "bench_services", "bench_solutions", "bench_solution_base"))
+            jdbcTemplate.execute("CREATE INDEX idx_" + table + "_category_id ON " + table + " (category_id)");
+
+        // NOTE: Ids are handed out alternately, like the shared solution sequence does for a mixed catalog.
+        Random random = new Random(42);
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> services = new ArrayList<>();
+        for (long id = 1; id <= rows; id++) {
+            Object[] row = { id, "Solution " + id, random.nextDouble() * 1000, random.nextInt(5) * 10.0,
+                    random.nextLong(1, CATEGORIES + 1), random.nextLong(1, 100), random.nextInt(20) == 0 };
+            if (id % 2 == 0) products.add(row);
+            else services.add(append(row, random.nextInt(30)));
+        }
+
+        String insert = " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate("INSERT INTO bench_products" + insert, products);
+        jdbcTemplate.batchUpdate("INSERT INTO bench_services (" + COLUMNS + ", reservation_deadline) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", services);
+
+        jdbcTemplate.execute("INSERT INTO bench_solutions SELECT " + COLUMNS + ", 'Product', NULL FROM bench_products " +
+                "UNION ALL SELECT " + COLUMNS + ", 'Service', reservation_deadline FROM bench_services");
+        jdbcTemplate.execute("INSERT INTO bench_solution_base SELECT " + COLUMNS + ", 'Product' FROM bench_products " +
+                "UNION ALL SELECT " + COLUMNS + ", 'Service' FROM bench_services");
+        jdbcTemplate.execute("INSERT INTO bench_joined_products SELECT id FROM bench_products");
+        jdbcTemplate.execute("INSERT INTO bench_joined_services SELECT id, reservation_deadline FROM bench_services");
+    }
+
+    private Object first(String sql, long parameter) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, parameter);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void report(int rows, String lookup, String strategy, long[] parameters, LongFunction<Object> query) {
+        for (int i = 0; i < Math.min(200, parameters.length); i++)
+            query.apply(parameters[i]);
+
+        long[] times = new long[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            long start = System.nanoTime();
+            query.apply(parameters[i]);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        System.out.printf(
+                "Solution inheritance benchmark: %d solutions, %-16s %-30s p50=%.3f ms p95=%.3f ms%n",
+                rows, lookup, strategy, times[times.length / 2] / 1e6, times[(int) (times.length * 0.95)] / 1e6
+        );
+    }
+
+    private Object[] append(Object[] row, Object value) {
+        Object[] extended = Arrays.copyOf(row, row.length + 1);
+        extended[row.length] = value;
+        return extended;
+    }
+}
@@ -0,0 +1,101 @@
+package com.iss.eventorium.solution.repository;
+
+import com.iss.eventorium.solution.models.Product;
+import com.iss.eventorium.solution.repositories.ProductRepository;
+import com.iss.eventorium.solution.specifications.SolutionSpecification;
+import jakarta.persistence.criteria.Expression;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares a price range filter on the stored, indexed net price with the same filter on the discounted price
+ * computed per row, over {@code -Dsolution.price-benchmark.rows} products (100 000 by default).
+ * Disabled by default, run with {@code -Dsolution.price-benchmark=true}.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "solution.price-benchmark", matches = "true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SolutionPriceRangeBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("solution.price-benchmark.rows", 100_000);
+    private static final int RUNS = 30;
+    private static final double MIN_PRICE = 500.0;
+    private static final double MAX_PRICE = 510.0;
+
+    @Autowired
+    private ProductRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            double price = Math.round(random.nextDouble() * 10_000 * 100) / 100.0;
+            double discount = random.nextInt(5) * 10.0;
+            rows.add(new Object[] { id, "Product " + id, price, discount, price * (1 - discount / 100) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, name, description, price, discount, net_price, status, " +
+                "is_available, is_deleted, is_visible) VALUES (?, ?, 'Benchmark product', ?, ?, ?, 'ACCEPTED', TRUE, FALSE, TRUE)", rows);
+    }
+
+    @Test
+    @DisplayName("Should filter a price range faster on the stored net price than on the computed discounted price")
+    void givenManyProducts_whenFilterByPriceRange_thenStoredNetPriceIsFaster() {
+        Specification<Product> stored = SolutionSpecification.<Product>hasMinPrice(MIN_PRICE)
+                .and(SolutionSpecification.hasMaxPrice(MAX_PRICE));
+        Specification<Product> computed = computedPriceBetween(MIN_PRICE, MAX_PRICE + 0.001);
+
+        assertEquals(repository.count(computed), repository.count(stored));
+
+        double computedMs = median(computed);
+        double storedMs = median(stored);
+        System.out.printf(
+                "Price range benchmark: %d products, computed discounted price median=%.2f ms, stored net price median=%.2f ms, speedup=%.1fx%n",
+                ROWS, computedMs, storedMs, computedMs / storedMs
+        );
+        assertTrue(storedMs < computedMs);
+    }
+
+    private double median(Specification<Product> specification) {
+        for (int i = 0; i < 5; i++)
+            repository.count(specification);
+
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            repository.count(specification);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2] / 1e6;
+    }
+
+    // NOTE: The filter as it was before the net price was stored.
+    private Specification<Product> computedPriceBetween(double min, double max) {
+        return (root, query, cb) -> {
+            Expression<Double> discount = cb.prod(cb.diff(cb.literal(100.0), root.get("discount")), cb.literal(0.01));
+            Expression<Double> discountedPrice = cb.prod(root.get("price"), discount);
+            return cb.between(discountedPrice, min, max);
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.iss.eventorium.solution.repository;
+
+import com.iss.eventorium.solution.models.SolutionSuggestion;
+import com.iss.eventorium.solution.models.SolutionType;
+import com.iss.eventorium.solution.repositories.SolutionSuggestionRepository;
+import com.iss.eventorium.solution.specifications.SolutionSuggestionSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SolutionSuggestionRepositoryTest {
+
+    private static final Long CATEGORY_ID = 1L;
+    private static final Sort RANKING = Sort.by(Sort.Order.desc("averageRating"), Sort.Order.desc("ratingCount"));
+
+    @Autowired
+    private SolutionSuggestionRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.save(suggestion(1L, SolutionType.PRODUCT, CATEGORY_ID, 100.0, 0, 3.0));
+        repository.save(suggestion(2L, SolutionType.SERVICE, CATEGORY_ID, 80.0, 5, 4.5));
+        repository.save(suggestion(3L, SolutionType.SERVICE, CATEGORY_ID, 90.0, 30, 5.0));
+        repository.save(suggestion(4L, SolutionType.PRODUCT, 2L, 10.0, 0, 5.0));
+        repository.save(suggestion(5L, SolutionType.PRODUCT, CATEGORY_ID, 500.0, 0, 5.0));
+    }
+
+    @Test
+    @DisplayName("Should return solutions of the category within price and reservation deadline, best rated first")
+    void givenCategoryPriceAndEventDate_whenFindSuggestions_thenReturnMatchingByRating() {
+        List<SolutionSuggestion> suggestions = repository.findAll(
+                SolutionSuggestionSpecification.filterSuggestions(null, CATEGORY_ID, 100.0, LocalDate.now().plusDays(10)),
+                RANKING
+        );
+
+        assertEquals(List.of(2L, 1L), suggestions.stream().map(SolutionSuggestion::getSolutionId).toList());
+    }
+
+    @Test
+    @DisplayName("Should return no suggestions for an event in the past")
+    void givenPastEvent_whenFindSuggestions_thenReturnNothing() {
+        List<SolutionSuggestion> suggestions = repository.findAll(
+                SolutionSuggestionSpecification.filterSuggestions(null, CATEGORY_ID, 1000.0, LocalDate.now().minusDays(1)),
+                RANKING
+        );
+
+        assertEquals(0, suggestions.size());
+    }
+
+    @Test
+    @DisplayName("Should update stored rating aggregates when a rating is added")
+    void givenSuggestion_whenAddRating_thenAggregatesAreIncremented() {
+        assertEquals(1, repository.addRating(1L, 5));
+        entityManager.clear();
+
+        SolutionSuggestion suggestion = repository.findById(1L).orElseThrow();
+        assertEquals(3, suggestion.getRatingCount());
+        assertEquals(11, suggestion.getRatingSum());
+        assertEquals(11.0 / 3, suggestion.getAverageRating(), 0.001);
+    }
+
+    private SolutionSuggestion suggestion(Long id, SolutionType type, Long categoryId, double netPrice, int deadline, double rating) {
+        return SolutionSuggestion.builder()
+                .solutionId(id)
+                .solutionType(type)
+                .categoryId(categoryId)
+                .providerId(1L)
+                .name("Solution " + id)
+                .price(netPrice)
+                .discount(0.0)
+                .netPrice(netPrice)
+                .reservationDeadline(deadline)
+                .ratingCount(2)
+                .ratingSum(Math.round(rating * 2))
+                .averageRating(rating)
+                .build();
+    }
+}
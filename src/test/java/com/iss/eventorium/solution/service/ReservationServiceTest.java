@@ -2,9 +2,11 @@ package com.iss.eventorium.solution.service;
 
 import com.iss.eventorium.company.models.Company;
 import com.iss.eventorium.company.services.CompanyService;
+import com.iss.eventorium.event.events.EventDateChangedEvent;
 import com.iss.eventorium.event.models.Event;
 import com.iss.eventorium.event.services.BudgetService;
 import com.iss.eventorium.event.services.EventService;
+import com.iss.eventorium.shared.exceptions.EmailSendingException;
 import com.iss.eventorium.shared.exceptions.InsufficientFundsException;
 import com.iss.eventorium.shared.exceptions.OwnershipRequiredException;
 import com.iss.eventorium.shared.models.City;
@@ -17,6 +19,7 @@ import com.iss.eventorium.solution.mappers.ReservationMapper;
 import com.iss.eventorium.solution.models.Reservation;
 import com.iss.eventorium.solution.models.Service;
 import com.iss.eventorium.solution.repositories.ReservationRepository;
+import com.iss.eventorium.solution.services.ReservationIntervalIndex;
 import com.iss.eventorium.solution.services.ReservationService;
 import com.iss.eventorium.solution.services.ServiceService;
 import com.iss.eventorium.user.models.User;
@@ -39,7 +42,9 @@ import org.thymeleaf.context.IContext;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -87,6 +92,9 @@ class ReservationServiceTest {
     @Mock
     ReservationMapper mapper;
 
+    @Mock
+    ReservationIntervalIndex intervalIndex;
+
     @Captor
     private ArgumentCaptor<Reservation> reservationCaptor;
 
@@ -492,8 +500,84 @@ class ReservationServiceTest {
         assertDoesNotThrow(() -> this.service.createReservation(request2, 2L, 1L));
     }
 
+    @Test
+    @Tag("reservation-reminder")
+    @DisplayName("Should send reminder only to provider when reminder is claimed")
+    void givenDueReservation_whenCheckReservations_thenSendReminderOnce() {
+        Event event = Event.builder().organizer(currentUser).date(LocalDate.now()).city(city).build();
+        Service service = Service.builder().provider(provider).name("Catering").build();
+        Reservation reservation = new Reservation(1L, event, service, LocalTime.of(11, 0), LocalTime.of(15, 0), false, Status.ACCEPTED, null);
+
+        when(repository.findAll(any(Specification.class))).thenReturn(List.of(reservation));
+        when(repository.markReminderSent(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(templateEngine.process(anyString(), any(IContext.class))).thenReturn("dummy-content");
+
+        this.service.checkReservations();
+
+        verify(emailService, times(1)).sendSimpleMail(any(EmailDetails.class));
+    }
+
+    @Test
+    @Tag("reservation-reminder")
+    @DisplayName("Should not send reminder when it was already claimed by another run or instance")
+    void givenAlreadyClaimedReminder_whenCheckReservations_thenDoNotSendReminder() {
+        Event event = Event.builder().organizer(currentUser).date(LocalDate.now()).city(city).build();
+        Service service = Service.builder().provider(provider).name("Catering").build();
+        Reservation reservation = new Reservation(1L, event, service, LocalTime.of(11, 0), LocalTime.of(15, 0), false, Status.ACCEPTED, null);
+
+        when(repository.findAll(any(Specification.class))).thenReturn(List.of(reservation));
+        when(repository.markReminderSent(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+        this.service.checkReservations();
+
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    @Tag("reservation-reminder")
+    @DisplayName("Should clear the claim when sending the reminder fails, so the next run retries it")
+    void givenFailingReminderEmail_whenCheckReservations_thenClearClaim() {
+        Event event = Event.builder().organizer(currentUser).date(LocalDate.now()).city(city).build();
+        Service service = Service.builder().provider(provider).name("Catering").build();
+        Reservation reservation = new Reservation(1L, event, service, LocalTime.of(11, 0), LocalTime.of(15, 0), false, Status.ACCEPTED, null);
+
+        when(repository.findAll(any(Specification.class))).thenReturn(List.of(reservation));
+        when(repository.markReminderSent(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(templateEngine.process(anyString(), any(IContext.class))).thenReturn("dummy-content");
+        doThrow(new EmailSendingException("Failed to send email")).when(emailService).sendSimpleMail(any(EmailDetails.class));
+
+        assertDoesNotThrow(() -> this.service.checkReservations());
+
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).markReminderSent(eq(1L), claimedAt.capture());
+        verify(repository).clearReminderSent(1L, claimedAt.getValue());
+    }
+
+    @Test
+    @Tag("reservation-reminder")
+    @DisplayName("Should reset the reminder only of reservations that are still active when the event date changes")
+    void givenEventDateChanged_whenHandleEventDateChanged_thenResetReminderOfActiveReservationsOnly() {
+        Event event = Event.builder().id(1L).organizer(currentUser).date(LocalDate.now().plusDays(5)).city(city).build();
+        Service cancellable = Service.builder().id(1L).provider(provider).cancellationDeadline(1).build();
+        Service fixed = Service.builder().id(2L).provider(provider).cancellationDeadline(10).build();
+        LocalDateTime sentAt = LocalDateTime.now().minusDays(1);
+        Reservation canceled = new Reservation(1L, event, cancellable, LocalTime.of(11, 0), LocalTime.of(15, 0), false, Status.ACCEPTED, sentAt);
+        Reservation kept = new Reservation(2L, event, fixed, LocalTime.of(16, 0), LocalTime.of(18, 0), false, Status.ACCEPTED, sentAt);
+
+        when(eventService.find(1L)).thenReturn(event);
+        when(repository.findAll(any(Specification.class))).thenReturn(List.of(canceled, kept));
+
+        this.service.handleEventDateChanged(new EventDateChangedEvent(this, 1L));
+
+        assertTrue(canceled.getIsCanceled());
+        assertEquals(sentAt, canceled.getReminderSentAt());
+        assertFalse(kept.getIsCanceled());
+        assertNull(kept.getReminderSentAt());
+        verify(repository).saveAll(List.of(canceled, kept));
+    }
+
     private void mockMapper(ReservationRequestDto request, Event event, Service service) {
-        Reservation reservation = new Reservation(1L, event, service, request.getStartingTime(), request.getEndingTime(), false, Status.PENDING);
+        Reservation reservation = new Reservation(1L, event, service, request.getStartingTime(), request.getEndingTime(), false, Status.PENDING, null);
         when(mapper.fromRequest(request, event, service)).thenReturn(reservation);
     }
 
@@ -0,0 +1,138 @@
+package com.iss.eventorium.solution.service;
+
+import com.iss.eventorium.company.models.Company;
+import com.iss.eventorium.company.services.CompanyService;
+import com.iss.eventorium.shared.exceptions.InvalidTimeRangeException;
+import com.iss.eventorium.solution.dtos.services.DailyAvailabilityDto;
+import com.iss.eventorium.solution.dtos.services.ServiceAvailabilityDto;
+import com.iss.eventorium.solution.dtos.services.TimeSlotDto;
+import com.iss.eventorium.solution.models.Service;
+import com.iss.eventorium.solution.services.ReservationIntervalIndex;
+import com.iss.eventorium.solution.services.ReservationIntervalIndex.ReservedInterval;
+import com.iss.eventorium.solution.services.ServiceAvailabilityService;
+import com.iss.eventorium.solution.services.ServiceService;
+import com.iss.eventorium.user.models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceAvailabilityServiceTest {
+
+    @InjectMocks
+    ServiceAvailabilityService service;
+
+    @Mock
+    ServiceService serviceService;
+
+    @Mock
+    CompanyService companyService;
+
+    @Mock
+    ReservationIntervalIndex index;
+
+    private Service reservable;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        User provider = User.builder().id(2L).build();
+        reservable = Service.builder().id(1L).provider(provider).isAvailable(true)
+                .reservationDeadline(5).minDuration(2).maxDuration(4).build();
+        date = LocalDate.now().plusDays(10);
+
+        Company company = Company.builder().openingHours(LocalTime.of(8, 0)).closingHours(LocalTime.of(20, 0)).build();
+        lenient().when(companyService.getByProviderId(provider.getId())).thenReturn(company);
+    }
+
+    @Test
+    @DisplayName("Should return the whole working day when there are no reservations")
+    void givenNoReservations_whenGetAvailability_thenWholeWorkingDayIsFree() {
+        when(serviceService.find(1L)).thenReturn(reservable);
+        when(index.getReservedIntervals(anyLong(), any(), any())).thenReturn(new TreeMap<>());
+
+        ServiceAvailabilityDto availability = service.getAvailability(1L, date, date, null);
+
+        DailyAvailabilityDto day = availability.getDays().get(0);
+        assertThat(day.isReservable()).isTrue();
+        assertThat(day.getFreeSlots()).hasSize(1);
+        assertSlot(day.getFreeSlots().get(0), LocalTime.of(8, 0), LocalTime.of(20, 0));
+    }
+
+    @Test
+    @DisplayName("Should split the working day around reservations and drop gaps shorter than minimum duration")
+    void givenReservations_whenGetAvailability_thenReturnsGapsLongerThanMinDuration() {
+        when(serviceService.find(1L)).thenReturn(reservable);
+        TreeMap<LocalDate, List<ReservedInterval>> reserved = new TreeMap<>();
+        reserved.put(date, List.of(
+                new ReservedInterval(1L, 10L, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new ReservedInterval(2L, 11L, LocalTime.of(13, 0), LocalTime.of(15, 0))
+        ));
+        when(index.getReservedIntervals(anyLong(), any(), any())).thenReturn(reserved);
+
+        List<TimeSlotDto> slots = service.getAvailability(1L, date, date, null).getDays().get(0).getFreeSlots();
+
+        assertThat(slots).hasSize(1);
+        assertSlot(slots.get(0), LocalTime.of(15, 0), LocalTime.of(20, 0));
+    }
+
+    @Test
+    @DisplayName("Should ignore reservations of other events when event id is provided")
+    void givenEventId_whenGetAvailability_thenOnlyThatEventsReservationsBlock() {
+        when(serviceService.find(1L)).thenReturn(reservable);
+        TreeMap<LocalDate, List<ReservedInterval>> reserved = new TreeMap<>();
+        reserved.put(date, List.of(
+                new ReservedInterval(1L, 10L, LocalTime.of(8, 0), LocalTime.of(12, 0)),
+                new ReservedInterval(2L, 11L, LocalTime.of(12, 0), LocalTime.of(20, 0))
+        ));
+        when(index.getReservedIntervals(anyLong(), any(), any())).thenReturn(reserved);
+
+        List<TimeSlotDto> slots = service.getAvailability(1L, date, date, 10L).getDays().get(0).getFreeSlots();
+
+        assertThat(slots).hasSize(1);
+        assertSlot(slots.get(0), LocalTime.of(12, 0), LocalTime.of(20, 0));
+    }
+
+    @Test
+    @Tag("reservation-deadline")
+    @DisplayName("Should mark days after the reservation deadline as not reservable")
+    void givenDayAfterDeadline_whenGetAvailability_thenDayIsNotReservable() {
+        when(serviceService.find(1L)).thenReturn(reservable);
+        when(index.getReservedIntervals(anyLong(), any(), any())).thenReturn(new TreeMap<>());
+        LocalDate tooLate = LocalDate.now().plusDays(4);
+
+        DailyAvailabilityDto day = service.getAvailability(1L, tooLate, tooLate, null).getDays().get(0);
+
+        assertThat(day.isReservable()).isFalse();
+        assertThat(day.getFreeSlots()).isEmpty();
+    }
+
+    @Test
+    @Tag("exception-handling")
+    @DisplayName("Should throw InvalidTimeRangeException when end date is before start date")
+    void givenInvertedRange_whenGetAvailability_thenThrowInvalidTimeRangeException() {
+        assertThrows(InvalidTimeRangeException.class,
+                () -> service.getAvailability(1L, date, date.minusDays(1), null));
+
+        verifyNoInteractions(serviceService, index);
+    }
+
+    private void assertSlot(TimeSlotDto slot, LocalTime start, LocalTime end) {
+        assertThat(slot.getStartingTime()).isEqualTo(start);
+        assertThat(slot.getEndingTime()).isEqualTo(end);
+    }
+}
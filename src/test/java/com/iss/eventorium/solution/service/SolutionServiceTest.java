@@ -0,0 +1,139 @@
+package com.iss.eventorium.solution.service;
+
+import com.iss.eventorium.category.models.Category;
+import com.iss.eventorium.shared.models.Status;
+import com.iss.eventorium.solution.models.Product;
+import com.iss.eventorium.solution.models.Service;
+import com.iss.eventorium.solution.models.Solution;
+import com.iss.eventorium.solution.repositories.ProductRepository;
+import com.iss.eventorium.solution.repositories.ServiceRepository;
+import com.iss.eventorium.solution.services.SolutionService;
+import com.iss.eventorium.solution.services.SolutionSuggestionIndex;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.AuthService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SolutionServiceTest {
+
+    @InjectMocks
+    SolutionService service;
+
+    @Mock
+    ProductRepository productRepository;
+
+    @Mock
+    ServiceRepository serviceRepository;
+
+    @Mock
+    AuthService authService;
+
+    @Mock
+    SolutionSuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(authService.getCurrentUser()).thenReturn(User.builder().id(1L).build());
+    }
+
+    @Test
+    @DisplayName("Should return a product without querying services when the id belongs to a product")
+    void givenProductId_whenFind_thenReturnProductWithoutQueryingServices() {
+        Product product = Product.builder().id(5L).build();
+        when(productRepository.findOne(anySpecification())).thenReturn(Optional.of(product));
+
+        Solution found = service.find(5L);
+
+        assertSame(product, found);
+        verifyNoInteractions(serviceRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to services when no product has the id")
+    void givenServiceId_whenFind_thenReturnService() {
+        Service reservable = Service.builder().id(6L).build();
+        when(productRepository.findOne(anySpecification())).thenReturn(Optional.empty());
+        when(serviceRepository.findOne(anySpecification())).thenReturn(Optional.of(reservable));
+
+        assertSame(reservable, service.find(6L));
+    }
+
+    @Test
+    @Tag("exception-handling")
+    @DisplayName("Should throw EntityNotFoundException when neither table has the id")
+    void givenUnknownId_whenFind_thenThrowEntityNotFoundException() {
+        when(productRepository.findOne(anySpecification())).thenReturn(Optional.empty());
+        when(serviceRepository.findOne(anySpecification())).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> service.find(7L));
+
+        assertEquals("Solution not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not count services when a product already uses the category")
+    void givenCategoryUsedByProduct_whenExistsCategory_thenServicesAreNotQueried() {
+        when(productRepository.exists(anySpecification())).thenReturn(true);
+
+        assertTrue(service.existsCategory(3L));
+        verifyNoInteractions(serviceRepository);
+    }
+
+    @Test
+    @Tag("exception-handling")
+    @DisplayName("Should throw EntityNotFoundException when no solution has the category")
+    void givenUnusedCategory_whenFindSolutionByCategory_thenThrowEntityNotFoundException() {
+        Category category = Category.builder().id(3L).name("Music").build();
+        when(productRepository.findOne(anySpecification())).thenReturn(Optional.empty());
+        when(serviceRepository.findOne(anySpecification())).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> service.findSolutionByCategory(category));
+
+        assertEquals("Solution with category 'Music' not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should save a product through the product repository when its status changes")
+    void givenProduct_whenSaveStatus_thenSaveThroughProductRepository() {
+        Product product = Product.builder().id(5L).status(Status.PENDING).build();
+
+        service.saveStatus(product, Status.ACCEPTED);
+
+        assertEquals(Status.ACCEPTED, product.getStatus());
+        verify(productRepository).save(product);
+        verifyNoInteractions(serviceRepository);
+        verify(suggestionIndex).refresh(product);
+    }
+
+    @Test
+    @DisplayName("Should save a service through the service repository when its status changes")
+    void givenService_whenSaveStatus_thenSaveThroughServiceRepository() {
+        Service reservable = Service.builder().id(6L).status(Status.PENDING).build();
+
+        service.saveStatus(reservable, Status.DECLINED);
+
+        verify(serviceRepository).save(reservable);
+        verifyNoInteractions(productRepository);
+        verify(suggestionIndex).refresh(reservable);
+    }
+
+    private static <T> Specification<T> anySpecification() {
+        return any();
+    }
+}
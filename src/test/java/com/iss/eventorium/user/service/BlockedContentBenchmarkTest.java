@@ -0,0 +1,174 @@
+package com.iss.eventorium.user.service;
+
+import com.iss.eventorium.event.services.AttendanceService;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.services.BlockedContentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the cleanup done when a user is blocked, for a user with thousands of favourite events, products, services
+ * and attendances spread over {@value #OWNERS} organizers and providers.
+ * <p>
+ * The set-based cleanup is what {@link BlockedContentService} does now, one DELETE per kind of content. The baseline
+ * replays what Hibernate did for the favourite collections on the user: load every row of the user, filter the blocked
+ * owner's content out in memory, delete all rows of the user and insert the kept ones again.
+ * <p>
+ * Disabled by default, run with {@code -Duser.block-benchmark=true}. The number of rows of each kind is set with
+ * {@code -Duser.block-benchmark.sizes} (comma separated, 1 000 and 5 000 by default).
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ BlockedContentService.class, AttendanceService.class })
+@EnabledIfSystemProperty(named = "user.block-benchmark", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class BlockedContentBenchmarkTest {
+
+    private static final String SIZES = System.getProperty("user.block-benchmark.sizes", "1000,5000");
+    private static final int OWNERS = 10;
+    private static final long USER_ID = OWNERS + 1;
+    private static final long BLOCKER_ID = 1L;
+    private static final int RUNS = 5;
+
+    // NOTE: Table of the user's rows, column of the content and the query of the content's owner.
+    private static final List<String[]> CONTENT = List.of(
+            new String[] { "event_favourites", "event_id", "SELECT organizer_id FROM events WHERE id = c" },
+            new String[] { "event_attendances", "event_id", "SELECT organizer_id FROM events WHERE id = c" },
+            new String[] { "product_favourites", "product_id", "SELECT provider_id FROM products WHERE id = c" },
+            new String[] { "service_favourites", "service_id", "SELECT provider_id FROM services WHERE id = c" }
+    );
+
+    @Autowired
+    private BlockedContentService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should report cleanup times of set-based deletes and of the collection rewrite for each size")
+    void givenUserWithManyFavourites_whenBlocked_thenReportCleanupTimes() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User owner = User.builder().id(BLOCKER_ID).build();
+        User user = User.builder().id(USER_ID).build();
+
+        for (String size : SIZES.split(",")) {
+            int rows = Integer.parseInt(size.trim());
+            createContent(rows);
+
+            double setBasedMs = median(rows, () -> transaction.executeWithoutResult(status -> service.removeContentOf(owner, user)));
+            int setBasedRemaining = countUserRows();
+            double rewriteMs = median(rows, () -> transaction.executeWithoutResult(status -> rewriteCollections()));
+            int rewriteRemaining = countUserRows();
+
+            System.out.printf(
+                    "Blocked content benchmark: %d rows of each kind, set-based deletes p50=%.2f ms, collection rewrite p50=%.2f ms, speedup=%.1fx%n",
+                    rows, setBasedMs, rewriteMs, rewriteMs / setBasedMs
+            );
+            assertEquals(rewriteRemaining, setBasedRemaining);
+            assertEquals(CONTENT.size() * (rows - rows / OWNERS), setBasedRemaining);
+        }
+    }
+
+    private double median(int rows, Runnable cleanup) {
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            createUserRows(rows);
+            long start = System.nanoTime();
+            cleanup.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2] / 1e6;
+    }
+
+    // NOTE: What saving the user did after removeIf on a favourite bag, the whole collection is written again.
+    private void rewriteCollections() {
+        for (String[] content : CONTENT) {
+            List<Object[]> kept = new ArrayList<>();
+            jdbcTemplate.query("SELECT f." + content[1] + ", (" + content[2].replace("= c", "= f." + content[1]) + ") " +
+                    "FROM " + content[0] + " f WHERE f.user_id = ?", row -> {
+                if (row.getLong(2) != BLOCKER_ID)
+                    kept.add(new Object[] { USER_ID, row.getLong(1) });
+            }, USER_ID);
+            jdbcTemplate.update("DELETE FROM " + content[0] + " WHERE user_id = ?", USER_ID);
+            jdbcTemplate.batchUpdate("INSERT INTO " + content[0] + " (user_id, " + content[1] + ", created_at) " +
+                    "VALUES (?, ?, CURRENT_TIMESTAMP)", kept);
+        }
+    }
+
+    private void createContent(int rows) {
+        for (String table : List.of("event_favourites", "event_attendances", "product_favourites", "service_favourites",
+                "events", "products", "services", "users"))
+            jdbcTemplate.update("DELETE FROM " + table);
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USER_ID; id++)
+            users.add(new Object[] { id, "user" + id + "@benchmark.com", "user" + id });
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, hash, verified, activation_timestamp, " +
+                "last_password_reset, deactivated, notifications_silenced) " +
+                "VALUES (?, ?, 'password', ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, FALSE, FALSE)", users);
+
+        // NOTE: Content is handed out to the owners in turn, so the blocker owns every tenth row of each kind.
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> services = new ArrayList<>();
+        for (long id = 1; id <= rows; id++) {
+            long owner = (id - 1) % OWNERS + 1;
+            events.add(new Object[] { id, "Event " + id, owner });
+            products.add(new Object[] { id, "Product " + id, owner });
+            services.add(new Object[] { rows + id, "Service " + id, owner });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO events (id, name, description, date, privacy, max_participants, organizer_id, is_draft) " +
+                "VALUES (?, ?, 'Benchmark event', CURRENT_DATE, 'OPEN', 1000000, ?, FALSE)", events);
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, name, description, price, discount, net_price, status, " +
+                "is_available, is_deleted, is_visible, provider_id) " +
+                "VALUES (?, ?, 'Benchmark product', 100, 0, 100, 'ACCEPTED', TRUE, FALSE, TRUE, ?)", products);
+        jdbcTemplate.batchUpdate("INSERT INTO services (id, name, description, price, discount, net_price, status, " +
+                "is_available, is_deleted, is_visible, provider_id, specialties, reservation_deadline, cancellation_deadline, " +
+                "min_duration, max_duration) " +
+                "VALUES (?, ?, 'Benchmark service', 100, 0, 100, 'ACCEPTED', TRUE, FALSE, TRUE, ?, 'None', 1, 1, 1, 2)", services);
+    }
+
+    private void createUserRows(int rows) {
+        for (String[] content : CONTENT)
+            jdbcTemplate.update("DELETE FROM " + content[0]);
+
+        List<Object[]> ids = new ArrayList<>();
+        for (long id = 1; id <= rows; id++)
+            ids.add(new Object[] { USER_ID, id });
+        List<Object[]> serviceIds = ids.stream().map(row -> new Object[] { USER_ID, rows + (long) row[1] }).toList();
+
+        for (String[] content : CONTENT)
+            jdbcTemplate.batchUpdate("INSERT INTO " + content[0] + " (user_id, " + content[1] + ", created_at) " +
+                    "VALUES (?, ?, CURRENT_TIMESTAMP)", content[0].equals("service_favourites") ? serviceIds : ids);
+        jdbcTemplate.update("UPDATE events SET attendee_count = 1");
+    }
+
+    private int countUserRows() {
+        int count = 0;
+        for (String[] content : CONTENT)
+            count += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + content[0] + " WHERE user_id = ?", Integer.class, USER_ID);
+        return count;
+    }
+}
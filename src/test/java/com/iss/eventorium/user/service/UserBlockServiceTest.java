@@ -0,0 +1,196 @@
+package com.iss.eventorium.user.service;
+
+import com.iss.eventorium.event.services.AttendanceService;
+import com.iss.eventorium.shared.utils.RetryOnConflictAspect;
+import com.iss.eventorium.user.models.User;
+import com.iss.eventorium.user.repositories.UserBlockRepository;
+import com.iss.eventorium.user.services.AuthService;
+import com.iss.eventorium.user.services.BlockedContentService;
+import com.iss.eventorium.user.services.UserBlockService;
+import com.iss.eventorium.user.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Blocks users through {@link UserBlockService} against the database, with the real retry aspect and transactions.
+ * User 1 blocks user 2, both keep favourites and attendances of each other's content, user 3 is a bystander.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ UserBlockService.class, BlockedContentService.class, AttendanceService.class, RetryOnConflictAspect.class })
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class UserBlockServiceTest {
+
+    private static final long BLOCKER_ID = 1L;
+    private static final long BLOCKED_ID = 2L;
+    private static final long BYSTANDER_ID = 3L;
+
+    @Autowired
+    private UserBlockService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private UserBlockRepository userBlockRepository;
+
+    @SpyBean
+    private BlockedContentService blockedContentService;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("user_blocks", "event_favourites", "event_attendances", "product_favourites",
+                "service_favourites", "events", "products", "services", "users"))
+            jdbcTemplate.update("DELETE FROM " + table);
+
+        for (long id = 1; id <= 3; id++)
+            jdbcTemplate.update("INSERT INTO users (id, email, password, hash, verified, activation_timestamp, " +
+                    "last_password_reset, deactivated, notifications_silenced) " +
+                    "VALUES (?, ?, 'password', ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, FALSE, FALSE)", id, "user" + id + "@test.com", "user" + id);
+
+        // NOTE: Every user owns one event, product and service, with ids prefixed by the owner's id
+        for (long owner = 1; owner <= 3; owner++) {
+            jdbcTemplate.update("INSERT INTO events (id, name, description, date, privacy, max_participants, organizer_id, is_draft) " +
+                    "VALUES (?, ?, 'Event', CURRENT_DATE, 'OPEN', 100, ?, FALSE)", owner * 10, "Event " + owner, owner);
+            jdbcTemplate.update("INSERT INTO products (id, name, description, price, discount, net_price, status, " +
+                    "is_available, is_deleted, is_visible, provider_id) " +
+                    "VALUES (?, ?, 'Product', 100, 0, 100, 'ACCEPTED', TRUE, FALSE, TRUE, ?)", owner * 10 + 1, "Product " + owner, owner);
+            jdbcTemplate.update("INSERT INTO services (id, name, description, price, discount, net_price, status, " +
+                    "is_available, is_deleted, is_visible, provider_id, specialties, reservation_deadline, cancellation_deadline, " +
+                    "min_duration, max_duration) " +
+                    "VALUES (?, ?, 'Service', 100, 0, 100, 'ACCEPTED', TRUE, FALSE, TRUE, ?, 'None', 1, 1, 1, 2)", owner * 10 + 2, "Service " + owner, owner);
+        }
+
+        keep(BLOCKER_ID, 2);
+        keep(BLOCKER_ID, 3);
+        keep(BLOCKED_ID, 1);
+        keep(BLOCKED_ID, 3);
+        keep(BYSTANDER_ID, 2);
+
+        when(authService.getCurrentUser()).thenReturn(user(BLOCKER_ID));
+        when(userService.find(BLOCKED_ID)).thenReturn(user(BLOCKED_ID));
+    }
+
+    @Test
+    @DisplayName("Should store both blocks and remove what each user kept of the other one's content, and nothing else")
+    void givenFavouritesAndAttendances_whenBlockUser_thenOnlyContentOfTheOtherUserIsRemoved() {
+        service.blockUser(BLOCKED_ID);
+
+        assertTrue(service.isBlocked(BLOCKER_ID, BLOCKED_ID));
+        assertTrue(service.isBlocked(BLOCKED_ID, BLOCKER_ID));
+        assertEquals(List.of(3L, 3L, 3L, 3L), owners(BLOCKER_ID));
+        assertEquals(List.of(3L, 3L, 3L, 3L), owners(BLOCKED_ID));
+        assertEquals(List.of(2L, 2L, 2L, 2L), owners(BYSTANDER_ID));
+        assertEquals(0, attendeeCount(10));
+        assertEquals(1, attendeeCount(20));
+        assertEquals(2, attendeeCount(30));
+    }
+
+    @Test
+    @DisplayName("Should change nothing when the same user is blocked again")
+    void givenBlockedUser_whenBlockUserAgain_thenNothingChanges() {
+        service.blockUser(BLOCKED_ID);
+
+        assertDoesNotThrow(() -> service.blockUser(BLOCKED_ID));
+
+        assertEquals(2, countBlocks());
+        assertEquals(List.of(3L, 3L, 3L, 3L), owners(BLOCKER_ID));
+        assertEquals(1, attendeeCount(20));
+    }
+
+    @Test
+    @DisplayName("Should roll the blocks and the cleanup back together when the cleanup fails")
+    void givenFailingCleanup_whenBlockUser_thenNothingIsCommitted() {
+        doAnswer(realMethod(blockedContentService))
+                .doThrow(new IllegalStateException("Cleanup failed"))
+                .when(blockedContentService).removeContentOf(any(), any());
+
+        assertThrows(IllegalStateException.class, () -> service.blockUser(BLOCKED_ID));
+
+        assertEquals(0, countBlocks());
+        assertEquals(List.of(2L, 2L, 2L, 2L, 3L, 3L, 3L, 3L), owners(BLOCKER_ID));
+        assertEquals(List.of(1L, 1L, 1L, 1L, 3L, 3L, 3L, 3L), owners(BLOCKED_ID));
+        assertEquals(1, attendeeCount(10));
+    }
+
+    @Test
+    @DisplayName("Should retry a block that lost the race on the unique constraint and then block the user once")
+    void givenConcurrentDuplicateBlock_whenBlockUser_thenRetryAndBlockOnce() {
+        // NOTE: The first insert loses the race on the unique constraint to another request blocking the same pair
+        doThrow(new DataIntegrityViolationException("uk_user_blocks_blocker_blocked"))
+                .doAnswer(realMethod(userBlockRepository))
+                .when(userBlockRepository).insertIfAbsent(BLOCKER_ID, BLOCKED_ID);
+
+        service.blockUser(BLOCKED_ID);
+
+        verify(userBlockRepository, times(2)).insertIfAbsent(BLOCKER_ID, BLOCKED_ID);
+        assertEquals(2, countBlocks());
+        assertEquals(List.of(3L, 3L, 3L, 3L), owners(BLOCKER_ID));
+    }
+
+    // NOTE: The user favourites and attends the event, product and service of the owner
+    private void keep(long userId, long owner) {
+        jdbcTemplate.update("INSERT INTO event_favourites (user_id, event_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)", userId, owner * 10);
+        jdbcTemplate.update("INSERT INTO event_attendances (user_id, event_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)", userId, owner * 10);
+        jdbcTemplate.update("UPDATE events SET attendee_count = attendee_count + 1 WHERE id = ?", owner * 10);
+        jdbcTemplate.update("INSERT INTO product_favourites (user_id, product_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)", userId, owner * 10 + 1);
+        jdbcTemplate.update("INSERT INTO service_favourites (user_id, service_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)", userId, owner * 10 + 2);
+    }
+
+    // NOTE: Owners of everything the user kept, one entry per row, sorted
+    private List<Long> owners(long userId) {
+        return jdbcTemplate.queryForList(
+                "SELECT e.organizer_id FROM event_favourites f JOIN events e ON e.id = f.event_id WHERE f.user_id = ? " +
+                "UNION ALL SELECT e.organizer_id FROM event_attendances a JOIN events e ON e.id = a.event_id WHERE a.user_id = ? " +
+                "UNION ALL SELECT p.provider_id FROM product_favourites f JOIN products p ON p.id = f.product_id WHERE f.user_id = ? " +
+                "UNION ALL SELECT s.provider_id FROM service_favourites f JOIN services s ON s.id = f.service_id WHERE f.user_id = ?",
+                Long.class, userId, userId, userId, userId
+        ).stream().sorted().toList();
+    }
+
+    private int attendeeCount(long eventId) {
+        return jdbcTemplate.queryForObject("SELECT attendee_count FROM events WHERE id = ?", Integer.class, eventId);
+    }
+
+    private int countBlocks() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_blocks", Integer.class);
+    }
+
+    // NOTE: Spies of repositories delegate instead of calling real methods, their default answer does the right thing for both
+    private Answer<?> realMethod(Object spy) {
+        return mockingDetails(spy).getMockCreationSettings().getDefaultAnswer();
+    }
+
+    private User user(long id) {
+        return User.builder().id(id).build();
+    }
+}
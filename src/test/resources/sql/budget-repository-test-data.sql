@@ -54,3 +54,6 @@ VALUES
     (1, 'Wedding in Novi Sad', 'Wedding ceremony', CURRENT_DATE + INTERVAL '3' DAY, 'OPEN', 100, 1, '123 Wedding St', 1, 1, FALSE, 1),
     (2, 'Wedding in Novi Sad', 'Wedding ceremony', CURRENT_DATE + INTERVAL '3' DAY, 'OPEN', 100, 1, '123 Wedding St', 1, 2, FALSE, 2),
     (3, 'Wedding in Novi Sad', 'Wedding ceremony', CURRENT_DATE + INTERVAL '3' DAY, 'OPEN', 100, 1, '123 Wedding St', 1, 2, FALSE, 3);
+
+UPDATE products SET net_price = price * (1 - discount / 100);
+UPDATE services SET net_price = price * (1 - discount / 100);
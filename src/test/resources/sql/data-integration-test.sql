@@ -62,7 +62,7 @@ INSERT INTO event_types (name, description, deleted) VALUES
     ('Corporate Event', 'Event type for organizing corporate events', false),
     ('Birthday Party', 'Event type for organizing birthdays', false);
 
-INSERT INTO budgets VALUES (85.0, 80.0), (20.0, 20.0), (20.0, 20.0), (20.0, 20.0), (20.0, 20.0), (0.0,0.0), (0.0,0.0), (0.0,0.0);
+INSERT INTO budgets (planned_amount, spent_amount) VALUES (85.0, 80.0), (20.0, 20.0), (20.0, 20.0), (20.0, 20.0), (20.0, 20.0), (0.0,0.0), (0.0,0.0), (0.0,0.0);
 
 INSERT INTO budget_items (planned_amount, category_id, processed_at, solution_id, item_type, status) VALUES
     (20.0,9,DATE '2024-12-14', 1, 'PRODUCT', 'PROCESSED'),
@@ -132,7 +132,12 @@ INSERT INTO services (id, name, description, specialties, price, discount, statu
 INSERT INTO service_reservations (ending_time, is_canceled, starting_time, event_id, service_id, status)
 VALUES ('12:01:00', False, '10:00:00', 5, 17, 'ACCEPTED');
 
-INSERT INTO users_attending_events (user_id, attending_events_id) VALUES (1, 6), (2, 6), (3, 6);
+INSERT INTO event_attendances (user_id, event_id, created_at) VALUES
+    (1, 6, CURRENT_TIMESTAMP),
+    (2, 6, CURRENT_TIMESTAMP),
+    (3, 6, CURRENT_TIMESTAMP);
+
+UPDATE events SET attendee_count = (SELECT COUNT(*) FROM event_attendances a WHERE a.event_id = events.id);
 
 
 INSERT INTO mementos (solution_id, name, price, discount, valid_from, valid_to) VALUES
@@ -146,3 +151,6 @@ INSERT INTO mementos (solution_id, name, price, discount, valid_from, valid_to)
     (8, 'Event Planning', 1200.00, 0.00, CURRENT_DATE, NULL),
     (9, 'Custom Invitations', 40.00, 10.00, DATE '2024-12-16', NULL),
     (7, 'Event Mugs', 5.00, 20.00, CURRENT_DATE, NULL);
+
+UPDATE products SET net_price = price * (1 - discount / 100);
+UPDATE services SET net_price = price * (1 - discount / 100);
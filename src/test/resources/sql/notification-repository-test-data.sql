@@ -0,0 +1,15 @@
+-- ROLES
+INSERT INTO roles (id, name) VALUES (1, 'ADMIN'), (2, 'PROVIDER'), (3, 'EVENT_ORGANIZER');
+
+-- CITIES
+INSERT INTO cities (id, name) VALUES (1, 'Beograd');
+
+-- USERS
+INSERT INTO users (id, verified, city_id, suspended, activation_timestamp, address, email, lastname, name, password, phone_number, last_password_reset, hash, profile_photo_id, deactivated, notifications_silenced) VALUES
+ (1, true, 1,  null, '2024-12-07 12:00:00', 'Staparski put 18', 'admin@gmail.com', 'Doe', 'John', '$2a$10$Z3JiBldbaNQ4qGPjtr7TV.FeT2He/KgqxT68impZ9.H3XeyQAZ03W', '1234567890', '2017-10-01 21:58:58.508-07', '1', null, false, false),
+ (2, true, 1,  null, '2024-12-06 12:00:00', 'Bulevar oslobodjenja, 20', 'provider1@gmail.com', 'Smith', 'Jane', '$2a$10$Z3JiBldbaNQ4qGPjtr7TV.FeT2He/KgqxT68impZ9.H3XeyQAZ03W', '9876543210', '2017-10-01 21:58:58.508-07', '2', null, false, false),
+ (3, true, 1,  null, '2024-12-06 12:00:00', 'Mise Dimitrijevica, 7', 'provider2@gmail.com', 'Johnson', 'Emily', '$2a$10$Z3JiBldbaNQ4qGPjtr7TV.FeT2He/KgqxT68impZ9.H3XeyQAZ03W', '5551234567', '2017-10-01 21:58:58.508-07', '3', null, false, true),
+ (4, true, 1,  null, '2024-12-05 12:00:00', 'Njegoseva 12', 'organizer@gmail.com', 'Brown', 'Michael', '$2a$10$Z3JiBldbaNQ4qGPjtr7TV.FeT2He/KgqxT68impZ9.H3XeyQAZ03W', '5559876543', '2017-10-01 21:58:58.508-07', '4', null, false, false);
+
+-- USER_ROLE
+INSERT INTO user_role (user_id, role_id) VALUES (1, 1), (2, 2), (3, 2), (4, 3);
@@ -32,4 +32,8 @@ VALUES
     ('12:00:00', False, '10:00:00', 1, 1, 'DECLINED'),
     ('21:00:00', False, '19:00:00', 1, 3, 'PENDING'),
     ('13:00:00', False, '15:00:00', 2, 1, 'ACCEPTED'),
-    ('19:00:00', False, '17:00:00', 1, 1, 'ACCEPTED');
\ No newline at end of file
+    ('19:00:00', False, '17:00:00', 1, 1, 'ACCEPTED'),
+    ('14:00:00', True, '12:00:00', 1, 2, 'ACCEPTED');
+
+UPDATE products SET net_price = price * (1 - discount / 100);
+UPDATE services SET net_price = price * (1 - discount / 100);